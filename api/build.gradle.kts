@@ -7,6 +7,7 @@ plugins {
     id("com.diffplug.spotless") version "7.0.4"
     id("org.flywaydb.flyway") version "11.10.3"
     id("org.sonarqube") version "6.2.0.5505"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 spotless {
@@ -31,6 +32,19 @@ java { toolchain { languageVersion = JavaLanguageVersion.of(21) } }
 
 configurations { compileOnly { extendsFrom(configurations.annotationProcessor.get()) } }
 
+// 負荷試験用のソースセット（src/loadTest/java）。テスト用の依存関係をそのまま使う
+sourceSets {
+    create("loadTest") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+configurations {
+    named("loadTestImplementation") { extendsFrom(configurations.testImplementation.get()) }
+    named("loadTestRuntimeOnly") { extendsFrom(configurations.testRuntimeOnly.get()) }
+}
+
 repositories { mavenCentral() }
 
 extra["snippetsDir"] = file("build/generated-snippets")
@@ -39,26 +53,71 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-data-jdbc")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aop")
     implementation("org.flywaydb:flyway-core")
     implementation("org.flywaydb:flyway-database-postgresql")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.testcontainers:postgresql")
     testImplementation("org.testcontainers:junit-jupiter")
     testImplementation("com.h2database:h2")
-    runtimeOnly("org.postgresql:postgresql")
+    implementation("org.postgresql:postgresql")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
     // https://mvnrepository.com/artifact/org.springdoc/springdoc-openapi-starter-webmvc-ui
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.9")
     // https://mvnrepository.com/artifact/org.mybatis.spring.boot/mybatis-spring-boot-starter
     implementation("org.mybatis.spring.boot:mybatis-spring-boot-starter:3.0.5")
+    "loadTestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
 }
 
 tasks.withType<Test> { useJUnitPlatform() }
 
 tasks.test { outputs.dir(project.extra["snippetsDir"]!!) }
 
+// ./gradlew loadTest -Dloadtest.rate=500 -Dloadtest.duration=2m のように設定を渡して実行する
+// レポートは build/reports/loadtest に出力される
+tasks.register<Test>("loadTest") {
+    description = "Testcontainers の PostgreSQL に対してオープンモデルの負荷試験を実行する"
+    group = "verification"
+    testClassesDirs = sourceSets["loadTest"].output.classesDirs
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    systemProperty(
+        "loadtest.report-dir",
+        layout.buildDirectory.dir("reports/loadtest").get().asFile.absolutePath,
+    )
+    systemProperties(
+        System.getProperties()
+            .filterKeys { it.toString().startsWith("loadtest.") }
+            .mapKeys { it.key.toString() }
+    )
+    outputs.upToDateWhen { false }
+    shouldRunAfter(tasks.test)
+}
+
+// ./gradlew jmh でベンチマークを実行（src/jmh/java）
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    profilers = listOf("gc")
+    // 前回結果との比較や CI での回帰検出に使えるよう JSON で出力する
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+}
+
+// ./gradlew generateData --args="--users=1000000 --accounts=2000000 --seed=42 --truncate"
+// 接続先は --spring.datasource.url=... または DB_USERNAME / DB_PASSWORD で指定する
+tasks.register<JavaExec>("generateData") {
+    description = "ユーザー・アカウント・取引の合成データを COPY で投入する"
+    group = "application"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "com.shinkaji.solveza.api.shared.infrastructure.datagen.SyntheticDataGeneratorApplication"
+}
+
 tasks.asciidoctor {
     inputs.dir(project.extra["snippetsDir"]!!)
     dependsOn(tasks.test)
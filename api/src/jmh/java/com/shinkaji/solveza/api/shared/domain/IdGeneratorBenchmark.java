@@ -0,0 +1,32 @@
+package com.shinkaji.solveza.api.shared.domain;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+// 複数スレッドから同時に採番したときのスループットを UUIDv4（SecureRandom）と UUIDv7 で比較する
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class IdGeneratorBenchmark {
+
+  private final IdGenerator random = new RandomIdGenerator();
+  private final IdGenerator uuidV7 = new UuidV7IdGenerator();
+
+  @Benchmark
+  public UUID randomUuid() {
+    return random.generate();
+  }
+
+  @Benchmark
+  public UUID uuidV7() {
+    return uuidV7.generate();
+  }
+}
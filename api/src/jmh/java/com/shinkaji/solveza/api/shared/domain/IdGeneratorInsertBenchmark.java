@@ -0,0 +1,137 @@
+package com.shinkaji.solveza.api.shared.domain;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// transactions と同じ形の uuid 主キーのテーブルに、既存行を積んだ状態から一括登録するスループットを比較する。
+// ローカルの PostgreSQL を使う（接続先は -Dsolveza.bench.jdbc-url / DB_USERNAME / DB_PASSWORD で変更可）。
+// 主キーインデックスのサイズを補助カウンタ（primaryKeyIndexBytes）として結果に含め、ページ分割による肥大化も確認する
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class IdGeneratorInsertBenchmark {
+
+  private static final int BATCH_SIZE = 1_000;
+  private static final String TABLE = "id_generator_benchmark";
+
+  @Param({"random", "uuidv7"})
+  private String generator;
+
+  @Param({"1000000"})
+  private int preloadedRows;
+
+  private IdGenerator idGenerator;
+  private Connection connection;
+  private PreparedStatement insert;
+  private final UUID[] accountIds = new UUID[100];
+  private final SplittableRandom random = new SplittableRandom(42);
+
+  @Setup
+  public void setUp() throws SQLException {
+    idGenerator = generator.equals("uuidv7") ? new UuidV7IdGenerator() : new RandomIdGenerator();
+    for (int i = 0; i < accountIds.length; i++) {
+      accountIds[i] = idGenerator.generate();
+    }
+
+    connection =
+        DriverManager.getConnection(
+            System.getProperty(
+                "solveza.bench.jdbc-url",
+                "jdbc:postgresql://localhost:5432/solveza_api?reWriteBatchedInserts=true"),
+            System.getenv().getOrDefault("DB_USERNAME", "solveza"),
+            System.getenv().getOrDefault("DB_PASSWORD", "password"));
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS " + TABLE);
+      statement.execute(
+          "CREATE TABLE "
+              + TABLE
+              + " (id UUID PRIMARY KEY, account_id UUID NOT NULL,"
+              + " amount DECIMAL(15, 2) NOT NULL, executed_at TIMESTAMP NOT NULL)");
+    }
+    connection.setAutoCommit(false);
+    insert =
+        connection.prepareStatement(
+            "INSERT INTO " + TABLE + " (id, account_id, amount, executed_at) VALUES (?, ?, ?, ?)");
+
+    for (int loaded = 0; loaded < preloadedRows; loaded += BATCH_SIZE) {
+      insertRows();
+    }
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("ANALYZE " + TABLE);
+    }
+    connection.commit();
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE " + TABLE);
+      connection.commit();
+    } finally {
+      connection.close();
+    }
+  }
+
+  // イテレーション終了時点の主キーインデックスのバイト数
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class IndexSize {
+    public long primaryKeyIndexBytes;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void insertBatch(IndexSize indexSize) throws SQLException {
+    insertRows();
+    // サイズの取得はカタログを引くだけで、1000行の登録に比べて無視できる
+    indexSize.primaryKeyIndexBytes = primaryKeyIndexBytes();
+  }
+
+  private long primaryKeyIndexBytes() throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet =
+            statement.executeQuery("SELECT pg_relation_size('" + TABLE + "_pkey')")) {
+      resultSet.next();
+      return resultSet.getLong(1);
+    }
+  }
+
+  private void insertRows() throws SQLException {
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      insert.setObject(1, idGenerator.generate());
+      insert.setObject(2, accountIds[random.nextInt(accountIds.length)]);
+      insert.setBigDecimal(3, BigDecimal.valueOf(random.nextLong(1, 1_000_000), 2));
+      insert.setTimestamp(4, now);
+      insert.addBatch();
+    }
+    insert.executeBatch();
+    connection.commit();
+  }
+}
@@ -0,0 +1,71 @@
+package com.shinkaji.solveza.api.shared.domain;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 残高集計の畳み込みを BigDecimal（Money.add 相当）と long 最小単位で比較する
+// gc プロファイラの gc.alloc.rate.norm で1回あたりの割り当て量も確認する
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyAccumulatorBenchmark {
+
+  private static final Currency JPY = Currency.getInstance("JPY");
+  private static final Currency USD = Currency.getInstance("USD");
+
+  @Param({"1000", "100000"})
+  private int transactions;
+
+  private Money[] amounts;
+  private boolean[] payments;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    amounts = new Money[transactions];
+    payments = new boolean[transactions];
+    for (int i = 0; i < transactions; i++) {
+      Currency currency = random.nextInt(10) == 0 ? USD : JPY;
+      amounts[i] = new Money(BigDecimal.valueOf(random.nextLong(1, 1_000_000), 2), currency);
+      payments[i] = random.nextInt(3) == 0;
+    }
+  }
+
+  @Benchmark
+  public BigDecimal bigDecimalFold() {
+    BigDecimal jpy = BigDecimal.ZERO;
+    BigDecimal usd = BigDecimal.ZERO;
+    for (int i = 0; i < amounts.length; i++) {
+      BigDecimal amount = payments[i] ? amounts[i].amount().negate() : amounts[i].amount();
+      if (amounts[i].currency() == JPY) {
+        jpy = jpy.add(amount);
+      } else {
+        usd = usd.add(amount);
+      }
+    }
+    return jpy.add(usd);
+  }
+
+  @Benchmark
+  public BigDecimal minorUnitsAccumulator() {
+    MoneyAccumulator accumulator = new MoneyAccumulator();
+    for (int i = 0; i < amounts.length; i++) {
+      if (payments[i]) {
+        accumulator.subtract(amounts[i]);
+      } else {
+        accumulator.add(amounts[i]);
+      }
+    }
+    return accumulator.amount(JPY).add(accumulator.amount(USD));
+  }
+}
@@ -0,0 +1,83 @@
+package com.shinkaji.solveza.api.shared.domain;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Money の生成（検証込み）と加減算のコストを測る
+// 加減算は毎回新しい Money と BigDecimal を割り当てるため、gc.alloc.rate.norm も併せて確認する
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyBenchmark {
+
+  private static final Currency JPY = Currency.getInstance("JPY");
+
+  @Param({"1000"})
+  private int operations;
+
+  private BigDecimal[] values;
+  private Money[] amounts;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    values = new BigDecimal[operations];
+    amounts = new Money[operations];
+    for (int i = 0; i < operations; i++) {
+      values[i] = BigDecimal.valueOf(random.nextLong(1, 1_000_000), 2);
+      amounts[i] = new Money(values[i], JPY);
+    }
+  }
+
+  @Benchmark
+  public Money create() {
+    Money last = null;
+    for (BigDecimal value : values) {
+      last = new Money(value, JPY);
+    }
+    return last;
+  }
+
+  @Benchmark
+  public Money add() {
+    Money total = new Money(BigDecimal.ZERO, JPY);
+    for (Money amount : amounts) {
+      total = total.add(amount);
+    }
+    return total;
+  }
+
+  @Benchmark
+  public Money addThenSubtract() {
+    // 減算で負にならないよう、先に全件を加算してから同じ金額を差し引く
+    Money total = new Money(BigDecimal.ZERO, JPY);
+    for (Money amount : amounts) {
+      total = total.add(amount);
+    }
+    for (Money amount : amounts) {
+      total = total.subtract(amount);
+    }
+    return total;
+  }
+
+  @Benchmark
+  public int isPositive() {
+    int positives = 0;
+    for (Money amount : amounts) {
+      if (amount.isPositive()) {
+        positives++;
+      }
+    }
+    return positives;
+  }
+}
@@ -0,0 +1,145 @@
+package com.shinkaji.solveza.api.shared.infrastructure.mybatis;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.LocalCacheScope;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// ID で絞り込んで行をマッピングするマッパー呼び出しを、文字列経由（#{id}::uuid / UUID.fromString）と
+// UuidTypeHandler で比較する。ローカルの PostgreSQL に対して実際にクエリを発行するため、
+// ドライバ内部のデコードと DB の往復も含む（接続先は -Dsolveza.bench.jdbc-url / DB_USERNAME / DB_PASSWORD で変更可）
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidTypeHandlerBenchmark {
+
+  private static final int ACCOUNTS = 100;
+  private static final String TABLE = "uuid_type_handler_benchmark";
+
+  // 1回の呼び出しでマッピングする行数
+  @Param({"1", "1000"})
+  private int rowsPerAccount;
+
+  private final UUID[] accountIds = new UUID[ACCOUNTS];
+  private PooledDataSource dataSource;
+  private SqlSession session;
+  private BenchmarkMapper mapper;
+  private int cursor;
+
+  public interface BenchmarkMapper {
+
+    @Select(
+        "SELECT id, account_id FROM "
+            + TABLE
+            + " WHERE account_id = #{accountId}::uuid ORDER BY id")
+    List<TextRow> findByAccountIdAsText(String accountId);
+
+    @Select("SELECT id, account_id FROM " + TABLE + " WHERE account_id = #{accountId} ORDER BY id")
+    List<UuidRow> findByAccountId(UUID accountId);
+  }
+
+  public record TextRow(String id, String accountId) {}
+
+  public record UuidRow(UUID id, UUID accountId) {}
+
+  @Setup
+  public void setUp() throws SQLException {
+    dataSource =
+        new PooledDataSource(
+            "org.postgresql.Driver",
+            System.getProperty(
+                "solveza.bench.jdbc-url", "jdbc:postgresql://localhost:5432/solveza_api"),
+            System.getenv().getOrDefault("DB_USERNAME", "solveza"),
+            System.getenv().getOrDefault("DB_PASSWORD", "password"));
+    for (int i = 0; i < accountIds.length; i++) {
+      accountIds[i] = UUID.randomUUID();
+    }
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS " + TABLE);
+      statement.execute(
+          "CREATE TABLE " + TABLE + " (id UUID PRIMARY KEY, account_id UUID NOT NULL)");
+      statement.execute("CREATE INDEX ON " + TABLE + " (account_id)");
+      for (UUID accountId : accountIds) {
+        statement.execute(
+            "INSERT INTO "
+                + TABLE
+                + " SELECT gen_random_uuid(), '"
+                + accountId
+                + "' FROM generate_series(1, "
+                + rowsPerAccount
+                + ")");
+      }
+      statement.execute("ANALYZE " + TABLE);
+    }
+
+    // アプリケーションと同じ設定で、UuidTypeHandler だけを登録する
+    Configuration configuration =
+        new Configuration(new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+    configuration.setMapUnderscoreToCamelCase(true);
+    configuration.setDefaultFetchSize(100);
+    // 同じ ID の繰り返し呼び出しが一次キャッシュに当たらないようにする
+    configuration.setLocalCacheScope(LocalCacheScope.STATEMENT);
+    configuration.getTypeHandlerRegistry().register(UuidTypeHandler.class);
+    configuration.addMapper(BenchmarkMapper.class);
+    SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    session = sqlSessionFactory.openSession();
+    mapper = session.getMapper(BenchmarkMapper.class);
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    session.close();
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE " + TABLE);
+    }
+    dataSource.forceCloseAll();
+  }
+
+  @Benchmark
+  public long stringRoundTrip() {
+    UUID accountId = accountIds[cursor++ % ACCOUNTS];
+    long hash = 0;
+    for (TextRow row : mapper.findByAccountIdAsText(accountId.toString())) {
+      hash ^= UUID.fromString(row.id()).hashCode() ^ UUID.fromString(row.accountId()).hashCode();
+    }
+    return hash;
+  }
+
+  @Benchmark
+  public long nativeUuid() {
+    UUID accountId = accountIds[cursor++ % ACCOUNTS];
+    long hash = 0;
+    for (UuidRow row : mapper.findByAccountId(accountId)) {
+      hash ^= row.id().hashCode() ^ row.accountId().hashCode();
+    }
+    return hash;
+  }
+}
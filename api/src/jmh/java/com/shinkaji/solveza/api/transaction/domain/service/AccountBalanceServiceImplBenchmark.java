@@ -0,0 +1,88 @@
+package com.shinkaji.solveza.api.transaction.domain.service;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionType;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// ledger エンジンの残高計算を、合成した取引台帳（10^2〜10^6 件）に対して測る
+// リポジトリはメモリ上の一覧を返すだけにして、DB を除いたドメイン側の集計コストだけを見る
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccountBalanceServiceImplBenchmark {
+
+  private static final Currency JPY = Currency.getInstance("JPY");
+  private static final Currency USD = Currency.getInstance("USD");
+
+  @Param({"100", "10000", "1000000"})
+  private int rows;
+
+  private final AccountId accountId = new AccountId(UUID.randomUUID());
+
+  private AccountBalanceServiceImpl accountBalanceService;
+
+  @Setup
+  public void setUp() {
+    List<Transaction> ledger = ledger(rows);
+    TransactionRepository transactionRepository =
+        (TransactionRepository)
+            Proxy.newProxyInstance(
+                TransactionRepository.class.getClassLoader(),
+                new Class<?>[] {TransactionRepository.class},
+                (proxy, method, args) -> {
+                  if (method.getName().equals("findByAccountId")) {
+                    return ledger;
+                  }
+                  throw new UnsupportedOperationException(method.getName());
+                });
+    accountBalanceService = new AccountBalanceServiceImpl(transactionRepository);
+  }
+
+  @Benchmark
+  public Money calculateBalance() {
+    return accountBalanceService.calculateBalance(accountId);
+  }
+
+  @Benchmark
+  public Map<Currency, Money> calculateBalances() {
+    return accountBalanceService.calculateBalances(accountId);
+  }
+
+  // 入金を多めにして残高が負にならない台帳を作る。1割は USD の取引にする
+  private List<Transaction> ledger(int size) {
+    SplittableRandom random = new SplittableRandom(42);
+    LocalDateTime executedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+    List<Transaction> transactions = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      TransactionType type =
+          random.nextInt(3) == 0 ? TransactionType.PAYMENT : TransactionType.DEPOSIT;
+      Currency currency = random.nextInt(10) == 0 ? USD : JPY;
+      Money amount = new Money(BigDecimal.valueOf(random.nextLong(1, 1_000_000), 2), currency);
+      LocalDateTime at = executedAt.plusMinutes(i);
+      transactions.add(
+          Transaction.reconstruct(
+              UUID.randomUUID(), accountId, type, amount, "benchmark", at, at, at));
+    }
+    return transactions;
+  }
+}
@@ -0,0 +1,92 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.repository;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.TransactionMapper;
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.dto.TransactionDto;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// マッパーをメモリ上のスタブに差し替え、TransactionDto とドメインの相互変換（toDomain / toDto）だけを測る
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionRepositoryImplBenchmark {
+
+  @Param({"1000"})
+  private int rows;
+
+  private final AccountId accountId = new AccountId(UUID.randomUUID());
+
+  private TransactionRepositoryImpl transactionRepository;
+  private List<Transaction> transactions;
+  private int inserted;
+
+  @Setup
+  public void setUp() {
+    List<TransactionDto> dtos = dtos(rows);
+    TransactionMapper transactionMapper =
+        (TransactionMapper)
+            Proxy.newProxyInstance(
+                TransactionMapper.class.getClassLoader(),
+                new Class<?>[] {TransactionMapper.class},
+                (proxy, method, args) ->
+                    switch (method.getName()) {
+                      case "findByAccountId" -> dtos;
+                      case "insert" -> {
+                        inserted++;
+                        yield null;
+                      }
+                      default -> throw new UnsupportedOperationException(method.getName());
+                    });
+    transactionRepository = new TransactionRepositoryImpl(transactionMapper, null);
+    transactions = transactionRepository.findByAccountId(accountId);
+  }
+
+  @Benchmark
+  public List<Transaction> toDomain() {
+    return transactionRepository.findByAccountId(accountId);
+  }
+
+  @Benchmark
+  public int toDto() {
+    for (Transaction transaction : transactions) {
+      transactionRepository.save(transaction);
+    }
+    return inserted;
+  }
+
+  private List<TransactionDto> dtos(int size) {
+    SplittableRandom random = new SplittableRandom(42);
+    LocalDateTime executedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+    List<TransactionDto> dtos = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      LocalDateTime at = executedAt.plusMinutes(i);
+      dtos.add(
+          new TransactionDto(
+              UUID.randomUUID(),
+              accountId.value(),
+              random.nextInt(3) == 0 ? "PAYMENT" : "DEPOSIT",
+              BigDecimal.valueOf(random.nextLong(1, 1_000_000), 2),
+              random.nextInt(10) == 0 ? "USD" : "JPY",
+              "benchmark " + i,
+              at,
+              at));
+    }
+    return dtos;
+  }
+}
@@ -0,0 +1,71 @@
+package com.shinkaji.solveza.api.transaction.presentation.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// 取引一覧レスポンスの JSON シリアライズを測る
+// 一覧をまとめて書き出す場合と、エクスポートのように1件ずつ文字列化する場合を比較する
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionDtoSerializationBenchmark {
+
+  @Param({"100", "10000"})
+  private int size;
+
+  // Spring Boot の既定に近い設定（JavaTimeModule 登録、日時は ISO 文字列）で生成する
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  private List<TransactionDto> transactions;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    UUID accountId = UUID.randomUUID();
+    LocalDateTime executedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+    transactions = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      LocalDateTime at = executedAt.plusMinutes(i);
+      transactions.add(
+          new TransactionDto(
+              UUID.randomUUID(),
+              accountId,
+              random.nextInt(3) == 0 ? "PAYMENT" : "DEPOSIT",
+              BigDecimal.valueOf(random.nextLong(1, 1_000_000), 2),
+              "JPY",
+              "benchmark " + i,
+              at,
+              at));
+    }
+  }
+
+  @Benchmark
+  public byte[] writeList() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(transactions);
+  }
+
+  @Benchmark
+  public long writeEach() throws JsonProcessingException {
+    long length = 0;
+    for (TransactionDto transaction : transactions) {
+      length += objectMapper.writeValueAsString(transaction).length();
+    }
+    return length;
+  }
+}
@@ -0,0 +1,160 @@
+package com.shinkaji.solveza.api.usermanagement.application.service;
+
+import com.shinkaji.solveza.api.shared.domain.PermissionId;
+import com.shinkaji.solveza.api.shared.domain.Provider;
+import com.shinkaji.solveza.api.shared.domain.RoleId;
+import com.shinkaji.solveza.api.usermanagement.domain.model.Permission;
+import com.shinkaji.solveza.api.usermanagement.domain.model.PermissionCheck;
+import com.shinkaji.solveza.api.usermanagement.domain.model.Role;
+import com.shinkaji.solveza.api.usermanagement.domain.model.User;
+import com.shinkaji.solveza.api.usermanagement.domain.repository.PermissionRepository;
+import com.shinkaji.solveza.api.usermanagement.domain.repository.RoleRepository;
+import com.shinkaji.solveza.api.usermanagement.domain.repository.UserRepository;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// リポジトリをメモリ上のスタブに差し替え、キャッシュ済みユーザーの判定コストだけを測る
+// naiveWalk はロール → 権限を辿って Permission.allowsAccess で判定する比較用（DBアクセスは含まない）
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthorizationEngineBenchmark {
+
+  private static final int RESOURCES = 50;
+  private static final int ACTIONS = 4;
+  private static final int ROLES = 20;
+  private static final int PERMISSIONS_PER_ROLE = 20;
+  private static final int ROLES_PER_USER = 3;
+  private static final int BATCH_SIZE = 16;
+
+  @Param({"10000"})
+  private int users;
+
+  private AuthorizationEngine authorizationEngine;
+  private User[] userArray;
+  private String[] resources;
+  private String[] actions;
+  private List<PermissionCheck> batch;
+  private Map<RoleId, Role> rolesById;
+  private Map<PermissionId, Permission> permissionsById;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    List<Permission> permissions = new ArrayList<>();
+    for (int r = 0; r < RESOURCES; r++) {
+      for (int a = 0; a < ACTIONS; a++) {
+        permissions.add(Permission.create("P_" + r + "_" + a, "resource" + r, "action" + a));
+      }
+    }
+    List<Role> roles = new ArrayList<>();
+    for (int i = 0; i < ROLES; i++) {
+      Role role = Role.create("ROLE_" + i, null);
+      for (int j = 0; j < PERMISSIONS_PER_ROLE; j++) {
+        role.grantPermission(permissions.get(random.nextInt(permissions.size())).getPermissionId());
+      }
+      roles.add(role);
+    }
+    Map<Object, User> usersById = new HashMap<>();
+    userArray = new User[users];
+    for (int i = 0; i < users; i++) {
+      User user = User.create(Provider.google(), "external-" + i, "User " + i, null);
+      for (int j = 0; j < ROLES_PER_USER; j++) {
+        user.assignRole(roles.get(random.nextInt(roles.size())).getRoleId());
+      }
+      userArray[i] = user;
+      usersById.put(user.getUserId(), user);
+    }
+
+    authorizationEngine =
+        new AuthorizationEngine(
+            stub(
+                UserRepository.class,
+                (method, args) -> Optional.ofNullable(usersById.get(args[0]))),
+            stub(RoleRepository.class, (method, args) -> roles),
+            stub(PermissionRepository.class, (method, args) -> permissions),
+            users,
+            Duration.ofHours(1),
+            Duration.ofHours(1));
+
+    resources = new String[1024];
+    actions = new String[1024];
+    for (int i = 0; i < resources.length; i++) {
+      resources[i] = "resource" + random.nextInt(RESOURCES);
+      actions[i] = "action" + random.nextInt(ACTIONS);
+    }
+    batch = new ArrayList<>();
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      batch.add(new PermissionCheck(resources[i], actions[i]));
+    }
+    rolesById = new HashMap<>();
+    roles.forEach(role -> rolesById.put(role.getRoleId(), role));
+    permissionsById = new HashMap<>();
+    permissions.forEach(
+        permission -> permissionsById.put(permission.getPermissionId(), permission));
+
+    // 全ユーザーの実効権限をキャッシュに載せておく
+    for (User user : userArray) {
+      authorizationEngine.check(user.getUserId(), resources[0], actions[0]);
+    }
+  }
+
+  @Benchmark
+  public boolean check() {
+    int i = cursor++;
+    User user = userArray[i % userArray.length];
+    return authorizationEngine.check(
+        user.getUserId(), resources[i & 1023], actions[(i >>> 10) & 1023]);
+  }
+
+  @Benchmark
+  public boolean[] checkAll() {
+    User user = userArray[cursor++ % userArray.length];
+    return authorizationEngine.checkAll(user.getUserId(), batch);
+  }
+
+  @Benchmark
+  public boolean naiveWalk() {
+    int i = cursor++;
+    User user = userArray[i % userArray.length];
+    String resource = resources[i & 1023];
+    String action = actions[(i >>> 10) & 1023];
+    for (RoleId roleId : user.getRoleIds()) {
+      for (PermissionId permissionId : rolesById.get(roleId).getPermissionIds()) {
+        if (permissionsById.get(permissionId).allowsAccess(resource, action)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private interface Answer {
+    Object answer(String method, Object[] args);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T stub(Class<T> type, Answer answer) {
+    return (T)
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> answer.answer(method.getName(), args));
+  }
+}
@@ -0,0 +1,90 @@
+package com.shinkaji.solveza.api.usermanagement.infrastructure.repository;
+
+import com.shinkaji.solveza.api.usermanagement.domain.model.User;
+import com.shinkaji.solveza.api.usermanagement.domain.repository.UserSearchCriteria;
+import com.shinkaji.solveza.api.usermanagement.infrastructure.mapper.UserMapper;
+import com.shinkaji.solveza.api.usermanagement.infrastructure.mapper.dto.UserDto;
+import com.shinkaji.solveza.api.usermanagement.infrastructure.mapper.dto.UserRoleDto;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// マッパーをメモリ上のスタブに差し替え、UserDto とドメインの相互変換（toDomain / toDto）だけを測る
+// toDomain はユーザーごとにロールを取得するため、スタブの呼び出しもコストに含まれる
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserRepositoryImplBenchmark {
+
+  @Param({"1000"})
+  private int rows;
+
+  private final UserSearchCriteria criteria = new UserSearchCriteria(null, null);
+
+  private UserRepositoryImpl userRepository;
+  private List<User> users;
+  private int updated;
+
+  @Setup
+  public void setUp() {
+    List<UserDto> dtos = new ArrayList<>(rows);
+    LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+    for (int i = 0; i < rows; i++) {
+      dtos.add(
+          new UserDto(
+              UUID.randomUUID(),
+              "GOOGLE",
+              "external-" + i,
+              "User " + i,
+              "user" + i + "@example.com",
+              createdAt,
+              createdAt));
+    }
+    List<UserRoleDto> roles =
+        List.of(
+            new UserRoleDto(UUID.randomUUID(), UUID.randomUUID(), createdAt),
+            new UserRoleDto(UUID.randomUUID(), UUID.randomUUID(), createdAt));
+    UserMapper userMapper =
+        (UserMapper)
+            Proxy.newProxyInstance(
+                UserMapper.class.getClassLoader(),
+                new Class<?>[] {UserMapper.class},
+                (proxy, method, args) ->
+                    switch (method.getName()) {
+                      case "findByCriteria" -> dtos;
+                      case "findUserRolesByUserId" -> roles;
+                      case "existsById" -> true;
+                      case "update" -> {
+                        updated++;
+                        yield null;
+                      }
+                      default -> throw new UnsupportedOperationException(method.getName());
+                    });
+    userRepository = new UserRepositoryImpl(userMapper);
+    users = userRepository.findByCriteria(criteria);
+  }
+
+  @Benchmark
+  public List<User> toDomain() {
+    return userRepository.findByCriteria(criteria);
+  }
+
+  @Benchmark
+  public int toDto() {
+    for (User user : users) {
+      userRepository.save(user);
+    }
+    return updated;
+  }
+}
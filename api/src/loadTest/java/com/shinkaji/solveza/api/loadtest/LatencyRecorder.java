@@ -0,0 +1,43 @@
+package com.shinkaji.solveza.api.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+// 操作ごとのレイテンシ（マイクロ秒）を HdrHistogram に記録する
+// 失敗したリクエストもレイテンシに含め、件数は別に数える
+public class LatencyRecorder {
+
+  private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+  private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+
+  public LatencyRecorder() {
+    for (Operation operation : Operation.values()) {
+      // 有効桁3桁。上限は自動で拡張する
+      histograms.put(operation, new ConcurrentHistogram(3));
+      errors.put(operation, new AtomicLong());
+    }
+  }
+
+  public void record(Operation operation, long latencyNanos, boolean success) {
+    histograms.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    if (!success) {
+      errors.get(operation).incrementAndGet();
+    }
+  }
+
+  public Histogram histogram(Operation operation) {
+    return histograms.get(operation).copy();
+  }
+
+  public long errorCount(Operation operation) {
+    return errors.get(operation).get();
+  }
+
+  public long totalCount() {
+    return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+  }
+}
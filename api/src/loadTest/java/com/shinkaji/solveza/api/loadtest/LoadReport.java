@@ -0,0 +1,107 @@
+package com.shinkaji.solveza.api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+// エンドポイントごとの件数・エラー数・スループット・パーセンタイルをまとめる
+// summary.txt / summary.json と、HdrHistogram のパーセンタイル分布（<操作>.hgrm）を出力する
+public class LoadReport {
+
+  private static final double MICROS_PER_MILLI = 1000.0;
+
+  private final LatencyRecorder recorder;
+  private final Duration elapsed;
+
+  public LoadReport(LatencyRecorder recorder, Duration elapsed) {
+    this.recorder = recorder;
+    this.elapsed = elapsed;
+  }
+
+  public String summary() {
+    StringBuilder summary = new StringBuilder();
+    summary.append(
+        String.format(
+            Locale.ROOT,
+            "%-30s %8s %7s %10s %10s %10s %10s %10s%n",
+            "endpoint",
+            "count",
+            "errors",
+            "req/s",
+            "p50(ms)",
+            "p99(ms)",
+            "p99.9(ms)",
+            "max(ms)"));
+    for (Operation operation : Operation.values()) {
+      Histogram histogram = recorder.histogram(operation);
+      if (histogram.getTotalCount() == 0) {
+        continue;
+      }
+      summary.append(
+          String.format(
+              Locale.ROOT,
+              "%-30s %8d %7d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+              operation.endpoint(),
+              histogram.getTotalCount(),
+              recorder.errorCount(operation),
+              throughput(histogram),
+              millis(histogram, 50.0),
+              millis(histogram, 99.0),
+              millis(histogram, 99.9),
+              histogram.getMaxValue() / MICROS_PER_MILLI));
+    }
+    return summary.toString();
+  }
+
+  public void write(Path directory, ObjectMapper objectMapper) throws IOException {
+    Files.createDirectories(directory);
+    Files.writeString(directory.resolve("summary.txt"), summary());
+
+    List<Map<String, Object>> endpoints = new ArrayList<>();
+    for (Operation operation : Operation.values()) {
+      Histogram histogram = recorder.histogram(operation);
+      if (histogram.getTotalCount() == 0) {
+        continue;
+      }
+      Map<String, Object> endpoint = new LinkedHashMap<>();
+      endpoint.put("operation", operation.key());
+      endpoint.put("endpoint", operation.endpoint());
+      endpoint.put("count", histogram.getTotalCount());
+      endpoint.put("errors", recorder.errorCount(operation));
+      endpoint.put("throughputPerSecond", throughput(histogram));
+      endpoint.put("p50Millis", millis(histogram, 50.0));
+      endpoint.put("p99Millis", millis(histogram, 99.0));
+      endpoint.put("p999Millis", millis(histogram, 99.9));
+      endpoint.put("maxMillis", histogram.getMaxValue() / MICROS_PER_MILLI);
+      endpoints.add(endpoint);
+
+      try (PrintStream out =
+          new PrintStream(directory.resolve(operation.key() + ".hgrm").toFile())) {
+        histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+      }
+    }
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("elapsedMillis", elapsed.toMillis());
+    report.put("endpoints", endpoints);
+    objectMapper
+        .writerWithDefaultPrettyPrinter()
+        .writeValue(directory.resolve("summary.json").toFile(), report);
+  }
+
+  private double throughput(Histogram histogram) {
+    return histogram.getTotalCount() / (elapsed.toNanos() / 1_000_000_000.0);
+  }
+
+  private static double millis(Histogram histogram, double percentile) {
+    return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+  }
+}
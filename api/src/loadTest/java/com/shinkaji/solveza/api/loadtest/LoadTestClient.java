@@ -0,0 +1,242 @@
+package com.shinkaji.solveza.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 負荷試験用の HTTP クライアント。作成したユーザーとアカウントを保持し、後続の操作の対象にする
+public class LoadTestClient {
+
+  private static final String JSON = "application/json";
+  private static final int SEED_CONCURRENCY = 32;
+
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper;
+  private final URI baseUri;
+  private final Duration requestTimeout;
+  private final String runId = UUID.randomUUID().toString().substring(0, 8);
+  private final AtomicLong userSequence = new AtomicLong();
+
+  private final List<UUID> users = new CopyOnWriteArrayList<>();
+  private final List<UUID> accounts = new CopyOnWriteArrayList<>();
+  // まだアカウントを持たないユーザー。アカウント作成でリクエスタ側に使い、組み合わせの重複を避ける
+  private final Queue<UUID> unpairedUsers = new ConcurrentLinkedQueue<>();
+
+  public LoadTestClient(
+      HttpClient httpClient, ObjectMapper objectMapper, URI baseUri, Duration requestTimeout) {
+    this.httpClient = httpClient;
+    this.objectMapper = objectMapper;
+    this.baseUri = baseUri;
+    this.requestTimeout = requestTimeout;
+  }
+
+  // 計測前の初期データを API 経由で投入する。ユーザー、アカウント、アカウントごとの取引の順に並列で作成する
+  public void seed(int userCount, int accountCount, int transactionsPerAccount) {
+    List<UUID> seededUsers = runAll(userCount, i -> registerUser(false));
+    users.addAll(seededUsers);
+
+    int n = seededUsers.size();
+    List<UUID> seededAccounts =
+        runAll(
+            accountCount,
+            i -> {
+              // (i, i + 1 + i / n) の組み合わせで重複しないペアを作る
+              UUID requester = seededUsers.get(i % n);
+              UUID payer = seededUsers.get((i % n + 1 + i / n) % n);
+              return createAccount(requester, payer);
+            });
+    accounts.addAll(seededAccounts);
+
+    runAll(
+        accountCount * transactionsPerAccount,
+        i -> {
+          UUID accountId = seededAccounts.get(i % accountCount);
+          boolean ok = i < accountCount || i % 3 != 0 ? deposit(accountId) : payment(accountId);
+          return ok ? accountId : null;
+        });
+  }
+
+  // 1回の操作を実行し、2xx で完了したかを返す
+  public boolean execute(Operation operation) {
+    try {
+      return switch (operation) {
+        case REGISTER_USER -> registerUser(true) != null;
+        case CREATE_ACCOUNT -> createAccountForNewUser() != null;
+        case DEPOSIT -> deposit(randomAccount());
+        case PAYMENT -> payment(randomAccount());
+        case HISTORY ->
+            get("/transactions/history?accountId=" + randomAccount() + "&limit=20") != null;
+        case BALANCE -> get("/transactions/balance?accountId=" + randomAccount()) != null;
+      };
+    } catch (IOException e) {
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private UUID registerUser(boolean unpaired) throws IOException, InterruptedException {
+    String externalId = "load-" + runId + "-" + userSequence.incrementAndGet();
+    JsonNode response =
+        post(
+            "/users",
+            Map.of(
+                "provider",
+                "load-test",
+                "externalId",
+                externalId,
+                "name",
+                "Load Test User " + externalId,
+                "email",
+                externalId + "@load.test"));
+    if (response == null) {
+      return null;
+    }
+    UUID userId = UUID.fromString(response.get("id").asText());
+    users.add(userId);
+    if (unpaired) {
+      unpairedUsers.add(userId);
+    }
+    return userId;
+  }
+
+  // 新規ユーザーがサインアップ後にアカウントを作る流れを想定する。未使用の新規ユーザーがいなければ先に登録する
+  private UUID createAccountForNewUser() throws IOException, InterruptedException {
+    UUID requester = unpairedUsers.poll();
+    if (requester == null) {
+      requester = registerUser(false);
+      if (requester == null) {
+        return null;
+      }
+    }
+    return createAccount(requester, randomUser(requester));
+  }
+
+  private UUID createAccount(UUID requester, UUID payer) throws IOException, InterruptedException {
+    JsonNode response = post("/accounts", Map.of("requesterId", requester, "payerId", payer));
+    if (response == null) {
+      return null;
+    }
+    UUID accountId = UUID.fromString(response.get("id").asText());
+    accounts.add(accountId);
+    return accountId;
+  }
+
+  private boolean deposit(UUID accountId) throws IOException, InterruptedException {
+    return post("/transactions/deposits", transaction(accountId, 1_000, 100_000, "負荷試験 入金"))
+        != null;
+  }
+
+  private boolean payment(UUID accountId) throws IOException, InterruptedException {
+    return post("/transactions/payments", transaction(accountId, 100, 5_000, "負荷試験 支払い")) != null;
+  }
+
+  private Map<String, Object> transaction(UUID accountId, long min, long max, String description) {
+    return Map.of(
+        "accountId",
+        accountId,
+        "amount",
+        BigDecimal.valueOf(ThreadLocalRandom.current().nextLong(min, max)),
+        "currency",
+        "JPY",
+        "description",
+        description);
+  }
+
+  private UUID randomAccount() {
+    return accounts.get(ThreadLocalRandom.current().nextInt(accounts.size()));
+  }
+
+  private UUID randomUser(UUID except) {
+    UUID user;
+    do {
+      user = users.get(ThreadLocalRandom.current().nextInt(users.size()));
+    } while (user.equals(except));
+    return user;
+  }
+
+  private JsonNode post(String path, Object body) throws IOException, InterruptedException {
+    HttpRequest request =
+        HttpRequest.newBuilder(baseUri.resolve(path))
+            .timeout(requestTimeout)
+            .header("Content-Type", JSON)
+            .header("Accept", JSON)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+            .build();
+    return send(request);
+  }
+
+  private JsonNode get(String path) throws IOException, InterruptedException {
+    HttpRequest request =
+        HttpRequest.newBuilder(baseUri.resolve(path))
+            .timeout(requestTimeout)
+            .header("Accept", JSON)
+            .GET()
+            .build();
+    return send(request);
+  }
+
+  // 2xx 以外は null を返す
+  private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+    HttpResponse<byte[]> response =
+        httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    if (response.statusCode() / 100 != 2) {
+      return null;
+    }
+    return objectMapper.readTree(response.body());
+  }
+
+  private interface SeedTask {
+    UUID run(int index) throws IOException, InterruptedException;
+  }
+
+  // count 件のタスクを仮想スレッドで並列に実行する。1件でも失敗した場合は初期データ投入を中断する
+  // 同時実行数は SEED_CONCURRENCY までに抑え、サーバーの受付キューを溢れさせない
+  private static List<UUID> runAll(int count, SeedTask task) {
+    Semaphore permits = new Semaphore(SEED_CONCURRENCY);
+    List<Future<UUID>> futures = new ArrayList<>(count);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < count; i++) {
+        int index = i;
+        futures.add(
+            executor.submit(
+                () -> {
+                  permits.acquire();
+                  try {
+                    return task.run(index);
+                  } finally {
+                    permits.release();
+                  }
+                }));
+      }
+    }
+    List<UUID> results = new ArrayList<>(count);
+    for (Future<UUID> future : futures) {
+      if (future.state() != Future.State.SUCCESS || future.resultNow() == null) {
+        throw new IllegalStateException("初期データの投入に失敗しました");
+      }
+      results.add(future.resultNow());
+    }
+    return results;
+  }
+}
@@ -0,0 +1,71 @@
+package com.shinkaji.solveza.api.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+// 負荷試験の設定。-Dloadtest.xxx で上書きできる
+public record LoadTestSettings(
+    double rate,
+    Duration warmup,
+    Duration duration,
+    int users,
+    int accounts,
+    int transactionsPerAccount,
+    long randomSeed,
+    Map<Operation, Integer> mix,
+    Duration requestTimeout,
+    Path reportDir) {
+
+  private static final String DEFAULT_MIX =
+      "register-user=2,create-account=2,deposit=25,payment=15,history=28,balance=28";
+
+  public LoadTestSettings {
+    if (rate <= 0) {
+      throw new IllegalArgumentException("loadtest.rate は正の値である必要があります");
+    }
+    if (users < 2 || accounts < 1 || accounts > (long) users * (users - 1)) {
+      throw new IllegalArgumentException(
+          "loadtest.users は2以上、loadtest.accounts は1以上かつユーザーの組み合わせ数以下である必要があります");
+    }
+    if (mix.isEmpty()) {
+      throw new IllegalArgumentException("loadtest.mix に1つ以上の操作を指定してください");
+    }
+  }
+
+  public static LoadTestSettings fromSystemProperties() {
+    return new LoadTestSettings(
+        Double.parseDouble(property("rate", "200")),
+        DurationStyle.detectAndParse(property("warmup", "10s")),
+        DurationStyle.detectAndParse(property("duration", "60s")),
+        Integer.parseInt(property("users", "200")),
+        Integer.parseInt(property("accounts", "100")),
+        Integer.parseInt(property("transactions-per-account", "20")),
+        Long.parseLong(property("random-seed", "42")),
+        parseMix(property("mix", DEFAULT_MIX)),
+        DurationStyle.detectAndParse(property("request-timeout", "10s")),
+        Path.of(property("report-dir", "build/reports/loadtest")));
+  }
+
+  // "deposit=25,payment=15" の形式。重みが0の操作は発行しない
+  static Map<Operation, Integer> parseMix(String value) {
+    Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+    for (String entry : value.split(",")) {
+      String[] pair = entry.trim().split("=");
+      if (pair.length != 2) {
+        throw new IllegalArgumentException("loadtest.mix の形式が不正です: " + entry);
+      }
+      int weight = Integer.parseInt(pair[1].trim());
+      if (weight > 0) {
+        mix.put(Operation.fromKey(pair[0].trim()), weight);
+      }
+    }
+    return mix;
+  }
+
+  private static String property(String name, String defaultValue) {
+    return System.getProperty("loadtest." + name, defaultValue);
+  }
+}
@@ -0,0 +1,57 @@
+package com.shinkaji.solveza.api.loadtest;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+// オープンモデルの負荷生成。応答を待たずにポアソン到着で操作を発行し、1リクエストごとに仮想スレッドを割り当てる
+// レイテンシは予定到着時刻から計測するため、サーバーが詰まって発行が遅れた分も結果に含まれる（coordinated omission の回避）
+public class OpenModelLoadGenerator {
+
+  private final double ratePerSecond;
+  private final SplittableRandom random;
+
+  public OpenModelLoadGenerator(double ratePerSecond, long seed) {
+    this.ratePerSecond = ratePerSecond;
+    this.random = new SplittableRandom(seed);
+  }
+
+  // duration の間発行し、発行済みリクエストがすべて完了するまでの経過時間を返す
+  public Duration run(
+      Duration duration, WorkloadMix mix, LoadTestClient client, LatencyRecorder recorder) {
+    long start = System.nanoTime();
+    long end = start + duration.toNanos();
+    long intended = start;
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      while (true) {
+        intended += nextInterArrivalNanos();
+        if (intended >= end) {
+          break;
+        }
+        waitUntil(intended);
+        Operation operation = mix.next();
+        long scheduledAt = intended;
+        clients.execute(
+            () -> {
+              boolean success = client.execute(operation);
+              recorder.record(operation, System.nanoTime() - scheduledAt, success);
+            });
+      }
+    }
+    return Duration.ofNanos(System.nanoTime() - start);
+  }
+
+  // 指数分布の到着間隔
+  private long nextInterArrivalNanos() {
+    return (long) (-Math.log(1.0 - random.nextDouble()) / ratePerSecond * 1_000_000_000L);
+  }
+
+  private static void waitUntil(long deadline) {
+    long remaining;
+    while ((remaining = deadline - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(remaining);
+    }
+  }
+}
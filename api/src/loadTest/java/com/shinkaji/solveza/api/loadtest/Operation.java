@@ -0,0 +1,36 @@
+package com.shinkaji.solveza.api.loadtest;
+
+// 負荷試験で発行する操作。key はワークロード比率の指定とレポートに使う
+public enum Operation {
+  REGISTER_USER("register-user", "POST /users"),
+  CREATE_ACCOUNT("create-account", "POST /accounts"),
+  DEPOSIT("deposit", "POST /transactions/deposits"),
+  PAYMENT("payment", "POST /transactions/payments"),
+  HISTORY("history", "GET /transactions/history"),
+  BALANCE("balance", "GET /transactions/balance");
+
+  private final String key;
+  private final String endpoint;
+
+  Operation(String key, String endpoint) {
+    this.key = key;
+    this.endpoint = endpoint;
+  }
+
+  public String key() {
+    return key;
+  }
+
+  public String endpoint() {
+    return endpoint;
+  }
+
+  public static Operation fromKey(String key) {
+    for (Operation operation : values()) {
+      if (operation.key.equals(key)) {
+        return operation;
+      }
+    }
+    throw new IllegalArgumentException("未知の操作です: " + key);
+  }
+}
@@ -0,0 +1,94 @@
+package com.shinkaji.solveza.api.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+// ./gradlew loadTest で実行する。設定は LoadTestSettings を参照
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("load-test")
+@DisplayName("Payment Proxy Load Test")
+class PaymentProxyLoadTest {
+
+  private static final Logger log = LoggerFactory.getLogger(PaymentProxyLoadTest.class);
+
+  private static final PostgreSQLContainer<?> POSTGRES_CONTAINER;
+
+  static {
+    POSTGRES_CONTAINER =
+        new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("solveza_load_test")
+            .withUsername("test")
+            .withPassword("test");
+    POSTGRES_CONTAINER.start();
+  }
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add(
+        "spring.datasource.url",
+        () -> POSTGRES_CONTAINER.getJdbcUrl() + "&reWriteBatchedInserts=true");
+    registry.add("spring.datasource.username", POSTGRES_CONTAINER::getUsername);
+    registry.add("spring.datasource.password", POSTGRES_CONTAINER::getPassword);
+  }
+
+  @LocalServerPort private int port;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Test
+  @DisplayName("オープンモデルのワークロードでエンドポイントごとのレイテンシを計測する")
+  void openModelWorkload() throws Exception {
+    LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    log.info("Load test settings: {}", settings);
+
+    try (HttpClient httpClient =
+        HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build()) {
+      LoadTestClient client =
+          new LoadTestClient(
+              httpClient,
+              objectMapper,
+              URI.create("http://localhost:" + port),
+              settings.requestTimeout());
+      client.seed(settings.users(), settings.accounts(), settings.transactionsPerAccount());
+
+      OpenModelLoadGenerator generator =
+          new OpenModelLoadGenerator(settings.rate(), settings.randomSeed());
+      // ウォームアップ（JIT・コネクションプール）の計測値は捨てる
+      generator.run(
+          settings.warmup(),
+          new WorkloadMix(settings.mix(), settings.randomSeed()),
+          client,
+          new LatencyRecorder());
+
+      LatencyRecorder recorder = new LatencyRecorder();
+      Duration elapsed =
+          generator.run(
+              settings.duration(),
+              new WorkloadMix(settings.mix(), settings.randomSeed() + 1),
+              client,
+              recorder);
+
+      LoadReport report = new LoadReport(recorder, elapsed);
+      report.write(settings.reportDir(), objectMapper);
+      log.info("Load test finished in {}{}{}", elapsed, System.lineSeparator(), report.summary());
+
+      assertTrue(recorder.totalCount() > 0);
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.shinkaji.solveza.api.loadtest;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// 重み付きで次の操作を選ぶ。到着スケジューラの単一スレッドからのみ呼ぶ
+public class WorkloadMix {
+
+  private final Operation[] operations;
+  private final int[] cumulativeWeights;
+  private final SplittableRandom random;
+
+  public WorkloadMix(Map<Operation, Integer> weights, long seed) {
+    operations = weights.keySet().toArray(Operation[]::new);
+    cumulativeWeights = new int[operations.length];
+    int total = 0;
+    for (int i = 0; i < operations.length; i++) {
+      total += weights.get(operations[i]);
+      cumulativeWeights[i] = total;
+    }
+    random = new SplittableRandom(seed);
+  }
+
+  public Operation next() {
+    int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+    for (int i = 0; i < cumulativeWeights.length; i++) {
+      if (value < cumulativeWeights[i]) {
+        return operations[i];
+      }
+    }
+    throw new IllegalStateException("重みの合計を超えました");
+  }
+}
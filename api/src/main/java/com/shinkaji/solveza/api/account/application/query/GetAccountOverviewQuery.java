@@ -0,0 +1,6 @@
+package com.shinkaji.solveza.api.account.application.query;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+
+public record GetAccountOverviewQuery(@NotNull(message = "ユーザーIDは必須です") UUID userId) {}
@@ -0,0 +1,73 @@
+package com.shinkaji.solveza.api.account.application.usecase;
+
+import com.shinkaji.solveza.api.account.application.query.GetAccountOverviewQuery;
+import com.shinkaji.solveza.api.account.domain.model.Account;
+import com.shinkaji.solveza.api.account.domain.model.AccountWithBalances;
+import com.shinkaji.solveza.api.account.domain.repository.AccountRepository;
+import com.shinkaji.solveza.api.account.presentation.dto.AccountBalanceItemDto;
+import com.shinkaji.solveza.api.account.presentation.dto.AccountOverviewDto;
+import com.shinkaji.solveza.api.account.presentation.dto.CurrencyAmountDto;
+import com.shinkaji.solveza.api.shared.domain.MoneyAccumulator;
+import com.shinkaji.solveza.api.shared.domain.UserId;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class GetAccountOverviewUseCase {
+
+  private final AccountRepository accountRepository;
+
+  public GetAccountOverviewUseCase(AccountRepository accountRepository) {
+    this.accountRepository = accountRepository;
+  }
+
+  public AccountOverviewDto execute(GetAccountOverviewQuery query) {
+    UserId userId = new UserId(query.userId());
+
+    List<AccountWithBalances> accounts = accountRepository.findWithBalancesByUserId(userId);
+
+    // 残高は支払者が依頼者から預かっている額。依頼者から見て正なら受け取り、負なら支払いになる
+    // 異なる通貨の残高は合算せず、通貨ごとに集計する
+    MoneyAccumulator receivables = new MoneyAccumulator();
+    MoneyAccumulator payables = new MoneyAccumulator();
+    List<AccountBalanceItemDto> items = new ArrayList<>(accounts.size());
+    for (AccountWithBalances accountWithBalances : accounts) {
+      Account account = accountWithBalances.account();
+      List<CurrencyAmountDto> balances = new ArrayList<>(accountWithBalances.balances().size());
+      boolean isRequester = account.isRequester(userId);
+      accountWithBalances
+          .balances()
+          .forEach(
+              (currency, balance) -> {
+                balances.add(new CurrencyAmountDto(currency.getCurrencyCode(), balance));
+                BigDecimal position = isRequester ? balance : balance.negate();
+                if (position.signum() > 0) {
+                  receivables.add(currency, position);
+                } else if (position.signum() < 0) {
+                  payables.add(currency, position.negate());
+                }
+              });
+      items.add(
+          new AccountBalanceItemDto(
+              account.getId(),
+              account.getRequester().userId().value(),
+              account.getPayer().userId().value(),
+              balances,
+              account.getCreatedAt(),
+              account.getUpdatedAt()));
+    }
+
+    return new AccountOverviewDto(
+        query.userId(), items, toCurrencyAmounts(receivables), toCurrencyAmounts(payables));
+  }
+
+  private List<CurrencyAmountDto> toCurrencyAmounts(MoneyAccumulator accumulator) {
+    return accumulator.amounts().entrySet().stream()
+        .map(entry -> new CurrencyAmountDto(entry.getKey().getCurrencyCode(), entry.getValue()))
+        .toList();
+  }
+}
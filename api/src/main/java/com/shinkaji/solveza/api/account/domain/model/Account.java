@@ -2,6 +2,7 @@ package com.shinkaji.solveza.api.account.domain.model;
 
 import com.shinkaji.solveza.api.shared.domain.AccountId;
 import com.shinkaji.solveza.api.shared.domain.BaseEntity;
+import com.shinkaji.solveza.api.shared.domain.IdGenerators;
 import com.shinkaji.solveza.api.shared.domain.UserId;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -38,7 +39,7 @@ public class Account extends BaseEntity {
     }
 
     return new Account(
-        UUID.randomUUID(), LocalDateTime.now(), LocalDateTime.now(), requesterId, payerId);
+        IdGenerators.generate(), LocalDateTime.now(), LocalDateTime.now(), requesterId, payerId);
   }
 
   public static Account reconstruct(
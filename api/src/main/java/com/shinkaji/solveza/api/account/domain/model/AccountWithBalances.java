@@ -0,0 +1,21 @@
+package com.shinkaji.solveza.api.account.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// アカウントと通貨ごとの現在残高（預かり - 支払い、通貨コード順）。取引がないアカウントは空
+public record AccountWithBalances(Account account, Map<Currency, BigDecimal> balances) {
+
+  public AccountWithBalances {
+    if (account == null) {
+      throw new IllegalArgumentException("アカウントは必須です");
+    }
+    if (balances == null) {
+      throw new IllegalArgumentException("残高は必須です");
+    }
+    balances = Collections.unmodifiableMap(new LinkedHashMap<>(balances));
+  }
+}
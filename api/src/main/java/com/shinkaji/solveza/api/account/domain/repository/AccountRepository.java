@@ -1,10 +1,13 @@
 package com.shinkaji.solveza.api.account.domain.repository;
 
 import com.shinkaji.solveza.api.account.domain.model.Account;
+import com.shinkaji.solveza.api.account.domain.model.AccountWithBalances;
 import com.shinkaji.solveza.api.shared.domain.AccountId;
 import com.shinkaji.solveza.api.shared.domain.UserId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface AccountRepository {
 
@@ -16,11 +19,15 @@ public interface AccountRepository {
 
   List<Account> findByPayerId(UserId payerId);
 
+  List<AccountWithBalances> findWithBalancesByUserId(UserId userId);
+
   void save(Account account);
 
   void delete(AccountId accountId);
 
   boolean existsById(AccountId accountId);
 
+  Set<AccountId> findExistingIds(Collection<AccountId> accountIds);
+
   boolean existsByRequesterIdAndPayerId(UserId requesterId, UserId payerId);
 }
@@ -1,30 +1,37 @@
 package com.shinkaji.solveza.api.account.infrastructure.mapper;
 
 import com.shinkaji.solveza.api.account.infrastructure.mapper.dto.AccountDto;
+import com.shinkaji.solveza.api.account.infrastructure.mapper.dto.AccountWithBalanceDto;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface AccountMapper {
 
-  Optional<AccountDto> findById(@Param("id") String id);
+  Optional<AccountDto> findById(@Param("id") UUID id);
 
-  List<AccountDto> findByUserId(@Param("userId") String userId);
+  List<AccountDto> findByUserId(@Param("userId") UUID userId);
 
-  List<AccountDto> findByRequesterId(@Param("requesterId") String requesterId);
+  List<AccountDto> findByRequesterId(@Param("requesterId") UUID requesterId);
 
-  List<AccountDto> findByPayerId(@Param("payerId") String payerId);
+  List<AccountDto> findByPayerId(@Param("payerId") UUID payerId);
+
+  List<AccountWithBalanceDto> findWithBalancesByUserId(@Param("userId") UUID userId);
 
   void insert(@Param("account") AccountDto account);
 
   void update(@Param("account") AccountDto account);
 
-  void delete(@Param("id") String id);
+  void delete(@Param("id") UUID id);
+
+  boolean existsById(@Param("id") UUID id);
 
-  boolean existsById(@Param("id") String id);
+  List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 
   boolean existsByRequesterIdAndPayerId(
-      @Param("requesterId") String requesterId, @Param("payerId") String payerId);
+      @Param("requesterId") UUID requesterId, @Param("payerId") UUID payerId);
 }
@@ -1,10 +1,7 @@
 package com.shinkaji.solveza.api.account.infrastructure.mapper.dto;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public record AccountDto(
-    String id,
-    String requesterId,
-    String payerId,
-    LocalDateTime createdAt,
-    LocalDateTime updatedAt) {}
+    UUID id, UUID requesterId, UUID payerId, LocalDateTime createdAt, LocalDateTime updatedAt) {}
@@ -0,0 +1,14 @@
+package com.shinkaji.solveza.api.account.infrastructure.mapper.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AccountWithBalanceDto(
+    UUID id,
+    UUID requesterId,
+    UUID payerId,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    BigDecimal balance,
+    String currency) {}
@@ -1,13 +1,22 @@
 package com.shinkaji.solveza.api.account.infrastructure.repository;
 
 import com.shinkaji.solveza.api.account.domain.model.Account;
+import com.shinkaji.solveza.api.account.domain.model.AccountWithBalances;
 import com.shinkaji.solveza.api.account.domain.repository.AccountRepository;
 import com.shinkaji.solveza.api.account.infrastructure.mapper.AccountMapper;
 import com.shinkaji.solveza.api.account.infrastructure.mapper.dto.AccountDto;
+import com.shinkaji.solveza.api.account.infrastructure.mapper.dto.AccountWithBalanceDto;
 import com.shinkaji.solveza.api.shared.domain.AccountId;
 import com.shinkaji.solveza.api.shared.domain.UserId;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Repository;
 
@@ -22,35 +31,53 @@ public class AccountRepositoryImpl implements AccountRepository {
 
   @Override
   public Optional<Account> findById(AccountId accountId) {
-    return accountMapper.findById(accountId.value().toString()).map(this::toDomain);
+    return accountMapper.findById(accountId.value()).map(this::toDomain);
   }
 
   @Override
   public List<Account> findByUserId(UserId userId) {
-    return accountMapper.findByUserId(userId.value().toString()).stream()
+    return accountMapper.findByUserId(userId.value()).stream()
         .map(this::toDomain)
         .collect(Collectors.toList());
   }
 
   @Override
   public List<Account> findByRequesterId(UserId requesterId) {
-    return accountMapper.findByRequesterId(requesterId.value().toString()).stream()
+    return accountMapper.findByRequesterId(requesterId.value()).stream()
         .map(this::toDomain)
         .collect(Collectors.toList());
   }
 
   @Override
   public List<Account> findByPayerId(UserId payerId) {
-    return accountMapper.findByPayerId(payerId.value().toString()).stream()
+    return accountMapper.findByPayerId(payerId.value()).stream()
         .map(this::toDomain)
         .collect(Collectors.toList());
   }
 
+  @Override
+  public List<AccountWithBalances> findWithBalancesByUserId(UserId userId) {
+    // 通貨ごとの行をアカウント単位にまとめる（同じアカウントの行は連続して返される）
+    List<AccountWithBalances> accounts = new ArrayList<>();
+    List<AccountWithBalanceDto> rows = new ArrayList<>();
+    for (AccountWithBalanceDto row : accountMapper.findWithBalancesByUserId(userId.value())) {
+      if (!rows.isEmpty() && !rows.getFirst().id().equals(row.id())) {
+        accounts.add(toDomain(rows));
+        rows.clear();
+      }
+      rows.add(row);
+    }
+    if (!rows.isEmpty()) {
+      accounts.add(toDomain(rows));
+    }
+    return accounts;
+  }
+
   @Override
   public void save(Account account) {
     AccountDto accountDto = toDto(account);
 
-    if (accountMapper.existsById(account.getId().toString())) {
+    if (accountMapper.existsById(account.getId())) {
       accountMapper.update(accountDto);
     } else {
       accountMapper.insert(accountDto);
@@ -59,34 +86,63 @@ public class AccountRepositoryImpl implements AccountRepository {
 
   @Override
   public void delete(AccountId accountId) {
-    accountMapper.delete(accountId.value().toString());
+    accountMapper.delete(accountId.value());
   }
 
   @Override
   public boolean existsById(AccountId accountId) {
-    return accountMapper.existsById(accountId.value().toString());
+    return accountMapper.existsById(accountId.value());
+  }
+
+  @Override
+  public Set<AccountId> findExistingIds(Collection<AccountId> accountIds) {
+    if (accountIds.isEmpty()) {
+      return Set.of();
+    }
+    return accountMapper
+        .findExistingIds(accountIds.stream().map(AccountId::value).toList())
+        .stream()
+        .map(AccountId::new)
+        .collect(Collectors.toSet());
   }
 
   @Override
   public boolean existsByRequesterIdAndPayerId(UserId requesterId, UserId payerId) {
-    return accountMapper.existsByRequesterIdAndPayerId(
-        requesterId.value().toString(), payerId.value().toString());
+    return accountMapper.existsByRequesterIdAndPayerId(requesterId.value(), payerId.value());
   }
 
   private Account toDomain(AccountDto dto) {
     return Account.reconstruct(
-        java.util.UUID.fromString(dto.id()),
+        dto.id(),
         dto.createdAt(),
         dto.updatedAt(),
-        new UserId(java.util.UUID.fromString(dto.requesterId())),
-        new UserId(java.util.UUID.fromString(dto.payerId())));
+        new UserId(dto.requesterId()),
+        new UserId(dto.payerId()));
+  }
+
+  private AccountWithBalances toDomain(List<AccountWithBalanceDto> rows) {
+    AccountWithBalanceDto dto = rows.getFirst();
+    Account account =
+        Account.reconstruct(
+            dto.id(),
+            dto.createdAt(),
+            dto.updatedAt(),
+            new UserId(dto.requesterId()),
+            new UserId(dto.payerId()));
+    Map<Currency, BigDecimal> balances = new LinkedHashMap<>();
+    for (AccountWithBalanceDto row : rows) {
+      if (row.currency() != null) {
+        balances.put(Currency.getInstance(row.currency()), row.balance());
+      }
+    }
+    return new AccountWithBalances(account, balances);
   }
 
   private AccountDto toDto(Account account) {
     return new AccountDto(
-        account.getId().toString(),
-        account.getRequester().userId().value().toString(),
-        account.getPayer().userId().value().toString(),
+        account.getId(),
+        account.getRequester().userId().value(),
+        account.getPayer().userId().value(),
         account.getCreatedAt(),
         account.getUpdatedAt());
   }
@@ -0,0 +1,118 @@
+package com.shinkaji.solveza.api.account.infrastructure.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.shinkaji.solveza.api.account.domain.model.Account;
+import com.shinkaji.solveza.api.account.domain.model.AccountWithBalances;
+import com.shinkaji.solveza.api.account.domain.repository.AccountRepository;
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.UserId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// AccountRepositoryImpl の存在確認をプロセス内キャッシュで包む。取引系リクエストごとの存在確認クエリを省く。
+// 存在しないIDも短い期間だけ保持し、存在しないアカウントへの連続したリクエストでもDBに触れない
+@Primary
+@Repository
+public class CachingAccountRepository implements AccountRepository {
+
+  static final String CACHE_NAME = "account.existence";
+
+  private final AccountRepository delegate;
+  private final Cache<AccountId, Boolean> existence;
+
+  public CachingAccountRepository(
+      AccountRepositoryImpl delegate,
+      MeterRegistry meterRegistry,
+      @Value("${solveza.account.existence-cache.maximum-size:100000}") long maximumSize,
+      @Value("${solveza.account.existence-cache.expire-after-write:5m}") Duration expireAfterWrite,
+      @Value("${solveza.account.existence-cache.negative-expire-after-write:5s}")
+          Duration negativeExpireAfterWrite) {
+    this.delegate = delegate;
+    this.existence =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(
+                Expiry.<AccountId, Boolean>writing(
+                    (accountId, exists) -> exists ? expireAfterWrite : negativeExpireAfterWrite))
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, existence, CACHE_NAME);
+  }
+
+  @Override
+  public Optional<Account> findById(AccountId accountId) {
+    return delegate.findById(accountId);
+  }
+
+  @Override
+  public List<Account> findByUserId(UserId userId) {
+    return delegate.findByUserId(userId);
+  }
+
+  @Override
+  public List<Account> findByRequesterId(UserId requesterId) {
+    return delegate.findByRequesterId(requesterId);
+  }
+
+  @Override
+  public List<Account> findByPayerId(UserId payerId) {
+    return delegate.findByPayerId(payerId);
+  }
+
+  @Override
+  public List<AccountWithBalances> findWithBalancesByUserId(UserId userId) {
+    return delegate.findWithBalancesByUserId(userId);
+  }
+
+  @Override
+  public void save(Account account) {
+    delegate.save(account);
+  }
+
+  // 削除前に消したうえで、トランザクション完了時にもう一度消す。
+  // 削除の確定前に並行する読み取りが「存在する」を書き戻しても残らないようにする
+  @Override
+  public void delete(AccountId accountId) {
+    existence.invalidate(accountId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              existence.invalidate(accountId);
+            }
+          });
+    }
+    delegate.delete(accountId);
+  }
+
+  @Override
+  public boolean existsById(AccountId accountId) {
+    return existence.get(accountId, delegate::existsById);
+  }
+
+  // 一括で存在を確認した結果も取り込む
+  @Override
+  public Set<AccountId> findExistingIds(Collection<AccountId> accountIds) {
+    Set<AccountId> existing = delegate.findExistingIds(accountIds);
+    existing.forEach(accountId -> existence.put(accountId, true));
+    return existing;
+  }
+
+  @Override
+  public boolean existsByRequesterIdAndPayerId(UserId requesterId, UserId payerId) {
+    return delegate.existsByRequesterIdAndPayerId(requesterId, payerId);
+  }
+}
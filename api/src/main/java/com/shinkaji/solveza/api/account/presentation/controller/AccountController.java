@@ -2,13 +2,16 @@ package com.shinkaji.solveza.api.account.presentation.controller;
 
 import com.shinkaji.solveza.api.account.application.command.CreateAccountCommand;
 import com.shinkaji.solveza.api.account.application.command.DeleteAccountCommand;
+import com.shinkaji.solveza.api.account.application.query.GetAccountOverviewQuery;
 import com.shinkaji.solveza.api.account.application.query.GetAccountQuery;
 import com.shinkaji.solveza.api.account.application.query.GetAccountsByUserQuery;
 import com.shinkaji.solveza.api.account.application.usecase.CreateAccountUseCase;
 import com.shinkaji.solveza.api.account.application.usecase.DeleteAccountUseCase;
+import com.shinkaji.solveza.api.account.application.usecase.GetAccountOverviewUseCase;
 import com.shinkaji.solveza.api.account.application.usecase.GetAccountUseCase;
 import com.shinkaji.solveza.api.account.application.usecase.GetAccountsByUserUseCase;
 import com.shinkaji.solveza.api.account.presentation.dto.AccountDto;
+import com.shinkaji.solveza.api.account.presentation.dto.AccountOverviewDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -30,16 +33,19 @@ public class AccountController {
   private final DeleteAccountUseCase deleteAccountUseCase;
   private final GetAccountUseCase getAccountUseCase;
   private final GetAccountsByUserUseCase getAccountsByUserUseCase;
+  private final GetAccountOverviewUseCase getAccountOverviewUseCase;
 
   public AccountController(
       CreateAccountUseCase createAccountUseCase,
       DeleteAccountUseCase deleteAccountUseCase,
       GetAccountUseCase getAccountUseCase,
-      GetAccountsByUserUseCase getAccountsByUserUseCase) {
+      GetAccountsByUserUseCase getAccountsByUserUseCase,
+      GetAccountOverviewUseCase getAccountOverviewUseCase) {
     this.createAccountUseCase = createAccountUseCase;
     this.deleteAccountUseCase = deleteAccountUseCase;
     this.getAccountUseCase = getAccountUseCase;
     this.getAccountsByUserUseCase = getAccountsByUserUseCase;
+    this.getAccountOverviewUseCase = getAccountOverviewUseCase;
   }
 
   @PostMapping
@@ -84,6 +90,22 @@ public class AccountController {
     return ResponseEntity.ok(accounts);
   }
 
+  @GetMapping("/overview")
+  @Operation(
+      summary = "ユーザー関連アカウント残高一覧取得",
+      description = "指定されたユーザーに関連するアカウントを現在残高と通貨別の受取・支払合計付きで取得します")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "アカウント残高一覧が正常に取得されました"),
+        @ApiResponse(responseCode = "400", description = "リクエストが無効です")
+      })
+  public ResponseEntity<AccountOverviewDto> getAccountOverview(
+      @Parameter(description = "ユーザーID", required = true) @RequestParam UUID userId) {
+    GetAccountOverviewQuery query = new GetAccountOverviewQuery(userId);
+    AccountOverviewDto overview = getAccountOverviewUseCase.execute(query);
+    return ResponseEntity.ok(overview);
+  }
+
   @DeleteMapping("/{accountId}")
   @Operation(summary = "アカウント削除", description = "指定されたIDのアカウントを削除します")
   @ApiResponses(
@@ -0,0 +1,14 @@
+package com.shinkaji.solveza.api.account.presentation.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// balances: 通貨ごとの残高（通貨コード順）。取引がないアカウントは空
+public record AccountBalanceItemDto(
+    UUID id,
+    UUID requesterId,
+    UUID payerId,
+    List<CurrencyAmountDto> balances,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt) {}
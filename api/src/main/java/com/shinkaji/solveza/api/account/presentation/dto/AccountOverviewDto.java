@@ -0,0 +1,11 @@
+package com.shinkaji.solveza.api.account.presentation.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+// receivables: ユーザーが受け取る側の残高合計、payables: ユーザーが支払う側の残高合計（いずれも通貨別）
+public record AccountOverviewDto(
+    UUID userId,
+    List<AccountBalanceItemDto> accounts,
+    List<CurrencyAmountDto> receivables,
+    List<CurrencyAmountDto> payables) {}
@@ -0,0 +1,5 @@
+package com.shinkaji.solveza.api.account.presentation.dto;
+
+import java.math.BigDecimal;
+
+public record CurrencyAmountDto(String currency, BigDecimal amount) {}
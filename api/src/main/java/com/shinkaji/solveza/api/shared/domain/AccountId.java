@@ -11,7 +11,7 @@ public record AccountId(UUID value) {
   }
 
   public static AccountId generate() {
-    return new AccountId(UUID.randomUUID());
+    return new AccountId(IdGenerators.generate());
   }
 
   public static AccountId fromString(String uuidString) {
@@ -0,0 +1,9 @@
+package com.shinkaji.solveza.api.shared.domain;
+
+import java.util.UUID;
+
+// エンティティIDの採番方式。既定は UuidV7IdGenerator
+public interface IdGenerator {
+
+  UUID generate();
+}
@@ -0,0 +1,23 @@
+package com.shinkaji.solveza.api.shared.domain;
+
+import java.util.UUID;
+
+// ドメインモデルの generate / create から使う採番方式の保持先。
+// 起動時に solveza.id.generator の設定に応じて差し替えられる
+public final class IdGenerators {
+
+  private static volatile IdGenerator current = new UuidV7IdGenerator();
+
+  private IdGenerators() {}
+
+  public static UUID generate() {
+    return current.generate();
+  }
+
+  public static void use(IdGenerator idGenerator) {
+    if (idGenerator == null) {
+      throw new IllegalArgumentException("IDジェネレーターは必須です");
+    }
+    current = idGenerator;
+  }
+}
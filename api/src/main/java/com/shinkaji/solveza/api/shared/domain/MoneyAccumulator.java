@@ -0,0 +1,128 @@
+package com.shinkaji.solveza.api.shared.domain;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 集計用の可変アキュムレータ。通貨ごとの合計を long の最小単位（1/100）で保持し、
+// 加減算のたびに合計値の BigDecimal を生成しない。BigDecimal への変換は集計結果を返す時点でのみ行う。
+// 通貨は通貨コードから引くインデックス表ではなく、保持している Currency の配列を線形探索して位置を求める。
+// 口座の通貨は数種類で、全通貨分の表をアキュムレータごとに持つより小さく、探索も数回の比較で済む
+public final class MoneyAccumulator {
+
+  // DB の DECIMAL(19,2) と同じ小数桁数
+  public static final int SCALE = 2;
+
+  private static final int INITIAL_CAPACITY = 2;
+
+  // 口座あたりの通貨は数種類のため、通貨の位置（インデックス）を線形探索で引く
+  private Currency[] currencies = new Currency[INITIAL_CAPACITY];
+  private long[] minorUnits = new long[INITIAL_CAPACITY];
+  private int[] scales = new int[INITIAL_CAPACITY];
+  private int size;
+
+  public void add(Money money) {
+    add(money.currency(), money.amount());
+  }
+
+  public void subtract(Money money) {
+    subtract(money.currency(), money.amount());
+  }
+
+  public void add(Currency currency, BigDecimal amount) {
+    int index = indexOf(currency);
+    minorUnits[index] = Math.addExact(minorUnits[index], toMinorUnits(amount));
+    scales[index] = Math.max(scales[index], resultScale(amount));
+  }
+
+  public void subtract(Currency currency, BigDecimal amount) {
+    int index = indexOf(currency);
+    minorUnits[index] = Math.subtractExact(minorUnits[index], toMinorUnits(amount));
+    scales[index] = Math.max(scales[index], resultScale(amount));
+  }
+
+  public void addMinorUnits(Currency currency, long amount) {
+    int index = indexOf(currency);
+    minorUnits[index] = Math.addExact(minorUnits[index], amount);
+    scales[index] = SCALE;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public boolean contains(Currency currency) {
+    return find(currency) >= 0;
+  }
+
+  public long minorUnits(Currency currency) {
+    int index = find(currency);
+    return index < 0 ? 0 : minorUnits[index];
+  }
+
+  public BigDecimal amount(Currency currency) {
+    int index = find(currency);
+    return index < 0 ? BigDecimal.ZERO : toAmount(minorUnits[index], scales[index]);
+  }
+
+  // 通貨コード順
+  public Map<Currency, BigDecimal> amounts() {
+    Map<Currency, BigDecimal> amounts =
+        new TreeMap<>(Comparator.comparing(Currency::getCurrencyCode));
+    for (int i = 0; i < size; i++) {
+      amounts.put(currencies[i], toAmount(minorUnits[i], scales[i]));
+    }
+    return amounts;
+  }
+
+  // 小数点以下が SCALE 桁を超える場合や long に収まらない場合は ArithmeticException。
+  // movePointRight が作る中間の BigDecimal は、add/subtract などにインライン展開されるとエスケープ解析で
+  // 除去される（MoneyAccumulatorBenchmark の gc.alloc.rate.norm は取引件数によらずアキュムレータ分のみ）。
+  // unscaledValue() と scale() から求める方法は BigInteger と int[] を生成するため、除去されない場合の
+  // 割り当て量はかえって大きくなる（-XX:-DoEscapeAnalysis で1件あたり 64B、この実装は 40B）
+  public static long toMinorUnits(BigDecimal amount) {
+    return amount.movePointRight(SCALE).longValueExact();
+  }
+
+  public static BigDecimal toAmount(long minorUnits) {
+    return BigDecimal.valueOf(minorUnits, SCALE);
+  }
+
+  // BigDecimal で加算した場合と同じ結果になるよう、入力の最大の小数桁数で返す
+  private static BigDecimal toAmount(long minorUnits, int scale) {
+    return BigDecimal.valueOf(minorUnits, SCALE).setScale(scale);
+  }
+
+  private static int resultScale(BigDecimal amount) {
+    return Math.min(Math.max(amount.scale(), 0), SCALE);
+  }
+
+  private int find(Currency currency) {
+    for (int i = 0; i < size; i++) {
+      if (currencies[i].equals(currency)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private int indexOf(Currency currency) {
+    int index = find(currency);
+    if (index >= 0) {
+      return index;
+    }
+    if (currency == null) {
+      throw new IllegalArgumentException("通貨は必須です");
+    }
+    if (size == currencies.length) {
+      currencies = Arrays.copyOf(currencies, size * 2);
+      minorUnits = Arrays.copyOf(minorUnits, size * 2);
+      scales = Arrays.copyOf(scales, size * 2);
+    }
+    currencies[size] = currency;
+    return size++;
+  }
+}
@@ -11,7 +11,7 @@ public record PermissionId(UUID value) {
   }
 
   public static PermissionId generate() {
-    return new PermissionId(UUID.randomUUID());
+    return new PermissionId(IdGenerators.generate());
   }
 
   public static PermissionId fromString(String uuidString) {
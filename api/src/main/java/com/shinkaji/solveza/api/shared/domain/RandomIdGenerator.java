@@ -0,0 +1,12 @@
+package com.shinkaji.solveza.api.shared.domain;
+
+import java.util.UUID;
+
+// 従来の UUIDv4（SecureRandom）による採番
+public class RandomIdGenerator implements IdGenerator {
+
+  @Override
+  public UUID generate() {
+    return UUID.randomUUID();
+  }
+}
@@ -11,7 +11,7 @@ public record RoleId(UUID value) {
   }
 
   public static RoleId generate() {
-    return new RoleId(UUID.randomUUID());
+    return new RoleId(IdGenerators.generate());
   }
 
   public static RoleId fromString(String uuidString) {
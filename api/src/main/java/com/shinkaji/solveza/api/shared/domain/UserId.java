@@ -11,7 +11,7 @@ public record UserId(UUID value) {
   }
 
   public static UserId generate() {
-    return new UserId(UUID.randomUUID());
+    return new UserId(IdGenerators.generate());
   }
 
   public static UserId fromString(String uuidString) {
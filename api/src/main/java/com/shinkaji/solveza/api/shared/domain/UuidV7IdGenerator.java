@@ -0,0 +1,73 @@
+package com.shinkaji.solveza.api.shared.domain;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// RFC 9562 の UUIDv7（先頭48ビットがUNIXミリ秒）で採番する。
+// 同一ミリ秒内は12ビットのカウンタで単調増加させ、主キーの B-tree の末尾に挿入されるようにする。
+// 乱数部分は推測されないよう SecureRandom（DRBG）で生成する。DRBG は生成時に一度だけシードを取得し、
+// 採番中はエントロピー源を待たない。高負荷時に1つのインスタンスで競合しないよう、スレッドIDで複数のインスタンスに分散させる
+public class UuidV7IdGenerator implements IdGenerator {
+
+  private static final int COUNTER_BITS = 12;
+  // ミリ秒が進んだときはカウンタの下位ビットを乱数で初期化し、上位は桁あふれの余地として空けておく
+  private static final long COUNTER_SEED_MASK = (1L << (COUNTER_BITS - 1)) - 1;
+  private static final VarHandle LONG_VIEW =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+  private final LongSupplier clock;
+  private final SecureRandom[] randoms;
+  // (UNIXミリ秒 << 12) | カウンタ。カウンタが桁あふれした場合はミリ秒側に繰り上がる
+  private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+  public UuidV7IdGenerator() {
+    this(System::currentTimeMillis);
+  }
+
+  UuidV7IdGenerator(LongSupplier clock) {
+    this.clock = clock;
+    this.randoms =
+        new SecureRandom[Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2)];
+    for (int i = 0; i < randoms.length; i++) {
+      randoms[i] = drbg();
+    }
+  }
+
+  @Override
+  public UUID generate() {
+    // カウンタの初期値と下位62ビットの乱数を1回の呼び出しでまとめて取得する
+    byte[] bytes = new byte[16];
+    randoms[(int) Thread.currentThread().threadId() & (randoms.length - 1)].nextBytes(bytes);
+    long counterSeed = (long) LONG_VIEW.get(bytes, 0) & COUNTER_SEED_MASK;
+    long randomBits = (long) LONG_VIEW.get(bytes, 8);
+
+    long next;
+    long previous;
+    do {
+      previous = lastTimestampAndCounter.get();
+      long candidate = (clock.getAsLong() << COUNTER_BITS) | counterSeed;
+      // 時計が戻った場合や同一ミリ秒内では直前の値から1つ進める
+      next = candidate > previous ? candidate : previous + 1;
+    } while (!lastTimestampAndCounter.compareAndSet(previous, next));
+
+    long timestamp = next >>> COUNTER_BITS;
+    long counter = next & ((1L << COUNTER_BITS) - 1);
+    long mostSigBits = (timestamp << 16) | 0x7000L | counter;
+    long leastSigBits = (randomBits & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  private static SecureRandom drbg() {
+    try {
+      return SecureRandom.getInstance("DRBG");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("DRBG の SecureRandom を取得できません", e);
+    }
+  }
+}
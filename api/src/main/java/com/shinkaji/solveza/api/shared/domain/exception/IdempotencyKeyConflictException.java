@@ -0,0 +1,8 @@
+package com.shinkaji.solveza.api.shared.domain.exception;
+
+public class IdempotencyKeyConflictException extends DomainException {
+
+  public IdempotencyKeyConflictException(String reason) {
+    super("冪等キーが競合しています: " + reason);
+  }
+}
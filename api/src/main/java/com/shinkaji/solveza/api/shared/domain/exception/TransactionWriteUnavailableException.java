@@ -0,0 +1,23 @@
+package com.shinkaji.solveza.api.shared.domain.exception;
+
+import java.time.Duration;
+
+// 書き込みの受付が一時的にできない状態。retryAfter 経過後の再送を促す
+public class TransactionWriteUnavailableException extends DomainException {
+
+  private final Duration retryAfter;
+
+  public TransactionWriteUnavailableException(String reason, Duration retryAfter) {
+    super("取引の書き込みを受け付けられません: " + reason);
+    this.retryAfter = retryAfter;
+  }
+
+  public TransactionWriteUnavailableException(String reason, Duration retryAfter, Throwable cause) {
+    super("取引の書き込みを受け付けられません: " + reason, cause);
+    this.retryAfter = retryAfter;
+  }
+
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
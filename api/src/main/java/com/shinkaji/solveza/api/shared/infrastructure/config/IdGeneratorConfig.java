@@ -0,0 +1,34 @@
+package com.shinkaji.solveza.api.shared.infrastructure.config;
+
+import com.shinkaji.solveza.api.shared.domain.IdGenerator;
+import com.shinkaji.solveza.api.shared.domain.IdGenerators;
+import com.shinkaji.solveza.api.shared.domain.RandomIdGenerator;
+import com.shinkaji.solveza.api.shared.domain.UuidV7IdGenerator;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+  @Bean
+  @ConditionalOnProperty(
+      name = "solveza.id.generator",
+      havingValue = "uuidv7",
+      matchIfMissing = true)
+  public IdGenerator uuidV7IdGenerator() {
+    return new UuidV7IdGenerator();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "solveza.id.generator", havingValue = "random")
+  public IdGenerator randomIdGenerator() {
+    return new RandomIdGenerator();
+  }
+
+  @Bean
+  public SmartInitializingSingleton idGeneratorInstaller(IdGenerator idGenerator) {
+    return () -> IdGenerators.use(idGenerator);
+  }
+}
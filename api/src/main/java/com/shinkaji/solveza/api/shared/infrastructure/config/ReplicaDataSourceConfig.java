@@ -0,0 +1,94 @@
+package com.shinkaji.solveza.api.shared.infrastructure.config;
+
+import com.shinkaji.solveza.api.shared.infrastructure.datasource.DataSourceConcurrencyLimiter;
+import com.shinkaji.solveza.api.shared.infrastructure.datasource.ReadYourWritesFilter;
+import com.shinkaji.solveza.api.shared.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// solveza.datasource.replica.enabled=true のとき、readOnly トランザクションをレプリカへ振り分ける。
+// 無効時は Spring Boot の自動構成による単一の DataSource のまま。
+// プライマリには自動構成と同じく spring.datasource.hikari.* を適用し、仮想スレッド有効時は
+// VirtualThreadConfig の BeanPostProcessor で同時実行数を制限する（Bean 名 primary がメトリクスのタグになる）
+@Configuration
+@ConditionalOnProperty(name = "solveza.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primary(DataSourceProperties properties) {
+    HikariDataSource primary =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    primary.setPoolName("primary");
+    return primary;
+  }
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      DataSourceProperties properties,
+      @Qualifier("primary") DataSource primary,
+      @Value("${solveza.datasource.replica.urls}") List<String> urls,
+      @Value("${solveza.datasource.replica.username:${spring.datasource.username}}")
+          String username,
+      @Value("${solveza.datasource.replica.password:${spring.datasource.password}}")
+          String password,
+      @Value("${solveza.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+      @Value("${solveza.datasource.replica.connection-timeout:1s}") Duration connectionTimeout,
+      @Value("${solveza.datasource.replica.max-lag:10s}") Duration maxLag,
+      ObjectProvider<DataSourceConcurrencyLimiter> concurrencyLimiter) {
+    // 仮想スレッド有効時は、レプリカのプールごとに同時実行数をプールの大きさに制限する
+    DataSourceConcurrencyLimiter limiter = concurrencyLimiter.getIfAvailable();
+
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    for (int i = 0; i < urls.size(); i++) {
+      HikariDataSource replica = new HikariDataSource();
+      replica.setPoolName("replica-" + (i + 1));
+      replica.setJdbcUrl(urls.get(i));
+      replica.setUsername(username);
+      replica.setPassword(password);
+      replica.setDriverClassName(properties.getDriverClassName());
+      replica.setReadOnly(true);
+      replica.setMaximumPoolSize(maximumPoolSize);
+      replica.setConnectionTimeout(connectionTimeout.toMillis());
+      replica.setValidationTimeout(
+          Math.min(connectionTimeout.toMillis(), replica.getValidationTimeout()));
+      // レプリカが停止していてもアプリケーションは起動させ、ヘルスチェックで復旧を待つ
+      replica.setInitializationFailTimeout(-1);
+      replicas.put(
+          replica.getPoolName(),
+          limiter != null ? limiter.limit(replica.getPoolName(), replica) : replica);
+    }
+    return new ReplicaRoutingDataSource(primary, replicas, maxLag);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+
+  @Bean
+  @ConditionalOnProperty(
+      name = "solveza.datasource.replica.read-your-writes.enabled",
+      havingValue = "true",
+      matchIfMissing = true)
+  public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+      @Value("${solveza.datasource.replica.read-your-writes.window:5s}") Duration window) {
+    return new FilterRegistrationBean<>(new ReadYourWritesFilter(window));
+  }
+}
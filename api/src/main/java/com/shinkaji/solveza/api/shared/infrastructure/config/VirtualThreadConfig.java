@@ -0,0 +1,57 @@
+package com.shinkaji.solveza.api.shared.infrastructure.config;
+
+import com.shinkaji.solveza.api.shared.infrastructure.datasource.DataSourceConcurrencyLimiter;
+import com.shinkaji.solveza.api.shared.infrastructure.virtualthread.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// spring.threads.virtual.enabled=true のとき、リクエスト処理・@Async・@Scheduled は Spring Boot により仮想スレッドで実行される。
+// あわせて DB の同時実行数をコネクションプールの大きさに制限し、キャリアスレッドのピン留めを監視する
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+  @Bean
+  public DataSourceConcurrencyLimiter dataSourceConcurrencyLimiter(
+      MeterRegistry meterRegistry,
+      @Value("${solveza.datasource.concurrency-limit.permits:0}") int permits,
+      @Value("${solveza.datasource.concurrency-limit.acquire-timeout:30s}")
+          Duration acquireTimeout) {
+    return new DataSourceConcurrencyLimiter(meterRegistry, permits, acquireTimeout);
+  }
+
+  // 自動構成またはレプリカ構成のプライマリのコネクションプールを包む。レプリカのプールは ReplicaDataSourceConfig で包む
+  @Bean
+  public static BeanPostProcessor dataSourceConcurrencyLimitPostProcessor(
+      ObjectProvider<DataSourceConcurrencyLimiter> limiter) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource pool) {
+          return limiter.getObject().limit(beanName, pool);
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Bean
+  @ConditionalOnProperty(
+      name = "solveza.virtual-threads.pinning.enabled",
+      havingValue = "true",
+      matchIfMissing = true)
+  public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+      MeterRegistry meterRegistry,
+      @Value("${solveza.virtual-threads.pinning.threshold:20ms}") Duration threshold) {
+    return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+  }
+}
@@ -0,0 +1,82 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datagen;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+// COPY ... FROM STDIN（text 形式）へ1行ずつ書き込む。close で COPY を完了する
+class CopyWriter implements AutoCloseable {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final Writer writer;
+  private boolean firstColumn = true;
+  private long rows;
+
+  CopyWriter(Connection connection, String table, String columns) throws SQLException {
+    PGCopyOutputStream out =
+        new PGCopyOutputStream(
+            connection.unwrap(PGConnection.class),
+            "COPY " + table + " (" + columns + ") FROM STDIN",
+            BUFFER_SIZE);
+    writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+  }
+
+  CopyWriter column(Object value) throws IOException {
+    if (!firstColumn) {
+      writer.write('\t');
+    }
+    firstColumn = false;
+    if (value == null) {
+      writer.write("\\N");
+      return this;
+    }
+    String text = value.toString();
+    if (!needsEscape(text)) {
+      writer.write(text);
+      return this;
+    }
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      switch (c) {
+        case '\\' -> writer.write("\\\\");
+        case '\t' -> writer.write("\\t");
+        case '\n' -> writer.write("\\n");
+        case '\r' -> writer.write("\\r");
+        default -> writer.write(c);
+      }
+    }
+    return this;
+  }
+
+  private static boolean needsEscape(String text) {
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '\\' || c == '\t' || c == '\n' || c == '\r') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  void endRow() throws IOException {
+    writer.write('\n');
+    firstColumn = true;
+    rows++;
+  }
+
+  long rows() {
+    return rows;
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.close();
+  }
+}
@@ -0,0 +1,95 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datagen;
+
+import java.time.LocalDate;
+
+// 合成データ生成の設定。--users=1000000 のような引数で指定する
+// ドットを含む引数（--spring.datasource.url=... など）は Spring の設定として扱い、ここでは読み飛ばす
+public record DataGenerationOptions(
+    int users,
+    int accounts,
+    long seed,
+    double zipfExponent,
+    int minTransactionsPerAccount,
+    int maxTransactionsPerAccount,
+    double transactionTailIndex,
+    int months,
+    LocalDate endDate,
+    int workers,
+    boolean truncate) {
+
+  public DataGenerationOptions {
+    if (users < 2) {
+      throw new IllegalArgumentException("users は2以上である必要があります");
+    }
+    if (accounts < 0 || accounts > (long) users * (users - 1)) {
+      throw new IllegalArgumentException("accounts は0以上かつユーザーの組み合わせ数以下である必要があります");
+    }
+    if (zipfExponent <= 0) {
+      throw new IllegalArgumentException("zipf-exponent は正の値である必要があります");
+    }
+    if (minTransactionsPerAccount < 0 || maxTransactionsPerAccount < minTransactionsPerAccount) {
+      throw new IllegalArgumentException("取引件数の下限・上限が不正です");
+    }
+    if (transactionTailIndex <= 0) {
+      throw new IllegalArgumentException("transaction-tail-index は正の値である必要があります");
+    }
+    if (months < 1 || workers < 1) {
+      throw new IllegalArgumentException("months・workers は1以上である必要があります");
+    }
+    if (endDate == null) {
+      throw new IllegalArgumentException("end-date は必須です");
+    }
+  }
+
+  public static DataGenerationOptions parse(String[] args) {
+    int users = 100_000;
+    int accounts = 200_000;
+    long seed = 42;
+    double zipfExponent = 1.1;
+    int minTransactions = 5;
+    int maxTransactions = 100_000;
+    double tailIndex = 1.2;
+    int months = 24;
+    LocalDate endDate = LocalDate.now();
+    int workers = Math.min(4, Runtime.getRuntime().availableProcessors());
+    boolean truncate = false;
+
+    for (String arg : args) {
+      if (!arg.startsWith("--")) {
+        throw new IllegalArgumentException("引数は --name=value の形式で指定してください: " + arg);
+      }
+      int separator = arg.indexOf('=');
+      String name = separator < 0 ? arg.substring(2) : arg.substring(2, separator);
+      String value = separator < 0 ? "true" : arg.substring(separator + 1);
+      if (name.contains(".")) {
+        continue;
+      }
+      switch (name) {
+        case "users" -> users = Integer.parseInt(value);
+        case "accounts" -> accounts = Integer.parseInt(value);
+        case "seed" -> seed = Long.parseLong(value);
+        case "zipf-exponent" -> zipfExponent = Double.parseDouble(value);
+        case "min-transactions" -> minTransactions = Integer.parseInt(value);
+        case "max-transactions" -> maxTransactions = Integer.parseInt(value);
+        case "transaction-tail-index" -> tailIndex = Double.parseDouble(value);
+        case "months" -> months = Integer.parseInt(value);
+        case "end-date" -> endDate = LocalDate.parse(value);
+        case "workers" -> workers = Integer.parseInt(value);
+        case "truncate" -> truncate = Boolean.parseBoolean(value);
+        default -> throw new IllegalArgumentException("未知の引数です: --" + name);
+      }
+    }
+    return new DataGenerationOptions(
+        users,
+        accounts,
+        seed,
+        zipfExponent,
+        minTransactions,
+        maxTransactions,
+        tailIndex,
+        months,
+        endDate,
+        workers,
+        truncate);
+  }
+}
@@ -0,0 +1,372 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datagen;
+
+import com.shinkaji.solveza.api.shared.domain.IdGenerators;
+import com.shinkaji.solveza.api.transaction.domain.repository.AccountBalanceRepository;
+import com.shinkaji.solveza.api.transaction.domain.repository.BalanceCheckpointRepository;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionDailyRollupRepository;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// ユーザー・アカウント・取引の合成データを COPY で投入する
+// 乱数はエンティティごとにシードから導出するため、同じ設定なら並列度によらず同じデータになる
+public class SyntheticDataGenerator {
+
+  private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+  private static final long USER_STREAM = 1;
+  private static final long ACCOUNT_STREAM = 2;
+  private static final String[] PROVIDERS = {"GOOGLE", "GITHUB", "MICROSOFT", "AUTH0"};
+  // 管理者ロールを付与するユーザーの間隔
+  private static final int ADMIN_INTERVAL = 1000;
+  // アカウントはリクエスタ・支払者の登録から最大30日後に作成する
+  private static final long ACCOUNT_OPENING_DELAY_MILLIS = Duration.ofDays(30).toMillis();
+  private static final int MAX_PAIR_ATTEMPTS = 1000;
+
+  private final DataSource dataSource;
+  private final AccountBalanceRepository accountBalanceRepository;
+  private final TransactionDailyRollupRepository transactionDailyRollupRepository;
+  private final BalanceCheckpointRepository balanceCheckpointRepository;
+
+  public SyntheticDataGenerator(
+      DataSource dataSource,
+      AccountBalanceRepository accountBalanceRepository,
+      TransactionDailyRollupRepository transactionDailyRollupRepository,
+      BalanceCheckpointRepository balanceCheckpointRepository) {
+    this.dataSource = dataSource;
+    this.accountBalanceRepository = accountBalanceRepository;
+    this.transactionDailyRollupRepository = transactionDailyRollupRepository;
+    this.balanceCheckpointRepository = balanceCheckpointRepository;
+  }
+
+  public record Result(long users, long accounts, long transactions, Duration elapsed) {}
+
+  private record Population(UUID[] ids, long[] createdAtMillis) {}
+
+  public Result generate(DataGenerationOptions options) {
+    long started = System.nanoTime();
+    LocalDateTime end = options.endDate().atStartOfDay();
+    LocalDateTime start = end.minusMonths(options.months());
+    try {
+      if (options.truncate()) {
+        truncate();
+      }
+      Population users = loadUsers(options, start, end);
+      log.info("ユーザーを投入しました: users={}", users.ids().length);
+
+      Population accounts = loadAccounts(options, users, end);
+      log.info("アカウントを投入しました: accounts={}", accounts.ids().length);
+
+      ensurePartitions(start.toLocalDate(), options.endDate().plusMonths(3));
+      long transactions = loadTransactions(options, accounts, end);
+      log.info("取引を投入しました: transactions={}", transactions);
+
+      // 派生データ（残高集計テーブル・日次集計テーブル）を再構築し、古いチェックポイントは破棄する
+      accountBalanceRepository.rebuildAll();
+      transactionDailyRollupRepository.rebuildAll();
+      balanceCheckpointRepository.deleteAll();
+      analyze();
+
+      Result result =
+          new Result(
+              users.ids().length,
+              accounts.ids().length,
+              transactions,
+              Duration.ofNanos(System.nanoTime() - started));
+      log.info("合成データを生成しました: {}", result);
+      return result;
+    } catch (SQLException e) {
+      throw new IllegalStateException("合成データの投入に失敗しました", e);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void truncate() throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute(
+          "TRUNCATE transactions, transaction_ids, account_balances, transaction_daily_rollups,"
+              + " account_balance_checkpoints, accounts, user_roles, users");
+    }
+  }
+
+  private Population loadUsers(
+      DataGenerationOptions options, LocalDateTime start, LocalDateTime end)
+      throws SQLException, IOException {
+    int count = options.users();
+    UUID[] ids = new UUID[count];
+    long[] createdAt = new long[count];
+    long startMillis = toMillis(start);
+    long span = toMillis(end) - startMillis;
+
+    try (Connection connection = dataSource.getConnection()) {
+      UUID userRole = ensureRole(connection, "USER", "一般ユーザー");
+      UUID adminRole = ensureRole(connection, "ADMIN", "管理者");
+
+      try (CopyWriter writer =
+          new CopyWriter(
+              connection,
+              "users",
+              "id, provider, external_id, name, email, created_at, updated_at")) {
+        for (int i = 0; i < count; i++) {
+          SplittableRandom random = SyntheticUuids.random(options.seed(), USER_STREAM, i);
+          // 登録日時は期間内に一様に並べる
+          createdAt[i] = startMillis + span * i / count;
+          ids[i] = SyntheticUuids.v7(createdAt[i], random);
+          LocalDateTime registeredAt = toLocalDateTime(createdAt[i]);
+          writer
+              .column(ids[i])
+              .column(PROVIDERS[random.nextInt(PROVIDERS.length)])
+              .column("datagen-" + options.seed() + "-" + i)
+              .column("User " + i)
+              .column("user" + i + "@example.com")
+              .column(registeredAt)
+              .column(registeredAt)
+              .endRow();
+        }
+      }
+
+      try (CopyWriter writer =
+          new CopyWriter(connection, "user_roles", "user_id, role_id, assigned_at")) {
+        for (int i = 0; i < count; i++) {
+          LocalDateTime assignedAt = toLocalDateTime(createdAt[i]);
+          writer.column(ids[i]).column(userRole).column(assignedAt).endRow();
+          if (i % ADMIN_INTERVAL == 0) {
+            writer.column(ids[i]).column(adminRole).column(assignedAt).endRow();
+          }
+        }
+      }
+    }
+    return new Population(ids, createdAt);
+  }
+
+  private UUID ensureRole(Connection connection, String name, String description)
+      throws SQLException {
+    try (PreparedStatement insert =
+        connection.prepareStatement(
+            "INSERT INTO roles (id, name, description, created_at)"
+                + " VALUES (?, ?, ?, CURRENT_TIMESTAMP) ON CONFLICT (name) DO NOTHING")) {
+      insert.setObject(1, IdGenerators.generate());
+      insert.setString(2, name);
+      insert.setString(3, description);
+      insert.executeUpdate();
+    }
+    try (PreparedStatement select =
+        connection.prepareStatement("SELECT id FROM roles WHERE name = ?")) {
+      select.setString(1, name);
+      try (ResultSet resultSet = select.executeQuery()) {
+        resultSet.next();
+        return resultSet.getObject(1, UUID.class);
+      }
+    }
+  }
+
+  // リクエスタ・支払者とも Zipf 分布で選び、一部のユーザーに多くのアカウントが集中するようにする
+  // 人気順位とユーザーの対応はリクエスタ側・支払者側で別々にシャッフルする
+  private Population loadAccounts(
+      DataGenerationOptions options, Population users, LocalDateTime end)
+      throws SQLException, IOException {
+    int userCount = users.ids().length;
+    int count = options.accounts();
+    SplittableRandom random = SyntheticUuids.random(options.seed(), ACCOUNT_STREAM, 0);
+    ZipfDistribution zipf = new ZipfDistribution(userCount, options.zipfExponent());
+    int[] requesterByRank = shuffledIndexes(userCount, random);
+    int[] payerByRank = shuffledIndexes(userCount, random);
+    Set<Long> pairs = new HashSet<>();
+
+    UUID[] ids = new UUID[count];
+    long[] createdAt = new long[count];
+    long endMillis = toMillis(end);
+
+    try (Connection connection = dataSource.getConnection();
+        CopyWriter writer =
+            new CopyWriter(
+                connection, "accounts", "id, requester_id, payer_id, created_at, updated_at")) {
+      for (int i = 0; i < count; i++) {
+        int requester;
+        int payer;
+        int attempts = 0;
+        do {
+          if (++attempts > MAX_PAIR_ATTEMPTS) {
+            throw new IllegalStateException(
+                "重複しないリクエスタ・支払者の組み合わせを選べませんでした。zipf-exponent か accounts を小さくしてください");
+          }
+          requester = requesterByRank[zipf.sample(random)];
+          payer = payerByRank[zipf.sample(random)];
+        } while (requester == payer || !pairs.add((long) requester * userCount + payer));
+
+        long earliest =
+            Math.max(users.createdAtMillis()[requester], users.createdAtMillis()[payer]);
+        createdAt[i] =
+            Math.min(endMillis - 1, earliest + random.nextLong(ACCOUNT_OPENING_DELAY_MILLIS));
+        ids[i] = SyntheticUuids.v7(createdAt[i], random);
+        LocalDateTime openedAt = toLocalDateTime(createdAt[i]);
+        writer
+            .column(ids[i])
+            .column(users.ids()[requester])
+            .column(users.ids()[payer])
+            .column(openedAt)
+            .column(openedAt)
+            .endRow();
+      }
+    }
+    return new Population(ids, createdAt);
+  }
+
+  private void ensurePartitions(LocalDate from, LocalDate to) throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement =
+            connection.prepareStatement("SELECT ensure_transaction_partitions(?, ?)")) {
+      statement.setDate(1, Date.valueOf(from));
+      statement.setDate(2, Date.valueOf(to));
+      statement.execute();
+    }
+  }
+
+  // アカウントを workers 個の区間に分け、区間ごとに別のコネクションで並列に COPY する
+  private long loadTransactions(
+      DataGenerationOptions options, Population accounts, LocalDateTime end) throws SQLException {
+    SyntheticLedger ledger =
+        new SyntheticLedger(
+            options.seed(),
+            options.minTransactionsPerAccount(),
+            options.maxTransactionsPerAccount(),
+            options.transactionTailIndex());
+    int count = accounts.ids().length;
+    int workers = options.workers();
+
+    List<Future<Long>> futures = new ArrayList<>(workers);
+    try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+      for (int w = 0; w < workers; w++) {
+        int from = (int) ((long) count * w / workers);
+        int to = (int) ((long) count * (w + 1) / workers);
+        futures.add(executor.submit(() -> copyTransactions(ledger, accounts, from, to, end)));
+      }
+    }
+
+    long total = 0;
+    for (Future<Long> future : futures) {
+      try {
+        total += future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("取引の投入が中断されました", e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof SQLException sqlException) {
+          throw sqlException;
+        }
+        throw new IllegalStateException("取引の投入に失敗しました", e.getCause());
+      }
+    }
+    return total;
+  }
+
+  private long copyTransactions(
+      SyntheticLedger ledger, Population accounts, int from, int to, LocalDateTime end)
+      throws SQLException, IOException {
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try {
+        // 再実行すればよいデータなので、コミット時の WAL 書き込み待ちを省く
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("SET LOCAL synchronous_commit TO off");
+        }
+        long rows;
+        try (CopyWriter writer =
+            new CopyWriter(
+                connection,
+                "transactions",
+                "id, account_id, transaction_type, amount, currency, description, executed_at,"
+                    + " created_at")) {
+          for (int i = from; i < to; i++) {
+            UUID accountId = accounts.ids()[i];
+            LocalDateTime openedAt = toLocalDateTime(accounts.createdAtMillis()[i]);
+            for (SyntheticLedger.Entry entry : ledger.generate(i, openedAt, end)) {
+              writer
+                  .column(entry.id())
+                  .column(accountId)
+                  .column(entry.transactionType().name())
+                  .column(entry.amount())
+                  .column("JPY")
+                  .column(entry.description())
+                  .column(entry.executedAt())
+                  .column(entry.executedAt())
+                  .endRow();
+            }
+          }
+          rows = writer.rows();
+        }
+        // 取引IDの一意性を保証する transaction_ids に、この区間のアカウントの取引IDを登録する
+        try (PreparedStatement statement =
+            connection.prepareStatement(
+                "INSERT INTO transaction_ids (id)"
+                    + " SELECT id FROM transactions WHERE account_id = ANY (?)")) {
+          statement.setArray(
+              1, connection.createArrayOf("uuid", Arrays.copyOfRange(accounts.ids(), from, to)));
+          statement.execute();
+        }
+        connection.commit();
+        return rows;
+      } catch (SQLException | IOException | RuntimeException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(true);
+      }
+    }
+  }
+
+  private void analyze() throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("ANALYZE users, user_roles, accounts, transactions, account_balances");
+    }
+  }
+
+  private static int[] shuffledIndexes(int size, SplittableRandom random) {
+    int[] indexes = new int[size];
+    for (int i = 0; i < size; i++) {
+      indexes[i] = i;
+    }
+    for (int i = size - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int swap = indexes[i];
+      indexes[i] = indexes[j];
+      indexes[j] = swap;
+    }
+    return indexes;
+  }
+
+  private static long toMillis(LocalDateTime dateTime) {
+    return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+  }
+
+  private static LocalDateTime toLocalDateTime(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+  }
+}
@@ -0,0 +1,51 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datagen;
+
+import com.shinkaji.solveza.api.SolvezaApiApplication;
+import com.shinkaji.solveza.api.transaction.domain.repository.AccountBalanceRepository;
+import com.shinkaji.solveza.api.transaction.domain.repository.BalanceCheckpointRepository;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionDailyRollupRepository;
+import com.shinkaji.solveza.api.transaction.infrastructure.scheduler.BalanceCheckpointScheduler;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// 合成データ生成の CLI。Web サーバーは起動せず、Flyway でスキーマを最新化してから投入する
+// ./gradlew generateData --args="--users=1000000 --accounts=2000000 --seed=42 --truncate"
+public class SyntheticDataGeneratorApplication {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(SyntheticDataGeneratorApplication.class);
+
+  public static void main(String[] args) {
+    DataGenerationOptions options = DataGenerationOptions.parse(args);
+    log.info("合成データの生成を開始します: {}", options);
+
+    ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(SolvezaApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(args);
+    int exitCode = 0;
+    try {
+      SyntheticDataGenerator generator =
+          new SyntheticDataGenerator(
+              context.getBean(DataSource.class),
+              context.getBean(AccountBalanceRepository.class),
+              context.getBean(TransactionDailyRollupRepository.class),
+              context.getBean(BalanceCheckpointRepository.class));
+      generator.generate(options);
+      // 時点指定の残高照会が本番と同じくチェックポイントを起点にできるよう、月初チェックポイントも作成しておく
+      context
+          .getBeanProvider(BalanceCheckpointScheduler.class)
+          .ifAvailable(BalanceCheckpointScheduler::createCheckpoints);
+    } catch (RuntimeException e) {
+      log.error("合成データの生成に失敗しました", e);
+      exitCode = 1;
+    }
+    int status = exitCode;
+    System.exit(SpringApplication.exit(context, () -> status));
+  }
+}
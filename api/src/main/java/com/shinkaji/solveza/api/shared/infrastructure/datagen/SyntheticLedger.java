@@ -0,0 +1,103 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datagen;
+
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionType;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+// アカウント1件分の取引台帳を生成する
+// 件数はパレート分布（裾の重さは tailIndex、小さいほど一部のアカウントに集中）で決め、上限で打ち切る
+// 金額は対数正規分布。実行日時の順に残高を追い、残高を超える支払いは入金に置き換えて残高が負にならないようにする
+public class SyntheticLedger {
+
+  private static final long STREAM = 3;
+  private static final String[] DEPOSIT_DESCRIPTIONS = {"振込入金", "口座振替", "現金入金", "返金"};
+  private static final String[] PAYMENT_DESCRIPTIONS = {"カード決済", "公共料金", "家賃", "通信費", "振込手数料"};
+
+  private final long seed;
+  private final int minTransactions;
+  private final int maxTransactions;
+  private final double tailIndex;
+
+  public SyntheticLedger(long seed, int minTransactions, int maxTransactions, double tailIndex) {
+    this.seed = seed;
+    this.minTransactions = minTransactions;
+    this.maxTransactions = maxTransactions;
+    this.tailIndex = tailIndex;
+  }
+
+  public record Entry(
+      UUID id,
+      TransactionType transactionType,
+      long amount,
+      String description,
+      LocalDateTime executedAt) {}
+
+  // from（この日時を含む）から to（含まない）の間に、実行日時の昇順で取引を返す
+  public List<Entry> generate(long accountIndex, LocalDateTime from, LocalDateTime to) {
+    SplittableRandom random = SyntheticUuids.random(seed, STREAM, accountIndex);
+    int count = count(random);
+    long fromMillis = from.toInstant(ZoneOffset.UTC).toEpochMilli();
+    long toMillis = to.toInstant(ZoneOffset.UTC).toEpochMilli();
+    if (count == 0 || fromMillis >= toMillis) {
+      return List.of();
+    }
+
+    long[] executedAt = new long[count];
+    for (int i = 0; i < count; i++) {
+      executedAt[i] = random.nextLong(fromMillis, toMillis);
+    }
+    Arrays.sort(executedAt);
+
+    List<Entry> entries = new ArrayList<>(count);
+    long balance = 0;
+    for (long millis : executedAt) {
+      boolean payment = random.nextInt(10) < 4;
+      long amount =
+          payment
+              ? logNormal(random, Math.log(3_000), 1.0)
+              : logNormal(random, Math.log(20_000), 1.0);
+      if (payment && amount > balance) {
+        payment = false;
+      }
+      balance += payment ? -amount : amount;
+      String[] descriptions = payment ? PAYMENT_DESCRIPTIONS : DEPOSIT_DESCRIPTIONS;
+      entries.add(
+          new Entry(
+              SyntheticUuids.v7(millis, random),
+              payment ? TransactionType.PAYMENT : TransactionType.DEPOSIT,
+              amount,
+              descriptions[random.nextInt(descriptions.length)],
+              LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC)));
+    }
+    return entries;
+  }
+
+  private int count(SplittableRandom random) {
+    if (minTransactions == 0) {
+      // 下限0のときは尺度1のパレート分布から1を引き、取引の無いアカウントも作る
+      return (int) Math.min(maxTransactions, pareto(random, 1) - 1);
+    }
+    return (int) Math.min(maxTransactions, pareto(random, minTransactions));
+  }
+
+  private long pareto(SplittableRandom random, double scale) {
+    return (long) Math.floor(scale * Math.pow(1.0 - random.nextDouble(), -1.0 / tailIndex));
+  }
+
+  private static long logNormal(SplittableRandom random, double mu, double sigma) {
+    return Math.max(100, Math.round(Math.exp(mu + sigma * gaussian(random))));
+  }
+
+  private static double gaussian(SplittableRandom random) {
+    // Box-Muller 法
+    double u = 1.0 - random.nextDouble();
+    double v = random.nextDouble();
+    return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+  }
+}
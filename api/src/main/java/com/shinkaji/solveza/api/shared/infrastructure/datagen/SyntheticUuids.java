@@ -0,0 +1,22 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datagen;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+// 合成データの ID。アプリと同じ UUIDv7 のレイアウトで、時刻は生成したタイムスタンプ、残りのビットはシード付き乱数から作る
+// 同じシードからは同じ ID が得られる
+final class SyntheticUuids {
+
+  private SyntheticUuids() {}
+
+  static UUID v7(long epochMillis, SplittableRandom random) {
+    long mostSigBits = (epochMillis << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+    long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  // エンティティの種類（stream）と通し番号ごとに独立した乱数列を作る。並列度によらず同じ結果になる
+  static SplittableRandom random(long seed, long stream, long index) {
+    return new SplittableRandom(seed + stream * 0x9E3779B97F4A7C15L + index * 0xBF58476D1CE4E5B9L);
+  }
+}
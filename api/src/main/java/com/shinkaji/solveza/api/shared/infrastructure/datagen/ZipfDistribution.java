@@ -0,0 +1,32 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datagen;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// 順位 k（0始まり）が 1 / (k + 1)^exponent に比例する確率で選ばれる Zipf 分布
+// 累積分布を事前に計算しておき、二分探索で標本を引く
+public class ZipfDistribution {
+
+  private final double[] cumulative;
+
+  public ZipfDistribution(int size, double exponent) {
+    if (size < 1) {
+      throw new IllegalArgumentException("size は1以上である必要があります");
+    }
+    cumulative = new double[size];
+    double total = 0;
+    for (int k = 0; k < size; k++) {
+      total += 1.0 / Math.pow(k + 1, exponent);
+      cumulative[k] = total;
+    }
+    for (int k = 0; k < size; k++) {
+      cumulative[k] /= total;
+    }
+  }
+
+  public int sample(SplittableRandom random) {
+    int index = Arrays.binarySearch(cumulative, random.nextDouble());
+    int rank = index >= 0 ? index : -index - 1;
+    return Math.min(rank, cumulative.length - 1);
+  }
+}
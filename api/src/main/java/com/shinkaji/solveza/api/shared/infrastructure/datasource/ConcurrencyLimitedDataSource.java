@@ -0,0 +1,185 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// コネクションを同時に保持できるスレッド数をセマフォで制限する。
+// 仮想スレッドでは数千のリクエストが同時に DB へ向かうため、コネクションプールの待ち行列ではなく
+// 公平なセマフォで順番待ちさせ、待機数と待ち時間をメトリクスとして出す。許可はコネクションの close で返す
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource implements Closeable {
+
+  static final String METRIC_PREFIX = "solveza.datasource.concurrency";
+
+  private final Semaphore permits;
+  private final int maxPermits;
+  private final Duration acquireTimeout;
+  private final Timer waitTimer;
+
+  private ConcurrencyLimitedDataSource(
+      DataSource target, int maxPermits, Duration acquireTimeout, Timer waitTimer) {
+    super(target);
+    this.permits = new Semaphore(maxPermits, true);
+    this.maxPermits = maxPermits;
+    this.acquireTimeout = acquireTimeout;
+    this.waitTimer = waitTimer;
+  }
+
+  // ゲージは自身を参照するため、生成し終えてから登録する
+  public static ConcurrencyLimitedDataSource create(
+      DataSource target,
+      String name,
+      int maxPermits,
+      Duration acquireTimeout,
+      MeterRegistry meterRegistry) {
+    if (maxPermits < 1) {
+      throw new IllegalArgumentException("同時実行数は1以上である必要があります");
+    }
+    Timer waitTimer =
+        Timer.builder(METRIC_PREFIX + ".wait")
+            .description("DBコネクションの取得許可を待った時間")
+            .tag("pool", name)
+            .register(meterRegistry);
+    ConcurrencyLimitedDataSource dataSource =
+        new ConcurrencyLimitedDataSource(target, maxPermits, acquireTimeout, waitTimer);
+    Gauge.builder(
+            METRIC_PREFIX + ".waiting", dataSource, ConcurrencyLimitedDataSource::waitingCount)
+        .description("DBコネクションの取得許可を待っているスレッド数")
+        .tag("pool", name)
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".active", dataSource, ConcurrencyLimitedDataSource::activeCount)
+        .description("DBコネクションを保持しているスレッド数")
+        .tag("pool", name)
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".limit", dataSource, ConcurrencyLimitedDataSource::maxPermits)
+        .description("DBコネクションを同時に保持できるスレッド数の上限")
+        .tag("pool", name)
+        .register(meterRegistry);
+    return dataSource;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    return limited(() -> obtainTargetDataSource().getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    return limited(() -> obtainTargetDataSource().getConnection(username, password));
+  }
+
+  public int maxPermits() {
+    return maxPermits;
+  }
+
+  public int activeCount() {
+    return maxPermits - permits.availablePermits();
+  }
+
+  public int waitingCount() {
+    return permits.getQueueLength();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (obtainTargetDataSource() instanceof Closeable closeable) {
+      closeable.close();
+    }
+  }
+
+  private void acquire() throws SQLException {
+    long started = System.nanoTime();
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("DBコネクションの取得待ちが中断されました", e);
+    } finally {
+      waitTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+    if (!acquired) {
+      throw new SQLTransientConnectionException(
+          "DBコネクションの取得待ちがタイムアウトしました: timeout=" + acquireTimeout + ", waiting=" + waitingCount());
+    }
+  }
+
+  private interface ConnectionSupplier {
+    Connection get() throws SQLException;
+  }
+
+  private Connection limited(ConnectionSupplier supplier) throws SQLException {
+    Connection target;
+    try {
+      target = supplier.get();
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+    return (Connection)
+        Proxy.newProxyInstance(
+            ConnectionProxy.class.getClassLoader(),
+            new Class<?>[] {ConnectionProxy.class},
+            new PermitReleasingHandler(target, permits));
+  }
+
+  // close されたときに一度だけ許可を返す
+  private static final class PermitReleasingHandler implements InvocationHandler {
+
+    private final Connection target;
+    private final Semaphore permits;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private PermitReleasingHandler(Connection target, Semaphore permits) {
+      this.target = target;
+      this.permits = permits;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "getTargetConnection":
+          return target;
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "toString":
+          return "Concurrency-limited proxy for " + target;
+        case "close":
+          try {
+            target.close();
+          } finally {
+            if (released.compareAndSet(false, true)) {
+              permits.release();
+            }
+          }
+          return null;
+        default:
+          try {
+            return method.invoke(target, args);
+          } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+          }
+      }
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+
+// コネクションプールを ConcurrencyLimitedDataSource で包む。
+// 同時実行数は permits が指定されていればその値、0 ならプールの最大サイズにする
+public class DataSourceConcurrencyLimiter {
+
+  private final MeterRegistry meterRegistry;
+  private final int permits;
+  private final Duration acquireTimeout;
+
+  public DataSourceConcurrencyLimiter(
+      MeterRegistry meterRegistry, int permits, Duration acquireTimeout) {
+    this.meterRegistry = meterRegistry;
+    this.permits = permits;
+    this.acquireTimeout = acquireTimeout;
+  }
+
+  public DataSource limit(String name, HikariDataSource pool) {
+    int maxPermits = permits > 0 ? permits : pool.getMaximumPoolSize();
+    return ConcurrencyLimitedDataSource.create(
+        pool, name, maxPermits, acquireTimeout, meterRegistry);
+  }
+}
@@ -0,0 +1,21 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datasource;
+
+// 直前に書き込みを行ったクライアントの読み取りをプライマリに固定するためのスレッドローカルな印
+public final class ReadYourWritesContext {
+
+  private static final ThreadLocal<Boolean> STICK_TO_PRIMARY = new ThreadLocal<>();
+
+  private ReadYourWritesContext() {}
+
+  public static void stickToPrimary() {
+    STICK_TO_PRIMARY.set(Boolean.TRUE);
+  }
+
+  public static boolean isStickToPrimary() {
+    return STICK_TO_PRIMARY.get() != null;
+  }
+
+  public static void clear() {
+    STICK_TO_PRIMARY.remove();
+  }
+}
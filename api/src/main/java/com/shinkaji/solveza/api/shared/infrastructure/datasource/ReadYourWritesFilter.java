@@ -0,0 +1,67 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// 更新系リクエストを受けたクライアントに、一定時間プライマリから読むための Cookie を発行する。
+// サーバー側に状態を持たないため、複数インスタンス構成でも同じクライアントの読み取りが固定される
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+  static final String COOKIE_NAME = "solveza-primary-until";
+
+  private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+  private final Duration window;
+
+  public ReadYourWritesFilter(Duration window) {
+    this.window = window;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    long now = System.currentTimeMillis();
+    boolean write = !READ_METHODS.contains(request.getMethod());
+    if (write) {
+      Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now + window.toMillis()));
+      cookie.setPath("/");
+      cookie.setHttpOnly(true);
+      cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+      response.addCookie(cookie);
+    }
+
+    if (write || stickUntil(request) > now) {
+      ReadYourWritesContext.stickToPrimary();
+    }
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      ReadYourWritesContext.clear();
+    }
+  }
+
+  private long stickUntil(HttpServletRequest request) {
+    Cookie[] cookies = request.getCookies();
+    if (cookies == null) {
+      return 0;
+    }
+    for (Cookie cookie : cookies) {
+      if (COOKIE_NAME.equals(cookie.getName())) {
+        try {
+          return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+    return 0;
+  }
+}
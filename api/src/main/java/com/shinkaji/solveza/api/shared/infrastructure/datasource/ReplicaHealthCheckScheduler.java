@@ -0,0 +1,22 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datasource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 起動時の初回チェックは ReplicaRoutingDataSource の初期化時に行う
+@Component
+@ConditionalOnProperty(name = "solveza.datasource.replica.enabled", havingValue = "true")
+public class ReplicaHealthCheckScheduler {
+
+  private final ReplicaRoutingDataSource replicaRoutingDataSource;
+
+  public ReplicaHealthCheckScheduler(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    this.replicaRoutingDataSource = replicaRoutingDataSource;
+  }
+
+  @Scheduled(fixedDelayString = "${solveza.datasource.replica.health-check-interval:5s}")
+  public void checkReplicas() {
+    replicaRoutingDataSource.checkReplicas();
+  }
+}
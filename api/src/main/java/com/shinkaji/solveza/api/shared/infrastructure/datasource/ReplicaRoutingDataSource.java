@@ -0,0 +1,143 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 読み取り専用トランザクションをレプリカへ、それ以外をプライマリへ振り分ける。
+// 接続取得時点で readOnly が確定している必要があるため、LazyConnectionDataSourceProxy 越しに使う。
+// 正常なレプリカがない場合や接続に失敗した場合はプライマリへフォールバックする。
+// Bean の初期化時（リクエストを受け付ける前）に一度ヘルスチェックを行い、停止中・遅延中のレプリカを外しておく
+public class ReplicaRoutingDataSource extends AbstractDataSource
+    implements InitializingBean, DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+  // レプリカで WAL の再生が追いついていれば0、遅れていれば最後に再生したトランザクションからの経過秒数。
+  // レプリカでないサーバーでは NULL になるため0として扱う
+  private static final String REPLICATION_LAG_SQL =
+      "SELECT COALESCE(CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+          + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END, 0)";
+
+  private final DataSource primary;
+  private final List<Replica> replicas;
+  private final Duration maxLag;
+  private final AtomicInteger nextReplica = new AtomicInteger();
+
+  public ReplicaRoutingDataSource(
+      DataSource primary, Map<String, DataSource> replicas, Duration maxLag) {
+    this.primary = primary;
+    this.replicas =
+        replicas.entrySet().stream()
+            .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+            .toList();
+    this.maxLag = maxLag;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    checkReplicas();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+        || ReadYourWritesContext.isStickToPrimary()
+        || replicas.isEmpty()) {
+      return primary.getConnection();
+    }
+
+    int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+    for (int i = 0; i < replicas.size(); i++) {
+      Replica replica = replicas.get((start + i) % replicas.size());
+      if (!replica.healthy) {
+        continue;
+      }
+      try {
+        return replica.dataSource.getConnection();
+      } catch (SQLException e) {
+        // 次回のヘルスチェックで復旧を確認するまで振り分け対象から外す
+        replica.healthy = false;
+        log.warn("レプリカへの接続に失敗したため振り分け対象から外します: replica={}", replica.name, e);
+      }
+    }
+    return primary.getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return primary.getConnection(username, password);
+  }
+
+  // 各レプリカへの接続可否とレプリケーション遅延を確認し、振り分け対象を更新する
+  public void checkReplicas() {
+    for (Replica replica : replicas) {
+      boolean healthy = isHealthy(replica);
+      if (healthy != replica.healthy) {
+        if (healthy) {
+          log.info("レプリカを振り分け対象に戻します: replica={}", replica.name);
+        } else {
+          log.warn("レプリカを振り分け対象から外します: replica={}", replica.name);
+        }
+      }
+      replica.healthy = healthy;
+    }
+  }
+
+  public long healthyReplicaCount() {
+    return replicas.stream().filter(replica -> replica.healthy).count();
+  }
+
+  private boolean isHealthy(Replica replica) {
+    try (Connection connection = replica.dataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_SQL)) {
+      resultSet.next();
+      double lagSeconds = resultSet.getDouble(1);
+      if (lagSeconds * 1000 > maxLag.toMillis()) {
+        log.warn("レプリケーション遅延が許容値を超えています: replica={}, lag={}s", replica.name, lagSeconds);
+        return false;
+      }
+      return true;
+    } catch (SQLException e) {
+      log.debug("レプリカのヘルスチェックに失敗しました: replica={}", replica.name, e);
+      return false;
+    }
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    for (Replica replica : replicas) {
+      if (replica.dataSource instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+    if (primary instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  private static final class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+
+    private Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+  }
+}
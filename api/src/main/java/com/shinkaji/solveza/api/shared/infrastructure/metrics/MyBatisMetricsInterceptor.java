@@ -0,0 +1,104 @@
+package com.shinkaji.solveza.api.shared.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.ExceptionUtil;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+// MyBatis のマップドステートメントごとに実行時間（solveza.mybatis.statement）と
+// 取得・更新行数（solveza.mybatis.rows）を記録する。タグの statement は Mapper のステートメントID
+@Component
+@Intercepts({
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {
+        MappedStatement.class,
+        Object.class,
+        RowBounds.class,
+        ResultHandler.class,
+        CacheKey.class,
+        BoundSql.class
+      }),
+  @Signature(
+      type = Executor.class,
+      method = "queryCursor",
+      args = {MappedStatement.class, Object.class, RowBounds.class}),
+  @Signature(
+      type = Executor.class,
+      method = "update",
+      args = {MappedStatement.class, Object.class})
+})
+public class MyBatisMetricsInterceptor implements Interceptor {
+
+  static final String TIMER_NAME = "solveza.mybatis.statement";
+  static final String ROWS_NAME = "solveza.mybatis.rows";
+
+  private final MeterRegistry meterRegistry;
+
+  public MyBatisMetricsInterceptor(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+    String statement = mappedStatement.getId();
+    String type = mappedStatement.getSqlCommandType().name();
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String exception = "none";
+    try {
+      Object result = invocation.proceed();
+      recordRows(statement, type, result);
+      return result;
+    } catch (Throwable e) {
+      exception = ExceptionUtil.unwrapThrowable(e).getClass().getSimpleName();
+      throw e;
+    } finally {
+      sample.stop(
+          Timer.builder(TIMER_NAME)
+              .description("MyBatis ステートメントの実行時間")
+              .tag("statement", statement)
+              .tag("type", type)
+              .tag("exception", exception)
+              .register(meterRegistry));
+    }
+  }
+
+  // カーソルは呼び出し元で読み進めるため行数は記録しない。
+  // BATCH 実行の update は件数の代わりに負の定数を返すため除外する
+  private void recordRows(String statement, String type, Object result) {
+    long rows;
+    if (result instanceof List<?> list) {
+      rows = list.size();
+    } else if (result instanceof Integer count && count >= 0) {
+      rows = count;
+    } else {
+      return;
+    }
+    DistributionSummary.builder(ROWS_NAME)
+        .description("MyBatis ステートメントの取得・更新行数")
+        .baseUnit("rows")
+        .tag("statement", statement)
+        .tag("type", type)
+        .register(meterRegistry)
+        .record(rows);
+  }
+}
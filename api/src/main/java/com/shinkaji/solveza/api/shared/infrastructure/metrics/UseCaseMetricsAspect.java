@@ -0,0 +1,43 @@
+package com.shinkaji.solveza.api.shared.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+// application.usecase パッケージの全ユースケースの公開メソッドを solveza.usecase として計測する
+@Aspect
+@Component
+public class UseCaseMetricsAspect {
+
+  static final String METRIC_NAME = "solveza.usecase";
+
+  private final MeterRegistry meterRegistry;
+
+  public UseCaseMetricsAspect(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Around("within(com.shinkaji.solveza.api..application.usecase..*) && execution(public * *(..))")
+  public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String exception = "none";
+    try {
+      return joinPoint.proceed();
+    } catch (Throwable e) {
+      exception = e.getClass().getSimpleName();
+      throw e;
+    } finally {
+      sample.stop(
+          Timer.builder(METRIC_NAME)
+              .description("ユースケースの実行時間")
+              .tag("usecase", AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName())
+              .tag("method", joinPoint.getSignature().getName())
+              .tag("exception", exception)
+              .register(meterRegistry));
+    }
+  }
+}
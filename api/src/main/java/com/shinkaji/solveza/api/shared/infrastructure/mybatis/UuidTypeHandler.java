@@ -0,0 +1,38 @@
+package com.shinkaji.solveza.api.shared.infrastructure.mybatis;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.UUID;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedTypes;
+
+// UUID を PostgreSQL の uuid 型としてそのまま受け渡す。
+// 文字列への変換と SQL 側の ::uuid キャストが不要になる
+@MappedTypes(UUID.class)
+public class UuidTypeHandler extends BaseTypeHandler<UUID> {
+
+  @Override
+  public void setNonNullParameter(PreparedStatement ps, int i, UUID parameter, JdbcType jdbcType)
+      throws SQLException {
+    ps.setObject(i, parameter, Types.OTHER);
+  }
+
+  @Override
+  public UUID getNullableResult(ResultSet rs, String columnName) throws SQLException {
+    return rs.getObject(columnName, UUID.class);
+  }
+
+  @Override
+  public UUID getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+    return rs.getObject(columnIndex, UUID.class);
+  }
+
+  @Override
+  public UUID getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+    return cs.getObject(columnIndex, UUID.class);
+  }
+}
@@ -0,0 +1,131 @@
+package com.shinkaji.solveza.api.shared.infrastructure.slowquery;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 遅いSELECTを EXPLAIN (ANALYZE, BUFFERS) で再実行し、実行計画をバッファに残す。
+// リクエスト処理を待たせないよう専用スレッドで実行し、キューが溢れた分は捨てる。
+// SlowQueryInterceptor からのみ使うため、同じ設定で無効化する
+@Component
+@ConditionalOnProperty(
+    name = "solveza.slow-query.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class SlowQueryExplainer implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(SlowQueryExplainer.class);
+
+  private final DataSource dataSource;
+  private final SlowQueryPlanBuffer slowQueryPlanBuffer;
+  private final int statementTimeoutMillis;
+  private final ThreadPoolExecutor executor;
+
+  public SlowQueryExplainer(
+      DataSource dataSource,
+      SlowQueryPlanBuffer slowQueryPlanBuffer,
+      @Value("${solveza.slow-query.explain.statement-timeout:30s}") Duration statementTimeout,
+      @Value("${solveza.slow-query.explain.queue-capacity:10}") int queueCapacity) {
+    this.dataSource = dataSource;
+    this.slowQueryPlanBuffer = slowQueryPlanBuffer;
+    this.statementTimeoutMillis = (int) statementTimeout.toMillis();
+    this.executor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+              Thread thread = new Thread(runnable, "slow-query-explainer");
+              thread.setDaemon(true);
+              return thread;
+            },
+            new ThreadPoolExecutor.DiscardPolicy());
+  }
+
+  public void explainAsync(
+      MappedStatement mappedStatement,
+      Object parameterObject,
+      BoundSql boundSql,
+      List<String> parameters,
+      long durationMillis) {
+    LocalDateTime capturedAt = LocalDateTime.now();
+    try {
+      executor.execute(
+          () -> {
+            try {
+              String plan = explain(mappedStatement, parameterObject, boundSql);
+              slowQueryPlanBuffer.add(
+                  new SlowQueryPlan(
+                      capturedAt,
+                      mappedStatement.getId(),
+                      boundSql.getSql(),
+                      parameters,
+                      durationMillis,
+                      plan));
+            } catch (SQLException | RuntimeException e) {
+              log.warn("実行計画の取得に失敗しました: statement={}", mappedStatement.getId(), e);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      // シャットダウン中は取得しない
+    }
+  }
+
+  // ANALYZE は実際にクエリを実行するため、読み取り専用トランザクション内で実行してロールバックする
+  private String explain(MappedStatement mappedStatement, Object parameterObject, BoundSql boundSql)
+      throws SQLException {
+    try (Connection connection = dataSource.getConnection()) {
+      boolean autoCommit = connection.getAutoCommit();
+      connection.setAutoCommit(false);
+      try {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("SET TRANSACTION READ ONLY");
+          statement.execute("SET LOCAL statement_timeout = " + statementTimeoutMillis);
+        }
+        try (PreparedStatement explain =
+            connection.prepareStatement(
+                "EXPLAIN (ANALYZE, BUFFERS, FORMAT TEXT) " + boundSql.getSql())) {
+          new DefaultParameterHandler(mappedStatement, parameterObject, boundSql)
+              .setParameters(explain);
+          StringJoiner plan = new StringJoiner("\n");
+          try (ResultSet resultSet = explain.executeQuery()) {
+            while (resultSet.next()) {
+              plan.add(resultSet.getString(1));
+            }
+          }
+          return plan.toString();
+        }
+      } finally {
+        connection.rollback();
+        connection.setAutoCommit(autoCommit);
+      }
+    }
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+}
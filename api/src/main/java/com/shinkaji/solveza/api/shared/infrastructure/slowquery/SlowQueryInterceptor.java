@@ -0,0 +1,140 @@
+package com.shinkaji.solveza.api.shared.infrastructure.slowquery;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 閾値を超えたステートメントを、ステートメントID・バインド値・所要時間とともにログに出す。
+// バインド値は個人情報を含み得るため、型（文字列は長さも）に置き換えて記録する。
+// SELECT の一部はサンプリングして SlowQueryExplainer で実行計画を取得する（EXPLAIN には実際の値を使う）。
+// カーソルで読む SELECT（ストリーミングでのエクスポートなど）は、実行して最初の行を受け取るまでを計る
+@Component
+@ConditionalOnProperty(
+    name = "solveza.slow-query.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+@Intercepts({
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+  @Signature(
+      type = Executor.class,
+      method = "queryCursor",
+      args = {MappedStatement.class, Object.class, RowBounds.class}),
+  @Signature(
+      type = Executor.class,
+      method = "update",
+      args = {MappedStatement.class, Object.class})
+})
+public class SlowQueryInterceptor implements Interceptor {
+
+  private static final Logger log = LoggerFactory.getLogger(SlowQueryInterceptor.class);
+
+  private final SlowQueryExplainer slowQueryExplainer;
+  private final long thresholdNanos;
+  private final double explainSampleRate;
+
+  public SlowQueryInterceptor(
+      SlowQueryExplainer slowQueryExplainer,
+      @Value("${solveza.slow-query.threshold:500ms}") Duration threshold,
+      @Value("${solveza.slow-query.explain.sample-rate:0.1}") double explainSampleRate) {
+    this.slowQueryExplainer = slowQueryExplainer;
+    this.thresholdNanos = threshold.toNanos();
+    this.explainSampleRate = explainSampleRate;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    long start = System.nanoTime();
+    try {
+      return invocation.proceed();
+    } finally {
+      long elapsed = System.nanoTime() - start;
+      if (elapsed >= thresholdNanos) {
+        onSlowStatement(invocation, elapsed);
+      }
+    }
+  }
+
+  private void onSlowStatement(Invocation invocation, long elapsedNanos) {
+    MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+    Object parameterObject = invocation.getArgs()[1];
+    BoundSql boundSql = mappedStatement.getBoundSql(parameterObject);
+    List<String> parameters = captureParameters(mappedStatement, parameterObject, boundSql);
+    long durationMillis = Duration.ofNanos(elapsedNanos).toMillis();
+
+    log.warn(
+        "遅いSQLを検出しました: statement={}, duration={}ms, parameters={}",
+        mappedStatement.getId(),
+        durationMillis,
+        parameters);
+
+    if (mappedStatement.getSqlCommandType() == SqlCommandType.SELECT
+        && ThreadLocalRandom.current().nextDouble() < explainSampleRate) {
+      slowQueryExplainer.explainAsync(
+          mappedStatement, parameterObject, boundSql, parameters, durationMillis);
+    }
+  }
+
+  // DefaultParameterHandler と同じ規則で、プレースホルダ順にバインド値を取り出してマスクする
+  static List<String> captureParameters(
+      MappedStatement mappedStatement, Object parameterObject, BoundSql boundSql) {
+    Configuration configuration = mappedStatement.getConfiguration();
+    List<String> parameters = new ArrayList<>();
+    MetaObject metaObject = null;
+    for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+      if (parameterMapping.getMode() == ParameterMode.OUT) {
+        continue;
+      }
+      String property = parameterMapping.getProperty();
+      Object value;
+      if (boundSql.hasAdditionalParameter(property)) {
+        value = boundSql.getAdditionalParameter(property);
+      } else if (parameterObject == null) {
+        value = null;
+      } else if (configuration
+          .getTypeHandlerRegistry()
+          .hasTypeHandler(parameterObject.getClass())) {
+        value = parameterObject;
+      } else {
+        if (metaObject == null) {
+          metaObject = configuration.newMetaObject(parameterObject);
+        }
+        value = metaObject.getValue(property);
+      }
+      parameters.add(mask(value));
+    }
+    return parameters;
+  }
+
+  private static String mask(Object value) {
+    if (value == null) {
+      return "null";
+    }
+    if (value instanceof CharSequence text) {
+      return "String(" + text.length() + ")";
+    }
+    return value.getClass().getSimpleName();
+  }
+}
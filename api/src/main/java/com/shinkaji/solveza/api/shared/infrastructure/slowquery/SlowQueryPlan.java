@@ -0,0 +1,12 @@
+package com.shinkaji.solveza.api.shared.infrastructure.slowquery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record SlowQueryPlan(
+    LocalDateTime capturedAt,
+    String statementId,
+    String sql,
+    List<String> parameters,
+    long durationMillis,
+    String plan) {}
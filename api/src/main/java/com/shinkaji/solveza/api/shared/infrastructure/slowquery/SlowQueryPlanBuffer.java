@@ -0,0 +1,37 @@
+package com.shinkaji.solveza.api.shared.infrastructure.slowquery;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 直近の実行計画を固定長で保持し、古いものから上書きする
+@Component
+public class SlowQueryPlanBuffer {
+
+  private final SlowQueryPlan[] plans;
+  private int next;
+  private int size;
+
+  public SlowQueryPlanBuffer(@Value("${solveza.slow-query.buffer-size:100}") int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("バッファサイズは1以上である必要があります");
+    }
+    this.plans = new SlowQueryPlan[capacity];
+  }
+
+  public synchronized void add(SlowQueryPlan plan) {
+    plans[next] = plan;
+    next = (next + 1) % plans.length;
+    size = Math.min(size + 1, plans.length);
+  }
+
+  // 新しい順
+  public synchronized List<SlowQueryPlan> snapshot() {
+    List<SlowQueryPlan> result = new ArrayList<>(size);
+    for (int i = 1; i <= size; i++) {
+      result.add(plans[Math.floorMod(next - i, plans.length)]);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,108 @@
+package com.shinkaji.solveza.api.shared.infrastructure.virtualthread;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+// JFR の jdk.VirtualThreadPinned を購読し、キャリアスレッドを threshold 以上占有したピン留めを
+// solveza.virtualthreads.pinned として計測する。発生箇所ごとに初回だけスタックトレースを WARN で出す
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+  static final String METRIC_NAME = "solveza.virtualthreads.pinned";
+  static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+  private static final int LOGGED_FRAMES = 15;
+
+  private final Timer pinnedTimer;
+  private final Duration threshold;
+  private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+  private RecordingStream recordingStream;
+
+  public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+    this.threshold = threshold;
+    this.pinnedTimer =
+        Timer.builder(METRIC_NAME).description("仮想スレッドがキャリアスレッドにピン留めされた時間").register(meterRegistry);
+  }
+
+  @Override
+  public synchronized void start() {
+    if (recordingStream != null) {
+      return;
+    }
+    recordingStream = new RecordingStream();
+    recordingStream.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+    recordingStream.onEvent(EVENT_NAME, this::onPinned);
+    recordingStream.startAsync();
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (recordingStream != null) {
+      recordingStream.close();
+      recordingStream = null;
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return recordingStream != null;
+  }
+
+  void onPinned(RecordedEvent event) {
+    pinnedTimer.record(event.getDuration());
+    RecordedStackTrace stackTrace = event.getStackTrace();
+    if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+      return;
+    }
+    String site = site(stackTrace);
+    if (reportedSites.add(site)) {
+      log.warn(
+          "仮想スレッドのピン留めを検出しました: duration={}ms, site={}{}",
+          event.getDuration().toMillis(),
+          site,
+          format(stackTrace));
+    } else if (log.isDebugEnabled()) {
+      log.debug("仮想スレッドのピン留めを検出しました: duration={}ms, site={}", event.getDuration().toMillis(), site);
+    }
+  }
+
+  // アプリケーションのコードを含むフレームがあればそれを、なければ先頭のフレームを発生箇所とする
+  private static String site(RecordedStackTrace stackTrace) {
+    RecordedFrame site = stackTrace.getFrames().getFirst();
+    for (RecordedFrame frame : stackTrace.getFrames()) {
+      if (frame.isJavaFrame()
+          && frame.getMethod().getType().getName().startsWith("com.shinkaji.solveza")) {
+        site = frame;
+        break;
+      }
+    }
+    return frame(site);
+  }
+
+  private static String format(RecordedStackTrace stackTrace) {
+    StringBuilder builder = new StringBuilder();
+    stackTrace.getFrames().stream()
+        .limit(LOGGED_FRAMES)
+        .forEach(
+            frame -> builder.append(System.lineSeparator()).append("\tat ").append(frame(frame)));
+    return builder.toString();
+  }
+
+  private static String frame(RecordedFrame frame) {
+    return frame.getMethod().getType().getName()
+        + "."
+        + frame.getMethod().getName()
+        + ":"
+        + frame.getLineNumber();
+  }
+}
@@ -0,0 +1,12 @@
+package com.shinkaji.solveza.api.shared.presentation.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record SlowQueryPlanDto(
+    LocalDateTime capturedAt,
+    String statementId,
+    String sql,
+    List<String> parameters,
+    long durationMillis,
+    String plan) {}
@@ -0,0 +1,38 @@
+package com.shinkaji.solveza.api.shared.presentation.endpoint;
+
+import com.shinkaji.solveza.api.shared.infrastructure.slowquery.SlowQueryPlanBuffer;
+import com.shinkaji.solveza.api.shared.presentation.dto.SlowQueryPlanDto;
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.Access;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+// サンプリングした遅いSQLの実行計画を新しい順に返す Actuator エンドポイント（/actuator/slowqueries）。
+// SQL本文と実行計画を含むため既定では無効。management.endpoint.slowqueries.access と
+// management.endpoints.web.exposure.include で有効にし、management.server.port で運用向けのポートに分けて公開する
+@Component
+@Endpoint(id = "slowqueries", defaultAccess = Access.NONE)
+public class SlowQueryEndpoint {
+
+  private final SlowQueryPlanBuffer slowQueryPlanBuffer;
+
+  public SlowQueryEndpoint(SlowQueryPlanBuffer slowQueryPlanBuffer) {
+    this.slowQueryPlanBuffer = slowQueryPlanBuffer;
+  }
+
+  @ReadOperation
+  public List<SlowQueryPlanDto> slowQueries() {
+    return slowQueryPlanBuffer.snapshot().stream()
+        .map(
+            plan ->
+                new SlowQueryPlanDto(
+                    plan.capturedAt(),
+                    plan.statementId(),
+                    plan.sql(),
+                    plan.parameters(),
+                    plan.durationMillis(),
+                    plan.plan()))
+        .toList();
+  }
+}
@@ -2,19 +2,23 @@ package com.shinkaji.solveza.api.shared.presentation.exception;
 
 import com.shinkaji.solveza.api.shared.domain.exception.AccountNotFoundException;
 import com.shinkaji.solveza.api.shared.domain.exception.DuplicateAccountException;
+import com.shinkaji.solveza.api.shared.domain.exception.IdempotencyKeyConflictException;
 import com.shinkaji.solveza.api.shared.domain.exception.InsufficientPermissionException;
 import com.shinkaji.solveza.api.shared.domain.exception.InvalidTransactionException;
+import com.shinkaji.solveza.api.shared.domain.exception.TransactionWriteUnavailableException;
 import com.shinkaji.solveza.api.shared.domain.exception.UserNotFoundException;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @RestControllerAdvice
@@ -53,6 +57,23 @@ public class GlobalExceptionHandler {
         .body(new ErrorResponse("DUPLICATE_ACCOUNT", e.getMessage()));
   }
 
+  @ExceptionHandler(IdempotencyKeyConflictException.class)
+  public ResponseEntity<ErrorResponse> handleIdempotencyKeyConflict(
+      IdempotencyKeyConflictException e) {
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .body(new ErrorResponse("IDEMPOTENCY_KEY_CONFLICT", e.getMessage()));
+  }
+
+  @ExceptionHandler(TransactionWriteUnavailableException.class)
+  public ResponseEntity<ErrorResponse> handleTransactionWriteUnavailable(
+      TransactionWriteUnavailableException e) {
+    // Retry-After は秒単位のため切り上げる
+    long retryAfterSeconds = Math.max(1, e.getRetryAfter().plusMillis(999).toSeconds());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+        .body(new ErrorResponse("SERVICE_UNAVAILABLE", e.getMessage()));
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ValidationErrorResponse> handleValidationErrors(
       MethodArgumentNotValidException e) {
@@ -70,6 +91,26 @@ public class GlobalExceptionHandler {
         .body(new ValidationErrorResponse("VALIDATION_ERROR", "入力値が無効です", errors));
   }
 
+  // リクエストボディ以外（ヘッダーなど）の引数に付けた制約の違反
+  @ExceptionHandler(HandlerMethodValidationException.class)
+  public ResponseEntity<ValidationErrorResponse> handleMethodValidationErrors(
+      HandlerMethodValidationException e) {
+    Map<String, String> errors = new HashMap<>();
+    e.getParameterValidationResults()
+        .forEach(
+            result ->
+                result
+                    .getResolvableErrors()
+                    .forEach(
+                        error ->
+                            errors.put(
+                                result.getMethodParameter().getParameterName(),
+                                error.getDefaultMessage())));
+
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .body(new ValidationErrorResponse("VALIDATION_ERROR", "入力値が無効です", errors));
+  }
+
   @ExceptionHandler(IllegalArgumentException.class)
   public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException e) {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST)
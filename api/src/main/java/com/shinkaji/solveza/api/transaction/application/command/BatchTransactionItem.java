@@ -0,0 +1,12 @@
+package com.shinkaji.solveza.api.transaction.application.command;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// 一括登録の1明細。不正な明細があっても他の明細は登録するため、検証はユースケース側で行う
+public record BatchTransactionItem(
+    String transactionType,
+    UUID accountId,
+    BigDecimal amount,
+    String currency,
+    String description) {}
@@ -0,0 +1,9 @@
+package com.shinkaji.solveza.api.transaction.application.command;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record RecordTransactionBatchCommand(
+    @NotEmpty(message = "明細は1件以上必要です") @Size(max = 5000, message = "明細は5000件以下である必要があります")
+        List<BatchTransactionItem> items) {}
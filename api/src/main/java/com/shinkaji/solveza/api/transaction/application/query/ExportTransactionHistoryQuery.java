@@ -0,0 +1,13 @@
+package com.shinkaji.solveza.api.transaction.application.query;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ExportTransactionHistoryQuery(
+    @NotNull(message = "アカウントIDは必須です") UUID accountId, LocalDateTime from, LocalDateTime to) {
+
+  public ExportTransactionHistoryQuery(UUID accountId) {
+    this(accountId, null, null);
+  }
+}
@@ -1,6 +1,13 @@
 package com.shinkaji.solveza.api.transaction.application.query;
 
 import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
-public record GetAccountBalanceQuery(@NotNull(message = "アカウントIDは必須です") UUID accountId) {}
+public record GetAccountBalanceQuery(
+    @NotNull(message = "アカウントIDは必須です") UUID accountId, LocalDateTime asOf) {
+
+  public GetAccountBalanceQuery(UUID accountId) {
+    this(accountId, null);
+  }
+}
@@ -0,0 +1,6 @@
+package com.shinkaji.solveza.api.transaction.application.query;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+
+public record GetAccountBalancesQuery(@NotNull(message = "アカウントIDは必須です") UUID accountId) {}
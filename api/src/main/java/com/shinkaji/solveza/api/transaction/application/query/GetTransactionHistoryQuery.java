@@ -1,6 +1,21 @@
 package com.shinkaji.solveza.api.transaction.application.query;
 
 import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
-public record GetTransactionHistoryQuery(@NotNull(message = "アカウントIDは必須です") UUID accountId) {}
+public record GetTransactionHistoryQuery(
+    @NotNull(message = "アカウントIDは必須です") UUID accountId,
+    String cursor,
+    Integer limit,
+    LocalDateTime from,
+    LocalDateTime to) {
+
+  public GetTransactionHistoryQuery(UUID accountId) {
+    this(accountId, null, null);
+  }
+
+  public GetTransactionHistoryQuery(UUID accountId, String cursor, Integer limit) {
+    this(accountId, cursor, limit, null, null);
+  }
+}
@@ -0,0 +1,10 @@
+package com.shinkaji.solveza.api.transaction.application.query;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record GetTransactionSummaryQuery(
+    @NotNull(message = "アカウントIDは必須です") UUID accountId,
+    @NotNull(message = "開始日は必須です") LocalDate from,
+    @NotNull(message = "終了日は必須です") LocalDate to) {}
@@ -0,0 +1,40 @@
+package com.shinkaji.solveza.api.transaction.application.service;
+
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.repository.AccountBalanceRepository;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionDailyRollupRepository;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@ConditionalOnProperty(
+    name = "solveza.transaction.write-mode",
+    havingValue = "direct",
+    matchIfMissing = true)
+public class DirectTransactionWriter implements TransactionWriter {
+
+  private final TransactionRepository transactionRepository;
+  private final AccountBalanceRepository accountBalanceRepository;
+  private final TransactionDailyRollupRepository transactionDailyRollupRepository;
+
+  public DirectTransactionWriter(
+      TransactionRepository transactionRepository,
+      AccountBalanceRepository accountBalanceRepository,
+      TransactionDailyRollupRepository transactionDailyRollupRepository) {
+    this.transactionRepository = transactionRepository;
+    this.accountBalanceRepository = accountBalanceRepository;
+    this.transactionDailyRollupRepository = transactionDailyRollupRepository;
+  }
+
+  @Override
+  @Transactional
+  public void write(Transaction transaction) {
+    transactionRepository.save(transaction);
+
+    // 残高集計テーブルと日次集計テーブルを同一トランザクション内で更新
+    accountBalanceRepository.apply(transaction);
+    transactionDailyRollupRepository.apply(transaction);
+  }
+}
@@ -0,0 +1,244 @@
+package com.shinkaji.solveza.api.transaction.application.service;
+
+import com.shinkaji.solveza.api.shared.domain.exception.TransactionWriteUnavailableException;
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.repository.AccountBalanceRepository;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionDailyRollupRepository;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@ConditionalOnProperty(name = "solveza.transaction.write-mode", havingValue = "group-commit")
+public class GroupCommitTransactionWriter implements TransactionWriter {
+
+  private static final Logger log = LoggerFactory.getLogger(GroupCommitTransactionWriter.class);
+
+  private static final long POLL_INTERVAL_MILLIS = 100;
+
+  private final TransactionRepository transactionRepository;
+  private final AccountBalanceRepository accountBalanceRepository;
+  private final TransactionDailyRollupRepository transactionDailyRollupRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final BlockingQueue<PendingWrite> queue;
+  private final int maxBatchSize;
+  private final Duration maxDelay;
+  private final Duration enqueueTimeout;
+  private final Duration retryAfter;
+  private final Thread flusher;
+
+  private final DistributionSummary batchSizeSummary;
+  private final Timer queueWaitTimer;
+  private final Timer flushTimer;
+  private final Counter rejectedCounter;
+
+  private volatile boolean running;
+
+  public GroupCommitTransactionWriter(
+      TransactionRepository transactionRepository,
+      AccountBalanceRepository accountBalanceRepository,
+      TransactionDailyRollupRepository transactionDailyRollupRepository,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${solveza.transaction.group-commit.max-batch-size:200}") int maxBatchSize,
+      @Value("${solveza.transaction.group-commit.max-delay:5ms}") Duration maxDelay,
+      @Value("${solveza.transaction.group-commit.queue-capacity:10000}") int queueCapacity,
+      @Value("${solveza.transaction.group-commit.enqueue-timeout:1s}") Duration enqueueTimeout,
+      @Value("${solveza.transaction.group-commit.retry-after:1s}") Duration retryAfter) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("max-batch-size は1以上を指定してください");
+    }
+    this.transactionRepository = transactionRepository;
+    this.accountBalanceRepository = accountBalanceRepository;
+    this.transactionDailyRollupRepository = transactionDailyRollupRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelay = maxDelay;
+    this.enqueueTimeout = enqueueTimeout;
+    this.retryAfter = retryAfter;
+    this.flusher =
+        Thread.ofPlatform().name("group-commit-flusher").daemon(true).unstarted(this::flushLoop);
+
+    this.batchSizeSummary =
+        DistributionSummary.builder("solveza.groupcommit.batch.size")
+            .description("1回のコミットでまとめて書き込んだ取引件数")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    this.queueWaitTimer =
+        Timer.builder("solveza.groupcommit.queue.wait")
+            .description("取引がキューに投入されてからフラッシュされるまでの待ち時間")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    this.flushTimer =
+        Timer.builder("solveza.groupcommit.flush")
+            .description("マイクロバッチの書き込みとコミットに要した時間")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    this.rejectedCounter =
+        Counter.builder("solveza.groupcommit.rejected")
+            .description("キュー満杯により受け付けられなかった取引件数")
+            .register(meterRegistry);
+    Gauge.builder("solveza.groupcommit.queue.depth", queue, BlockingQueue::size)
+        .description("フラッシュ待ちの取引件数")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  void start() {
+    running = true;
+    flusher.start();
+  }
+
+  @PreDestroy
+  void stop() throws InterruptedException {
+    // 受付を止め、キューに残った取引をフラッシュし終えるまで待つ
+    running = false;
+    flusher.join(Duration.ofSeconds(30));
+  }
+
+  @Override
+  public void write(Transaction transaction) {
+    // 呼び出し元のトランザクション（冪等キーの登録など）がある場合は、原子性を保つためその中で書き込む
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      persist(transaction);
+      return;
+    }
+
+    PendingWrite pending =
+        new PendingWrite(transaction, System.nanoTime(), new CompletableFuture<>());
+    enqueue(pending);
+    try {
+      pending.committed().join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("取引の書き込みに失敗しました", e.getCause());
+    }
+  }
+
+  // 受け付けられない場合は 503 で再送を促す。いずれも取引は書き込まれていない
+  private void enqueue(PendingWrite pending) {
+    if (!running) {
+      throw new TransactionWriteUnavailableException("グループコミットは停止しています", retryAfter);
+    }
+    try {
+      if (!queue.offer(pending, enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+        rejectedCounter.increment();
+        throw new TransactionWriteUnavailableException("書き込みキューが満杯です", retryAfter);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TransactionWriteUnavailableException("書き込みキューへの投入が中断されました", retryAfter, e);
+    }
+  }
+
+  private void flushLoop() {
+    List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+    try {
+      while (running || !queue.isEmpty()) {
+        PendingWrite first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        collect(batch);
+        flush(batch);
+        batch.clear();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      // 中断された場合に待機中の呼び出し元が戻れなくならないようにする
+      queue.drainTo(batch);
+      TransactionWriteUnavailableException stopped =
+          new TransactionWriteUnavailableException("グループコミットは停止しています", retryAfter);
+      batch.forEach(pending -> pending.committed().completeExceptionally(stopped));
+    }
+  }
+
+  private void collect(List<PendingWrite> batch) throws InterruptedException {
+    // 先頭の取引を取り出してから max-delay 経過するか max-batch-size に達するまでまとめる
+    long deadline = System.nanoTime() + maxDelay.toNanos();
+    queue.drainTo(batch, maxBatchSize - batch.size());
+    while (batch.size() < maxBatchSize) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return;
+      }
+      PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        return;
+      }
+      batch.add(next);
+      queue.drainTo(batch, maxBatchSize - batch.size());
+    }
+  }
+
+  private void flush(List<PendingWrite> batch) {
+    long flushStartedAt = System.nanoTime();
+    for (PendingWrite pending : batch) {
+      queueWaitTimer.record(flushStartedAt - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+    }
+    batchSizeSummary.record(batch.size());
+
+    List<Transaction> transactions = batch.stream().map(PendingWrite::transaction).toList();
+    try {
+      flushTimer.record(
+          () ->
+              transactionTemplate.executeWithoutResult(
+                  status -> {
+                    transactionRepository.saveAll(transactions);
+                    accountBalanceRepository.applyAll(transactions);
+                    transactionDailyRollupRepository.applyAll(transactions);
+                  }));
+      batch.forEach(pending -> pending.committed().complete(null));
+    } catch (RuntimeException e) {
+      if (batch.size() == 1) {
+        batch.getFirst().committed().completeExceptionally(e);
+        return;
+      }
+      // 1件の不正で同じバッチの他の取引まで失敗させないよう、1件ずつ書き込み直す
+      log.warn("グループコミットに失敗したため1件ずつ再実行します: size={}", batch.size(), e);
+      for (PendingWrite pending : batch) {
+        try {
+          transactionTemplate.executeWithoutResult(status -> persist(pending.transaction()));
+          pending.committed().complete(null);
+        } catch (RuntimeException ex) {
+          pending.committed().completeExceptionally(ex);
+        }
+      }
+    }
+  }
+
+  private void persist(Transaction transaction) {
+    transactionRepository.save(transaction);
+    accountBalanceRepository.apply(transaction);
+    transactionDailyRollupRepository.apply(transaction);
+  }
+
+  private record PendingWrite(
+      Transaction transaction, long enqueuedAt, CompletableFuture<Void> committed) {}
+}
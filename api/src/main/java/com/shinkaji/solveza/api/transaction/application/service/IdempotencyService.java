@@ -0,0 +1,134 @@
+package com.shinkaji.solveza.api.transaction.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shinkaji.solveza.api.shared.domain.exception.IdempotencyKeyConflictException;
+import com.shinkaji.solveza.api.transaction.domain.model.IdempotencyRecord;
+import com.shinkaji.solveza.api.transaction.domain.repository.IdempotencyKeyRepository;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class IdempotencyService {
+
+  private final IdempotencyKeyRepository idempotencyKeyRepository;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+
+  // 直近に確定したキーとレスポンス。再送時はDBに触れずに応答する
+  private final Cache<CacheKey, CachedResponse> recentResponses;
+
+  public IdempotencyService(
+      IdempotencyKeyRepository idempotencyKeyRepository,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      @Value("${solveza.idempotency.cache.maximum-size:10000}") long maximumSize,
+      @Value("${solveza.idempotency.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+    this.idempotencyKeyRepository = idempotencyKeyRepository;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.recentResponses =
+        Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite).build();
+  }
+
+  public <T> T execute(
+      String key, String operation, Object request, Class<T> responseType, Supplier<T> action) {
+    if (key == null) {
+      return action.get();
+    }
+    String requestHash = hash(request);
+    IdempotencyRecord record = new IdempotencyRecord(key, operation, requestHash, null);
+    CacheKey cacheKey = new CacheKey(key, operation);
+
+    CachedResponse cached = recentResponses.getIfPresent(cacheKey);
+    if (cached != null) {
+      verifySameRequest(cached.requestHash(), requestHash);
+      return responseType.cast(cached.response());
+    }
+
+    // キー登録と取引登録を同一トランザクションで行い、どちらか一方だけが残らないようにする
+    return transactionTemplate.execute(
+        status -> {
+          if (!idempotencyKeyRepository.register(record)) {
+            return replay(cacheKey, requestHash, responseType);
+          }
+
+          T response = action.get();
+          idempotencyKeyRepository.complete(key, operation, serialize(response));
+          rememberAfterCommit(cacheKey, new CachedResponse(requestHash, response));
+          return response;
+        });
+  }
+
+  private <T> T replay(CacheKey cacheKey, String requestHash, Class<T> responseType) {
+    IdempotencyRecord existing =
+        idempotencyKeyRepository
+            .find(cacheKey.key(), cacheKey.operation())
+            .orElseThrow(() -> new IdempotencyKeyConflictException("キーの状態を取得できません"));
+    verifySameRequest(existing.requestHash(), requestHash);
+    if (!existing.isCompleted()) {
+      throw new IdempotencyKeyConflictException("同じキーのリクエストが処理中です");
+    }
+
+    T response = deserialize(existing.responseBody(), responseType);
+    recentResponses.put(cacheKey, new CachedResponse(requestHash, response));
+    return response;
+  }
+
+  private void verifySameRequest(String expectedHash, String actualHash) {
+    if (!expectedHash.equals(actualHash)) {
+      throw new IdempotencyKeyConflictException("同じキーで異なる内容のリクエストが送信されました");
+    }
+  }
+
+  private void rememberAfterCommit(CacheKey cacheKey, CachedResponse response) {
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            recentResponses.put(cacheKey, response);
+          }
+        });
+  }
+
+  private String hash(Object request) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+      return HexFormat.of().formatHex(digest);
+    } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+      throw new IllegalStateException("リクエストのハッシュ計算に失敗しました", e);
+    }
+  }
+
+  private String serialize(Object response) {
+    try {
+      return objectMapper.writeValueAsString(response);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("レスポンスのシリアライズに失敗しました", e);
+    }
+  }
+
+  private <T> T deserialize(String body, Class<T> responseType) {
+    try {
+      return objectMapper.readValue(body, responseType);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("保存済みレスポンスの復元に失敗しました", e);
+    }
+  }
+
+  private record CacheKey(String key, String operation) {}
+
+  private record CachedResponse(String requestHash, Object response) {}
+}
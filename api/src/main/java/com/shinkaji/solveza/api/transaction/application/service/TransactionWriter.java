@@ -0,0 +1,9 @@
+package com.shinkaji.solveza.api.transaction.application.service;
+
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+
+public interface TransactionWriter {
+
+  // 取引の保存と残高集計の更新を行い、コミット完了後に戻る
+  void write(Transaction transaction);
+}
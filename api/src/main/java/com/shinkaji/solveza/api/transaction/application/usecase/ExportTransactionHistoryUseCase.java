@@ -0,0 +1,50 @@
+package com.shinkaji.solveza.api.transaction.application.usecase;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.transaction.application.query.ExportTransactionHistoryQuery;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionPeriod;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
+import com.shinkaji.solveza.api.transaction.domain.service.TransactionValidationService;
+import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionDto;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class ExportTransactionHistoryUseCase {
+
+  private final TransactionRepository transactionRepository;
+  private final TransactionValidationService transactionValidationService;
+
+  public ExportTransactionHistoryUseCase(
+      TransactionRepository transactionRepository,
+      TransactionValidationService transactionValidationService) {
+    this.transactionRepository = transactionRepository;
+    this.transactionValidationService = transactionValidationService;
+  }
+
+  public void validate(ExportTransactionHistoryQuery query) {
+    // 期間とアカウントの検証（ストリーミング開始前にエラーを返すため分離）
+    new TransactionPeriod(query.from(), query.to());
+    transactionValidationService.validateAccountExists(new AccountId(query.accountId()));
+  }
+
+  // Cursor はトランザクション内でのみ有効なため、書き出しもこのメソッド内で完結させる
+  public void export(ExportTransactionHistoryQuery query, Consumer<TransactionDto> sink) {
+    transactionRepository.forEachByAccountId(
+        new AccountId(query.accountId()),
+        new TransactionPeriod(query.from(), query.to()),
+        transaction ->
+            sink.accept(
+                new TransactionDto(
+                    transaction.getId(),
+                    transaction.getAccountId().value(),
+                    transaction.getTransactionType().name(),
+                    transaction.getAmount().amount(),
+                    transaction.getAmount().currency().getCurrencyCode(),
+                    transaction.getDescription(),
+                    transaction.getExecutedAt(),
+                    transaction.getCreatedAt())));
+  }
+}
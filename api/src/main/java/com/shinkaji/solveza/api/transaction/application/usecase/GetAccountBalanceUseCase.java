@@ -4,6 +4,7 @@ import com.shinkaji.solveza.api.shared.domain.AccountId;
 import com.shinkaji.solveza.api.shared.domain.Money;
 import com.shinkaji.solveza.api.transaction.application.query.GetAccountBalanceQuery;
 import com.shinkaji.solveza.api.transaction.domain.service.AccountBalanceService;
+import com.shinkaji.solveza.api.transaction.domain.service.PointInTimeBalanceService;
 import com.shinkaji.solveza.api.transaction.domain.service.TransactionValidationService;
 import com.shinkaji.solveza.api.transaction.presentation.dto.BalanceDto;
 import org.springframework.stereotype.Service;
@@ -14,12 +15,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class GetAccountBalanceUseCase {
 
   private final AccountBalanceService accountBalanceService;
+  private final PointInTimeBalanceService pointInTimeBalanceService;
   private final TransactionValidationService transactionValidationService;
 
   public GetAccountBalanceUseCase(
       AccountBalanceService accountBalanceService,
+      PointInTimeBalanceService pointInTimeBalanceService,
       TransactionValidationService transactionValidationService) {
     this.accountBalanceService = accountBalanceService;
+    this.pointInTimeBalanceService = pointInTimeBalanceService;
     this.transactionValidationService = transactionValidationService;
   }
 
@@ -29,7 +33,10 @@ public class GetAccountBalanceUseCase {
     // アカウント存在確認
     transactionValidationService.validateAccountExists(accountId);
 
-    Money balance = accountBalanceService.calculateBalance(accountId);
+    Money balance =
+        query.asOf() == null
+            ? accountBalanceService.calculateBalance(accountId)
+            : pointInTimeBalanceService.calculateBalanceAsOf(accountId, query.asOf());
 
     return new BalanceDto(
         accountId.value(), balance.amount(), balance.currency().getCurrencyCode());
@@ -0,0 +1,49 @@
+package com.shinkaji.solveza.api.transaction.application.usecase;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.transaction.application.query.GetAccountBalancesQuery;
+import com.shinkaji.solveza.api.transaction.domain.service.AccountBalanceService;
+import com.shinkaji.solveza.api.transaction.domain.service.TransactionValidationService;
+import com.shinkaji.solveza.api.transaction.presentation.dto.CurrencyBalanceDto;
+import com.shinkaji.solveza.api.transaction.presentation.dto.MultiCurrencyBalanceDto;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class GetAccountBalancesUseCase {
+
+  private final AccountBalanceService accountBalanceService;
+  private final TransactionValidationService transactionValidationService;
+
+  public GetAccountBalancesUseCase(
+      AccountBalanceService accountBalanceService,
+      TransactionValidationService transactionValidationService) {
+    this.accountBalanceService = accountBalanceService;
+    this.transactionValidationService = transactionValidationService;
+  }
+
+  public MultiCurrencyBalanceDto execute(GetAccountBalancesQuery query) {
+    AccountId accountId = new AccountId(query.accountId());
+
+    // アカウント存在確認
+    transactionValidationService.validateAccountExists(accountId);
+
+    // 通貨ごとの残高を1回の集計でまとめて取得する
+    Map<Currency, Money> balances = accountBalanceService.calculateBalances(accountId);
+
+    List<CurrencyBalanceDto> currencyBalances =
+        balances.values().stream()
+            .map(
+                balance ->
+                    new CurrencyBalanceDto(balance.currency().getCurrencyCode(), balance.amount()))
+            .collect(Collectors.toList());
+
+    return new MultiCurrencyBalanceDto(accountId.value(), currencyBalances);
+  }
+}
@@ -3,9 +3,12 @@ package com.shinkaji.solveza.api.transaction.application.usecase;
 import com.shinkaji.solveza.api.shared.domain.AccountId;
 import com.shinkaji.solveza.api.transaction.application.query.GetTransactionHistoryQuery;
 import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionCursor;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionPeriod;
 import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
 import com.shinkaji.solveza.api.transaction.domain.service.TransactionValidationService;
 import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionDto;
+import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionHistoryPageDto;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
@@ -15,6 +18,9 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class GetTransactionHistoryUseCase {
 
+  static final int DEFAULT_LIMIT = 50;
+  static final int MAX_LIMIT = 500;
+
   private final TransactionRepository transactionRepository;
   private final TransactionValidationService transactionValidationService;
 
@@ -25,26 +31,40 @@ public class GetTransactionHistoryUseCase {
     this.transactionValidationService = transactionValidationService;
   }
 
-  public List<TransactionDto> execute(GetTransactionHistoryQuery query) {
+  public TransactionHistoryPageDto execute(GetTransactionHistoryQuery query) {
     AccountId accountId = new AccountId(query.accountId());
+    int limit = query.limit() != null ? query.limit() : DEFAULT_LIMIT;
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new IllegalArgumentException("取得件数は1以上" + MAX_LIMIT + "以下で指定してください");
+    }
+    TransactionCursor cursor =
+        query.cursor() != null ? TransactionCursor.decode(query.cursor()) : null;
+    TransactionPeriod period = new TransactionPeriod(query.from(), query.to());
 
     // アカウント存在確認
     transactionValidationService.validateAccountExists(accountId);
 
-    List<Transaction> transactions = transactionRepository.findByAccountId(accountId);
-
-    return transactions.stream()
-        .map(
-            transaction ->
-                new TransactionDto(
-                    transaction.getId(),
-                    transaction.getAccountId().value(),
-                    transaction.getTransactionType().name(),
-                    transaction.getAmount().amount(),
-                    transaction.getAmount().currency().getCurrencyCode(),
-                    transaction.getDescription(),
-                    transaction.getExecutedAt(),
-                    transaction.getCreatedAt()))
-        .collect(Collectors.toList());
+    // 次ページの有無を判定するため1件多く取得する
+    List<Transaction> transactions =
+        transactionRepository.findPageByAccountId(accountId, period, cursor, limit + 1);
+    boolean hasNext = transactions.size() > limit;
+    List<Transaction> page = hasNext ? transactions.subList(0, limit) : transactions;
+
+    String nextCursor = hasNext ? TransactionCursor.of(page.getLast()).encode() : null;
+    return new TransactionHistoryPageDto(
+        page.stream()
+            .map(
+                transaction ->
+                    new TransactionDto(
+                        transaction.getId(),
+                        transaction.getAccountId().value(),
+                        transaction.getTransactionType().name(),
+                        transaction.getAmount().amount(),
+                        transaction.getAmount().currency().getCurrencyCode(),
+                        transaction.getDescription(),
+                        transaction.getExecutedAt(),
+                        transaction.getCreatedAt()))
+            .collect(Collectors.toList()),
+        nextCursor);
   }
 }
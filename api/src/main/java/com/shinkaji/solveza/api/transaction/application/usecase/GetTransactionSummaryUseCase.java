@@ -0,0 +1,83 @@
+package com.shinkaji.solveza.api.transaction.application.usecase;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.transaction.application.query.GetTransactionSummaryQuery;
+import com.shinkaji.solveza.api.transaction.domain.model.DailyTransactionSummary;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionDailyRollupRepository;
+import com.shinkaji.solveza.api.transaction.domain.service.TransactionValidationService;
+import com.shinkaji.solveza.api.transaction.presentation.dto.CurrencySummaryDto;
+import com.shinkaji.solveza.api.transaction.presentation.dto.DailySummaryDto;
+import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionSummaryDto;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class GetTransactionSummaryUseCase {
+
+  private final TransactionDailyRollupRepository transactionDailyRollupRepository;
+  private final TransactionValidationService transactionValidationService;
+
+  public GetTransactionSummaryUseCase(
+      TransactionDailyRollupRepository transactionDailyRollupRepository,
+      TransactionValidationService transactionValidationService) {
+    this.transactionDailyRollupRepository = transactionDailyRollupRepository;
+    this.transactionValidationService = transactionValidationService;
+  }
+
+  public TransactionSummaryDto execute(GetTransactionSummaryQuery query) {
+    if (query.from().isAfter(query.to())) {
+      throw new IllegalArgumentException("開始日は終了日以前を指定してください");
+    }
+    AccountId accountId = new AccountId(query.accountId());
+
+    // アカウント存在確認
+    transactionValidationService.validateAccountExists(accountId);
+
+    // 日次集計テーブルのみを参照する（取引テーブルは集計しない）
+    List<DailyTransactionSummary> summaries =
+        transactionDailyRollupRepository.findByAccountId(accountId, query.from(), query.to());
+
+    List<DailySummaryDto> daily =
+        summaries.stream()
+            .map(
+                summary ->
+                    new DailySummaryDto(
+                        summary.businessDate(),
+                        summary.currency().getCurrencyCode(),
+                        summary.depositTotal(),
+                        summary.paymentTotal(),
+                        summary.netAmount(),
+                        summary.transactionCount()))
+            .collect(Collectors.toList());
+
+    return new TransactionSummaryDto(
+        accountId.value(), query.from(), query.to(), totalByCurrency(daily), daily);
+  }
+
+  private List<CurrencySummaryDto> totalByCurrency(List<DailySummaryDto> daily) {
+    Map<String, CurrencySummaryDto> totals = new TreeMap<>();
+    for (DailySummaryDto day : daily) {
+      totals.merge(
+          day.currency(),
+          new CurrencySummaryDto(
+              day.currency(),
+              day.depositTotal(),
+              day.paymentTotal(),
+              day.netAmount(),
+              day.transactionCount()),
+          (a, b) ->
+              new CurrencySummaryDto(
+                  a.currency(),
+                  a.depositTotal().add(b.depositTotal()),
+                  a.paymentTotal().add(b.paymentTotal()),
+                  a.netAmount().add(b.netAmount()),
+                  a.transactionCount() + b.transactionCount()));
+    }
+    return List.copyOf(totals.values());
+  }
+}
@@ -0,0 +1,48 @@
+package com.shinkaji.solveza.api.transaction.application.usecase;
+
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionImportRepository;
+import com.shinkaji.solveza.api.transaction.presentation.dto.ImportResultDto;
+import java.io.InputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class ImportTransactionsUseCase {
+
+  private static final Logger log = LoggerFactory.getLogger(ImportTransactionsUseCase.class);
+
+  private final TransactionImportRepository transactionImportRepository;
+
+  public ImportTransactionsUseCase(TransactionImportRepository transactionImportRepository) {
+    this.transactionImportRepository = transactionImportRepository;
+  }
+
+  public ImportResultDto execute(InputStream csv) {
+    // CSVをステージングテーブルへ COPY で流し込む
+    long staged = transactionImportRepository.stage(csv);
+
+    // 不正な行・存在しないアカウントの行を集合演算で除外
+    int invalid = transactionImportRepository.discardInvalid();
+    int unknownAccount = transactionImportRepository.discardUnknownAccounts();
+
+    int imported = transactionImportRepository.mergeStaged();
+    long duplicate = staged - invalid - unknownAccount - imported;
+
+    // 派生データは取り込んだアカウント・日付の分だけ更新する。取り込んだ行がなければ何もしない
+    if (imported > 0) {
+      transactionImportRepository.refreshDerivedData();
+    }
+
+    log.info(
+        "取引を一括取り込みしました: staged={}, invalid={}, unknownAccount={}, duplicate={}, imported={}",
+        staged,
+        invalid,
+        unknownAccount,
+        duplicate,
+        imported);
+    return new ImportResultDto(staged, invalid, unknownAccount, duplicate, imported);
+  }
+}
@@ -3,26 +3,25 @@ package com.shinkaji.solveza.api.transaction.application.usecase;
 import com.shinkaji.solveza.api.shared.domain.AccountId;
 import com.shinkaji.solveza.api.shared.domain.Money;
 import com.shinkaji.solveza.api.transaction.application.command.RecordPaymentCommand;
+import com.shinkaji.solveza.api.transaction.application.service.TransactionWriter;
 import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
 import com.shinkaji.solveza.api.transaction.domain.model.TransactionType;
-import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
 import com.shinkaji.solveza.api.transaction.domain.service.TransactionValidationService;
 import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionDto;
 import java.util.Currency;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+// グループコミット時に書き込み完了を待つ間コネクションを保持しないよう、ここではトランザクションを張らない
 @Service
-@Transactional
 public class RecordPaymentUseCase {
 
-  private final TransactionRepository transactionRepository;
+  private final TransactionWriter transactionWriter;
   private final TransactionValidationService transactionValidationService;
 
   public RecordPaymentUseCase(
-      TransactionRepository transactionRepository,
+      TransactionWriter transactionWriter,
       TransactionValidationService transactionValidationService) {
-    this.transactionRepository = transactionRepository;
+    this.transactionWriter = transactionWriter;
     this.transactionValidationService = transactionValidationService;
   }
 
@@ -35,9 +34,11 @@ public class RecordPaymentUseCase {
     transactionValidationService.validateTransactionAmount(amount);
     transactionValidationService.validateTransactionType(TransactionType.PAYMENT);
 
-    // 支払い取引を作成・保存
+    // 支払い取引を作成
     Transaction transaction = Transaction.createPayment(accountId, amount, command.description());
-    transactionRepository.save(transaction);
+
+    // 取引と残高集計を保存（書き込みモードにより即時コミットまたはグループコミット）
+    transactionWriter.write(transaction);
 
     return new TransactionDto(
         transaction.getId(),
@@ -0,0 +1,126 @@
+package com.shinkaji.solveza.api.transaction.application.usecase;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.shared.domain.exception.AccountNotFoundException;
+import com.shinkaji.solveza.api.shared.domain.exception.InvalidTransactionException;
+import com.shinkaji.solveza.api.transaction.application.command.BatchTransactionItem;
+import com.shinkaji.solveza.api.transaction.application.command.RecordTransactionBatchCommand;
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionType;
+import com.shinkaji.solveza.api.transaction.domain.repository.AccountBalanceRepository;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionDailyRollupRepository;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
+import com.shinkaji.solveza.api.transaction.domain.service.TransactionValidationService;
+import com.shinkaji.solveza.api.transaction.presentation.dto.BatchItemResultDto;
+import com.shinkaji.solveza.api.transaction.presentation.dto.BatchResultDto;
+import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class RecordTransactionBatchUseCase {
+
+  private final TransactionRepository transactionRepository;
+  private final AccountBalanceRepository accountBalanceRepository;
+  private final TransactionDailyRollupRepository transactionDailyRollupRepository;
+  private final TransactionValidationService transactionValidationService;
+
+  public RecordTransactionBatchUseCase(
+      TransactionRepository transactionRepository,
+      AccountBalanceRepository accountBalanceRepository,
+      TransactionDailyRollupRepository transactionDailyRollupRepository,
+      TransactionValidationService transactionValidationService) {
+    this.transactionRepository = transactionRepository;
+    this.accountBalanceRepository = accountBalanceRepository;
+    this.transactionDailyRollupRepository = transactionDailyRollupRepository;
+    this.transactionValidationService = transactionValidationService;
+  }
+
+  public BatchResultDto execute(RecordTransactionBatchCommand command) {
+    List<BatchTransactionItem> items = command.items();
+    BatchItemResultDto[] results = new BatchItemResultDto[items.size()];
+
+    // 明細ごとのバリデーション（不正な明細のみ除外する）
+    List<Integer> candidateIndexes = new ArrayList<>();
+    List<Transaction> candidates = new ArrayList<>();
+    for (int i = 0; i < items.size(); i++) {
+      try {
+        candidates.add(toTransaction(items.get(i)));
+        candidateIndexes.add(i);
+      } catch (InvalidTransactionException e) {
+        results[i] = BatchItemResultDto.rejected(i, "INVALID_TRANSACTION", e.getMessage());
+      } catch (IllegalArgumentException e) {
+        results[i] = BatchItemResultDto.rejected(i, "ILLEGAL_ARGUMENT", e.getMessage());
+      }
+    }
+
+    // アカウント存在確認を1クエリで実施
+    Set<AccountId> existingAccounts =
+        transactionValidationService.findExistingAccounts(
+            candidates.stream().map(Transaction::getAccountId).collect(Collectors.toSet()));
+
+    List<Transaction> accepted = new ArrayList<>();
+    for (int k = 0; k < candidates.size(); k++) {
+      int index = candidateIndexes.get(k);
+      Transaction transaction = candidates.get(k);
+      if (existingAccounts.contains(transaction.getAccountId())) {
+        accepted.add(transaction);
+        results[index] = BatchItemResultDto.created(index, toDto(transaction));
+      } else {
+        results[index] =
+            BatchItemResultDto.rejected(
+                index,
+                "ACCOUNT_NOT_FOUND",
+                new AccountNotFoundException(transaction.getAccountId()).getMessage());
+      }
+    }
+
+    // JDBCバッチで一括保存し、集計テーブルはキー単位でまとめて更新
+    transactionRepository.saveAll(accepted);
+    accountBalanceRepository.applyAll(accepted);
+    transactionDailyRollupRepository.applyAll(accepted);
+
+    return new BatchResultDto(
+        accepted.size(), items.size() - accepted.size(), Arrays.asList(results));
+  }
+
+  private Transaction toTransaction(BatchTransactionItem item) {
+    if (item.transactionType() == null) {
+      throw new InvalidTransactionException("取引種別は必須です");
+    }
+    if (item.currency() == null || item.currency().isBlank()) {
+      throw new InvalidTransactionException("通貨は必須です");
+    }
+    TransactionType type = TransactionType.valueOf(item.transactionType());
+    AccountId accountId = new AccountId(item.accountId());
+    Money amount = new Money(item.amount(), Currency.getInstance(item.currency()));
+
+    transactionValidationService.validateTransactionAmount(amount);
+    transactionValidationService.validateTransactionType(type);
+
+    return switch (type) {
+      case DEPOSIT -> Transaction.createDeposit(accountId, amount, item.description());
+      case PAYMENT -> Transaction.createPayment(accountId, amount, item.description());
+    };
+  }
+
+  private TransactionDto toDto(Transaction transaction) {
+    return new TransactionDto(
+        transaction.getId(),
+        transaction.getAccountId().value(),
+        transaction.getTransactionType().name(),
+        transaction.getAmount().amount(),
+        transaction.getAmount().currency().getCurrencyCode(),
+        transaction.getDescription(),
+        transaction.getExecutedAt(),
+        transaction.getCreatedAt());
+  }
+}
@@ -0,0 +1,26 @@
+package com.shinkaji.solveza.api.transaction.domain.model;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+
+// checkpointAt より前に実行された取引を通貨ごとに集計した残高
+public record BalanceCheckpoint(
+    AccountId accountId, LocalDateTime checkpointAt, BigDecimal balance, Currency currency) {
+
+  public BalanceCheckpoint {
+    if (accountId == null) {
+      throw new IllegalArgumentException("アカウントIDは必須です");
+    }
+    if (checkpointAt == null) {
+      throw new IllegalArgumentException("チェックポイント日時は必須です");
+    }
+    if (balance == null) {
+      throw new IllegalArgumentException("残高は必須です");
+    }
+    if (currency == null) {
+      throw new IllegalArgumentException("通貨は必須です");
+    }
+  }
+}
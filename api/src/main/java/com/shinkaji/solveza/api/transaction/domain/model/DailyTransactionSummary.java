@@ -0,0 +1,31 @@
+package com.shinkaji.solveza.api.transaction.domain.model;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+
+public record DailyTransactionSummary(
+    AccountId accountId,
+    LocalDate businessDate,
+    Currency currency,
+    BigDecimal depositTotal,
+    BigDecimal paymentTotal,
+    long transactionCount) {
+
+  public DailyTransactionSummary {
+    if (accountId == null) {
+      throw new IllegalArgumentException("アカウントIDは必須です");
+    }
+    if (businessDate == null) {
+      throw new IllegalArgumentException("日付は必須です");
+    }
+    if (currency == null) {
+      throw new IllegalArgumentException("通貨は必須です");
+    }
+  }
+
+  public BigDecimal netAmount() {
+    return depositTotal.subtract(paymentTotal);
+  }
+}
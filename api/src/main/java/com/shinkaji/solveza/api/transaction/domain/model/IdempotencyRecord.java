@@ -0,0 +1,21 @@
+package com.shinkaji.solveza.api.transaction.domain.model;
+
+public record IdempotencyRecord(
+    String key, String operation, String requestHash, String responseBody) {
+
+  public IdempotencyRecord {
+    if (key == null || key.isBlank()) {
+      throw new IllegalArgumentException("冪等キーは必須です");
+    }
+    if (key.length() > 255) {
+      throw new IllegalArgumentException("冪等キーは255文字以下である必要があります");
+    }
+    if (operation == null || requestHash == null) {
+      throw new IllegalArgumentException("操作種別とリクエストハッシュは必須です");
+    }
+  }
+
+  public boolean isCompleted() {
+    return responseBody != null;
+  }
+}
@@ -0,0 +1,46 @@
+package com.shinkaji.solveza.api.transaction.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+public record TransactionCursor(LocalDateTime executedAt, UUID id) {
+
+  public TransactionCursor {
+    if (executedAt == null) {
+      throw new IllegalArgumentException("実行日時は必須です");
+    }
+    if (id == null) {
+      throw new IllegalArgumentException("トランザクションIDは必須です");
+    }
+  }
+
+  public static TransactionCursor of(Transaction transaction) {
+    return new TransactionCursor(transaction.getExecutedAt(), transaction.getId());
+  }
+
+  // クライアントには "executed_at,id" を Base64URL でエンコードした不透明な文字列として渡す
+  public String encode() {
+    String raw = executedAt + "," + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static TransactionCursor decode(String encoded) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(',');
+      if (separator < 0) {
+        throw new IllegalArgumentException("カーソルの形式が不正です");
+      }
+      return new TransactionCursor(
+          LocalDateTime.parse(raw.substring(0, separator)),
+          UUID.fromString(raw.substring(separator + 1)));
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("カーソルの形式が不正です", e);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.shinkaji.solveza.api.transaction.domain.model;
 
+import com.shinkaji.solveza.api.shared.domain.IdGenerators;
 import java.util.UUID;
 
 public record TransactionId(UUID value) {
@@ -11,7 +12,7 @@ public record TransactionId(UUID value) {
   }
 
   public static TransactionId generate() {
-    return new TransactionId(UUID.randomUUID());
+    return new TransactionId(IdGenerators.generate());
   }
 
   @Override
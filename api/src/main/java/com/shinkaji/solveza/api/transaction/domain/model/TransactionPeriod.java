@@ -0,0 +1,19 @@
+package com.shinkaji.solveza.api.transaction.domain.model;
+
+import java.time.LocalDateTime;
+
+// 実行日時の範囲 [from, to)。どちらも省略可能で、省略した側は無制限
+public record TransactionPeriod(LocalDateTime from, LocalDateTime to) {
+
+  private static final TransactionPeriod UNBOUNDED = new TransactionPeriod(null, null);
+
+  public TransactionPeriod {
+    if (from != null && to != null && !from.isBefore(to)) {
+      throw new IllegalArgumentException("期間の開始日時は終了日時より前を指定してください");
+    }
+  }
+
+  public static TransactionPeriod unbounded() {
+    return UNBOUNDED;
+  }
+}
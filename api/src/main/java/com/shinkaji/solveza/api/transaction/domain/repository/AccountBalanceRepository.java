@@ -0,0 +1,18 @@
+package com.shinkaji.solveza.api.transaction.domain.repository;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.transaction.domain.model.AccountBalance;
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import java.util.List;
+
+public interface AccountBalanceRepository {
+
+  // 通貨ごとの残高を、最新の取引が実行された通貨から順に返す
+  List<AccountBalance> findByAccountId(AccountId accountId);
+
+  void apply(Transaction transaction);
+
+  void applyAll(List<Transaction> transactions);
+
+  void rebuildAll();
+}
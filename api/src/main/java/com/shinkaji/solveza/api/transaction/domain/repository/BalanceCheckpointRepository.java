@@ -0,0 +1,14 @@
+package com.shinkaji.solveza.api.transaction.domain.repository;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.transaction.domain.model.BalanceCheckpoint;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BalanceCheckpointRepository {
+
+  // 基準日時以前で直近のチェックポイントの通貨ごとの残高を、最新の取引が実行された通貨から順に返す
+  List<BalanceCheckpoint> findLatestAtOrBefore(AccountId accountId, LocalDateTime asOf);
+
+  void deleteAll();
+}
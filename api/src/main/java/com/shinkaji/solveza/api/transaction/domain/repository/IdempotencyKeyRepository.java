@@ -0,0 +1,13 @@
+package com.shinkaji.solveza.api.transaction.domain.repository;
+
+import com.shinkaji.solveza.api.transaction.domain.model.IdempotencyRecord;
+import java.util.Optional;
+
+public interface IdempotencyKeyRepository {
+
+  boolean register(IdempotencyRecord record);
+
+  Optional<IdempotencyRecord> find(String key, String operation);
+
+  void complete(String key, String operation, String responseBody);
+}
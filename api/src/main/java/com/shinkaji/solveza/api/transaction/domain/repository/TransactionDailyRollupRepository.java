@@ -0,0 +1,18 @@
+package com.shinkaji.solveza.api.transaction.domain.repository;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.transaction.domain.model.DailyTransactionSummary;
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TransactionDailyRollupRepository {
+
+  List<DailyTransactionSummary> findByAccountId(AccountId accountId, LocalDate from, LocalDate to);
+
+  void apply(Transaction transaction);
+
+  void applyAll(List<Transaction> transactions);
+
+  void rebuildAll();
+}
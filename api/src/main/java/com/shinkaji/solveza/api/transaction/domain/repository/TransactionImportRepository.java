@@ -0,0 +1,17 @@
+package com.shinkaji.solveza.api.transaction.domain.repository;
+
+import java.io.InputStream;
+
+public interface TransactionImportRepository {
+
+  long stage(InputStream csv);
+
+  int discardInvalid();
+
+  int discardUnknownAccounts();
+
+  int mergeStaged();
+
+  // 派生データ（残高集計テーブル・日次集計テーブル・チェックポイント）に、取り込んだ取引の分を反映する
+  void refreshDerivedData();
+}
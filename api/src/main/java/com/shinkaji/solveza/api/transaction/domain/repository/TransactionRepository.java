@@ -1,19 +1,37 @@
 package com.shinkaji.solveza.api.transaction.domain.repository;
 
 import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.transaction.domain.model.AccountBalance;
 import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionCursor;
 import com.shinkaji.solveza.api.transaction.domain.model.TransactionId;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionPeriod;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TransactionRepository {
 
   void save(Transaction transaction);
 
+  void saveAll(List<Transaction> transactions);
+
   Optional<Transaction> findById(TransactionId transactionId);
 
   List<Transaction> findByAccountId(AccountId accountId);
 
+  void forEachByAccountId(
+      AccountId accountId, TransactionPeriod period, Consumer<Transaction> action);
+
+  List<Transaction> findPageByAccountId(
+      AccountId accountId, TransactionPeriod period, TransactionCursor cursor, int limit);
+
+  // 期間内で最新の取引の通貨の残高。異なる通貨の金額は合算しない
+  Optional<AccountBalance> aggregateBalance(AccountId accountId, TransactionPeriod period);
+
+  // 通貨ごとの残高。期間内で最新の取引が実行された通貨から順に返す
+  List<AccountBalance> aggregateBalances(AccountId accountId, TransactionPeriod period);
+
   void delete(TransactionId transactionId);
 
   boolean existsById(TransactionId transactionId);
@@ -2,8 +2,13 @@ package com.shinkaji.solveza.api.transaction.domain.service;
 
 import com.shinkaji.solveza.api.shared.domain.AccountId;
 import com.shinkaji.solveza.api.shared.domain.Money;
+import java.util.Currency;
+import java.util.Map;
 
 public interface AccountBalanceService {
 
   Money calculateBalance(AccountId accountId);
+
+  // 通貨ごとの残高（通貨コード順）。取引のないアカウントは空
+  Map<Currency, Money> calculateBalances(AccountId accountId);
 }
@@ -2,15 +2,21 @@ package com.shinkaji.solveza.api.transaction.domain.service;
 
 import com.shinkaji.solveza.api.shared.domain.AccountId;
 import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.shared.domain.MoneyAccumulator;
+import com.shinkaji.solveza.api.transaction.domain.model.AccountBalance;
 import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
 import com.shinkaji.solveza.api.transaction.domain.model.TransactionType;
 import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
 import java.math.BigDecimal;
 import java.util.Currency;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 @Service
+@ConditionalOnProperty(name = "solveza.balance.engine", havingValue = "ledger")
 public class AccountBalanceServiceImpl implements AccountBalanceService {
 
   private final TransactionRepository transactionRepository;
@@ -27,20 +33,33 @@ public class AccountBalanceServiceImpl implements AccountBalanceService {
       return new Money(BigDecimal.ZERO, Currency.getInstance("JPY"));
     }
 
-    BigDecimal balance = BigDecimal.ZERO;
+    // 他の残高エンジンと同様に最新取引の通貨の残高を返し、異なる通貨の金額は合算しない
     Currency currency = transactions.getFirst().getAmount().currency();
+    return new AccountBalance(accountId, sumByCurrency(transactions).amount(currency), currency)
+        .toMoney();
+  }
 
+  @Override
+  public Map<Currency, Money> calculateBalances(AccountId accountId) {
+    Map<Currency, Money> balances = new LinkedHashMap<>();
+    sumByCurrency(transactionRepository.findByAccountId(accountId))
+        .amounts()
+        .forEach(
+            (currency, amount) ->
+                balances.put(currency, new AccountBalance(accountId, amount, currency).toMoney()));
+    return balances;
+  }
+
+  // 取引を1回走査して通貨ごとの残高を求める
+  private MoneyAccumulator sumByCurrency(List<Transaction> transactions) {
+    MoneyAccumulator balances = new MoneyAccumulator();
     for (Transaction transaction : transactions) {
       if (transaction.getTransactionType() == TransactionType.DEPOSIT) {
-        balance = balance.add(transaction.getAmount().amount());
+        balances.add(transaction.getAmount());
       } else if (transaction.getTransactionType() == TransactionType.PAYMENT) {
-        balance = balance.subtract(transaction.getAmount().amount());
+        balances.subtract(transaction.getAmount());
       }
     }
-
-    // 残高が負の場合は0以上の制約を回避するため、絶対値を取って別途管理が必要
-    // ここでは一時的に0以上の制約を満たすため、最小値を0とする
-    BigDecimal finalBalance = balance.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : balance;
-    return new Money(finalBalance, currency);
+    return balances;
   }
 }
@@ -0,0 +1,43 @@
+package com.shinkaji.solveza.api.transaction.domain.service;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.transaction.domain.model.AccountBalance;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionPeriod;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(name = "solveza.balance.engine", havingValue = "sql")
+public class AggregatedAccountBalanceService implements AccountBalanceService {
+
+  private final TransactionRepository transactionRepository;
+
+  public AggregatedAccountBalanceService(TransactionRepository transactionRepository) {
+    this.transactionRepository = transactionRepository;
+  }
+
+  @Override
+  public Money calculateBalance(AccountId accountId) {
+    // 取引をドメインオブジェクトに復元せず、DB側で集計した1行のみを受け取る
+    return transactionRepository
+        .aggregateBalance(accountId, TransactionPeriod.unbounded())
+        .orElseGet(() -> AccountBalance.zero(accountId))
+        .toMoney();
+  }
+
+  @Override
+  public Map<Currency, Money> calculateBalances(AccountId accountId) {
+    // 通貨ごとの残高を GROUP BY の1クエリで受け取る
+    Map<Currency, Money> balances = new LinkedHashMap<>();
+    transactionRepository.aggregateBalances(accountId, TransactionPeriod.unbounded()).stream()
+        .sorted(Comparator.comparing(balance -> balance.currency().getCurrencyCode()))
+        .forEach(balance -> balances.put(balance.currency(), balance.toMoney()));
+    return balances;
+  }
+}
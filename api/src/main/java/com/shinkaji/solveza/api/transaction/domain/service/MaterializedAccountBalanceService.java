@@ -0,0 +1,45 @@
+package com.shinkaji.solveza.api.transaction.domain.service;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.transaction.domain.model.AccountBalance;
+import com.shinkaji.solveza.api.transaction.domain.repository.AccountBalanceRepository;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(
+    name = "solveza.balance.engine",
+    havingValue = "materialized",
+    matchIfMissing = true)
+public class MaterializedAccountBalanceService implements AccountBalanceService {
+
+  private final AccountBalanceRepository accountBalanceRepository;
+
+  public MaterializedAccountBalanceService(AccountBalanceRepository accountBalanceRepository) {
+    this.accountBalanceRepository = accountBalanceRepository;
+  }
+
+  @Override
+  public Money calculateBalance(AccountId accountId) {
+    // 取引記録時に更新される集計テーブルを主キーで参照し、最新取引の通貨の残高を返す
+    return accountBalanceRepository.findByAccountId(accountId).stream()
+        .findFirst()
+        .orElseGet(() -> AccountBalance.zero(accountId))
+        .toMoney();
+  }
+
+  @Override
+  public Map<Currency, Money> calculateBalances(AccountId accountId) {
+    // 集計テーブルの通貨ごとの行をそのまま返す
+    Map<Currency, Money> balances = new LinkedHashMap<>();
+    accountBalanceRepository.findByAccountId(accountId).stream()
+        .sorted(Comparator.comparing(balance -> balance.currency().getCurrencyCode()))
+        .forEach(balance -> balances.put(balance.currency(), balance.toMoney()));
+    return balances;
+  }
+}
@@ -0,0 +1,11 @@
+package com.shinkaji.solveza.api.transaction.domain.service;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import java.time.LocalDateTime;
+
+public interface PointInTimeBalanceService {
+
+  // asOf より前に実行された取引のみを反映した残高
+  Money calculateBalanceAsOf(AccountId accountId, LocalDateTime asOf);
+}
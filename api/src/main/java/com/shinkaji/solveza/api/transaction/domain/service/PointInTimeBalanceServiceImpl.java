@@ -0,0 +1,57 @@
+package com.shinkaji.solveza.api.transaction.domain.service;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.transaction.domain.model.AccountBalance;
+import com.shinkaji.solveza.api.transaction.domain.model.BalanceCheckpoint;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionPeriod;
+import com.shinkaji.solveza.api.transaction.domain.repository.BalanceCheckpointRepository;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PointInTimeBalanceServiceImpl implements PointInTimeBalanceService {
+
+  private final BalanceCheckpointRepository balanceCheckpointRepository;
+  private final TransactionRepository transactionRepository;
+
+  public PointInTimeBalanceServiceImpl(
+      BalanceCheckpointRepository balanceCheckpointRepository,
+      TransactionRepository transactionRepository) {
+    this.balanceCheckpointRepository = balanceCheckpointRepository;
+    this.transactionRepository = transactionRepository;
+  }
+
+  @Override
+  public Money calculateBalanceAsOf(AccountId accountId, LocalDateTime asOf) {
+    List<BalanceCheckpoint> checkpoints =
+        balanceCheckpointRepository.findLatestAtOrBefore(accountId, asOf);
+    if (checkpoints.isEmpty()) {
+      return transactionRepository
+          .aggregateBalance(accountId, new TransactionPeriod(null, asOf))
+          .orElseGet(() -> AccountBalance.zero(accountId))
+          .toMoney();
+    }
+
+    // チェックポイントの残高に通貨ごとの差分を加え、最新の取引の通貨の残高を返す。異なる通貨の金額は合算しない
+    // 差分の通貨はチェックポイントより後に取引されているため、チェックポイントの通貨より先に並べる
+    LocalDateTime checkpointAt = checkpoints.getFirst().checkpointAt();
+    Map<Currency, BigDecimal> balances = new LinkedHashMap<>();
+    if (checkpointAt.isBefore(asOf)) {
+      // チェックポイント以降の差分のみを集計する
+      transactionRepository
+          .aggregateBalances(accountId, new TransactionPeriod(checkpointAt, asOf))
+          .forEach(delta -> balances.put(delta.currency(), delta.amount()));
+    }
+    checkpoints.forEach(base -> balances.merge(base.currency(), base.balance(), BigDecimal::add));
+
+    Map.Entry<Currency, BigDecimal> latest = balances.entrySet().iterator().next();
+    return new AccountBalance(accountId, latest.getValue(), latest.getKey()).toMoney();
+  }
+}
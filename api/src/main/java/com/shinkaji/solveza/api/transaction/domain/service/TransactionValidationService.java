@@ -3,11 +3,15 @@ package com.shinkaji.solveza.api.transaction.domain.service;
 import com.shinkaji.solveza.api.shared.domain.AccountId;
 import com.shinkaji.solveza.api.shared.domain.Money;
 import com.shinkaji.solveza.api.transaction.domain.model.TransactionType;
+import java.util.Collection;
+import java.util.Set;
 
 public interface TransactionValidationService {
 
   void validateAccountExists(AccountId accountId);
 
+  Set<AccountId> findExistingAccounts(Collection<AccountId> accountIds);
+
   void validateTransactionAmount(Money amount);
 
   void validateTransactionType(TransactionType type);
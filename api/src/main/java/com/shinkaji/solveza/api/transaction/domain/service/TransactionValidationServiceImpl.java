@@ -7,6 +7,8 @@ import com.shinkaji.solveza.api.shared.domain.exception.AccountNotFoundException
 import com.shinkaji.solveza.api.shared.domain.exception.InvalidTransactionException;
 import com.shinkaji.solveza.api.transaction.domain.model.TransactionType;
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Set;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -25,6 +27,12 @@ public class TransactionValidationServiceImpl implements TransactionValidationSe
     }
   }
 
+  @Override
+  public Set<AccountId> findExistingAccounts(Collection<AccountId> accountIds) {
+    // 一括登録向けに存在確認を1クエリで行う
+    return accountRepository.findExistingIds(accountIds);
+  }
+
   @Override
   public void validateTransactionAmount(Money amount) {
     if (amount == null) {
@@ -0,0 +1,26 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.mapper;
+
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.dto.AccountBalanceDto;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface AccountBalanceMapper {
+
+  List<AccountBalanceDto> findByAccountId(@Param("accountId") UUID accountId);
+
+  void addDelta(
+      @Param("accountId") UUID accountId,
+      @Param("delta") BigDecimal delta,
+      @Param("currency") String currency,
+      @Param("executedAt") LocalDateTime executedAt,
+      @Param("updatedAt") LocalDateTime updatedAt);
+
+  int deleteAll();
+
+  int insertFromTransactions();
+}
@@ -0,0 +1,24 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.mapper;
+
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.dto.BalanceCheckpointDto;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface BalanceCheckpointMapper {
+
+  List<BalanceCheckpointDto> findLatestAtOrBefore(
+      @Param("accountId") UUID accountId, @Param("asOf") LocalDateTime asOf);
+
+  Optional<LocalDateTime> findLatestCheckpointAt();
+
+  Optional<LocalDateTime> findEarliestExecutedAt();
+
+  int insertCheckpoints(@Param("checkpointAt") LocalDateTime checkpointAt);
+
+  int deleteAll();
+}
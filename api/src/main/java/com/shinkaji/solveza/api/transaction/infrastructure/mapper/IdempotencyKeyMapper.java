@@ -0,0 +1,23 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.mapper;
+
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.dto.IdempotencyKeyDto;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface IdempotencyKeyMapper {
+
+  Optional<IdempotencyKeyDto> findByKey(
+      @Param("idempotencyKey") String idempotencyKey, @Param("operation") String operation);
+
+  int insertIfAbsent(@Param("key") IdempotencyKeyDto key);
+
+  void updateResponse(
+      @Param("idempotencyKey") String idempotencyKey,
+      @Param("operation") String operation,
+      @Param("responseBody") String responseBody);
+
+  int deleteCreatedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,30 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.mapper;
+
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.dto.TransactionDailyRollupDto;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface TransactionDailyRollupMapper {
+
+  List<TransactionDailyRollupDto> findByAccountId(
+      @Param("accountId") UUID accountId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+  void addDelta(
+      @Param("accountId") UUID accountId,
+      @Param("businessDate") LocalDate businessDate,
+      @Param("currency") String currency,
+      @Param("depositTotal") BigDecimal depositTotal,
+      @Param("paymentTotal") BigDecimal paymentTotal,
+      @Param("transactionCount") long transactionCount,
+      @Param("updatedAt") LocalDateTime updatedAt);
+
+  int deleteAll();
+
+  int insertFromTransactions();
+}
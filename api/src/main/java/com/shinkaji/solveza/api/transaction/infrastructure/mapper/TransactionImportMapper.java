@@ -0,0 +1,37 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.mapper;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface TransactionImportMapper {
+
+  void createStagingTable();
+
+  void createMergedTable();
+
+  void truncateStagingTable();
+
+  void truncateMergedTable();
+
+  void analyzeStagingTable();
+
+  int deleteInvalidStaged(@Param("currencies") Collection<String> currencies);
+
+  int deleteUnknownAccountStaged();
+
+  int ensureStagedPartitions();
+
+  int mergeStaged();
+
+  int addMergedAccountBalances();
+
+  int addMergedDailyRollups();
+
+  List<LocalDateTime> findMergedCheckpointBoundaries();
+
+  int refreshMergedCheckpoints(@Param("checkpointAt") LocalDateTime checkpointAt);
+}
@@ -1,21 +1,50 @@
 package com.shinkaji.solveza.api.transaction.infrastructure.mapper;
 
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.dto.AccountBalanceDto;
 import com.shinkaji.solveza.api.transaction.infrastructure.mapper.dto.TransactionDto;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 @Mapper
 public interface TransactionMapper {
 
-  Optional<TransactionDto> findById(@Param("id") String id);
+  Optional<TransactionDto> findById(@Param("id") UUID id);
 
-  List<TransactionDto> findByAccountId(@Param("accountId") String accountId);
+  List<TransactionDto> findByAccountId(@Param("accountId") UUID accountId);
+
+  Cursor<TransactionDto> streamByAccountId(
+      @Param("accountId") UUID accountId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  List<TransactionDto> findPageByAccountId(
+      @Param("accountId") UUID accountId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to,
+      @Param("cursorExecutedAt") LocalDateTime cursorExecutedAt,
+      @Param("cursorId") UUID cursorId,
+      @Param("limit") int limit);
+
+  List<AccountBalanceDto> sumBalanceByAccountId(
+      @Param("accountId") UUID accountId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  int ensurePartitions(
+      @Param("rangeStart") LocalDate rangeStart, @Param("rangeEnd") LocalDate rangeEnd);
+
+  void registerIds(@Param("ids") Collection<UUID> ids);
 
   void insert(@Param("transaction") TransactionDto transaction);
 
-  void delete(@Param("id") String id);
+  void delete(@Param("id") UUID id);
 
-  boolean existsById(@Param("id") String id);
+  boolean existsById(@Param("id") UUID id);
 }
@@ -0,0 +1,8 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.mapper.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AccountBalanceDto(
+    UUID accountId, BigDecimal balance, String currency, LocalDateTime updatedAt) {}
@@ -0,0 +1,10 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.mapper.dto;
+
+import java.time.LocalDateTime;
+
+public record IdempotencyKeyDto(
+    String idempotencyKey,
+    String operation,
+    String requestHash,
+    String responseBody,
+    LocalDateTime createdAt) {}
@@ -0,0 +1,13 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.mapper.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record TransactionDailyRollupDto(
+    UUID accountId,
+    LocalDate businessDate,
+    String currency,
+    BigDecimal depositTotal,
+    BigDecimal paymentTotal,
+    long transactionCount) {}
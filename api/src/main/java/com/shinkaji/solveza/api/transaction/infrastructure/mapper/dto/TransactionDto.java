@@ -2,10 +2,11 @@ package com.shinkaji.solveza.api.transaction.infrastructure.mapper.dto;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public record TransactionDto(
-    String id,
-    String accountId,
+    UUID id,
+    UUID accountId,
     String transactionType,
     BigDecimal amount,
     String currency,
@@ -0,0 +1,90 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.repository;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.transaction.domain.model.AccountBalance;
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.repository.AccountBalanceRepository;
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.AccountBalanceMapper;
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.dto.AccountBalanceDto;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class AccountBalanceRepositoryImpl implements AccountBalanceRepository {
+
+  private final AccountBalanceMapper accountBalanceMapper;
+
+  public AccountBalanceRepositoryImpl(AccountBalanceMapper accountBalanceMapper) {
+    this.accountBalanceMapper = accountBalanceMapper;
+  }
+
+  @Override
+  public List<AccountBalance> findByAccountId(AccountId accountId) {
+    return accountBalanceMapper.findByAccountId(accountId.value()).stream()
+        .map(this::toDomain)
+        .toList();
+  }
+
+  @Override
+  public void apply(Transaction transaction) {
+    BigDecimal amount = transaction.getAmount().amount();
+    BigDecimal delta = transaction.isPayment() ? amount.negate() : amount;
+
+    accountBalanceMapper.addDelta(
+        transaction.getAccountId().value(),
+        delta,
+        transaction.getAmount().currency().getCurrencyCode(),
+        transaction.getExecutedAt(),
+        LocalDateTime.now());
+  }
+
+  @Override
+  public void applyAll(List<Transaction> transactions) {
+    // アカウント・通貨ごとに差分を合算して1回ずつ更新する。
+    // 並行する一括登録同士でデッドロックしないよう、アカウントID・通貨の順に行ロックを取る
+    Map<UUID, Map<String, Delta>> deltas = new TreeMap<>();
+    for (Transaction transaction : transactions) {
+      BigDecimal amount = transaction.getAmount().amount();
+      Delta delta =
+          new Delta(
+              transaction.isPayment() ? amount.negate() : amount, transaction.getExecutedAt());
+      deltas
+          .computeIfAbsent(transaction.getAccountId().value(), accountId -> new TreeMap<>())
+          .merge(transaction.getAmount().currency().getCurrencyCode(), delta, Delta::merge);
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    deltas.forEach(
+        (accountId, byCurrency) ->
+            byCurrency.forEach(
+                (currency, delta) ->
+                    accountBalanceMapper.addDelta(
+                        accountId, delta.amount(), currency, delta.lastExecutedAt(), now)));
+  }
+
+  @Override
+  public void rebuildAll() {
+    accountBalanceMapper.deleteAll();
+    accountBalanceMapper.insertFromTransactions();
+  }
+
+  private AccountBalance toDomain(AccountBalanceDto dto) {
+    return new AccountBalance(
+        new AccountId(dto.accountId()), dto.balance(), Currency.getInstance(dto.currency()));
+  }
+
+  private record Delta(BigDecimal amount, LocalDateTime lastExecutedAt) {
+
+    Delta merge(Delta other) {
+      return new Delta(
+          amount.add(other.amount),
+          lastExecutedAt.isAfter(other.lastExecutedAt) ? lastExecutedAt : other.lastExecutedAt);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.repository;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.transaction.domain.model.BalanceCheckpoint;
+import com.shinkaji.solveza.api.transaction.domain.repository.BalanceCheckpointRepository;
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.BalanceCheckpointMapper;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class BalanceCheckpointRepositoryImpl implements BalanceCheckpointRepository {
+
+  private final BalanceCheckpointMapper balanceCheckpointMapper;
+
+  public BalanceCheckpointRepositoryImpl(BalanceCheckpointMapper balanceCheckpointMapper) {
+    this.balanceCheckpointMapper = balanceCheckpointMapper;
+  }
+
+  @Override
+  public List<BalanceCheckpoint> findLatestAtOrBefore(AccountId accountId, LocalDateTime asOf) {
+    return balanceCheckpointMapper.findLatestAtOrBefore(accountId.value(), asOf).stream()
+        .map(
+            dto ->
+                new BalanceCheckpoint(
+                    accountId,
+                    dto.checkpointAt(),
+                    dto.balance(),
+                    Currency.getInstance(dto.currency())))
+        .toList();
+  }
+
+  @Override
+  public void deleteAll() {
+    balanceCheckpointMapper.deleteAll();
+  }
+}
@@ -0,0 +1,42 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.repository;
+
+import com.shinkaji.solveza.api.transaction.domain.model.IdempotencyRecord;
+import com.shinkaji.solveza.api.transaction.domain.repository.IdempotencyKeyRepository;
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.IdempotencyKeyMapper;
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.dto.IdempotencyKeyDto;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class IdempotencyKeyRepositoryImpl implements IdempotencyKeyRepository {
+
+  private final IdempotencyKeyMapper idempotencyKeyMapper;
+
+  public IdempotencyKeyRepositoryImpl(IdempotencyKeyMapper idempotencyKeyMapper) {
+    this.idempotencyKeyMapper = idempotencyKeyMapper;
+  }
+
+  @Override
+  public boolean register(IdempotencyRecord record) {
+    IdempotencyKeyDto dto =
+        new IdempotencyKeyDto(
+            record.key(), record.operation(), record.requestHash(), null, LocalDateTime.now());
+    return idempotencyKeyMapper.insertIfAbsent(dto) > 0;
+  }
+
+  @Override
+  public Optional<IdempotencyRecord> find(String key, String operation) {
+    return idempotencyKeyMapper
+        .findByKey(key, operation)
+        .map(
+            dto ->
+                new IdempotencyRecord(
+                    dto.idempotencyKey(), dto.operation(), dto.requestHash(), dto.responseBody()));
+  }
+
+  @Override
+  public void complete(String key, String operation, String responseBody) {
+    idempotencyKeyMapper.updateResponse(key, operation, responseBody);
+  }
+}
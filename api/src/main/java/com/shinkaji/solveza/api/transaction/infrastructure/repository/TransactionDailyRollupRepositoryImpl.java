@@ -0,0 +1,133 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.repository;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.MoneyAccumulator;
+import com.shinkaji.solveza.api.transaction.domain.model.DailyTransactionSummary;
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionDailyRollupRepository;
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.TransactionDailyRollupMapper;
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.dto.TransactionDailyRollupDto;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class TransactionDailyRollupRepositoryImpl implements TransactionDailyRollupRepository {
+
+  private static final Comparator<RollupKey> LOCK_ORDER =
+      Comparator.comparing(RollupKey::accountId)
+          .thenComparing(RollupKey::businessDate)
+          .thenComparing(RollupKey::currency);
+
+  private final TransactionDailyRollupMapper transactionDailyRollupMapper;
+
+  public TransactionDailyRollupRepositoryImpl(
+      TransactionDailyRollupMapper transactionDailyRollupMapper) {
+    this.transactionDailyRollupMapper = transactionDailyRollupMapper;
+  }
+
+  @Override
+  public List<DailyTransactionSummary> findByAccountId(
+      AccountId accountId, LocalDate from, LocalDate to) {
+    return transactionDailyRollupMapper.findByAccountId(accountId.value(), from, to).stream()
+        .map(this::toDomain)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public void apply(Transaction transaction) {
+    RollupDelta delta = new RollupDelta();
+    delta.add(transaction);
+    RollupKey key = RollupKey.of(transaction);
+    transactionDailyRollupMapper.addDelta(
+        key.accountId(),
+        key.businessDate(),
+        key.currency(),
+        delta.depositTotal(),
+        delta.paymentTotal(),
+        delta.transactionCount,
+        LocalDateTime.now());
+  }
+
+  @Override
+  public void applyAll(List<Transaction> transactions) {
+    // アカウント・日付・通貨ごとに合算して1回ずつ更新する。
+    // 並行する一括登録同士でデッドロックしないよう、キーの順に行ロックを取る
+    Map<RollupKey, RollupDelta> deltas = new TreeMap<>(LOCK_ORDER);
+    for (Transaction transaction : transactions) {
+      deltas.computeIfAbsent(RollupKey.of(transaction), key -> new RollupDelta()).add(transaction);
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    deltas.forEach(
+        (key, delta) ->
+            transactionDailyRollupMapper.addDelta(
+                key.accountId(),
+                key.businessDate(),
+                key.currency(),
+                delta.depositTotal(),
+                delta.paymentTotal(),
+                delta.transactionCount,
+                now));
+  }
+
+  @Override
+  public void rebuildAll() {
+    transactionDailyRollupMapper.deleteAll();
+    transactionDailyRollupMapper.insertFromTransactions();
+  }
+
+  private DailyTransactionSummary toDomain(TransactionDailyRollupDto dto) {
+    return new DailyTransactionSummary(
+        new AccountId(dto.accountId()),
+        dto.businessDate(),
+        Currency.getInstance(dto.currency()),
+        dto.depositTotal(),
+        dto.paymentTotal(),
+        dto.transactionCount());
+  }
+
+  private record RollupKey(UUID accountId, LocalDate businessDate, String currency) {
+
+    static RollupKey of(Transaction transaction) {
+      return new RollupKey(
+          transaction.getAccountId().value(),
+          transaction.getExecutedAt().toLocalDate(),
+          transaction.getAmount().currency().getCurrencyCode());
+    }
+  }
+
+  private static final class RollupDelta {
+
+    // 合算中は最小単位の long で保持し、マッパーに渡す時点で BigDecimal に戻す
+    private long depositMinorUnits;
+    private long paymentMinorUnits;
+    private long transactionCount;
+
+    void add(Transaction transaction) {
+      long amount = MoneyAccumulator.toMinorUnits(transaction.getAmount().amount());
+      if (transaction.isPayment()) {
+        paymentMinorUnits = Math.addExact(paymentMinorUnits, amount);
+      } else {
+        depositMinorUnits = Math.addExact(depositMinorUnits, amount);
+      }
+      transactionCount++;
+    }
+
+    BigDecimal depositTotal() {
+      return MoneyAccumulator.toAmount(depositMinorUnits);
+    }
+
+    BigDecimal paymentTotal() {
+      return MoneyAccumulator.toAmount(paymentMinorUnits);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.repository;
+
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionImportRepository;
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.TransactionImportMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class TransactionImportRepositoryImpl implements TransactionImportRepository {
+
+  private static final String COPY_SQL =
+      "COPY transactions_import_staging"
+          + " (id, account_id, transaction_type, amount, currency, description, executed_at)"
+          + " FROM STDIN WITH (FORMAT csv, HEADER true)";
+
+  // 取り込み後に Currency.getInstance で復元できる通貨コード
+  private static final List<String> SUPPORTED_CURRENCIES =
+      Currency.getAvailableCurrencies().stream().map(Currency::getCurrencyCode).sorted().toList();
+
+  private final TransactionImportMapper transactionImportMapper;
+  private final DataSource dataSource;
+
+  public TransactionImportRepositoryImpl(
+      TransactionImportMapper transactionImportMapper, DataSource dataSource) {
+    this.transactionImportMapper = transactionImportMapper;
+    this.dataSource = dataSource;
+  }
+
+  @Override
+  public long stage(InputStream csv) {
+    transactionImportMapper.createStagingTable();
+    transactionImportMapper.truncateStagingTable();
+
+    // MyBatis と同じトランザクション内のコネクションで COPY を実行する
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      long rows = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, csv);
+      transactionImportMapper.analyzeStagingTable();
+      return rows;
+    } catch (SQLException e) {
+      // 22xxx（データ例外）・23xxx（制約違反）は入力CSVの不備として扱う
+      String sqlState = e.getSQLState();
+      if (sqlState != null && (sqlState.startsWith("22") || sqlState.startsWith("23"))) {
+        throw new IllegalArgumentException("CSVの取り込みに失敗しました: " + e.getMessage(), e);
+      }
+      throw new IllegalStateException("CSVの取り込みに失敗しました", e);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  @Override
+  public int discardInvalid() {
+    return transactionImportMapper.deleteInvalidStaged(SUPPORTED_CURRENCIES);
+  }
+
+  @Override
+  public int discardUnknownAccounts() {
+    return transactionImportMapper.deleteUnknownAccountStaged();
+  }
+
+  @Override
+  public int mergeStaged() {
+    transactionImportMapper.ensureStagedPartitions();
+    transactionImportMapper.createMergedTable();
+    transactionImportMapper.truncateMergedTable();
+    return transactionImportMapper.mergeStaged();
+  }
+
+  @Override
+  public void refreshDerivedData() {
+    transactionImportMapper.addMergedAccountBalances();
+    transactionImportMapper.addMergedDailyRollups();
+    // 各時点は直前のチェックポイントを起点にするため、古い時点から順に作り直す
+    for (LocalDateTime boundary : transactionImportMapper.findMergedCheckpointBoundaries()) {
+      transactionImportMapper.refreshMergedCheckpoints(boundary);
+    }
+  }
+}
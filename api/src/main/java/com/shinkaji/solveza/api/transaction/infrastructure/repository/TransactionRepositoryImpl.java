@@ -2,59 +2,146 @@ package com.shinkaji.solveza.api.transaction.infrastructure.repository;
 
 import com.shinkaji.solveza.api.shared.domain.AccountId;
 import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.transaction.domain.model.AccountBalance;
 import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionCursor;
 import com.shinkaji.solveza.api.transaction.domain.model.TransactionId;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionPeriod;
 import com.shinkaji.solveza.api.transaction.domain.model.TransactionType;
 import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
 import com.shinkaji.solveza.api.transaction.infrastructure.mapper.TransactionMapper;
 import com.shinkaji.solveza.api.transaction.infrastructure.mapper.dto.TransactionDto;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class TransactionRepositoryImpl implements TransactionRepository {
 
+  // registerIds の1文あたりのID数。バインド変数の上限（32767）を超えないように分割する
+  static final int REGISTER_IDS_CHUNK_SIZE = 1000;
+
   private final TransactionMapper transactionMapper;
+  private final SqlSessionFactory sqlSessionFactory;
 
-  public TransactionRepositoryImpl(TransactionMapper transactionMapper) {
+  public TransactionRepositoryImpl(
+      TransactionMapper transactionMapper, SqlSessionFactory sqlSessionFactory) {
     this.transactionMapper = transactionMapper;
+    this.sqlSessionFactory = sqlSessionFactory;
   }
 
   @Override
   public void save(Transaction transaction) {
     TransactionDto transactionDto = toDto(transaction);
+    transactionMapper.registerIds(List.of(transactionDto.id()));
     transactionMapper.insert(transactionDto);
   }
 
+  @Override
+  public void saveAll(List<Transaction> transactions) {
+    if (transactions.isEmpty()) {
+      return;
+    }
+    // 取引IDは複数行の INSERT でまとめて登録する。重複があればここで一意制約違反になる
+    List<UUID> ids = transactions.stream().map(Transaction::getId).toList();
+    for (int from = 0; from < ids.size(); from += REGISTER_IDS_CHUNK_SIZE) {
+      transactionMapper.registerIds(
+          ids.subList(from, Math.min(from + REGISTER_IDS_CHUNK_SIZE, ids.size())));
+    }
+    // 取引本体は BATCH エグゼキュータで JDBC バッチとして送信する。
+    // コネクションは Spring のトランザクションに参加するため、コミットは呼び出し側に委ねる
+    try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+      TransactionMapper batchMapper = session.getMapper(TransactionMapper.class);
+      for (Transaction transaction : transactions) {
+        batchMapper.insert(toDto(transaction));
+      }
+      session.flushStatements();
+    }
+  }
+
   @Override
   public Optional<Transaction> findById(TransactionId transactionId) {
-    return transactionMapper.findById(transactionId.value().toString()).map(this::toDomain);
+    return transactionMapper.findById(transactionId.value()).map(this::toDomain);
   }
 
   @Override
   public List<Transaction> findByAccountId(AccountId accountId) {
-    return transactionMapper.findByAccountId(accountId.value().toString()).stream()
+    return transactionMapper.findByAccountId(accountId.value()).stream()
         .map(this::toDomain)
         .collect(Collectors.toList());
   }
 
+  @Override
+  public void forEachByAccountId(
+      AccountId accountId, TransactionPeriod period, Consumer<Transaction> action) {
+    // 全件をリストに載せず、1行ずつドメインに変換して渡す
+    try (Cursor<TransactionDto> cursor =
+        transactionMapper.streamByAccountId(accountId.value(), period.from(), period.to())) {
+      for (TransactionDto dto : cursor) {
+        action.accept(toDomain(dto));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public List<Transaction> findPageByAccountId(
+      AccountId accountId, TransactionPeriod period, TransactionCursor cursor, int limit) {
+    return transactionMapper
+        .findPageByAccountId(
+            accountId.value(),
+            period.from(),
+            period.to(),
+            cursor != null ? cursor.executedAt() : null,
+            cursor != null ? cursor.id() : null,
+            limit)
+        .stream()
+        .map(this::toDomain)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public Optional<AccountBalance> aggregateBalance(AccountId accountId, TransactionPeriod period) {
+    // 通貨ごとの集計のうち、期間内で最新の取引の通貨の行を返す
+    return aggregateBalances(accountId, period).stream().findFirst();
+  }
+
+  @Override
+  public List<AccountBalance> aggregateBalances(AccountId accountId, TransactionPeriod period) {
+    return transactionMapper
+        .sumBalanceByAccountId(accountId.value(), period.from(), period.to())
+        .stream()
+        .map(
+            dto ->
+                new AccountBalance(accountId, dto.balance(), Currency.getInstance(dto.currency())))
+        .collect(Collectors.toList());
+  }
+
   @Override
   public void delete(TransactionId transactionId) {
-    transactionMapper.delete(transactionId.value().toString());
+    transactionMapper.delete(transactionId.value());
   }
 
   @Override
   public boolean existsById(TransactionId transactionId) {
-    return transactionMapper.existsById(transactionId.value().toString());
+    return transactionMapper.existsById(transactionId.value());
   }
 
   private Transaction toDomain(TransactionDto dto) {
     return Transaction.reconstruct(
-        java.util.UUID.fromString(dto.id()),
-        new AccountId(java.util.UUID.fromString(dto.accountId())),
+        dto.id(),
+        new AccountId(dto.accountId()),
         TransactionType.valueOf(dto.transactionType()),
         new Money(dto.amount(), Currency.getInstance(dto.currency())),
         dto.description(),
@@ -65,8 +152,8 @@ public class TransactionRepositoryImpl implements TransactionRepository {
 
   private TransactionDto toDto(Transaction transaction) {
     return new TransactionDto(
-        transaction.getId().toString(),
-        transaction.getAccountId().value().toString(),
+        transaction.getId(),
+        transaction.getAccountId().value(),
         transaction.getTransactionType().name(),
         transaction.getAmount().amount(),
         transaction.getAmount().currency().getCurrencyCode(),
@@ -0,0 +1,65 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.scheduler;
+
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.BalanceCheckpointMapper;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(
+    name = "solveza.balance.checkpoint.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class BalanceCheckpointScheduler {
+
+  private static final Logger log = LoggerFactory.getLogger(BalanceCheckpointScheduler.class);
+
+  private final BalanceCheckpointMapper balanceCheckpointMapper;
+
+  public BalanceCheckpointScheduler(BalanceCheckpointMapper balanceCheckpointMapper) {
+    this.balanceCheckpointMapper = balanceCheckpointMapper;
+  }
+
+  // 月初時点の残高チェックポイントを、未作成の月について古い順に作成する
+  // 各月は前月のチェックポイントに1か月分の差分を加えて求めるため、走査は月次パーティション1つ分で済む
+  @Scheduled(cron = "${solveza.balance.checkpoint.cron:0 30 3 * * *}")
+  public void createCheckpoints() {
+    try {
+      int created = createCheckpoints(LocalDate.now().withDayOfMonth(1).atStartOfDay());
+      if (created > 0) {
+        log.info("残高チェックポイントを作成しました: created={}", created);
+      }
+    } catch (RuntimeException e) {
+      // チェックポイントが無くても時点指定の残高照会は取引の集計で応答できる
+      log.error("残高チェックポイントの作成に失敗しました", e);
+    }
+  }
+
+  int createCheckpoints(LocalDateTime latestBoundary) {
+    Optional<LocalDateTime> next =
+        balanceCheckpointMapper
+            .findLatestCheckpointAt()
+            .or(
+                () ->
+                    balanceCheckpointMapper
+                        .findEarliestExecutedAt()
+                        .map(earliest -> earliest.toLocalDate().withDayOfMonth(1).atStartOfDay()))
+            .map(boundary -> boundary.plusMonths(1));
+    if (next.isEmpty()) {
+      return 0;
+    }
+
+    int created = 0;
+    for (LocalDateTime boundary = next.get();
+        !boundary.isAfter(latestBoundary);
+        boundary = boundary.plusMonths(1)) {
+      created += balanceCheckpointMapper.insertCheckpoints(boundary);
+    }
+    return created;
+  }
+}
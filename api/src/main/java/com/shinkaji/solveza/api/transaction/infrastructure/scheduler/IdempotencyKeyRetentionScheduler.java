@@ -0,0 +1,59 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.scheduler;
+
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.IdempotencyKeyMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(
+    name = "solveza.idempotency.retention.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class IdempotencyKeyRetentionScheduler {
+
+  private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyRetentionScheduler.class);
+
+  private final IdempotencyKeyMapper idempotencyKeyMapper;
+  private final Duration ttl;
+  private final int batchSize;
+
+  public IdempotencyKeyRetentionScheduler(
+      IdempotencyKeyMapper idempotencyKeyMapper,
+      @Value("${solveza.idempotency.retention.ttl:7d}") Duration ttl,
+      @Value("${solveza.idempotency.retention.batch-size:10000}") int batchSize) {
+    this.idempotencyKeyMapper = idempotencyKeyMapper;
+    this.ttl = ttl;
+    this.batchSize = batchSize;
+  }
+
+  // 作成から ttl を過ぎた冪等キーを削除する
+  @Scheduled(cron = "${solveza.idempotency.retention.cron:0 0 4 * * *}")
+  public void deleteExpiredKeys() {
+    try {
+      int deleted = deleteExpiredKeys(LocalDateTime.now().minus(ttl));
+      if (deleted > 0) {
+        log.info("保持期間を過ぎた冪等キーを削除しました: deleted={}", deleted);
+      }
+    } catch (RuntimeException e) {
+      // 残っていても再送の判定が長く効くだけで、次回の実行で削除される
+      log.error("冪等キーの削除に失敗しました", e);
+    }
+  }
+
+  // batch-size 件ずつ削除し、1文あたりのロックと WAL を抑える
+  int deleteExpiredKeys(LocalDateTime before) {
+    int total = 0;
+    int deleted;
+    do {
+      deleted = idempotencyKeyMapper.deleteCreatedBefore(before, batchSize);
+      total += deleted;
+    } while (deleted == batchSize);
+    return total;
+  }
+}
@@ -0,0 +1,48 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.scheduler;
+
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.TransactionMapper;
+import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(
+    name = "solveza.transaction.partition.maintenance-enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class TransactionPartitionScheduler {
+
+  private static final Logger log = LoggerFactory.getLogger(TransactionPartitionScheduler.class);
+
+  private final TransactionMapper transactionMapper;
+  private final int monthsAhead;
+
+  public TransactionPartitionScheduler(
+      TransactionMapper transactionMapper,
+      @Value("${solveza.transaction.partition.months-ahead:3}") int monthsAhead) {
+    this.transactionMapper = transactionMapper;
+    this.monthsAhead = monthsAhead;
+  }
+
+  // 起動時と定期実行で、当月から months-ahead か月先までの月次パーティションを用意しておく
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "${solveza.transaction.partition.cron:0 0 3 * * *}")
+  public void ensurePartitions() {
+    LocalDate today = LocalDate.now();
+    try {
+      int created = transactionMapper.ensurePartitions(today, today.plusMonths(monthsAhead));
+      if (created > 0) {
+        log.info("取引テーブルの月次パーティションを作成しました: created={}", created);
+      }
+    } catch (RuntimeException e) {
+      // 作成できなくても行はデフォルトパーティションに入るため、起動は継続する
+      log.error("取引テーブルの月次パーティション作成に失敗しました", e);
+    }
+  }
+}
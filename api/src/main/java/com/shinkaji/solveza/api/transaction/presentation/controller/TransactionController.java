@@ -2,22 +2,32 @@ package com.shinkaji.solveza.api.transaction.presentation.controller;
 
 import com.shinkaji.solveza.api.transaction.application.command.RecordDepositCommand;
 import com.shinkaji.solveza.api.transaction.application.command.RecordPaymentCommand;
+import com.shinkaji.solveza.api.transaction.application.command.RecordTransactionBatchCommand;
 import com.shinkaji.solveza.api.transaction.application.query.GetAccountBalanceQuery;
+import com.shinkaji.solveza.api.transaction.application.query.GetAccountBalancesQuery;
 import com.shinkaji.solveza.api.transaction.application.query.GetTransactionHistoryQuery;
+import com.shinkaji.solveza.api.transaction.application.service.IdempotencyService;
 import com.shinkaji.solveza.api.transaction.application.usecase.GetAccountBalanceUseCase;
+import com.shinkaji.solveza.api.transaction.application.usecase.GetAccountBalancesUseCase;
 import com.shinkaji.solveza.api.transaction.application.usecase.GetTransactionHistoryUseCase;
 import com.shinkaji.solveza.api.transaction.application.usecase.RecordDepositUseCase;
 import com.shinkaji.solveza.api.transaction.application.usecase.RecordPaymentUseCase;
+import com.shinkaji.solveza.api.transaction.application.usecase.RecordTransactionBatchUseCase;
 import com.shinkaji.solveza.api.transaction.presentation.dto.BalanceDto;
+import com.shinkaji.solveza.api.transaction.presentation.dto.BatchResultDto;
+import com.shinkaji.solveza.api.transaction.presentation.dto.MultiCurrencyBalanceDto;
 import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionDto;
+import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionHistoryPageDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import java.util.List;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
 import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,20 +37,33 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Transaction Management", description = "取引管理API")
 public class TransactionController {
 
+  private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+  // idempotency_keys.idempotency_key の列長。超える場合はDBに触れる前に400で拒否する
+  private static final int IDEMPOTENCY_KEY_MAX_LENGTH = 255;
+
   private final RecordDepositUseCase recordDepositUseCase;
   private final RecordPaymentUseCase recordPaymentUseCase;
+  private final RecordTransactionBatchUseCase recordTransactionBatchUseCase;
   private final GetTransactionHistoryUseCase getTransactionHistoryUseCase;
   private final GetAccountBalanceUseCase getAccountBalanceUseCase;
+  private final GetAccountBalancesUseCase getAccountBalancesUseCase;
+  private final IdempotencyService idempotencyService;
 
   public TransactionController(
       RecordDepositUseCase recordDepositUseCase,
       RecordPaymentUseCase recordPaymentUseCase,
+      RecordTransactionBatchUseCase recordTransactionBatchUseCase,
       GetTransactionHistoryUseCase getTransactionHistoryUseCase,
-      GetAccountBalanceUseCase getAccountBalanceUseCase) {
+      GetAccountBalanceUseCase getAccountBalanceUseCase,
+      GetAccountBalancesUseCase getAccountBalancesUseCase,
+      IdempotencyService idempotencyService) {
     this.recordDepositUseCase = recordDepositUseCase;
     this.recordPaymentUseCase = recordPaymentUseCase;
+    this.recordTransactionBatchUseCase = recordTransactionBatchUseCase;
     this.getTransactionHistoryUseCase = getTransactionHistoryUseCase;
     this.getAccountBalanceUseCase = getAccountBalanceUseCase;
+    this.getAccountBalancesUseCase = getAccountBalancesUseCase;
+    this.idempotencyService = idempotencyService;
   }
 
   @PostMapping("/deposits")
@@ -49,11 +72,23 @@ public class TransactionController {
       value = {
         @ApiResponse(responseCode = "201", description = "預かり取引が正常に記録されました"),
         @ApiResponse(responseCode = "400", description = "リクエストが無効です"),
-        @ApiResponse(responseCode = "404", description = "アカウントが見つかりません")
+        @ApiResponse(responseCode = "404", description = "アカウントが見つかりません"),
+        @ApiResponse(responseCode = "409", description = "冪等キーが別のリクエストで使用されています"),
+        @ApiResponse(responseCode = "503", description = "書き込みを一時的に受け付けられません（Retry-After 後に再送）")
       })
   public ResponseEntity<TransactionDto> recordDeposit(
-      @Valid @RequestBody RecordDepositCommand command) {
-    TransactionDto transaction = recordDepositUseCase.execute(command);
+      @Valid @RequestBody RecordDepositCommand command,
+      @Parameter(description = "再送時の重複登録を防ぐ冪等キー")
+          @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+          @Size(max = IDEMPOTENCY_KEY_MAX_LENGTH, message = "冪等キーは255文字以下である必要があります")
+          String idempotencyKey) {
+    TransactionDto transaction =
+        idempotencyService.execute(
+            idempotencyKey,
+            "DEPOSIT",
+            command,
+            TransactionDto.class,
+            () -> recordDepositUseCase.execute(command));
     return ResponseEntity.status(HttpStatus.CREATED).body(transaction);
   }
 
@@ -63,31 +98,79 @@ public class TransactionController {
       value = {
         @ApiResponse(responseCode = "201", description = "支払い取引が正常に記録されました"),
         @ApiResponse(responseCode = "400", description = "リクエストが無効です"),
-        @ApiResponse(responseCode = "404", description = "アカウントが見つかりません")
+        @ApiResponse(responseCode = "404", description = "アカウントが見つかりません"),
+        @ApiResponse(responseCode = "409", description = "冪等キーが別のリクエストで使用されています"),
+        @ApiResponse(responseCode = "503", description = "書き込みを一時的に受け付けられません（Retry-After 後に再送）")
       })
   public ResponseEntity<TransactionDto> recordPayment(
-      @Valid @RequestBody RecordPaymentCommand command) {
-    TransactionDto transaction = recordPaymentUseCase.execute(command);
+      @Valid @RequestBody RecordPaymentCommand command,
+      @Parameter(description = "再送時の重複登録を防ぐ冪等キー")
+          @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+          @Size(max = IDEMPOTENCY_KEY_MAX_LENGTH, message = "冪等キーは255文字以下である必要があります")
+          String idempotencyKey) {
+    TransactionDto transaction =
+        idempotencyService.execute(
+            idempotencyKey,
+            "PAYMENT",
+            command,
+            TransactionDto.class,
+            () -> recordPaymentUseCase.execute(command));
     return ResponseEntity.status(HttpStatus.CREATED).body(transaction);
   }
 
+  @PostMapping("/batch")
+  @Operation(summary = "取引一括記録", description = "預かり・支払い取引をまとめて記録し、明細ごとの結果を返します")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "一括記録が処理されました（明細ごとの結果を参照）"),
+        @ApiResponse(responseCode = "400", description = "リクエストが無効です"),
+        @ApiResponse(responseCode = "409", description = "冪等キーが別のリクエストで使用されています")
+      })
+  public ResponseEntity<BatchResultDto> recordBatch(
+      @Valid @RequestBody RecordTransactionBatchCommand command,
+      @Parameter(description = "再送時の重複登録を防ぐ冪等キー")
+          @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+          @Size(max = IDEMPOTENCY_KEY_MAX_LENGTH, message = "冪等キーは255文字以下である必要があります")
+          String idempotencyKey) {
+    BatchResultDto result =
+        idempotencyService.execute(
+            idempotencyKey,
+            "BATCH",
+            command,
+            BatchResultDto.class,
+            () -> recordTransactionBatchUseCase.execute(command));
+    return ResponseEntity.ok(result);
+  }
+
   @GetMapping("/history")
-  @Operation(summary = "取引履歴取得", description = "指定されたアカウントの取引履歴を取得します")
+  @Operation(summary = "取引履歴取得", description = "指定されたアカウントの取引履歴を新しい順にカーソルページングで取得します")
   @ApiResponses(
       value = {
         @ApiResponse(responseCode = "200", description = "取引履歴が正常に取得されました"),
         @ApiResponse(responseCode = "400", description = "リクエストが無効です"),
         @ApiResponse(responseCode = "404", description = "アカウントが見つかりません")
       })
-  public ResponseEntity<List<TransactionDto>> getTransactionHistory(
-      @Parameter(description = "アカウントID", required = true) @RequestParam UUID accountId) {
-    GetTransactionHistoryQuery query = new GetTransactionHistoryQuery(accountId);
-    List<TransactionDto> transactions = getTransactionHistoryUseCase.execute(query);
-    return ResponseEntity.ok(transactions);
+  public ResponseEntity<TransactionHistoryPageDto> getTransactionHistory(
+      @Parameter(description = "アカウントID", required = true) @RequestParam UUID accountId,
+      @Parameter(description = "前ページのレスポンスで返された nextCursor") @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "取得件数（1〜500、既定50）") @RequestParam(required = false) Integer limit,
+      @Parameter(description = "実行日時の開始（この日時を含む）")
+          @RequestParam(required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime from,
+      @Parameter(description = "実行日時の終了（この日時を含まない）")
+          @RequestParam(required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime to) {
+    GetTransactionHistoryQuery query =
+        new GetTransactionHistoryQuery(accountId, cursor, limit, from, to);
+    TransactionHistoryPageDto page = getTransactionHistoryUseCase.execute(query);
+    return ResponseEntity.ok(page);
   }
 
   @GetMapping("/balance")
-  @Operation(summary = "アカウント残高取得", description = "指定されたアカウントの残高を取得します")
+  @Operation(summary = "アカウント残高取得", description = "指定されたアカウントの残高を取得します。asOf を指定した場合はその時点の残高を返します")
   @ApiResponses(
       value = {
         @ApiResponse(responseCode = "200", description = "残高が正常に取得されました"),
@@ -95,9 +178,28 @@ public class TransactionController {
         @ApiResponse(responseCode = "404", description = "アカウントが見つかりません")
       })
   public ResponseEntity<BalanceDto> getAccountBalance(
-      @Parameter(description = "アカウントID", required = true) @RequestParam UUID accountId) {
-    GetAccountBalanceQuery query = new GetAccountBalanceQuery(accountId);
+      @Parameter(description = "アカウントID", required = true) @RequestParam UUID accountId,
+      @Parameter(description = "残高の基準日時（この日時より前に実行された取引を反映）")
+          @RequestParam(required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime asOf) {
+    GetAccountBalanceQuery query = new GetAccountBalanceQuery(accountId, asOf);
     BalanceDto balance = getAccountBalanceUseCase.execute(query);
     return ResponseEntity.ok(balance);
   }
+
+  @GetMapping("/balances")
+  @Operation(summary = "通貨別残高取得", description = "指定されたアカウントの残高を通貨ごとにまとめて取得します")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "残高が正常に取得されました"),
+        @ApiResponse(responseCode = "400", description = "リクエストが無効です"),
+        @ApiResponse(responseCode = "404", description = "アカウントが見つかりません")
+      })
+  public ResponseEntity<MultiCurrencyBalanceDto> getAccountBalances(
+      @Parameter(description = "アカウントID", required = true) @RequestParam UUID accountId) {
+    GetAccountBalancesQuery query = new GetAccountBalancesQuery(accountId);
+    MultiCurrencyBalanceDto balances = getAccountBalancesUseCase.execute(query);
+    return ResponseEntity.ok(balances);
+  }
 }
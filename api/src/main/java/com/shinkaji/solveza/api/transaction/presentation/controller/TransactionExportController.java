@@ -0,0 +1,133 @@
+package com.shinkaji.solveza.api.transaction.presentation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shinkaji.solveza.api.transaction.application.query.ExportTransactionHistoryQuery;
+import com.shinkaji.solveza.api.transaction.application.usecase.ExportTransactionHistoryUseCase;
+import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/transactions")
+@Tag(name = "Transaction Management", description = "取引管理API")
+public class TransactionExportController {
+
+  private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+  private static final MediaType CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+  private static final String CSV_HEADER =
+      "id,accountId,transactionType,amount,currency,description,executedAt,createdAt";
+
+  private final ExportTransactionHistoryUseCase exportTransactionHistoryUseCase;
+  private final ObjectMapper objectMapper;
+
+  public TransactionExportController(
+      ExportTransactionHistoryUseCase exportTransactionHistoryUseCase, ObjectMapper objectMapper) {
+    this.exportTransactionHistoryUseCase = exportTransactionHistoryUseCase;
+    this.objectMapper = objectMapper;
+  }
+
+  @GetMapping("/export")
+  @Operation(summary = "取引履歴エクスポート", description = "指定されたアカウントの取引履歴を NDJSON または CSV でストリーミング出力します")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "エクスポートが開始されました"),
+        @ApiResponse(responseCode = "400", description = "リクエストが無効です"),
+        @ApiResponse(responseCode = "404", description = "アカウントが見つかりません")
+      })
+  public ResponseEntity<StreamingResponseBody> exportTransactionHistory(
+      @Parameter(description = "アカウントID", required = true) @RequestParam UUID accountId,
+      @Parameter(description = "出力形式（ndjson / csv）") @RequestParam(defaultValue = "ndjson")
+          String format,
+      @Parameter(description = "実行日時の開始（この日時を含む）")
+          @RequestParam(required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime from,
+      @Parameter(description = "実行日時の終了（この日時を含まない）")
+          @RequestParam(required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime to) {
+    boolean csv =
+        switch (format.toLowerCase(Locale.ROOT)) {
+          case "csv" -> true;
+          case "ndjson" -> false;
+          default -> throw new IllegalArgumentException("サポートされていない出力形式です: " + format);
+        };
+    ExportTransactionHistoryQuery query = new ExportTransactionHistoryQuery(accountId, from, to);
+    exportTransactionHistoryUseCase.validate(query);
+
+    StreamingResponseBody body =
+        outputStream -> {
+          Writer writer =
+              new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+          if (csv) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+          }
+          exportTransactionHistoryUseCase.export(
+              query,
+              transaction -> {
+                try {
+                  writer.write(csv ? toCsvLine(transaction) : toJsonLine(transaction));
+                  writer.write('\n');
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              });
+          writer.flush();
+        };
+
+    String filename = "transactions-" + accountId + (csv ? ".csv" : ".ndjson");
+    return ResponseEntity.ok()
+        .contentType(csv ? CSV : NDJSON)
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+        .body(body);
+  }
+
+  private String toJsonLine(TransactionDto transaction) throws IOException {
+    return objectMapper.writeValueAsString(transaction);
+  }
+
+  private String toCsvLine(TransactionDto transaction) {
+    return String.join(
+        ",",
+        transaction.id().toString(),
+        transaction.accountId().toString(),
+        transaction.transactionType(),
+        transaction.amount().toPlainString(),
+        transaction.currency(),
+        escapeCsv(transaction.description()),
+        String.valueOf(transaction.executedAt()),
+        String.valueOf(transaction.createdAt()));
+  }
+
+  private String escapeCsv(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (value.contains(",")
+        || value.contains("\"")
+        || value.contains("\n")
+        || value.contains("\r")) {
+      return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+    return value;
+  }
+}
@@ -0,0 +1,39 @@
+package com.shinkaji.solveza.api.transaction.presentation.controller;
+
+import com.shinkaji.solveza.api.transaction.application.usecase.ImportTransactionsUseCase;
+import com.shinkaji.solveza.api.transaction.presentation.dto.ImportResultDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/transactions")
+@Tag(name = "Transaction Administration", description = "取引管理者API")
+public class TransactionImportController {
+
+  private final ImportTransactionsUseCase importTransactionsUseCase;
+
+  public TransactionImportController(ImportTransactionsUseCase importTransactionsUseCase) {
+    this.importTransactionsUseCase = importTransactionsUseCase;
+  }
+
+  @PostMapping(value = "/import", consumes = "text/csv")
+  @Operation(
+      summary = "取引一括取り込み",
+      description =
+          "CSV（id,account_id,transaction_type,amount,currency,description,executed_at、ヘッダー行あり）を"
+              + " COPY で取り込み、残高集計を再構築します。id が空の行は採番され、既存 id の行はスキップされます")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "取り込みが完了しました"),
+        @ApiResponse(responseCode = "400", description = "CSVの形式が不正です")
+      })
+  public ResponseEntity<ImportResultDto> importTransactions(InputStream csv) {
+    ImportResultDto result = importTransactionsUseCase.execute(csv);
+    return ResponseEntity.ok(result);
+  }
+}
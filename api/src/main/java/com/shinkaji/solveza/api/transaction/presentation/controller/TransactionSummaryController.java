@@ -0,0 +1,50 @@
+package com.shinkaji.solveza.api.transaction.presentation.controller;
+
+import com.shinkaji.solveza.api.transaction.application.query.GetTransactionSummaryQuery;
+import com.shinkaji.solveza.api.transaction.application.usecase.GetTransactionSummaryUseCase;
+import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionSummaryDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/transactions")
+@Tag(name = "Transaction Management", description = "取引管理API")
+public class TransactionSummaryController {
+
+  private final GetTransactionSummaryUseCase getTransactionSummaryUseCase;
+
+  public TransactionSummaryController(GetTransactionSummaryUseCase getTransactionSummaryUseCase) {
+    this.getTransactionSummaryUseCase = getTransactionSummaryUseCase;
+  }
+
+  @GetMapping("/summary")
+  @Operation(summary = "取引サマリー取得", description = "指定されたアカウントの期間内の入出金を日次集計テーブルから日別・通貨別に返します")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "サマリーが正常に取得されました"),
+        @ApiResponse(responseCode = "400", description = "リクエストが無効です"),
+        @ApiResponse(responseCode = "404", description = "アカウントが見つかりません")
+      })
+  public ResponseEntity<TransactionSummaryDto> getTransactionSummary(
+      @Parameter(description = "アカウントID", required = true) @RequestParam UUID accountId,
+      @Parameter(description = "開始日（この日を含む）", required = true)
+          @RequestParam
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate from,
+      @Parameter(description = "終了日（この日を含む）", required = true)
+          @RequestParam
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate to) {
+    TransactionSummaryDto summary =
+        getTransactionSummaryUseCase.execute(new GetTransactionSummaryQuery(accountId, from, to));
+    return ResponseEntity.ok(summary);
+  }
+}
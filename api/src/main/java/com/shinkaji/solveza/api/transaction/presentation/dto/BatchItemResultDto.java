@@ -0,0 +1,13 @@
+package com.shinkaji.solveza.api.transaction.presentation.dto;
+
+public record BatchItemResultDto(
+    int index, String status, TransactionDto transaction, String errorCode, String message) {
+
+  public static BatchItemResultDto created(int index, TransactionDto transaction) {
+    return new BatchItemResultDto(index, "CREATED", transaction, null, null);
+  }
+
+  public static BatchItemResultDto rejected(int index, String errorCode, String message) {
+    return new BatchItemResultDto(index, "REJECTED", null, errorCode, message);
+  }
+}
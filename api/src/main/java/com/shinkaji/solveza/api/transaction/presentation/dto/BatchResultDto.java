@@ -0,0 +1,5 @@
+package com.shinkaji.solveza.api.transaction.presentation.dto;
+
+import java.util.List;
+
+public record BatchResultDto(int accepted, int rejected, List<BatchItemResultDto> results) {}
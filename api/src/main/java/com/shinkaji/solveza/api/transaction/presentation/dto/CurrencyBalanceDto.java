@@ -0,0 +1,5 @@
+package com.shinkaji.solveza.api.transaction.presentation.dto;
+
+import java.math.BigDecimal;
+
+public record CurrencyBalanceDto(String currency, BigDecimal amount) {}
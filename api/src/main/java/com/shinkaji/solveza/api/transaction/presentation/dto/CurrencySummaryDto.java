@@ -0,0 +1,10 @@
+package com.shinkaji.solveza.api.transaction.presentation.dto;
+
+import java.math.BigDecimal;
+
+public record CurrencySummaryDto(
+    String currency,
+    BigDecimal depositTotal,
+    BigDecimal paymentTotal,
+    BigDecimal netAmount,
+    long transactionCount) {}
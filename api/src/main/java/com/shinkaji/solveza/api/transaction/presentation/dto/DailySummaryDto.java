@@ -0,0 +1,12 @@
+package com.shinkaji.solveza.api.transaction.presentation.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailySummaryDto(
+    LocalDate date,
+    String currency,
+    BigDecimal depositTotal,
+    BigDecimal paymentTotal,
+    BigDecimal netAmount,
+    long transactionCount) {}
@@ -0,0 +1,4 @@
+package com.shinkaji.solveza.api.transaction.presentation.dto;
+
+public record ImportResultDto(
+    long staged, long invalid, long unknownAccount, long duplicate, long imported) {}
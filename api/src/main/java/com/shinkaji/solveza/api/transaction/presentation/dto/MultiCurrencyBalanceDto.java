@@ -0,0 +1,6 @@
+package com.shinkaji.solveza.api.transaction.presentation.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record MultiCurrencyBalanceDto(UUID accountId, List<CurrencyBalanceDto> balances) {}
@@ -0,0 +1,5 @@
+package com.shinkaji.solveza.api.transaction.presentation.dto;
+
+import java.util.List;
+
+public record TransactionHistoryPageDto(List<TransactionDto> transactions, String nextCursor) {}
@@ -0,0 +1,12 @@
+package com.shinkaji.solveza.api.transaction.presentation.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record TransactionSummaryDto(
+    UUID accountId,
+    LocalDate from,
+    LocalDate to,
+    List<CurrencySummaryDto> totals,
+    List<DailySummaryDto> daily) {}
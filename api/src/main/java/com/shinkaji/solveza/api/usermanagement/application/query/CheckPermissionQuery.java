@@ -0,0 +1,5 @@
+package com.shinkaji.solveza.api.usermanagement.application.query;
+
+import java.util.UUID;
+
+public record CheckPermissionQuery(UUID userId, String resource, String action) {}
@@ -0,0 +1,7 @@
+package com.shinkaji.solveza.api.usermanagement.application.query;
+
+import com.shinkaji.solveza.api.usermanagement.domain.model.PermissionCheck;
+import java.util.List;
+import java.util.UUID;
+
+public record CheckPermissionsQuery(UUID userId, List<PermissionCheck> checks) {}
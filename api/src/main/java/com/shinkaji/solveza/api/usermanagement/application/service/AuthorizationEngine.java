@@ -0,0 +1,225 @@
+package com.shinkaji.solveza.api.usermanagement.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shinkaji.solveza.api.shared.domain.PermissionId;
+import com.shinkaji.solveza.api.shared.domain.RoleId;
+import com.shinkaji.solveza.api.shared.domain.UserId;
+import com.shinkaji.solveza.api.shared.domain.exception.InsufficientPermissionException;
+import com.shinkaji.solveza.api.shared.domain.exception.UserNotFoundException;
+import com.shinkaji.solveza.api.usermanagement.domain.model.PermissionCheck;
+import com.shinkaji.solveza.api.usermanagement.domain.model.PermissionGraph;
+import com.shinkaji.solveza.api.usermanagement.domain.model.User;
+import com.shinkaji.solveza.api.usermanagement.domain.repository.PermissionRepository;
+import com.shinkaji.solveza.api.usermanagement.domain.repository.RoleRepository;
+import com.shinkaji.solveza.api.usermanagement.domain.repository.UserRepository;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// ユーザーの実効権限を判定する。ロールと権限の関係は PermissionGraph にコンパイルして保持し、
+// ユーザーごとの実効権限（ロールのビット集合の和）をキャッシュする。判定時にDBには触れない。
+// ロール割り当て・ロールの権限定義はコミット後に差分で反映し、それ以外の変更はグラフを再コンパイルする
+@Service
+public class AuthorizationEngine {
+
+  private final UserRepository userRepository;
+  private final RoleRepository roleRepository;
+  private final PermissionRepository permissionRepository;
+  private final long graphRefreshNanos;
+
+  private final AtomicLong versions = new AtomicLong();
+  // コンパイル中はDBに問い合わせるため、仮想スレッドをピン留めしないよう synchronized ではなくロックを使う
+  private final ReentrantLock compileLock = new ReentrantLock();
+  private final Cache<UserId, UserPermissions> users;
+  private volatile CompiledGraph graph;
+
+  public AuthorizationEngine(
+      UserRepository userRepository,
+      RoleRepository roleRepository,
+      PermissionRepository permissionRepository,
+      @Value("${solveza.authorization.cache.maximum-size:100000}") long maximumSize,
+      @Value("${solveza.authorization.cache.expire-after-write:5m}") Duration expireAfterWrite,
+      @Value("${solveza.authorization.graph-refresh-interval:5m}") Duration graphRefreshInterval) {
+    this.userRepository = userRepository;
+    this.roleRepository = roleRepository;
+    this.permissionRepository = permissionRepository;
+    this.graphRefreshNanos = graphRefreshInterval.toNanos();
+    this.users =
+        Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite).build();
+  }
+
+  // 未知のリソース・アクションでも、存在しないユーザーは UserNotFoundException にするため先にユーザーを引く
+  public boolean check(UserId userId, String resource, String action) {
+    PermissionGraph current = graph();
+    BitSet bits = permissionsOf(userId, current).bits();
+    int bit = current.bitOf(resource, action);
+    return bit >= 0 && bits.get(bit);
+  }
+
+  // 同じユーザーへの複数の判定を、グラフとユーザーの実効権限を1回だけ引いて行う
+  public boolean[] checkAll(UserId userId, List<PermissionCheck> checks) {
+    PermissionGraph current = graph();
+    BitSet bits = permissionsOf(userId, current).bits();
+    boolean[] results = new boolean[checks.size()];
+    for (int i = 0; i < results.length; i++) {
+      PermissionCheck check = checks.get(i);
+      int bit = current.bitOf(check.resource(), check.action());
+      results[i] = bit >= 0 && bits.get(bit);
+    }
+    return results;
+  }
+
+  public void require(UserId userId, String resource, String action) {
+    if (!check(userId, resource, action)) {
+      throw new InsufficientPermissionException(resource + ":" + action);
+    }
+  }
+
+  public void roleAssigned(UserId userId, RoleId roleId) {
+    afterCommit(
+        () -> {
+          PermissionGraph current = graph();
+          users
+              .asMap()
+              .computeIfPresent(userId, (id, permissions) -> permissions.withRole(roleId, current));
+        });
+  }
+
+  public void rolePermissionsDefined(RoleId roleId, Collection<PermissionId> permissionIds) {
+    afterCommit(
+        () -> {
+          compileLock.lock();
+          try {
+            CompiledGraph current = graph;
+            if (current == null || !current.graph().knowsAll(permissionIds)) {
+              graph = compile();
+              return;
+            }
+            graph =
+                new CompiledGraph(
+                    current
+                        .graph()
+                        .withRolePermissions(versions.incrementAndGet(), roleId, permissionIds),
+                    current.compiledAt());
+          } finally {
+            compileLock.unlock();
+          }
+        });
+  }
+
+  // ロール・権限の削除など、差分で反映できない変更の後に呼ぶ
+  public void recompile() {
+    afterCommit(
+        () -> {
+          compileLock.lock();
+          try {
+            graph = compile();
+          } finally {
+            compileLock.unlock();
+          }
+        });
+  }
+
+  private PermissionGraph graph() {
+    CompiledGraph current = graph;
+    if (current == null) {
+      compileLock.lock();
+      try {
+        if (graph == null) {
+          graph = compile();
+        }
+        return graph.graph();
+      } finally {
+        compileLock.unlock();
+      }
+    }
+    // 他のインスタンスでの変更を取り込むため一定間隔でコンパイルし直す。その間、他のスレッドは古いグラフで判定する
+    if (System.nanoTime() - current.compiledAt() > graphRefreshNanos && compileLock.tryLock()) {
+      try {
+        if (graph == current) {
+          graph = compile();
+        }
+        return graph.graph();
+      } finally {
+        compileLock.unlock();
+      }
+    }
+    return current.graph();
+  }
+
+  // グラフのバージョンが変わっていれば、保持しているロールから実効権限を作り直す
+  private UserPermissions permissionsOf(UserId userId, PermissionGraph current) {
+    UserPermissions permissions = users.getIfPresent(userId);
+    if (permissions == null) {
+      permissions = users.get(userId, id -> load(id, current));
+    }
+    if (permissions.version() == current.version()) {
+      return permissions;
+    }
+    UserPermissions rebuilt =
+        users
+            .asMap()
+            .computeIfPresent(
+                userId,
+                (id, cached) ->
+                    cached.version() == current.version() ? cached : cached.rebuild(current));
+    return rebuilt != null ? rebuilt : permissions.rebuild(current);
+  }
+
+  private UserPermissions load(UserId userId, PermissionGraph current) {
+    User user =
+        userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId));
+    return UserPermissions.of(user.getRoleIds(), current);
+  }
+
+  private CompiledGraph compile() {
+    return new CompiledGraph(
+        PermissionGraph.compile(
+            versions.incrementAndGet(), permissionRepository.findAll(), roleRepository.findAll()),
+        System.nanoTime());
+  }
+
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+
+  private record CompiledGraph(PermissionGraph graph, long compiledAt) {}
+
+  private record UserPermissions(Set<RoleId> roleIds, BitSet bits, long version) {
+
+    static UserPermissions of(Set<RoleId> roleIds, PermissionGraph graph) {
+      return new UserPermissions(
+          Set.copyOf(roleIds), graph.effectivePermissions(roleIds), graph.version());
+    }
+
+    UserPermissions withRole(RoleId roleId, PermissionGraph graph) {
+      Set<RoleId> assigned = new HashSet<>(roleIds);
+      assigned.add(roleId);
+      return of(assigned, graph);
+    }
+
+    UserPermissions rebuild(PermissionGraph graph) {
+      return of(roleIds, graph);
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.shinkaji.solveza.api.usermanagement.application.usecase;
+
+import com.shinkaji.solveza.api.usermanagement.application.query.CheckPermissionQuery;
+import com.shinkaji.solveza.api.usermanagement.application.query.CheckPermissionsQuery;
+import com.shinkaji.solveza.api.usermanagement.presentation.dto.PermissionCheckDto;
+import java.util.List;
+
+public interface AuthorizationUseCase {
+
+  PermissionCheckDto check(CheckPermissionQuery query);
+
+  List<PermissionCheckDto> checkAll(CheckPermissionsQuery query);
+}
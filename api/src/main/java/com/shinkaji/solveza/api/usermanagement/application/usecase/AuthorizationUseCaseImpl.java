@@ -0,0 +1,41 @@
+package com.shinkaji.solveza.api.usermanagement.application.usecase;
+
+import com.shinkaji.solveza.api.shared.domain.UserId;
+import com.shinkaji.solveza.api.usermanagement.application.query.CheckPermissionQuery;
+import com.shinkaji.solveza.api.usermanagement.application.query.CheckPermissionsQuery;
+import com.shinkaji.solveza.api.usermanagement.application.service.AuthorizationEngine;
+import com.shinkaji.solveza.api.usermanagement.domain.model.PermissionCheck;
+import com.shinkaji.solveza.api.usermanagement.presentation.dto.PermissionCheckDto;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+// 判定はメモリ上で完結するため @Transactional を付けない（トランザクション開始でコネクションを取得してしまう）
+@Service
+public class AuthorizationUseCaseImpl implements AuthorizationUseCase {
+
+  private final AuthorizationEngine authorizationEngine;
+
+  public AuthorizationUseCaseImpl(AuthorizationEngine authorizationEngine) {
+    this.authorizationEngine = authorizationEngine;
+  }
+
+  @Override
+  public PermissionCheckDto check(CheckPermissionQuery query) {
+    boolean allowed =
+        authorizationEngine.check(new UserId(query.userId()), query.resource(), query.action());
+    return new PermissionCheckDto(query.resource(), query.action(), allowed);
+  }
+
+  @Override
+  public List<PermissionCheckDto> checkAll(CheckPermissionsQuery query) {
+    boolean[] allowed = authorizationEngine.checkAll(new UserId(query.userId()), query.checks());
+
+    List<PermissionCheckDto> results = new ArrayList<>(allowed.length);
+    for (int i = 0; i < allowed.length; i++) {
+      PermissionCheck check = query.checks().get(i);
+      results.add(new PermissionCheckDto(check.resource(), check.action(), allowed[i]));
+    }
+    return results;
+  }
+}
@@ -1,6 +1,7 @@
 package com.shinkaji.solveza.api.usermanagement.application.usecase;
 
 import com.shinkaji.solveza.api.shared.domain.PermissionId;
+import com.shinkaji.solveza.api.usermanagement.application.service.AuthorizationEngine;
 import com.shinkaji.solveza.api.usermanagement.domain.model.Permission;
 import com.shinkaji.solveza.api.usermanagement.domain.repository.PermissionRepository;
 import com.shinkaji.solveza.api.usermanagement.domain.service.UserValidationService;
@@ -17,11 +18,15 @@ public class PermissionManagementUseCaseImpl implements PermissionManagementUseC
 
   private final PermissionRepository permissionRepository;
   private final UserValidationService userValidationService;
+  private final AuthorizationEngine authorizationEngine;
 
   public PermissionManagementUseCaseImpl(
-      PermissionRepository permissionRepository, UserValidationService userValidationService) {
+      PermissionRepository permissionRepository,
+      UserValidationService userValidationService,
+      AuthorizationEngine authorizationEngine) {
     this.permissionRepository = permissionRepository;
     this.userValidationService = userValidationService;
+    this.authorizationEngine = authorizationEngine;
   }
 
   @Override
@@ -69,6 +74,7 @@ public class PermissionManagementUseCaseImpl implements PermissionManagementUseC
     PermissionId permissionIdVO = new PermissionId(permissionId);
     userValidationService.validatePermissionExists(permissionIdVO);
     permissionRepository.delete(permissionIdVO);
+    authorizationEngine.recompile();
   }
 
   private PermissionDto toDto(Permission permission) {
@@ -2,6 +2,7 @@ package com.shinkaji.solveza.api.usermanagement.application.usecase;
 
 import com.shinkaji.solveza.api.shared.domain.PermissionId;
 import com.shinkaji.solveza.api.shared.domain.RoleId;
+import com.shinkaji.solveza.api.usermanagement.application.service.AuthorizationEngine;
 import com.shinkaji.solveza.api.usermanagement.domain.model.Role;
 import com.shinkaji.solveza.api.usermanagement.domain.repository.RoleRepository;
 import com.shinkaji.solveza.api.usermanagement.domain.service.UserValidationService;
@@ -19,11 +20,15 @@ public class RoleManagementUseCaseImpl implements RoleManagementUseCase {
 
   private final RoleRepository roleRepository;
   private final UserValidationService userValidationService;
+  private final AuthorizationEngine authorizationEngine;
 
   public RoleManagementUseCaseImpl(
-      RoleRepository roleRepository, UserValidationService userValidationService) {
+      RoleRepository roleRepository,
+      UserValidationService userValidationService,
+      AuthorizationEngine authorizationEngine) {
     this.roleRepository = roleRepository;
     this.userValidationService = userValidationService;
+    this.authorizationEngine = authorizationEngine;
   }
 
   @Override
@@ -71,6 +76,7 @@ public class RoleManagementUseCaseImpl implements RoleManagementUseCase {
     RoleId roleIdVO = new RoleId(roleId);
     userValidationService.validateRoleExists(roleIdVO);
     roleRepository.delete(roleIdVO);
+    authorizationEngine.recompile();
   }
 
   private RoleDto toDto(Role role) {
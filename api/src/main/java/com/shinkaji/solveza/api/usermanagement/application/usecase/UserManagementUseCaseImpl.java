@@ -9,6 +9,7 @@ import com.shinkaji.solveza.api.usermanagement.application.command.AssignRoleCom
 import com.shinkaji.solveza.api.usermanagement.application.command.DefinePermissionsCommand;
 import com.shinkaji.solveza.api.usermanagement.application.command.RegisterUserCommand;
 import com.shinkaji.solveza.api.usermanagement.application.query.GetUsersQuery;
+import com.shinkaji.solveza.api.usermanagement.application.service.AuthorizationEngine;
 import com.shinkaji.solveza.api.usermanagement.domain.model.Role;
 import com.shinkaji.solveza.api.usermanagement.domain.model.User;
 import com.shinkaji.solveza.api.usermanagement.domain.repository.RoleRepository;
@@ -31,14 +32,17 @@ public class UserManagementUseCaseImpl implements UserManagementUseCase {
   private final UserRepository userRepository;
   private final RoleRepository roleRepository;
   private final UserValidationService userValidationService;
+  private final AuthorizationEngine authorizationEngine;
 
   public UserManagementUseCaseImpl(
       UserRepository userRepository,
       RoleRepository roleRepository,
-      UserValidationService userValidationService) {
+      UserValidationService userValidationService,
+      AuthorizationEngine authorizationEngine) {
     this.userRepository = userRepository;
     this.roleRepository = roleRepository;
     this.userValidationService = userValidationService;
+    this.authorizationEngine = authorizationEngine;
   }
 
   @Override
@@ -77,6 +81,7 @@ public class UserManagementUseCaseImpl implements UserManagementUseCase {
 
     user.assignRole(roleId);
     userRepository.save(user);
+    authorizationEngine.roleAssigned(userId, roleId);
   }
 
   @Override
@@ -110,6 +115,7 @@ public class UserManagementUseCaseImpl implements UserManagementUseCase {
     }
 
     roleRepository.save(role);
+    authorizationEngine.rolePermissionsDefined(roleId, permissionIds);
   }
 
   @Override
@@ -1,6 +1,7 @@
 package com.shinkaji.solveza.api.usermanagement.domain.model;
 
 import com.shinkaji.solveza.api.shared.domain.BaseEntity;
+import com.shinkaji.solveza.api.shared.domain.IdGenerators;
 import com.shinkaji.solveza.api.shared.domain.PermissionId;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -40,7 +41,7 @@ public class Permission extends BaseEntity {
     }
 
     return new Permission(
-        UUID.randomUUID(), LocalDateTime.now(), LocalDateTime.now(), name, resource, action);
+        IdGenerators.generate(), LocalDateTime.now(), LocalDateTime.now(), name, resource, action);
   }
 
   public static Permission reconstruct(
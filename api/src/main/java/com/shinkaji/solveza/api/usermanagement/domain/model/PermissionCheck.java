@@ -0,0 +1,3 @@
+package com.shinkaji.solveza.api.usermanagement.domain.model;
+
+public record PermissionCheck(String resource, String action) {}
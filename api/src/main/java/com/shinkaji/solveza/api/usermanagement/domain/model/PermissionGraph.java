@@ -0,0 +1,104 @@
+package com.shinkaji.solveza.api.usermanagement.domain.model;
+
+import com.shinkaji.solveza.api.shared.domain.PermissionId;
+import com.shinkaji.solveza.api.shared.domain.RoleId;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+// ロールと権限の関係をビット集合にコンパイルしたもの。生成後は変更しない。
+// リソースとアクションの組ごとに1ビットを割り当て（同じ組の権限は同じビットを共有する）、ロールはビット集合で持つ
+public final class PermissionGraph {
+
+  private final long version;
+  private final Map<String, Map<String, Integer>> bitsByResource;
+  private final Map<PermissionId, Integer> bitsByPermission;
+  private final Map<RoleId, BitSet> bitsByRole;
+
+  private PermissionGraph(
+      long version,
+      Map<String, Map<String, Integer>> bitsByResource,
+      Map<PermissionId, Integer> bitsByPermission,
+      Map<RoleId, BitSet> bitsByRole) {
+    this.version = version;
+    this.bitsByResource = bitsByResource;
+    this.bitsByPermission = bitsByPermission;
+    this.bitsByRole = bitsByRole;
+  }
+
+  public static PermissionGraph compile(
+      long version, Collection<Permission> permissions, Collection<Role> roles) {
+    Map<String, Map<String, Integer>> bitsByResource = new HashMap<>();
+    Map<PermissionId, Integer> bitsByPermission = new HashMap<>();
+    int nextBit = 0;
+    for (Permission permission : permissions) {
+      Map<String, Integer> bitsByAction =
+          bitsByResource.computeIfAbsent(permission.getResource(), resource -> new HashMap<>());
+      Integer bit = bitsByAction.get(permission.getAction());
+      if (bit == null) {
+        bit = nextBit++;
+        bitsByAction.put(permission.getAction(), bit);
+      }
+      bitsByPermission.put(permission.getPermissionId(), bit);
+    }
+
+    Map<RoleId, BitSet> bitsByRole = new HashMap<>();
+    for (Role role : roles) {
+      bitsByRole.put(role.getRoleId(), bitsOf(bitsByPermission, role.getPermissionIds()));
+    }
+    return new PermissionGraph(version, bitsByResource, bitsByPermission, bitsByRole);
+  }
+
+  // コンパイル後に作成された権限を含む場合は false。差し替えではなく再コンパイルが必要になる
+  public boolean knowsAll(Collection<PermissionId> permissionIds) {
+    return bitsByPermission.keySet().containsAll(permissionIds);
+  }
+
+  // 1つのロールの権限だけを差し替えたグラフを返す
+  public PermissionGraph withRolePermissions(
+      long newVersion, RoleId roleId, Collection<PermissionId> permissionIds) {
+    Map<RoleId, BitSet> roles = new HashMap<>(bitsByRole);
+    roles.put(roleId, bitsOf(bitsByPermission, permissionIds));
+    return new PermissionGraph(newVersion, bitsByResource, bitsByPermission, roles);
+  }
+
+  public long version() {
+    return version;
+  }
+
+  // 未知のリソース・アクションは -1。どのロールにも付与されていないので常に拒否になる
+  public int bitOf(String resource, String action) {
+    Map<String, Integer> bitsByAction = bitsByResource.get(resource);
+    if (bitsByAction == null) {
+      return -1;
+    }
+    Integer bit = bitsByAction.get(action);
+    return bit != null ? bit : -1;
+  }
+
+  // ロールのビット集合の和。削除済みのロールは権限なしとして扱う
+  public BitSet effectivePermissions(Collection<RoleId> roleIds) {
+    BitSet effective = new BitSet();
+    for (RoleId roleId : roleIds) {
+      BitSet roleBits = bitsByRole.get(roleId);
+      if (roleBits != null) {
+        effective.or(roleBits);
+      }
+    }
+    return effective;
+  }
+
+  // 削除済みの権限への割り当ては無視する
+  private static BitSet bitsOf(
+      Map<PermissionId, Integer> bitsByPermission, Collection<PermissionId> permissionIds) {
+    BitSet bits = new BitSet();
+    for (PermissionId permissionId : permissionIds) {
+      Integer bit = bitsByPermission.get(permissionId);
+      if (bit != null) {
+        bits.set(bit);
+      }
+    }
+    return bits;
+  }
+}
@@ -1,6 +1,7 @@
 package com.shinkaji.solveza.api.usermanagement.domain.model;
 
 import com.shinkaji.solveza.api.shared.domain.BaseEntity;
+import com.shinkaji.solveza.api.shared.domain.IdGenerators;
 import com.shinkaji.solveza.api.shared.domain.PermissionId;
 import com.shinkaji.solveza.api.shared.domain.RoleId;
 import java.time.LocalDateTime;
@@ -31,7 +32,8 @@ public class Role extends BaseEntity {
       throw new IllegalArgumentException("ロール名は必須です");
     }
 
-    return new Role(UUID.randomUUID(), LocalDateTime.now(), LocalDateTime.now(), name, description);
+    return new Role(
+        IdGenerators.generate(), LocalDateTime.now(), LocalDateTime.now(), name, description);
   }
 
   public static Role reconstruct(
@@ -1,6 +1,7 @@
 package com.shinkaji.solveza.api.usermanagement.domain.model;
 
 import com.shinkaji.solveza.api.shared.domain.BaseEntity;
+import com.shinkaji.solveza.api.shared.domain.IdGenerators;
 import com.shinkaji.solveza.api.shared.domain.Provider;
 import com.shinkaji.solveza.api.shared.domain.RoleId;
 import com.shinkaji.solveza.api.shared.domain.UserId;
@@ -49,7 +50,7 @@ public class User extends BaseEntity {
     }
 
     return new User(
-        UUID.randomUUID(),
+        IdGenerators.generate(),
         LocalDateTime.now(),
         LocalDateTime.now(),
         provider,
@@ -3,13 +3,14 @@ package com.shinkaji.solveza.api.usermanagement.infrastructure.mapper;
 import com.shinkaji.solveza.api.usermanagement.infrastructure.mapper.dto.PermissionDto;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface PermissionMapper {
 
-  Optional<PermissionDto> findById(@Param("id") String id);
+  Optional<PermissionDto> findById(@Param("id") UUID id);
 
   Optional<PermissionDto> findByName(@Param("name") String name);
 
@@ -19,9 +20,9 @@ public interface PermissionMapper {
 
   void update(@Param("permission") PermissionDto permission);
 
-  void delete(@Param("id") String id);
+  void delete(@Param("id") UUID id);
 
-  boolean existsById(@Param("id") String id);
+  boolean existsById(@Param("id") UUID id);
 
   boolean existsByName(@Param("name") String name);
 }
@@ -4,13 +4,14 @@ import com.shinkaji.solveza.api.usermanagement.infrastructure.mapper.dto.RoleDto
 import com.shinkaji.solveza.api.usermanagement.infrastructure.mapper.dto.RolePermissionDto;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface RoleMapper {
 
-  Optional<RoleDto> findById(@Param("id") String id);
+  Optional<RoleDto> findById(@Param("id") UUID id);
 
   Optional<RoleDto> findByName(@Param("name") String name);
 
@@ -20,16 +21,15 @@ public interface RoleMapper {
 
   void update(@Param("role") RoleDto role);
 
-  void delete(@Param("id") String id);
+  void delete(@Param("id") UUID id);
 
-  boolean existsById(@Param("id") String id);
+  boolean existsById(@Param("id") UUID id);
 
   boolean existsByName(@Param("name") String name);
 
-  List<RolePermissionDto> findRolePermissionsByRoleId(@Param("roleId") String roleId);
+  List<RolePermissionDto> findRolePermissionsByRoleId(@Param("roleId") UUID roleId);
 
   void insertRolePermission(@Param("rolePermission") RolePermissionDto rolePermission);
 
-  void deleteRolePermission(
-      @Param("roleId") String roleId, @Param("permissionId") String permissionId);
+  void deleteRolePermission(@Param("roleId") UUID roleId, @Param("permissionId") UUID permissionId);
 }
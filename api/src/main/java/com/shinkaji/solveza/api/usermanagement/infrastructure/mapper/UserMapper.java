@@ -5,13 +5,14 @@ import com.shinkaji.solveza.api.usermanagement.infrastructure.mapper.dto.UserDto
 import com.shinkaji.solveza.api.usermanagement.infrastructure.mapper.dto.UserRoleDto;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface UserMapper {
 
-  Optional<UserDto> findById(@Param("id") String id);
+  Optional<UserDto> findById(@Param("id") UUID id);
 
   Optional<UserDto> findByProviderAndExternalId(
       @Param("provider") String provider, @Param("externalId") String externalId);
@@ -22,16 +23,16 @@ public interface UserMapper {
 
   void update(@Param("user") UserDto user);
 
-  void delete(@Param("id") String id);
+  void delete(@Param("id") UUID id);
 
-  boolean existsById(@Param("id") String id);
+  boolean existsById(@Param("id") UUID id);
 
   boolean existsByProviderAndExternalId(
       @Param("provider") String provider, @Param("externalId") String externalId);
 
-  List<UserRoleDto> findUserRolesByUserId(@Param("userId") String userId);
+  List<UserRoleDto> findUserRolesByUserId(@Param("userId") UUID userId);
 
   void insertUserRole(@Param("userRole") UserRoleDto userRole);
 
-  void deleteUserRole(@Param("userId") String userId, @Param("roleId") String roleId);
+  void deleteUserRole(@Param("userId") UUID userId, @Param("roleId") UUID roleId);
 }
@@ -1,6 +1,7 @@
 package com.shinkaji.solveza.api.usermanagement.infrastructure.mapper.dto;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public record PermissionDto(
-    String id, String name, String resource, String action, LocalDateTime createdAt) {}
+    UUID id, String name, String resource, String action, LocalDateTime createdAt) {}
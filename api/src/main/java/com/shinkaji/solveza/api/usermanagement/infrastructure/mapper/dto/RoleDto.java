@@ -1,5 +1,6 @@
 package com.shinkaji.solveza.api.usermanagement.infrastructure.mapper.dto;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
-public record RoleDto(String id, String name, String description, LocalDateTime createdAt) {}
+public record RoleDto(UUID id, String name, String description, LocalDateTime createdAt) {}
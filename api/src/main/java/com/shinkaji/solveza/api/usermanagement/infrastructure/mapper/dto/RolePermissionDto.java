@@ -1,5 +1,6 @@
 package com.shinkaji.solveza.api.usermanagement.infrastructure.mapper.dto;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
-public record RolePermissionDto(String roleId, String permissionId, LocalDateTime grantedAt) {}
+public record RolePermissionDto(UUID roleId, UUID permissionId, LocalDateTime grantedAt) {}
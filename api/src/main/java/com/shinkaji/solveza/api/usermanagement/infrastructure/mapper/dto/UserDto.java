@@ -1,9 +1,10 @@
 package com.shinkaji.solveza.api.usermanagement.infrastructure.mapper.dto;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public record UserDto(
-    String id,
+    UUID id,
     String provider,
     String externalId,
     String name,
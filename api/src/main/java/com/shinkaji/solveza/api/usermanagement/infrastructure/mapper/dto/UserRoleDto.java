@@ -1,5 +1,6 @@
 package com.shinkaji.solveza.api.usermanagement.infrastructure.mapper.dto;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
-public record UserRoleDto(String userId, String roleId, LocalDateTime assignedAt) {}
+public record UserRoleDto(UUID userId, UUID roleId, LocalDateTime assignedAt) {}
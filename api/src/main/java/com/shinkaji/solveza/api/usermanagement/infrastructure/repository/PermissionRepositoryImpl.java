@@ -21,7 +21,7 @@ public class PermissionRepositoryImpl implements PermissionRepository {
 
   @Override
   public Optional<Permission> findById(PermissionId permissionId) {
-    return permissionMapper.findById(permissionId.value().toString()).map(this::toDomain);
+    return permissionMapper.findById(permissionId.value()).map(this::toDomain);
   }
 
   @Override
@@ -38,7 +38,7 @@ public class PermissionRepositoryImpl implements PermissionRepository {
   public void save(Permission permission) {
     PermissionDto permissionDto = toDto(permission);
 
-    if (permissionMapper.existsById(permission.getId().toString())) {
+    if (permissionMapper.existsById(permission.getId())) {
       permissionMapper.update(permissionDto);
     } else {
       permissionMapper.insert(permissionDto);
@@ -47,12 +47,12 @@ public class PermissionRepositoryImpl implements PermissionRepository {
 
   @Override
   public void delete(PermissionId permissionId) {
-    permissionMapper.delete(permissionId.value().toString());
+    permissionMapper.delete(permissionId.value());
   }
 
   @Override
   public boolean existsById(PermissionId permissionId) {
-    return permissionMapper.existsById(permissionId.value().toString());
+    return permissionMapper.existsById(permissionId.value());
   }
 
   @Override
@@ -62,7 +62,7 @@ public class PermissionRepositoryImpl implements PermissionRepository {
 
   private Permission toDomain(PermissionDto dto) {
     return Permission.reconstruct(
-        java.util.UUID.fromString(dto.id()),
+        dto.id(),
         dto.createdAt(),
         dto.createdAt(), // Note: Permissions don't have updatedAt in the table
         dto.name(),
@@ -72,7 +72,7 @@ public class PermissionRepositoryImpl implements PermissionRepository {
 
   private PermissionDto toDto(Permission permission) {
     return new PermissionDto(
-        permission.getId().toString(),
+        permission.getId(),
         permission.getName(),
         permission.getResource(),
         permission.getAction(),
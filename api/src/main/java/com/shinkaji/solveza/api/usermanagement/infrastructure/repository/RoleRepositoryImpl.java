@@ -25,7 +25,7 @@ public class RoleRepositoryImpl implements RoleRepository {
 
   @Override
   public Optional<Role> findById(RoleId roleId) {
-    return roleMapper.findById(roleId.value().toString()).map(this::toDomain);
+    return roleMapper.findById(roleId.value()).map(this::toDomain);
   }
 
   @Override
@@ -42,7 +42,7 @@ public class RoleRepositoryImpl implements RoleRepository {
   public void save(Role role) {
     RoleDto roleDto = toDto(role);
 
-    if (roleMapper.existsById(role.getId().toString())) {
+    if (roleMapper.existsById(role.getId())) {
       roleMapper.update(roleDto);
     } else {
       roleMapper.insert(roleDto);
@@ -54,12 +54,12 @@ public class RoleRepositoryImpl implements RoleRepository {
 
   @Override
   public void delete(RoleId roleId) {
-    roleMapper.delete(roleId.value().toString());
+    roleMapper.delete(roleId.value());
   }
 
   @Override
   public boolean existsById(RoleId roleId) {
-    return roleMapper.existsById(roleId.value().toString());
+    return roleMapper.existsById(roleId.value());
   }
 
   @Override
@@ -70,13 +70,11 @@ public class RoleRepositoryImpl implements RoleRepository {
   private Role toDomain(RoleDto dto) {
     Set<PermissionId> permissionIds =
         roleMapper.findRolePermissionsByRoleId(dto.id()).stream()
-            .map(
-                rolePermissionDto ->
-                    new PermissionId(java.util.UUID.fromString(rolePermissionDto.permissionId())))
+            .map(rolePermissionDto -> new PermissionId(rolePermissionDto.permissionId()))
             .collect(Collectors.toSet());
 
     return Role.reconstruct(
-        java.util.UUID.fromString(dto.id()),
+        dto.id(),
         dto.createdAt(),
         dto.createdAt(), // Note: Roles don't have updatedAt in the table
         dto.name(),
@@ -85,17 +83,14 @@ public class RoleRepositoryImpl implements RoleRepository {
   }
 
   private RoleDto toDto(Role role) {
-    return new RoleDto(
-        role.getId().toString(), role.getName(), role.getDescription(), role.getCreatedAt());
+    return new RoleDto(role.getId(), role.getName(), role.getDescription(), role.getCreatedAt());
   }
 
   private void saveRolePermissions(Role role) {
     // First, get existing permissions
     Set<PermissionId> existingPermissionIds =
-        roleMapper.findRolePermissionsByRoleId(role.getId().toString()).stream()
-            .map(
-                rolePermissionDto ->
-                    new PermissionId(java.util.UUID.fromString(rolePermissionDto.permissionId())))
+        roleMapper.findRolePermissionsByRoleId(role.getId()).stream()
+            .map(rolePermissionDto -> new PermissionId(rolePermissionDto.permissionId()))
             .collect(Collectors.toSet());
 
     Set<PermissionId> currentPermissionIds = role.getPermissionIds();
@@ -105,9 +100,7 @@ public class RoleRepositoryImpl implements RoleRepository {
       if (!existingPermissionIds.contains(permissionId)) {
         RolePermissionDto rolePermissionDto =
             new RolePermissionDto(
-                role.getRoleId().value().toString(),
-                permissionId.value().toString(),
-                LocalDateTime.now());
+                role.getRoleId().value(), permissionId.value(), LocalDateTime.now());
         roleMapper.insertRolePermission(rolePermissionDto);
       }
     }
@@ -115,8 +108,7 @@ public class RoleRepositoryImpl implements RoleRepository {
     // Remove revoked permissions
     for (PermissionId permissionId : existingPermissionIds) {
       if (!currentPermissionIds.contains(permissionId)) {
-        roleMapper.deleteRolePermission(
-            role.getRoleId().value().toString(), permissionId.value().toString());
+        roleMapper.deleteRolePermission(role.getRoleId().value(), permissionId.value());
       }
     }
   }
@@ -27,7 +27,7 @@ public class UserRepositoryImpl implements UserRepository {
 
   @Override
   public Optional<User> findById(UserId userId) {
-    return userMapper.findById(userId.value().toString()).map(this::toDomain);
+    return userMapper.findById(userId.value()).map(this::toDomain);
   }
 
   @Override
@@ -39,7 +39,7 @@ public class UserRepositoryImpl implements UserRepository {
   public void save(User user) {
     UserDto userDto = toDto(user);
 
-    if (userMapper.existsById(user.getId().toString())) {
+    if (userMapper.existsById(user.getId())) {
       userMapper.update(userDto);
     } else {
       userMapper.insert(userDto);
@@ -51,12 +51,12 @@ public class UserRepositoryImpl implements UserRepository {
 
   @Override
   public void delete(UserId userId) {
-    userMapper.delete(userId.value().toString());
+    userMapper.delete(userId.value());
   }
 
   @Override
   public boolean existsById(UserId userId) {
-    return userMapper.existsById(userId.value().toString());
+    return userMapper.existsById(userId.value());
   }
 
   @Override
@@ -74,11 +74,11 @@ public class UserRepositoryImpl implements UserRepository {
   private User toDomain(UserDto dto) {
     Set<RoleId> roleIds =
         userMapper.findUserRolesByUserId(dto.id()).stream()
-            .map(userRoleDto -> new RoleId(java.util.UUID.fromString(userRoleDto.roleId())))
+            .map(userRoleDto -> new RoleId(userRoleDto.roleId()))
             .collect(Collectors.toSet());
 
     return User.reconstruct(
-        java.util.UUID.fromString(dto.id()),
+        dto.id(),
         dto.createdAt(),
         dto.updatedAt(),
         new Provider(dto.provider()),
@@ -90,7 +90,7 @@ public class UserRepositoryImpl implements UserRepository {
 
   private UserDto toDto(User user) {
     return new UserDto(
-        user.getId().toString(),
+        user.getId(),
         user.getProvider().name(),
         user.getExternalId(),
         user.getName(),
@@ -102,8 +102,8 @@ public class UserRepositoryImpl implements UserRepository {
   private void saveUserRoles(User user) {
     // First, get existing roles
     Set<RoleId> existingRoleIds =
-        userMapper.findUserRolesByUserId(user.getId().toString()).stream()
-            .map(userRoleDto -> new RoleId(java.util.UUID.fromString(userRoleDto.roleId())))
+        userMapper.findUserRolesByUserId(user.getId()).stream()
+            .map(userRoleDto -> new RoleId(userRoleDto.roleId()))
             .collect(Collectors.toSet());
 
     Set<RoleId> currentRoleIds = user.getRoleIds();
@@ -112,10 +112,7 @@ public class UserRepositoryImpl implements UserRepository {
     for (RoleId roleId : currentRoleIds) {
       if (!existingRoleIds.contains(roleId)) {
         UserRoleDto userRoleDto =
-            new UserRoleDto(
-                user.getUserId().value().toString(),
-                roleId.value().toString(),
-                LocalDateTime.now());
+            new UserRoleDto(user.getUserId().value(), roleId.value(), LocalDateTime.now());
         userMapper.insertUserRole(userRoleDto);
       }
     }
@@ -123,7 +120,7 @@ public class UserRepositoryImpl implements UserRepository {
     // Remove deleted roles
     for (RoleId roleId : existingRoleIds) {
       if (!currentRoleIds.contains(roleId)) {
-        userMapper.deleteUserRole(user.getUserId().value().toString(), roleId.value().toString());
+        userMapper.deleteUserRole(user.getUserId().value(), roleId.value());
       }
     }
   }
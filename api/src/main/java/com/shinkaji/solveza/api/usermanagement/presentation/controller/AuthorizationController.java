@@ -0,0 +1,62 @@
+package com.shinkaji.solveza.api.usermanagement.presentation.controller;
+
+import com.shinkaji.solveza.api.usermanagement.application.query.CheckPermissionQuery;
+import com.shinkaji.solveza.api.usermanagement.application.query.CheckPermissionsQuery;
+import com.shinkaji.solveza.api.usermanagement.application.usecase.AuthorizationUseCase;
+import com.shinkaji.solveza.api.usermanagement.domain.model.PermissionCheck;
+import com.shinkaji.solveza.api.usermanagement.presentation.dto.PermissionCheckDto;
+import com.shinkaji.solveza.api.usermanagement.presentation.request.CheckPermissionsRequest;
+import com.shinkaji.solveza.api.usermanagement.presentation.response.PermissionCheckResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/users/{userId}/permissions")
+@Tag(name = "Authorization", description = "権限判定API")
+public class AuthorizationController {
+
+  private final AuthorizationUseCase authorizationUseCase;
+
+  public AuthorizationController(AuthorizationUseCase authorizationUseCase) {
+    this.authorizationUseCase = authorizationUseCase;
+  }
+
+  @GetMapping("/check")
+  @Operation(summary = "権限判定", description = "ユーザーがリソースに対する操作の権限を持つかを判定します")
+  public ResponseEntity<PermissionCheckResponse> check(
+      @Parameter(description = "ユーザーID") @PathVariable UUID userId,
+      @Parameter(description = "リソース") @RequestParam String resource,
+      @Parameter(description = "アクション") @RequestParam String action) {
+
+    PermissionCheckDto result =
+        authorizationUseCase.check(new CheckPermissionQuery(userId, resource, action));
+
+    return ResponseEntity.ok(toResponse(result));
+  }
+
+  @PostMapping("/check")
+  @Operation(summary = "権限一括判定", description = "複数のリソース・操作の組について、ユーザーが権限を持つかをまとめて判定します")
+  public ResponseEntity<List<PermissionCheckResponse>> checkAll(
+      @Parameter(description = "ユーザーID") @PathVariable UUID userId,
+      @Valid @RequestBody CheckPermissionsRequest request) {
+
+    List<PermissionCheck> checks =
+        request.checks().stream()
+            .map(check -> new PermissionCheck(check.resource(), check.action()))
+            .toList();
+    List<PermissionCheckDto> results =
+        authorizationUseCase.checkAll(new CheckPermissionsQuery(userId, checks));
+
+    return ResponseEntity.ok(results.stream().map(this::toResponse).toList());
+  }
+
+  private PermissionCheckResponse toResponse(PermissionCheckDto dto) {
+    return new PermissionCheckResponse(dto.resource(), dto.action(), dto.allowed());
+  }
+}
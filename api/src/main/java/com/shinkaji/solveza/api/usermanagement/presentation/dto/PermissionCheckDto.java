@@ -0,0 +1,3 @@
+package com.shinkaji.solveza.api.usermanagement.presentation.dto;
+
+public record PermissionCheckDto(String resource, String action, boolean allowed) {}
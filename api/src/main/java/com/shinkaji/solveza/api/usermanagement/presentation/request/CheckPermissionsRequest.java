@@ -0,0 +1,10 @@
+package com.shinkaji.solveza.api.usermanagement.presentation.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record CheckPermissionsRequest(
+    @NotEmpty(message = "判定対象は1件以上必要です") @Size(max = 1000, message = "判定対象は1000件以下である必要があります")
+        List<@Valid PermissionCheckRequest> checks) {}
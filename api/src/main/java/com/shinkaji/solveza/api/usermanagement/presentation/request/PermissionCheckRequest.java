@@ -0,0 +1,7 @@
+package com.shinkaji.solveza.api.usermanagement.presentation.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record PermissionCheckRequest(
+    @NotBlank(message = "リソースは必須です") String resource,
+    @NotBlank(message = "アクションは必須です") String action) {}
@@ -0,0 +1,3 @@
+package com.shinkaji.solveza.api.usermanagement.presentation.response;
+
+public record PermissionCheckResponse(String resource, String action, boolean allowed) {}
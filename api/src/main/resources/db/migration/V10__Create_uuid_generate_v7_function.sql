@@ -0,0 +1,19 @@
+-- DB側で採番する取引ID（一括取り込みでIDを省略した行）用の UUIDv7（RFC 9562）
+-- アプリケーションの UuidV7IdGenerator と同じく先頭48ビットをUNIXミリ秒とし、主キーの B-tree の末尾に挿入されるようにする
+-- 残りのビットは gen_random_uuid の乱数を使い、バージョンのビットだけを 4 から 7 に書き換える
+CREATE OR REPLACE FUNCTION uuid_generate_v7()
+RETURNS UUID
+LANGUAGE sql
+VOLATILE
+AS $$
+    SELECT encode(
+        set_bit(
+            set_bit(
+                overlay(
+                    uuid_send(gen_random_uuid())
+                    PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                    FROM 1 FOR 6),
+                52, 1),
+            53, 1),
+        'hex')::uuid
+$$;
@@ -0,0 +1,20 @@
+-- 口座残高集計テーブル（取引記録時に同一トランザクション内で更新される）
+-- 異なる通貨の金額は合算できないため、口座・通貨ごとに1行を持つ
+CREATE TABLE account_balances (
+    account_id UUID NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    balance DECIMAL(19,2) NOT NULL DEFAULT 0,
+    last_executed_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (account_id, currency)
+);
+
+-- 既存の取引から通貨ごとの残高を再構築
+INSERT INTO account_balances (account_id, currency, balance, last_executed_at, updated_at)
+SELECT account_id,
+       currency,
+       SUM(CASE transaction_type WHEN 'DEPOSIT' THEN amount WHEN 'PAYMENT' THEN -amount ELSE 0 END),
+       MAX(executed_at),
+       CURRENT_TIMESTAMP
+FROM transactions
+GROUP BY account_id, currency;
@@ -0,0 +1,7 @@
+-- 取引履歴のキーセットページング用インデックス
+-- (executed_at, id) の降順で並べ、ページ位置に関わらず同一コストで次ページを取得する
+CREATE INDEX idx_transactions_account_executed_id
+    ON transactions(account_id, executed_at DESC, id DESC);
+
+-- 上記インデックスの先頭列で代替できるため削除
+DROP INDEX IF EXISTS idx_transactions_account_id;
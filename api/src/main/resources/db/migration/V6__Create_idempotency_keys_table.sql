@@ -0,0 +1,13 @@
+-- 冪等キーテーブル（クライアント再送による取引の重複登録を防止）
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(255) NOT NULL,
+    operation VARCHAR(50) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    response_body TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 冪等キー登録の ON CONFLICT の対象。同じキー・操作の同時リクエストは先に登録した1件だけが処理する
+CREATE UNIQUE INDEX idx_idempotency_keys_key_operation ON idempotency_keys(idempotency_key, operation);
+-- 保持期間を過ぎたキーの削除（IdempotencyKeyRetentionScheduler）で対象を絞る
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys(created_at);
@@ -0,0 +1,90 @@
+-- 取引テーブルを executed_at の月次レンジパーティションに移行する
+-- パーティションテーブルの主キーにはパーティションキーを含める必要があるため (id, executed_at) とする
+-- この主キーでは取引IDの一意性を保証できないため、取引IDは transaction_ids の主キーで一意にする
+ALTER TABLE transactions RENAME TO transactions_unpartitioned;
+ALTER TABLE transactions_unpartitioned RENAME CONSTRAINT transactions_pkey TO transactions_unpartitioned_pkey;
+DROP INDEX IF EXISTS idx_transactions_account_executed_id;
+DROP INDEX IF EXISTS idx_transactions_executed_at;
+
+CREATE TABLE transactions (
+    id UUID NOT NULL,
+    account_id UUID NOT NULL,
+    transaction_type VARCHAR(20) NOT NULL,
+    amount DECIMAL(15,2) NOT NULL,
+    currency VARCHAR(3) NOT NULL DEFAULT 'JPY',
+    description TEXT,
+    executed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, executed_at)
+) PARTITION BY RANGE (executed_at);
+
+-- 親テーブルに作成したインデックスは各パーティションに自動で作成される
+CREATE INDEX idx_transactions_account_executed_id
+    ON transactions(account_id, executed_at DESC, id DESC);
+CREATE INDEX idx_transactions_executed_at ON transactions(executed_at);
+-- ID単独の検索（findById / existsById / delete）用
+CREATE INDEX idx_transactions_id ON transactions(id);
+
+-- 取引IDの一意性を保証するためのパーティションしないテーブル
+-- transactions への INSERT / DELETE は、同じ文で transaction_ids への登録・削除を行う
+-- （TransactionMapper / TransactionImportMapper / SyntheticDataGenerator）。既存のIDの登録は一意制約違反になる
+CREATE TABLE transaction_ids (
+    id UUID PRIMARY KEY
+);
+
+-- 月次パーティションが未作成の期間の行を受け止める
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+
+-- range_start〜range_end を含む月の月次パーティションを作成し、作成した数を返す
+-- デフォルトパーティションに入っている該当月の行は新しいパーティションへ移す
+CREATE OR REPLACE FUNCTION ensure_transaction_partitions(range_start DATE, range_end DATE)
+RETURNS INTEGER
+LANGUAGE plpgsql
+STRICT
+AS $$
+DECLARE
+    month_start DATE := date_trunc('month', range_start)::date;
+    month_end DATE;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    -- 複数インスタンスから同時に呼ばれても同じパーティションを二重に作成しない
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_transaction_partitions'));
+
+    WHILE month_start <= range_end LOOP
+        month_end := (month_start + INTERVAL '1 month')::date;
+        partition_name := 'transactions_' || to_char(month_start, 'YYYYMM');
+
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE transactions INCLUDING DEFAULTS)', partition_name);
+            EXECUTE format(
+                'WITH moved AS (DELETE FROM transactions_default WHERE executed_at >= %L AND executed_at < %L RETURNING *) '
+                    || 'INSERT INTO %I SELECT * FROM moved',
+                month_start, month_end, partition_name);
+            EXECUTE format(
+                'ALTER TABLE transactions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                partition_name, month_start, month_end);
+            created := created + 1;
+        END IF;
+
+        month_start := month_end;
+    END LOOP;
+
+    RETURN created;
+END;
+$$;
+
+-- 既存データの期間と、今後3か月分のパーティションを作成してからデータを移す
+SELECT ensure_transaction_partitions(
+    LEAST(COALESCE(MIN(executed_at)::date, CURRENT_DATE), CURRENT_DATE),
+    (CURRENT_DATE + INTERVAL '3 months')::date)
+FROM transactions_unpartitioned;
+
+INSERT INTO transactions (id, account_id, transaction_type, amount, currency, description, executed_at, created_at)
+SELECT id, account_id, transaction_type, amount, currency, description, executed_at, created_at
+FROM transactions_unpartitioned;
+
+INSERT INTO transaction_ids (id)
+SELECT id FROM transactions_unpartitioned;
+
+DROP TABLE transactions_unpartitioned;
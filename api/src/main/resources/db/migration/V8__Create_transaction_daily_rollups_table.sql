@@ -0,0 +1,28 @@
+-- 取引の日次集計テーブル（取引記録時に同一トランザクション内で更新される）
+-- ダッシュボードは transactions を集計せずにこのテーブルのみを参照する
+CREATE TABLE transaction_daily_rollups (
+    account_id UUID NOT NULL,
+    business_date DATE NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    deposit_total DECIMAL(19,2) NOT NULL DEFAULT 0,
+    payment_total DECIMAL(19,2) NOT NULL DEFAULT 0,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 日次集計の加算（ON CONFLICT ... DO UPDATE）の対象。口座・日付・通貨ごとに1行にまとめる
+CREATE UNIQUE INDEX idx_transaction_daily_rollups_account_date_currency
+    ON transaction_daily_rollups(account_id, business_date, currency);
+
+-- 既存の取引から日次集計を作成
+INSERT INTO transaction_daily_rollups
+    (account_id, business_date, currency, deposit_total, payment_total, transaction_count, updated_at)
+SELECT account_id,
+       executed_at::date,
+       currency,
+       SUM(CASE transaction_type WHEN 'DEPOSIT' THEN amount ELSE 0 END),
+       SUM(CASE transaction_type WHEN 'PAYMENT' THEN amount ELSE 0 END),
+       COUNT(*),
+       CURRENT_TIMESTAMP
+FROM transactions
+GROUP BY account_id, executed_at::date, currency;
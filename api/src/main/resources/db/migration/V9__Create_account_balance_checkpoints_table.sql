@@ -0,0 +1,15 @@
+-- 口座残高のチェックポイント（checkpoint_at より前に実行された取引の通貨ごとの残高）
+-- 時点指定の残高照会は直近のチェックポイントとそれ以降の差分のみを集計する
+CREATE TABLE account_balance_checkpoints (
+    account_id UUID NOT NULL,
+    checkpoint_at TIMESTAMP NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    balance DECIMAL(19,2) NOT NULL,
+    last_executed_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- チェックポイント作成の ON CONFLICT の対象。同じ時点のチェックポイントを再作成しても重複しない
+CREATE UNIQUE INDEX idx_account_balance_checkpoints_account_at
+    ON account_balance_checkpoints(account_id, checkpoint_at, currency);
+CREATE INDEX idx_account_balance_checkpoints_at ON account_balance_checkpoints(checkpoint_at);
@@ -179,9 +179,9 @@ class PaymentProxyManagementE2ETest {
     mockMvc
         .perform(get("/transactions/history").param("accountId", testAccountId))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$.transactions.length()").value(2))
         .andExpect(
-            jsonPath("$[*].transactionType")
+            jsonPath("$.transactions[*].transactionType")
                 .value(org.hamcrest.Matchers.containsInAnyOrder("DEPOSIT", "PAYMENT")));
   }
 
@@ -228,7 +228,7 @@ class PaymentProxyManagementE2ETest {
     mockMvc
         .perform(get("/transactions/history").param("accountId", testAccountId))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$.length()").value(3));
+        .andExpect(jsonPath("$.transactions.length()").value(3));
   }
 
   @Test
@@ -0,0 +1,59 @@
+package com.shinkaji.solveza.api.account.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.shinkaji.solveza.api.account.application.command.DeleteAccountCommand;
+import com.shinkaji.solveza.api.account.domain.repository.AccountRepository;
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.exception.AccountNotFoundException;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeleteAccountUseCaseのテスト")
+class DeleteAccountUseCaseTest {
+
+  @Mock private AccountRepository accountRepository;
+
+  private DeleteAccountUseCase deleteAccountUseCase;
+
+  @BeforeEach
+  void setUp() {
+    deleteAccountUseCase = new DeleteAccountUseCase(accountRepository);
+  }
+
+  @Test
+  @DisplayName("存在するアカウントを削除する")
+  void execute_shouldDeleteAccount() {
+    // Given
+    UUID id = UUID.randomUUID();
+    AccountId accountId = new AccountId(id);
+    when(accountRepository.existsById(accountId)).thenReturn(true);
+
+    // When
+    deleteAccountUseCase.execute(new DeleteAccountCommand(id));
+
+    // Then
+    verify(accountRepository).delete(accountId);
+  }
+
+  @Test
+  @DisplayName("存在しないアカウントの場合例外が発生する")
+  void execute_shouldThrowException_whenAccountNotExists() {
+    // Given
+    UUID id = UUID.randomUUID();
+    when(accountRepository.existsById(new AccountId(id))).thenReturn(false);
+
+    // When & Then
+    assertThrows(
+        AccountNotFoundException.class,
+        () -> deleteAccountUseCase.execute(new DeleteAccountCommand(id)));
+    verify(accountRepository, never()).delete(any());
+  }
+}
@@ -0,0 +1,138 @@
+package com.shinkaji.solveza.api.account.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import com.shinkaji.solveza.api.account.application.query.GetAccountOverviewQuery;
+import com.shinkaji.solveza.api.account.domain.model.Account;
+import com.shinkaji.solveza.api.account.domain.model.AccountWithBalances;
+import com.shinkaji.solveza.api.account.domain.repository.AccountRepository;
+import com.shinkaji.solveza.api.account.presentation.dto.AccountOverviewDto;
+import com.shinkaji.solveza.api.account.presentation.dto.CurrencyAmountDto;
+import com.shinkaji.solveza.api.shared.domain.UserId;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetAccountOverviewUseCaseのテスト")
+class GetAccountOverviewUseCaseTest {
+
+  private static final Currency JPY = Currency.getInstance("JPY");
+  private static final Currency USD = Currency.getInstance("USD");
+
+  @Mock private AccountRepository accountRepository;
+
+  private GetAccountOverviewUseCase getAccountOverviewUseCase;
+
+  @BeforeEach
+  void setUp() {
+    getAccountOverviewUseCase = new GetAccountOverviewUseCase(accountRepository);
+  }
+
+  @Test
+  @DisplayName("アカウントごとの残高と通貨別の受取・支払合計を返す")
+  void execute_shouldReturnBalancesAndTotals() {
+    // Given
+    UserId userId = UserId.generate();
+    Account asRequester = Account.create(userId, UserId.generate());
+    Account asRequesterInDebt = Account.create(userId, UserId.generate());
+    Account asPayer = Account.create(UserId.generate(), userId);
+    Account asPayerInUsd = Account.create(UserId.generate(), userId);
+
+    when(accountRepository.findWithBalancesByUserId(userId))
+        .thenReturn(
+            List.of(
+                new AccountWithBalances(asRequester, Map.of(JPY, BigDecimal.valueOf(5000))),
+                new AccountWithBalances(asRequesterInDebt, Map.of(JPY, BigDecimal.valueOf(-1200))),
+                new AccountWithBalances(asPayer, Map.of(JPY, BigDecimal.valueOf(800))),
+                new AccountWithBalances(asPayerInUsd, Map.of(USD, new BigDecimal("-25.50")))));
+
+    // When
+    AccountOverviewDto result =
+        getAccountOverviewUseCase.execute(new GetAccountOverviewQuery(userId.value()));
+
+    // Then
+    assertEquals(userId.value(), result.userId());
+    assertEquals(4, result.accounts().size());
+    assertEquals(asRequester.getId(), result.accounts().getFirst().id());
+    assertEquals(
+        List.of(new CurrencyAmountDto("JPY", BigDecimal.valueOf(5000))),
+        result.accounts().getFirst().balances());
+
+    // 依頼者として預けている残高と、支払者として立て替えた額は受け取り側
+    assertEquals(
+        List.of(
+            new CurrencyAmountDto("JPY", BigDecimal.valueOf(5000)),
+            new CurrencyAmountDto("USD", new BigDecimal("25.50"))),
+        result.receivables());
+    // 依頼者として立て替えてもらった額と、支払者として預かっている残高は支払い側
+    assertEquals(
+        List.of(new CurrencyAmountDto("JPY", BigDecimal.valueOf(2000))), result.payables());
+  }
+
+  @Test
+  @DisplayName("取引がないアカウントは残高なしで合計に含めない")
+  void execute_shouldExcludeAccountsWithoutTransactionsFromTotals() {
+    // Given
+    UserId userId = UserId.generate();
+    Account account = Account.create(userId, UserId.generate());
+
+    when(accountRepository.findWithBalancesByUserId(userId))
+        .thenReturn(List.of(new AccountWithBalances(account, Map.of())));
+
+    // When
+    AccountOverviewDto result =
+        getAccountOverviewUseCase.execute(new GetAccountOverviewQuery(userId.value()));
+
+    // Then
+    assertEquals(1, result.accounts().size());
+    assertTrue(result.accounts().getFirst().balances().isEmpty());
+    assertTrue(result.receivables().isEmpty());
+    assertTrue(result.payables().isEmpty());
+  }
+
+  @Test
+  @DisplayName("複数通貨を持つアカウントは通貨ごとに残高を返し、合計も通貨ごとに集計する")
+  void execute_shouldFoldEachCurrencySeparately() {
+    // Given
+    UserId userId = UserId.generate();
+    Account multiCurrency = Account.create(userId, UserId.generate());
+    Account asPayer = Account.create(UserId.generate(), userId);
+    Map<Currency, BigDecimal> balances = new LinkedHashMap<>();
+    balances.put(JPY, BigDecimal.valueOf(700));
+    balances.put(USD, new BigDecimal("-5.00"));
+
+    when(accountRepository.findWithBalancesByUserId(userId))
+        .thenReturn(
+            List.of(
+                new AccountWithBalances(multiCurrency, balances),
+                new AccountWithBalances(asPayer, Map.of(USD, new BigDecimal("-20.00")))));
+
+    // When
+    AccountOverviewDto result =
+        getAccountOverviewUseCase.execute(new GetAccountOverviewQuery(userId.value()));
+
+    // Then
+    assertEquals(2, result.accounts().size());
+    assertEquals(
+        List.of(
+            new CurrencyAmountDto("JPY", BigDecimal.valueOf(700)),
+            new CurrencyAmountDto("USD", new BigDecimal("-5.00"))),
+        result.accounts().getFirst().balances());
+    assertEquals(
+        List.of(
+            new CurrencyAmountDto("JPY", BigDecimal.valueOf(700)),
+            new CurrencyAmountDto("USD", new BigDecimal("20.00"))),
+        result.receivables());
+    assertEquals(List.of(new CurrencyAmountDto("USD", new BigDecimal("5.00"))), result.payables());
+  }
+}
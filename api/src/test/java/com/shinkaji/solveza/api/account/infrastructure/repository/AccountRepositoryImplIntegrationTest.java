@@ -3,12 +3,19 @@ package com.shinkaji.solveza.api.account.infrastructure.repository;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.shinkaji.solveza.api.account.domain.model.Account;
+import com.shinkaji.solveza.api.account.domain.model.AccountWithBalances;
 import com.shinkaji.solveza.api.annotation.RepositoryIntegrationTest;
 import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
 import com.shinkaji.solveza.api.shared.domain.UserId;
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.infrastructure.repository.AccountBalanceRepositoryImpl;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,9 +26,13 @@ import org.junit.jupiter.api.Test;
 class AccountRepositoryImplIntegrationTest {
 
   private final AccountRepositoryImpl accountRepository;
+  private final AccountBalanceRepositoryImpl accountBalanceRepository;
 
-  AccountRepositoryImplIntegrationTest(AccountRepositoryImpl accountRepository) {
+  AccountRepositoryImplIntegrationTest(
+      AccountRepositoryImpl accountRepository,
+      AccountBalanceRepositoryImpl accountBalanceRepository) {
     this.accountRepository = accountRepository;
+    this.accountBalanceRepository = accountBalanceRepository;
   }
 
   private Account testAccount;
@@ -221,4 +232,70 @@ class AccountRepositoryImplIntegrationTest {
     assertFalse(testAccount.isPayer(testRequesterId));
     assertFalse(testAccount.isPayer(new UserId(UUID.randomUUID())));
   }
+
+  @Test
+  @DisplayName("存在するアカウントIDの一括検索")
+  void findExistingIds_Success() {
+    // Arrange
+    accountRepository.save(testAccount);
+    AccountId existingId = new AccountId(testAccount.getId());
+    AccountId missingId = new AccountId(UUID.randomUUID());
+
+    // Act
+    Set<AccountId> existing = accountRepository.findExistingIds(List.of(existingId, missingId));
+
+    // Assert
+    assertEquals(Set.of(existingId), existing);
+    assertTrue(accountRepository.findExistingIds(List.of()).isEmpty());
+  }
+
+  @Test
+  @DisplayName("ユーザー関連アカウントを通貨ごとの残高付きで検索")
+  void findWithBalancesByUserId_Success() {
+    // Arrange
+    accountRepository.save(testAccount);
+    Account withoutTransactions = Account.create(new UserId(UUID.randomUUID()), testRequesterId);
+    accountRepository.save(withoutTransactions);
+    accountRepository.save(Account.create(new UserId(UUID.randomUUID()), testPayerId));
+
+    AccountId accountId = new AccountId(testAccount.getId());
+    accountBalanceRepository.apply(
+        Transaction.createDeposit(
+            accountId, new Money(BigDecimal.valueOf(1000), Currency.getInstance("JPY")), "預かり"));
+    accountBalanceRepository.apply(
+        Transaction.createPayment(
+            accountId, new Money(BigDecimal.valueOf(1500), Currency.getInstance("JPY")), "支払い"));
+    accountBalanceRepository.apply(
+        Transaction.createDeposit(
+            accountId, new Money(BigDecimal.valueOf(5), Currency.getInstance("USD")), "預かり"));
+
+    // Act
+    List<AccountWithBalances> accounts =
+        accountRepository.findWithBalancesByUserId(testRequesterId);
+
+    // Assert
+    assertEquals(2, accounts.size());
+    AccountWithBalances withBalances =
+        accounts.stream()
+            .filter(account -> account.account().getId().equals(testAccount.getId()))
+            .findFirst()
+            .orElseThrow();
+    assertEquals(
+        List.of(Currency.getInstance("JPY"), Currency.getInstance("USD")),
+        List.copyOf(withBalances.balances().keySet()));
+    assertEquals(
+        0,
+        BigDecimal.valueOf(-500)
+            .compareTo(withBalances.balances().get(Currency.getInstance("JPY"))));
+    assertEquals(
+        0,
+        BigDecimal.valueOf(5).compareTo(withBalances.balances().get(Currency.getInstance("USD"))));
+
+    AccountWithBalances withoutBalances =
+        accounts.stream()
+            .filter(account -> account.account().getId().equals(withoutTransactions.getId()))
+            .findFirst()
+            .orElseThrow();
+    assertTrue(withoutBalances.balances().isEmpty());
+  }
 }
@@ -46,13 +46,9 @@ class AccountRepositoryImplTest {
 
     AccountDto accountDto =
         new AccountDto(
-            accountUuid.toString(),
-            requesterUuid.toString(),
-            payerUuid.toString(),
-            LocalDateTime.now(),
-            LocalDateTime.now());
+            accountUuid, requesterUuid, payerUuid, LocalDateTime.now(), LocalDateTime.now());
 
-    when(accountMapper.findById(accountUuid.toString())).thenReturn(Optional.of(accountDto));
+    when(accountMapper.findById(accountUuid)).thenReturn(Optional.of(accountDto));
 
     // When
     Optional<Account> result = accountRepository.findById(accountId);
@@ -70,7 +66,7 @@ class AccountRepositoryImplTest {
   void findById_shouldReturnEmpty_whenAccountNotExists() {
     // Given
     AccountId accountId = new AccountId(UUID.randomUUID());
-    when(accountMapper.findById(accountId.value().toString())).thenReturn(Optional.empty());
+    when(accountMapper.findById(accountId.value())).thenReturn(Optional.empty());
 
     // When
     Optional<Account> result = accountRepository.findById(accountId);
@@ -87,7 +83,7 @@ class AccountRepositoryImplTest {
     UserId payerId = UserId.generate();
     Account account = Account.create(requesterId, payerId);
 
-    when(accountMapper.existsById(account.getId().toString())).thenReturn(false);
+    when(accountMapper.existsById(account.getId())).thenReturn(false);
 
     // When
     accountRepository.save(account);
@@ -98,9 +94,9 @@ class AccountRepositoryImplTest {
     verify(accountMapper, never()).update(any());
 
     AccountDto savedDto = accountCaptor.getValue();
-    assertEquals(account.getId().toString(), savedDto.id());
-    assertEquals(requesterId.value().toString(), savedDto.requesterId());
-    assertEquals(payerId.value().toString(), savedDto.payerId());
+    assertEquals(account.getId(), savedDto.id());
+    assertEquals(requesterId.value(), savedDto.requesterId());
+    assertEquals(payerId.value(), savedDto.payerId());
   }
 
   @Test
@@ -111,7 +107,7 @@ class AccountRepositoryImplTest {
     UserId payerId = UserId.generate();
     Account account = Account.create(requesterId, payerId);
 
-    when(accountMapper.existsById(account.getId().toString())).thenReturn(true);
+    when(accountMapper.existsById(account.getId())).thenReturn(true);
 
     // When
     accountRepository.save(account);
@@ -122,6 +118,6 @@ class AccountRepositoryImplTest {
     verify(accountMapper, never()).insert(any());
 
     AccountDto updatedDto = accountCaptor.getValue();
-    assertEquals(account.getId().toString(), updatedDto.id());
+    assertEquals(account.getId(), updatedDto.id());
   }
 }
@@ -0,0 +1,163 @@
+package com.shinkaji.solveza.api.account.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingAccountRepositoryのテスト")
+class CachingAccountRepositoryTest {
+
+  @Mock private AccountRepositoryImpl delegate;
+
+  private SimpleMeterRegistry meterRegistry;
+  private CachingAccountRepository accountRepository;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    accountRepository =
+        new CachingAccountRepository(
+            delegate, meterRegistry, 100, Duration.ofMinutes(5), Duration.ofMinutes(5));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("存在するアカウントは2回目以降DBに問い合わせない")
+  void exists_shouldQueryOnce_whenAccountExists() {
+    // Given
+    AccountId accountId = new AccountId(UUID.randomUUID());
+    when(delegate.existsById(accountId)).thenReturn(true);
+
+    // When
+    boolean first = accountRepository.existsById(accountId);
+    boolean second = accountRepository.existsById(accountId);
+
+    // Then
+    assertTrue(first);
+    assertTrue(second);
+    verify(delegate, times(1)).existsById(accountId);
+    assertEquals(1.0, cacheGets("hit"));
+    assertEquals(1.0, cacheGets("miss"));
+  }
+
+  @Test
+  @DisplayName("存在しないアカウントも保持する")
+  void exists_shouldCacheMiss_whenAccountNotExists() {
+    // Given
+    AccountId accountId = new AccountId(UUID.randomUUID());
+    when(delegate.existsById(accountId)).thenReturn(false);
+
+    // When
+    accountRepository.existsById(accountId);
+    boolean result = accountRepository.existsById(accountId);
+
+    // Then
+    assertFalse(result);
+    verify(delegate, times(1)).existsById(accountId);
+  }
+
+  @Test
+  @DisplayName("存在しないアカウントは短い期間で期限切れになる")
+  void exists_shouldExpireNegativeEntries() throws Exception {
+    // Given
+    accountRepository =
+        new CachingAccountRepository(
+            delegate, meterRegistry, 100, Duration.ofMinutes(5), Duration.ofMillis(1));
+    AccountId accountId = new AccountId(UUID.randomUUID());
+    when(delegate.existsById(accountId)).thenReturn(false, true);
+
+    // When
+    accountRepository.existsById(accountId);
+    Thread.sleep(20);
+    boolean result = accountRepository.existsById(accountId);
+
+    // Then
+    assertTrue(result);
+    verify(delegate, times(2)).existsById(accountId);
+  }
+
+  @Test
+  @DisplayName("一括確認で存在したアカウントはDBに問い合わせない")
+  void findExistingIds_shouldSkipQuery_forExistingAccounts() {
+    // Given
+    AccountId accountId = new AccountId(UUID.randomUUID());
+    when(delegate.findExistingIds(List.of(accountId))).thenReturn(Set.of(accountId));
+    accountRepository.findExistingIds(List.of(accountId));
+
+    // When
+    boolean result = accountRepository.existsById(accountId);
+
+    // Then
+    assertTrue(result);
+    verify(delegate, never()).existsById(accountId);
+  }
+
+  @Test
+  @DisplayName("削除すると次の確認でDBに問い合わせる")
+  void delete_shouldEvictEntry() {
+    // Given
+    AccountId accountId = new AccountId(UUID.randomUUID());
+    when(delegate.existsById(accountId)).thenReturn(true, false);
+    accountRepository.existsById(accountId);
+
+    // When
+    accountRepository.delete(accountId);
+    boolean result = accountRepository.existsById(accountId);
+
+    // Then
+    assertFalse(result);
+    verify(delegate).delete(accountId);
+    verify(delegate, times(2)).existsById(accountId);
+  }
+
+  @Test
+  @DisplayName("トランザクション中の削除は完了時にも再度無効化する")
+  void delete_shouldEvictAgain_afterTransactionCompletion() {
+    // Given
+    TransactionSynchronizationManager.initSynchronization();
+    AccountId accountId = new AccountId(UUID.randomUUID());
+    when(delegate.existsById(accountId)).thenReturn(true, false);
+
+    // When
+    accountRepository.delete(accountId);
+    // 削除の確定前に並行する読み取りが「存在する」を書き戻す
+    accountRepository.existsById(accountId);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    boolean result = accountRepository.existsById(accountId);
+
+    // Then
+    assertFalse(result);
+  }
+
+  private double cacheGets(String result) {
+    return meterRegistry
+        .get("cache.gets")
+        .tag("cache", CachingAccountRepository.CACHE_NAME)
+        .tag("result", result)
+        .functionCounter()
+        .count();
+  }
+}
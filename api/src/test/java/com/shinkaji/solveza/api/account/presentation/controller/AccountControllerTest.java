@@ -6,14 +6,20 @@ import static org.mockito.Mockito.*;
 
 import com.shinkaji.solveza.api.account.application.command.CreateAccountCommand;
 import com.shinkaji.solveza.api.account.application.command.DeleteAccountCommand;
+import com.shinkaji.solveza.api.account.application.query.GetAccountOverviewQuery;
 import com.shinkaji.solveza.api.account.application.query.GetAccountQuery;
 import com.shinkaji.solveza.api.account.application.query.GetAccountsByUserQuery;
 import com.shinkaji.solveza.api.account.application.usecase.CreateAccountUseCase;
 import com.shinkaji.solveza.api.account.application.usecase.DeleteAccountUseCase;
+import com.shinkaji.solveza.api.account.application.usecase.GetAccountOverviewUseCase;
 import com.shinkaji.solveza.api.account.application.usecase.GetAccountUseCase;
 import com.shinkaji.solveza.api.account.application.usecase.GetAccountsByUserUseCase;
+import com.shinkaji.solveza.api.account.presentation.dto.AccountBalanceItemDto;
 import com.shinkaji.solveza.api.account.presentation.dto.AccountDto;
+import com.shinkaji.solveza.api.account.presentation.dto.AccountOverviewDto;
+import com.shinkaji.solveza.api.account.presentation.dto.CurrencyAmountDto;
 import com.shinkaji.solveza.api.shared.domain.exception.AccountNotFoundException;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -39,6 +45,8 @@ class AccountControllerTest {
 
   @Mock private GetAccountsByUserUseCase getAccountsByUserUseCase;
 
+  @Mock private GetAccountOverviewUseCase getAccountOverviewUseCase;
+
   private AccountController accountController;
 
   @BeforeEach
@@ -48,7 +56,8 @@ class AccountControllerTest {
             createAccountUseCase,
             deleteAccountUseCase,
             getAccountUseCase,
-            getAccountsByUserUseCase);
+            getAccountsByUserUseCase,
+            getAccountOverviewUseCase);
   }
 
   @Test
@@ -144,6 +153,40 @@ class AccountControllerTest {
     verify(getAccountsByUserUseCase).execute(any(GetAccountsByUserQuery.class));
   }
 
+  @Test
+  @DisplayName("ユーザー関連アカウントの残高一覧を取得できる")
+  void getAccountOverview_shouldReturnOverview_whenValidUserId() {
+    // Given
+    UUID userId = UUID.randomUUID();
+    UUID accountId = UUID.randomUUID();
+    LocalDateTime now = LocalDateTime.now();
+
+    AccountOverviewDto overview =
+        new AccountOverviewDto(
+            userId,
+            List.of(
+                new AccountBalanceItemDto(
+                    accountId,
+                    userId,
+                    UUID.randomUUID(),
+                    List.of(new CurrencyAmountDto("JPY", BigDecimal.valueOf(3000))),
+                    now,
+                    now)),
+            List.of(new CurrencyAmountDto("JPY", BigDecimal.valueOf(3000))),
+            List.of());
+
+    when(getAccountOverviewUseCase.execute(any(GetAccountOverviewQuery.class)))
+        .thenReturn(overview);
+
+    // When
+    ResponseEntity<AccountOverviewDto> response = accountController.getAccountOverview(userId);
+
+    // Then
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(overview, response.getBody());
+    verify(getAccountOverviewUseCase).execute(any(GetAccountOverviewQuery.class));
+  }
+
   @Test
   @DisplayName("アカウントを正常に削除できる")
   void deleteAccount_shouldReturnNoContent_whenAccountExists() {
@@ -1,5 +1,6 @@
 package com.shinkaji.solveza.api.config;
 
+import com.shinkaji.solveza.api.shared.infrastructure.mybatis.UuidTypeHandler;
 import javax.sql.DataSource;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionFactoryBean;
@@ -46,6 +47,7 @@ public class TestDataSourceConfiguration {
 
     PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
     factoryBean.setMapperLocations(resolver.getResources("classpath:mapper/**/*.xml"));
+    factoryBean.setTypeHandlers(new UuidTypeHandler());
 
     org.apache.ibatis.session.Configuration configuration =
         new org.apache.ibatis.session.Configuration();
@@ -0,0 +1,111 @@
+package com.shinkaji.solveza.api.shared.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MoneyAccumulatorのテスト")
+class MoneyAccumulatorTest {
+
+  private static final Currency JPY = Currency.getInstance("JPY");
+  private static final Currency USD = Currency.getInstance("USD");
+
+  @Test
+  @DisplayName("通貨ごとに合算され、BigDecimalで加算した場合と同じ値が返される")
+  void add_shouldAccumulatePerCurrency() {
+    // Given
+    MoneyAccumulator accumulator = new MoneyAccumulator();
+
+    // When
+    accumulator.add(new Money(new BigDecimal("1000"), JPY));
+    accumulator.subtract(new Money(new BigDecimal("300"), JPY));
+    accumulator.add(new Money(new BigDecimal("10.25"), USD));
+    accumulator.add(new Money(new BigDecimal("0.5"), USD));
+
+    // Then
+    assertEquals(new BigDecimal("700"), accumulator.amount(JPY));
+    assertEquals(new BigDecimal("10.75"), accumulator.amount(USD));
+    assertEquals(1075, accumulator.minorUnits(USD));
+    assertEquals(List.of(JPY, USD), List.copyOf(accumulator.amounts().keySet()));
+  }
+
+  @Test
+  @DisplayName("未登録の通貨は0として扱われる")
+  void amount_shouldReturnZero_whenCurrencyNotAccumulated() {
+    // Given
+    MoneyAccumulator accumulator = new MoneyAccumulator();
+
+    // When & Then
+    assertTrue(accumulator.isEmpty());
+    assertFalse(accumulator.contains(JPY));
+    assertEquals(BigDecimal.ZERO, accumulator.amount(JPY));
+    assertEquals(Map.of(), accumulator.amounts());
+  }
+
+  @Test
+  @DisplayName("初期容量を超える通貨数でも合算できる")
+  void add_shouldGrow_whenManyCurrencies() {
+    // Given
+    MoneyAccumulator accumulator = new MoneyAccumulator();
+    List<String> codes = List.of("JPY", "USD", "EUR", "GBP", "AUD");
+
+    // When
+    for (String code : codes) {
+      accumulator.add(Currency.getInstance(code), BigDecimal.ONE);
+      accumulator.add(Currency.getInstance(code), BigDecimal.ONE);
+    }
+
+    // Then
+    assertEquals(codes.size(), accumulator.amounts().size());
+    for (String code : codes) {
+      assertEquals(BigDecimal.valueOf(2), accumulator.amount(Currency.getInstance(code)));
+    }
+  }
+
+  @Test
+  @DisplayName("小数点以下3桁以上の端数は丸めずにエラーとなる")
+  void add_shouldThrowException_whenFractionExceedsScale() {
+    // Given
+    MoneyAccumulator accumulator = new MoneyAccumulator();
+
+    // When & Then
+    assertThrows(ArithmeticException.class, () -> accumulator.add(USD, new BigDecimal("0.001")));
+  }
+
+  @Test
+  @DisplayName("合計がlongの範囲を超える場合はエラーとなる")
+  void addMinorUnits_shouldThrowException_whenOverflow() {
+    // Given
+    MoneyAccumulator accumulator = new MoneyAccumulator();
+    accumulator.addMinorUnits(JPY, Long.MAX_VALUE);
+
+    // When & Then
+    assertThrows(ArithmeticException.class, () -> accumulator.addMinorUnits(JPY, 1));
+  }
+
+  @Test
+  @DisplayName("小数点以下の桁数によらず最小単位に変換される")
+  void toMinorUnits_shouldConvertRegardlessOfScale() {
+    // When & Then
+    assertEquals(1234, MoneyAccumulator.toMinorUnits(new BigDecimal("12.34")));
+    assertEquals(1230, MoneyAccumulator.toMinorUnits(new BigDecimal("12.3")));
+    assertEquals(1200, MoneyAccumulator.toMinorUnits(new BigDecimal("12")));
+    assertEquals(-1234, MoneyAccumulator.toMinorUnits(new BigDecimal("-12.340")));
+    assertEquals(120000, MoneyAccumulator.toMinorUnits(new BigDecimal("1.2E+3")));
+  }
+
+  @Test
+  @DisplayName("最小単位がlongの範囲を超える金額はエラーとなる")
+  void toMinorUnits_shouldThrowException_whenOverflow() {
+    // Given
+    BigDecimal amount = BigDecimal.valueOf(Long.MAX_VALUE, 1);
+
+    // When & Then
+    assertThrows(ArithmeticException.class, () -> MoneyAccumulator.toMinorUnits(amount));
+  }
+}
@@ -0,0 +1,80 @@
+package com.shinkaji.solveza.api.shared.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UuidV7IdGeneratorのテスト")
+class UuidV7IdGeneratorTest {
+
+  @Test
+  @DisplayName("バージョン7・RFC 9562バリアントのUUIDを生成する")
+  void generate_shouldReturnVersion7Uuid() {
+    // Given
+    UuidV7IdGenerator generator = new UuidV7IdGenerator();
+
+    // When
+    UUID id = generator.generate();
+
+    // Then
+    assertEquals(7, id.version());
+    assertEquals(2, id.variant());
+  }
+
+  @Test
+  @DisplayName("先頭48ビットに生成時刻のミリ秒を持つ")
+  void generate_shouldEmbedTimestamp() {
+    // Given
+    long now = 1_700_000_000_000L;
+    UuidV7IdGenerator generator = new UuidV7IdGenerator(() -> now);
+
+    // When
+    UUID id = generator.generate();
+
+    // Then
+    assertEquals(now, id.getMostSignificantBits() >>> 16);
+  }
+
+  @Test
+  @DisplayName("同一ミリ秒内でも単調増加する")
+  void generate_shouldBeMonotonic_withinSameMillisecond() {
+    // Given
+    UuidV7IdGenerator generator = new UuidV7IdGenerator(() -> 1_700_000_000_000L);
+
+    // When & Then
+    UUID previous = generator.generate();
+    for (int i = 0; i < 10_000; i++) {
+      UUID current = generator.generate();
+      assertTrue(compareUnsigned(previous, current) < 0);
+      previous = current;
+    }
+  }
+
+  @Test
+  @DisplayName("時計が戻っても直前のIDより大きいIDを生成する")
+  void generate_shouldBeMonotonic_whenClockMovesBackwards() {
+    // Given
+    AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    UuidV7IdGenerator generator = new UuidV7IdGenerator(clock::get);
+    UUID first = generator.generate();
+
+    // When
+    clock.addAndGet(-1_000);
+    UUID second = generator.generate();
+
+    // Then
+    assertTrue(compareUnsigned(first, second) < 0);
+  }
+
+  // PostgreSQL の uuid 型と同じくバイト列の符号なし比較で並び順を確認する
+  private static int compareUnsigned(UUID left, UUID right) {
+    int result =
+        Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+    return result != 0
+        ? result
+        : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+  }
+}
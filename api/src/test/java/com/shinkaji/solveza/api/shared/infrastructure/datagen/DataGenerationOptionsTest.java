@@ -0,0 +1,53 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datagen;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DataGenerationOptionsのテスト")
+class DataGenerationOptionsTest {
+
+  @Test
+  @DisplayName("引数から設定を読み取り、Springの設定は読み飛ばす")
+  void parse_shouldReadOptions() {
+    // Given
+    String[] args = {
+      "--users=1000",
+      "--accounts=5000",
+      "--seed=7",
+      "--end-date=2026-01-01",
+      "--truncate",
+      "--spring.datasource.url=jdbc:postgresql://localhost:5432/solveza_api"
+    };
+
+    // When
+    DataGenerationOptions options = DataGenerationOptions.parse(args);
+
+    // Then
+    assertEquals(1000, options.users());
+    assertEquals(5000, options.accounts());
+    assertEquals(7, options.seed());
+    assertEquals(LocalDate.of(2026, 1, 1), options.endDate());
+    assertTrue(options.truncate());
+  }
+
+  @Test
+  @DisplayName("未知の引数の場合は例外が発生する")
+  void parse_shouldThrowException_whenOptionIsUnknown() {
+    // When & Then
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> DataGenerationOptions.parse(new String[] {"--user=1"}));
+  }
+
+  @Test
+  @DisplayName("アカウント数がユーザーの組み合わせ数を超える場合は例外が発生する")
+  void parse_shouldThrowException_whenAccountsExceedPairs() {
+    // When & Then
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> DataGenerationOptions.parse(new String[] {"--users=3", "--accounts=7"}));
+  }
+}
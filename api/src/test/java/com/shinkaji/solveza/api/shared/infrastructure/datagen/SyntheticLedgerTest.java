@@ -0,0 +1,80 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datagen;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionType;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SyntheticLedgerのテスト")
+class SyntheticLedgerTest {
+
+  private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+  private static final LocalDateTime TO = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+  @Test
+  @DisplayName("同じシードとアカウント番号からは同じ台帳を生成する")
+  void generate_shouldBeReproducible() {
+    // Given
+    SyntheticLedger first = new SyntheticLedger(42, 5, 1000, 1.2);
+    SyntheticLedger second = new SyntheticLedger(42, 5, 1000, 1.2);
+
+    // When & Then
+    for (int account = 0; account < 100; account++) {
+      assertEquals(first.generate(account, FROM, TO), second.generate(account, FROM, TO));
+    }
+    assertNotEquals(first.generate(0, FROM, TO), first.generate(1, FROM, TO));
+  }
+
+  @Test
+  @DisplayName("期間内の取引を実行日時の昇順で返し、残高は負にならない")
+  void generate_shouldKeepBalanceNonNegative() {
+    // Given
+    SyntheticLedger ledger = new SyntheticLedger(7, 5, 1000, 1.2);
+
+    for (int account = 0; account < 200; account++) {
+      // When
+      List<SyntheticLedger.Entry> entries = ledger.generate(account, FROM, TO);
+
+      // Then
+      assertTrue(entries.size() >= 5 && entries.size() <= 1000);
+      long balance = 0;
+      LocalDateTime previous = FROM;
+      for (SyntheticLedger.Entry entry : entries) {
+        assertFalse(entry.executedAt().isBefore(previous));
+        assertTrue(entry.executedAt().isBefore(TO));
+        assertEquals(7, entry.id().version());
+        balance +=
+            entry.transactionType() == TransactionType.DEPOSIT ? entry.amount() : -entry.amount();
+        assertTrue(balance >= 0);
+        previous = entry.executedAt();
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("件数は裾の重い分布になり、上限で打ち切られる")
+  void generate_shouldProduceHeavyTailedCounts() {
+    // Given
+    SyntheticLedger ledger = new SyntheticLedger(42, 1, 500, 1.1);
+    int capped = 0;
+    int small = 0;
+
+    // When
+    for (int account = 0; account < 2000; account++) {
+      int size = ledger.generate(account, FROM, TO).size();
+      if (size == 500) {
+        capped++;
+      }
+      if (size <= 3) {
+        small++;
+      }
+    }
+
+    // Then
+    assertTrue(small > 1000);
+    assertTrue(capped > 0);
+  }
+}
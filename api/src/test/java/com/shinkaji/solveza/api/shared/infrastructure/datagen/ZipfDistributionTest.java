@@ -0,0 +1,53 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datagen;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ZipfDistributionのテスト")
+class ZipfDistributionTest {
+
+  @Test
+  @DisplayName("上位の順位ほど多く選ばれる")
+  void sample_shouldFavorTopRanks() {
+    // Given
+    ZipfDistribution zipf = new ZipfDistribution(1000, 1.1);
+    SplittableRandom random = new SplittableRandom(42);
+    int[] counts = new int[1000];
+
+    // When
+    for (int i = 0; i < 100_000; i++) {
+      counts[zipf.sample(random)]++;
+    }
+
+    // Then
+    assertTrue(counts[0] > counts[1]);
+    assertTrue(counts[1] > counts[9]);
+    assertTrue(counts[9] > counts[999]);
+    // 順位1と2の比はおよそ 2^1.1 になる
+    assertEquals(Math.pow(2, 1.1), (double) counts[0] / counts[1], 0.2);
+  }
+
+  @Test
+  @DisplayName("標本は0以上size未満に収まる")
+  void sample_shouldStayWithinRange() {
+    // Given
+    ZipfDistribution zipf = new ZipfDistribution(10, 0.5);
+    SplittableRandom random = new SplittableRandom(1);
+
+    // When & Then
+    for (int i = 0; i < 10_000; i++) {
+      int rank = zipf.sample(random);
+      assertTrue(rank >= 0 && rank < 10);
+    }
+  }
+
+  @Test
+  @DisplayName("sizeが0の場合は例外が発生する")
+  void constructor_shouldThrowException_whenSizeIsZero() {
+    // When & Then
+    assertThrows(IllegalArgumentException.class, () -> new ZipfDistribution(0, 1.0));
+  }
+}
@@ -0,0 +1,135 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitedDataSourceのテスト")
+class ConcurrencyLimitedDataSourceTest {
+
+  @Mock private DataSource target;
+
+  private SimpleMeterRegistry meterRegistry;
+  private ConcurrencyLimitedDataSource dataSource;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    dataSource =
+        ConcurrencyLimitedDataSource.create(
+            target, "primary", 2, Duration.ofMillis(50), meterRegistry);
+  }
+
+  @Test
+  @DisplayName("コネクションを保持している間は許可を消費し、closeで返す")
+  void getConnection_shouldHoldPermitUntilClose() throws Exception {
+    // Given
+    Connection connection = mock(Connection.class);
+    when(target.getConnection()).thenReturn(connection);
+
+    // When
+    Connection limited = dataSource.getConnection();
+
+    // Then
+    assertEquals(1, dataSource.activeCount());
+    assertSame(connection, ((ConnectionProxy) limited).getTargetConnection());
+    limited.close();
+    verify(connection).close();
+    assertEquals(0, dataSource.activeCount());
+  }
+
+  @Test
+  @DisplayName("上限に達しているとタイムアウトまで待ってSQLTransientConnectionExceptionを投げる")
+  void getConnection_shouldThrow_whenPermitsExhausted() throws Exception {
+    // Given
+    when(target.getConnection()).thenReturn(mock(Connection.class));
+    dataSource.getConnection();
+    dataSource.getConnection();
+
+    // When & Then
+    assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+    verify(target, times(2)).getConnection();
+    assertEquals(
+        3,
+        meterRegistry
+            .get(ConcurrencyLimitedDataSource.METRIC_PREFIX + ".wait")
+            .tag("pool", "primary")
+            .timer()
+            .count());
+  }
+
+  @Test
+  @DisplayName("コネクションの取得に失敗したときは許可を返す")
+  void getConnection_shouldReleasePermit_whenTargetFails() throws Exception {
+    // Given
+    when(target.getConnection()).thenThrow(new SQLException("connection refused"));
+
+    // When & Then
+    assertThrows(SQLException.class, dataSource::getConnection);
+    assertEquals(0, dataSource.activeCount());
+  }
+
+  @Test
+  @DisplayName("closeを複数回呼んでも許可は一度だけ返す")
+  void close_shouldReleasePermitOnce() throws Exception {
+    // Given
+    when(target.getConnection()).thenReturn(mock(Connection.class));
+    Connection first = dataSource.getConnection();
+    dataSource.getConnection();
+
+    // When
+    first.close();
+    first.close();
+
+    // Then
+    assertEquals(1, dataSource.activeCount());
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get(ConcurrencyLimitedDataSource.METRIC_PREFIX + ".active")
+            .tag("pool", "primary")
+            .gauge()
+            .value());
+  }
+
+  @Test
+  @DisplayName("close以外の呼び出しは元のコネクションに委譲する")
+  void connectionProxy_shouldDelegateOtherMethods() throws Exception {
+    // Given
+    Connection connection = mock(Connection.class);
+    when(target.getConnection()).thenReturn(connection);
+    when(connection.getAutoCommit()).thenReturn(false);
+
+    // When
+    Connection limited = dataSource.getConnection();
+
+    // Then
+    assertFalse(limited.getAutoCommit());
+    limited.setAutoCommit(true);
+    verify(connection).setAutoCommit(true);
+  }
+
+  @Test
+  @DisplayName("同時実行数が1未満なら生成できない")
+  void create_shouldRejectNonPositivePermits() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            ConcurrencyLimitedDataSource.create(
+                target, "primary", 0, Duration.ofSeconds(1), meterRegistry));
+  }
+}
@@ -0,0 +1,75 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.servlet.http.Cookie;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("ReadYourWritesFilterのテスト")
+class ReadYourWritesFilterTest {
+
+  private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+  @Test
+  @DisplayName("更新系リクエストではプライマリに固定し、Cookieを発行する")
+  void doFilter_shouldStickToPrimary_whenWriteRequest() throws Exception {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/transactions/deposit");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    AtomicBoolean stuck = new AtomicBoolean();
+
+    // When
+    filter.doFilter(
+        request, response, (req, res) -> stuck.set(ReadYourWritesContext.isStickToPrimary()));
+
+    // Then
+    assertTrue(stuck.get());
+    assertNotNull(response.getCookie(ReadYourWritesFilter.COOKIE_NAME));
+    assertFalse(ReadYourWritesContext.isStickToPrimary());
+  }
+
+  @Test
+  @DisplayName("有効期限内のCookieを持つ参照系リクエストはプライマリに固定する")
+  void doFilter_shouldStickToPrimary_whenCookieIsValid() throws Exception {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/transactions/balance");
+    request.setCookies(
+        new Cookie(
+            ReadYourWritesFilter.COOKIE_NAME, Long.toString(System.currentTimeMillis() + 5_000)));
+    AtomicBoolean stuck = new AtomicBoolean();
+
+    // When
+    filter.doFilter(
+        request,
+        new MockHttpServletResponse(),
+        (req, res) -> stuck.set(ReadYourWritesContext.isStickToPrimary()));
+
+    // Then
+    assertTrue(stuck.get());
+  }
+
+  @Test
+  @DisplayName("Cookieの期限が切れた参照系リクエストはレプリカから読む")
+  void doFilter_shouldNotStick_whenCookieExpired() throws Exception {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/transactions/balance");
+    request.setCookies(
+        new Cookie(
+            ReadYourWritesFilter.COOKIE_NAME, Long.toString(System.currentTimeMillis() - 1)));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    AtomicBoolean stuck = new AtomicBoolean(true);
+
+    // When
+    filter.doFilter(
+        request, response, (req, res) -> stuck.set(ReadYourWritesContext.isStickToPrimary()));
+
+    // Then
+    assertFalse(stuck.get());
+    assertNull(response.getCookie(ReadYourWritesFilter.COOKIE_NAME));
+  }
+}
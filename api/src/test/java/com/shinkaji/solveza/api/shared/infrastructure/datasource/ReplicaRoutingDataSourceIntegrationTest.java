@@ -0,0 +1,126 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+// プライマリ役とレプリカ役の2つの PostgreSQL コンテナで振り分けを確認する。
+// レプリケーションは構成せず、接続先は current_database() で判別する
+@DisplayName("ReplicaRoutingDataSource Integration Tests")
+class ReplicaRoutingDataSourceIntegrationTest {
+
+  private static final PostgreSQLContainer<?> PRIMARY =
+      new PostgreSQLContainer<>("postgres:16").withDatabaseName("solveza_primary");
+  private static final PostgreSQLContainer<?> REPLICA =
+      new PostgreSQLContainer<>("postgres:16").withDatabaseName("solveza_replica");
+
+  private static ReplicaRoutingDataSource replicaRoutingDataSource;
+  private static JdbcTemplate jdbcTemplate;
+  private static TransactionTemplate readWrite;
+  private static TransactionTemplate readOnly;
+
+  @BeforeAll
+  static void startContainers() {
+    PRIMARY.start();
+    REPLICA.start();
+
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    replicas.put("replica-1", dataSourceOf(REPLICA));
+    replicaRoutingDataSource =
+        new ReplicaRoutingDataSource(dataSourceOf(PRIMARY), replicas, Duration.ofSeconds(10));
+
+    DataSource dataSource = new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    readWrite = new TransactionTemplate(transactionManager);
+    readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+  }
+
+  @AfterAll
+  static void stopContainers() {
+    PRIMARY.stop();
+    REPLICA.stop();
+  }
+
+  @Test
+  @DisplayName("読み取り専用トランザクションはレプリカ、それ以外はプライマリで実行される")
+  void routesByReadOnlyFlag() {
+    // Act
+    String writeDatabase = readWrite.execute(status -> currentDatabase());
+    String readDatabase = readOnly.execute(status -> currentDatabase());
+
+    // Assert
+    assertEquals("solveza_primary", writeDatabase);
+    assertEquals("solveza_replica", readDatabase);
+  }
+
+  @Test
+  @DisplayName("書き込み直後のクライアントの読み取りはプライマリで実行される")
+  void readYourWrites() {
+    // Arrange
+    ReadYourWritesContext.stickToPrimary();
+    try {
+      // Act
+      String readDatabase = readOnly.execute(status -> currentDatabase());
+
+      // Assert
+      assertEquals("solveza_primary", readDatabase);
+    } finally {
+      ReadYourWritesContext.clear();
+    }
+  }
+
+  @Test
+  @DisplayName("レプリカ停止中はプライマリにフォールバックし、復旧後に戻る")
+  void failsOverToPrimaryAndBack() {
+    // Arrange
+    REPLICA.getDockerClient().pauseContainerCmd(REPLICA.getContainerId()).exec();
+    try {
+      // Act
+      replicaRoutingDataSource.checkReplicas();
+      String readDatabase = readOnly.execute(status -> currentDatabase());
+
+      // Assert
+      assertEquals(0, replicaRoutingDataSource.healthyReplicaCount());
+      assertEquals("solveza_primary", readDatabase);
+    } finally {
+      REPLICA.getDockerClient().unpauseContainerCmd(REPLICA.getContainerId()).exec();
+    }
+
+    // Act
+    replicaRoutingDataSource.checkReplicas();
+
+    // Assert
+    assertEquals(1, replicaRoutingDataSource.healthyReplicaCount());
+    assertEquals("solveza_replica", readOnly.execute(status -> currentDatabase()));
+  }
+
+  private static String currentDatabase() {
+    return jdbcTemplate.queryForObject("SELECT current_database()", String.class);
+  }
+
+  private static DataSource dataSourceOf(PostgreSQLContainer<?> container) {
+    // 停止中のコンテナへの接続で待たされないよう短いタイムアウトを付ける
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            container.getJdbcUrl() + "&connectTimeout=2&socketTimeout=2",
+            container.getUsername(),
+            container.getPassword());
+    dataSource.setDriverClassName("org.postgresql.Driver");
+    return dataSource;
+  }
+}
@@ -0,0 +1,187 @@
+package com.shinkaji.solveza.api.shared.infrastructure.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSourceのテスト")
+class ReplicaRoutingDataSourceTest {
+
+  @Mock private DataSource primary;
+
+  @Mock private DataSource replica1;
+
+  @Mock private DataSource replica2;
+
+  @Mock private Connection primaryConnection;
+
+  @Mock private Connection replica1Connection;
+
+  @Mock private Connection replica2Connection;
+
+  private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+  @BeforeEach
+  void setUp() {
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    replicas.put("replica-1", replica1);
+    replicas.put("replica-2", replica2);
+    replicaRoutingDataSource =
+        new ReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(10));
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    ReadYourWritesContext.clear();
+  }
+
+  @Test
+  @DisplayName("読み取り専用でないトランザクションはプライマリに接続する")
+  void getConnection_shouldUsePrimary_whenNotReadOnly() throws Exception {
+    // Given
+    when(primary.getConnection()).thenReturn(primaryConnection);
+
+    // When
+    Connection connection = replicaRoutingDataSource.getConnection();
+
+    // Then
+    assertSame(primaryConnection, connection);
+    verifyNoInteractions(replica1, replica2);
+  }
+
+  @Test
+  @DisplayName("読み取り専用トランザクションはレプリカに順番に振り分ける")
+  void getConnection_shouldRoundRobinReplicas_whenReadOnly() throws Exception {
+    // Given
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    when(replica1.getConnection()).thenReturn(replica1Connection);
+    when(replica2.getConnection()).thenReturn(replica2Connection);
+
+    // When
+    Connection first = replicaRoutingDataSource.getConnection();
+    Connection second = replicaRoutingDataSource.getConnection();
+    Connection third = replicaRoutingDataSource.getConnection();
+
+    // Then
+    assertSame(replica1Connection, first);
+    assertSame(replica2Connection, second);
+    assertSame(replica1Connection, third);
+    verifyNoInteractions(primary);
+  }
+
+  @Test
+  @DisplayName("直前に書き込んだクライアントの読み取りはプライマリに固定する")
+  void getConnection_shouldUsePrimary_whenStickToPrimary() throws Exception {
+    // Given
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    ReadYourWritesContext.stickToPrimary();
+    when(primary.getConnection()).thenReturn(primaryConnection);
+
+    // When
+    Connection connection = replicaRoutingDataSource.getConnection();
+
+    // Then
+    assertSame(primaryConnection, connection);
+    verifyNoInteractions(replica1, replica2);
+  }
+
+  @Test
+  @DisplayName("レプリカへの接続に失敗した場合は他のレプリカを使い、以降は振り分けない")
+  void getConnection_shouldSkipReplica_whenConnectionFails() throws Exception {
+    // Given
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    when(replica1.getConnection()).thenThrow(new SQLException("connection refused"));
+    when(replica2.getConnection()).thenReturn(replica2Connection);
+
+    // When
+    Connection first = replicaRoutingDataSource.getConnection();
+    Connection second = replicaRoutingDataSource.getConnection();
+
+    // Then
+    assertSame(replica2Connection, first);
+    assertSame(replica2Connection, second);
+    verify(replica1, times(1)).getConnection();
+    assertEquals(1, replicaRoutingDataSource.healthyReplicaCount());
+  }
+
+  @Test
+  @DisplayName("正常なレプリカがない場合はプライマリにフォールバックする")
+  void getConnection_shouldFallBackToPrimary_whenNoHealthyReplica() throws Exception {
+    // Given
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    when(replica1.getConnection()).thenThrow(new SQLException("connection refused"));
+    when(replica2.getConnection()).thenThrow(new SQLException("connection refused"));
+    when(primary.getConnection()).thenReturn(primaryConnection);
+
+    // When
+    Connection connection = replicaRoutingDataSource.getConnection();
+
+    // Then
+    assertSame(primaryConnection, connection);
+    assertEquals(0, replicaRoutingDataSource.healthyReplicaCount());
+  }
+
+  @Test
+  @DisplayName("ヘルスチェックで遅延が許容値を超えたレプリカを外し、回復したら戻す")
+  void checkReplicas_shouldToggleReplica_byReplicationLag() throws Exception {
+    // Given
+    Statement statement = mock(Statement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+    when(replica1.getConnection()).thenReturn(replica1Connection);
+    when(replica1Connection.createStatement()).thenReturn(statement);
+    when(statement.executeQuery(anyString())).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true);
+    when(resultSet.getDouble(1)).thenReturn(30.0, 0.5);
+    when(replica2.getConnection()).thenThrow(new SQLException("connection refused"));
+
+    // When
+    replicaRoutingDataSource.checkReplicas();
+
+    // Then
+    assertEquals(0, replicaRoutingDataSource.healthyReplicaCount());
+
+    // When
+    replicaRoutingDataSource.checkReplicas();
+
+    // Then
+    assertEquals(1, replicaRoutingDataSource.healthyReplicaCount());
+  }
+
+  @Test
+  @DisplayName("初期化時に停止中のレプリカを振り分け対象から外す")
+  void afterPropertiesSet_shouldExcludeUnreachableReplica() throws Exception {
+    // Given
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    when(replica1.getConnection()).thenThrow(new SQLException("connection refused"));
+    when(replica2.getConnection()).thenThrow(new SQLException("connection refused"));
+    when(primary.getConnection()).thenReturn(primaryConnection);
+
+    // When
+    replicaRoutingDataSource.afterPropertiesSet();
+
+    // Then
+    assertEquals(0, replicaRoutingDataSource.healthyReplicaCount());
+    assertSame(primaryConnection, replicaRoutingDataSource.getConnection());
+    verify(replica1, times(1)).getConnection();
+    verify(replica2, times(1)).getConnection();
+  }
+}
@@ -0,0 +1,136 @@
+package com.shinkaji.solveza.api.shared.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import java.util.List;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MyBatisMetricsInterceptorのテスト")
+class MyBatisMetricsInterceptorTest {
+
+  private static final String STATEMENT_ID =
+      "com.shinkaji.solveza.api.account.infrastructure.mapper.AccountMapper.findByUserId";
+
+  @Mock private Executor executor;
+
+  private SimpleMeterRegistry meterRegistry;
+  private MyBatisMetricsInterceptor interceptor;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    interceptor = new MyBatisMetricsInterceptor(meterRegistry);
+  }
+
+  @Test
+  @DisplayName("SELECTの実行時間と取得行数をステートメントID別に記録する")
+  void intercept_shouldRecordTimerAndRows_forQuery() throws Throwable {
+    // Given
+    MappedStatement mappedStatement = mappedStatement(STATEMENT_ID, SqlCommandType.SELECT);
+    when(executor.query(mappedStatement, null, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER))
+        .thenReturn(List.of("a", "b", "c"));
+
+    // When
+    Object result = interceptor.intercept(queryInvocation(mappedStatement));
+
+    // Then
+    assertEquals(List.of("a", "b", "c"), result);
+    Timer timer =
+        meterRegistry
+            .get(MyBatisMetricsInterceptor.TIMER_NAME)
+            .tag("statement", STATEMENT_ID)
+            .tag("type", "SELECT")
+            .tag("exception", "none")
+            .timer();
+    assertEquals(1, timer.count());
+    DistributionSummary rows =
+        meterRegistry
+            .get(MyBatisMetricsInterceptor.ROWS_NAME)
+            .tag("statement", STATEMENT_ID)
+            .summary();
+    assertEquals(3, rows.totalAmount());
+  }
+
+  @Test
+  @DisplayName("更新件数を記録する")
+  void intercept_shouldRecordRows_forUpdate() throws Throwable {
+    // Given
+    MappedStatement mappedStatement =
+        mappedStatement("TransactionMapper.delete", SqlCommandType.DELETE);
+    when(executor.update(mappedStatement, null)).thenReturn(2);
+    Invocation invocation =
+        new Invocation(
+            executor,
+            Executor.class.getMethod("update", MappedStatement.class, Object.class),
+            new Object[] {mappedStatement, null});
+
+    // When
+    interceptor.intercept(invocation);
+
+    // Then
+    assertEquals(
+        2,
+        meterRegistry
+            .get(MyBatisMetricsInterceptor.ROWS_NAME)
+            .tag("type", "DELETE")
+            .summary()
+            .totalAmount());
+  }
+
+  @Test
+  @DisplayName("例外が発生した場合は例外名をタグに付けて再送出する")
+  void intercept_shouldTagException_whenStatementFails() throws Throwable {
+    // Given
+    MappedStatement mappedStatement = mappedStatement(STATEMENT_ID, SqlCommandType.SELECT);
+    when(executor.query(mappedStatement, null, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER))
+        .thenThrow(new SQLException("timeout"));
+
+    // When & Then
+    assertThrows(
+        InvocationTargetException.class,
+        () -> interceptor.intercept(queryInvocation(mappedStatement)));
+    assertEquals(
+        1,
+        meterRegistry
+            .get(MyBatisMetricsInterceptor.TIMER_NAME)
+            .tag("exception", "SQLException")
+            .timer()
+            .count());
+    assertTrue(meterRegistry.find(MyBatisMetricsInterceptor.ROWS_NAME).summaries().isEmpty());
+  }
+
+  private Invocation queryInvocation(MappedStatement mappedStatement) throws Exception {
+    return new Invocation(
+        executor,
+        Executor.class.getMethod(
+            "query", MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class),
+        new Object[] {mappedStatement, null, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER});
+  }
+
+  private static MappedStatement mappedStatement(String id, SqlCommandType type) {
+    Configuration configuration = new Configuration();
+    return new MappedStatement.Builder(
+            configuration, id, new StaticSqlSource(configuration, "SELECT 1"), type)
+        .build();
+  }
+}
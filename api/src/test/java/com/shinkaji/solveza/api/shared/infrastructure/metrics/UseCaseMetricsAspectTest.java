@@ -0,0 +1,64 @@
+package com.shinkaji.solveza.api.shared.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.shinkaji.solveza.api.account.application.query.GetAccountQuery;
+import com.shinkaji.solveza.api.account.application.usecase.GetAccountUseCase;
+import com.shinkaji.solveza.api.account.domain.repository.AccountRepository;
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.exception.AccountNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UseCaseMetricsAspectのテスト")
+class UseCaseMetricsAspectTest {
+
+  @Mock private AccountRepository accountRepository;
+
+  private SimpleMeterRegistry meterRegistry;
+  private GetAccountUseCase getAccountUseCase;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    AspectJProxyFactory proxyFactory =
+        new AspectJProxyFactory(new GetAccountUseCase(accountRepository));
+    proxyFactory.setProxyTargetClass(true);
+    proxyFactory.addAspect(new UseCaseMetricsAspect(meterRegistry));
+    getAccountUseCase = proxyFactory.getProxy();
+  }
+
+  @Test
+  @DisplayName("ユースケースの例外をタグに付けて実行時間を記録する")
+  void time_shouldRecordUseCaseWithException() {
+    // Given
+    when(accountRepository.findById(any(AccountId.class))).thenReturn(Optional.empty());
+
+    // When
+    assertThrows(
+        AccountNotFoundException.class,
+        () -> getAccountUseCase.execute(new GetAccountQuery(UUID.randomUUID())));
+
+    // Then
+    assertEquals(
+        1,
+        meterRegistry
+            .get(UseCaseMetricsAspect.METRIC_NAME)
+            .tag("usecase", "GetAccountUseCase")
+            .tag("method", "execute")
+            .tag("exception", "AccountNotFoundException")
+            .timer()
+            .count());
+  }
+}
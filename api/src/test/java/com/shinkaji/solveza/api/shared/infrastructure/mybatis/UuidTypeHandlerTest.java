@@ -0,0 +1,65 @@
+package com.shinkaji.solveza.api.shared.infrastructure.mybatis;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UuidTypeHandlerのテスト")
+class UuidTypeHandlerTest {
+
+  @Mock private PreparedStatement preparedStatement;
+
+  @Mock private ResultSet resultSet;
+
+  private final UuidTypeHandler uuidTypeHandler = new UuidTypeHandler();
+
+  @Test
+  @DisplayName("UUIDを文字列に変換せずuuid型としてバインドする")
+  void setParameter_shouldBindUuidAsOther() throws Exception {
+    // Given
+    UUID id = UUID.randomUUID();
+
+    // When
+    uuidTypeHandler.setParameter(preparedStatement, 1, id, null);
+
+    // Then
+    verify(preparedStatement).setObject(1, id, Types.OTHER);
+  }
+
+  @Test
+  @DisplayName("uuid列をUUIDとして読み取る")
+  void getResult_shouldReadUuid() throws Exception {
+    // Given
+    UUID id = UUID.randomUUID();
+    when(resultSet.getObject("id", UUID.class)).thenReturn(id);
+
+    // When
+    UUID result = uuidTypeHandler.getResult(resultSet, "id");
+
+    // Then
+    assertEquals(id, result);
+  }
+
+  @Test
+  @DisplayName("NULLの列はnullとして読み取る")
+  void getResult_shouldReturnNull_whenColumnIsNull() throws Exception {
+    // Given
+    when(resultSet.getObject("id", UUID.class)).thenReturn(null);
+
+    // When
+    UUID result = uuidTypeHandler.getResult(resultSet, "id");
+
+    // Then
+    assertNull(result);
+  }
+}
@@ -0,0 +1,62 @@
+package com.shinkaji.solveza.api.shared.infrastructure.slowquery;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shinkaji.solveza.api.annotation.RepositoryIntegrationTest;
+import java.util.List;
+import java.util.UUID;
+import org.apache.ibatis.binding.MapperMethod;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@RepositoryIntegrationTest
+@DisplayName("SlowQueryExplainer Integration Tests")
+class SlowQueryExplainerIntegrationTest {
+
+  private final SlowQueryExplainer slowQueryExplainer;
+  private final SlowQueryPlanBuffer slowQueryPlanBuffer;
+  private final SqlSessionFactory sqlSessionFactory;
+
+  SlowQueryExplainerIntegrationTest(
+      SlowQueryExplainer slowQueryExplainer,
+      SlowQueryPlanBuffer slowQueryPlanBuffer,
+      SqlSessionFactory sqlSessionFactory) {
+    this.slowQueryExplainer = slowQueryExplainer;
+    this.slowQueryPlanBuffer = slowQueryPlanBuffer;
+    this.sqlSessionFactory = sqlSessionFactory;
+  }
+
+  @Test
+  @DisplayName("バインド値を使ってEXPLAIN ANALYZEの結果をバッファに残す")
+  void explainAsync_shouldStorePlan() throws Exception {
+    // Arrange
+    MappedStatement mappedStatement =
+        sqlSessionFactory
+            .getConfiguration()
+            .getMappedStatement(
+                "com.shinkaji.solveza.api.account.infrastructure.mapper.AccountMapper.findByUserId");
+    MapperMethod.ParamMap<Object> parameter = new MapperMethod.ParamMap<>();
+    parameter.put("userId", UUID.randomUUID());
+    BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+    int before = slowQueryPlanBuffer.snapshot().size();
+
+    // Act
+    slowQueryExplainer.explainAsync(
+        mappedStatement, parameter, boundSql, List.of(parameter.get("userId").toString()), 800);
+
+    // Assert
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (slowQueryPlanBuffer.snapshot().size() == before
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(50);
+    }
+    SlowQueryPlan plan = slowQueryPlanBuffer.snapshot().getFirst();
+    assertEquals(mappedStatement.getId(), plan.statementId());
+    assertEquals(800, plan.durationMillis());
+    assertTrue(plan.plan().contains("actual time"));
+    assertTrue(plan.plan().contains("Buffers") || plan.plan().contains("Planning"));
+  }
+}
@@ -0,0 +1,169 @@
+package com.shinkaji.solveza.api.shared.infrastructure.slowquery;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ibatis.binding.MapperMethod;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SlowQueryInterceptorのテスト")
+class SlowQueryInterceptorTest {
+
+  private static final String STATEMENT_ID =
+      "com.shinkaji.solveza.api.account.infrastructure.mapper.AccountMapper.findByUserId";
+
+  @Mock private Executor executor;
+
+  @Mock private SlowQueryExplainer slowQueryExplainer;
+
+  @Test
+  @DisplayName("閾値を超えたSELECTはマスクしたバインド値とともに実行計画の取得に回す")
+  void intercept_shouldExplain_whenSlowSelectIsSampled() throws Throwable {
+    // Given
+    SlowQueryInterceptor interceptor =
+        new SlowQueryInterceptor(slowQueryExplainer, Duration.ZERO, 1.0);
+    MappedStatement mappedStatement = mappedStatement(SqlCommandType.SELECT);
+    UUID userId = UUID.randomUUID();
+    Object parameter = parameterMap(Map.of("userId", userId));
+    when(executor.query(mappedStatement, parameter, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER))
+        .thenReturn(List.of());
+
+    // When
+    interceptor.intercept(queryInvocation(mappedStatement, parameter));
+
+    // Then
+    verify(slowQueryExplainer)
+        .explainAsync(
+            eq(mappedStatement),
+            eq(parameter),
+            any(BoundSql.class),
+            eq(List.of("UUID", "UUID")),
+            anyLong());
+  }
+
+  @Test
+  @DisplayName("閾値未満のステートメントは記録しない")
+  void intercept_shouldIgnore_whenFasterThanThreshold() throws Throwable {
+    // Given
+    SlowQueryInterceptor interceptor =
+        new SlowQueryInterceptor(slowQueryExplainer, Duration.ofMinutes(1), 1.0);
+    MappedStatement mappedStatement = mappedStatement(SqlCommandType.SELECT);
+    Object parameter = parameterMap(Map.of("userId", UUID.randomUUID()));
+
+    // When
+    interceptor.intercept(queryInvocation(mappedStatement, parameter));
+
+    // Then
+    verifyNoInteractions(slowQueryExplainer);
+  }
+
+  @Test
+  @DisplayName("更新系のステートメントは実行計画を取得しない")
+  void intercept_shouldNotExplain_whenStatementIsNotSelect() throws Throwable {
+    // Given
+    SlowQueryInterceptor interceptor =
+        new SlowQueryInterceptor(slowQueryExplainer, Duration.ZERO, 1.0);
+    MappedStatement mappedStatement = mappedStatement(SqlCommandType.DELETE);
+    Object parameter = parameterMap(Map.of("userId", UUID.randomUUID()));
+    Invocation invocation =
+        new Invocation(
+            executor,
+            Executor.class.getMethod("update", MappedStatement.class, Object.class),
+            new Object[] {mappedStatement, parameter});
+
+    // When
+    interceptor.intercept(invocation);
+
+    // Then
+    verify(executor).update(mappedStatement, parameter);
+    verifyNoInteractions(slowQueryExplainer);
+  }
+
+  @Test
+  @DisplayName("カーソルで読むSELECTも閾値を超えれば実行計画の取得に回す")
+  void intercept_shouldExplain_whenSlowCursorQueryIsSampled() throws Throwable {
+    // Given
+    SlowQueryInterceptor interceptor =
+        new SlowQueryInterceptor(slowQueryExplainer, Duration.ZERO, 1.0);
+    Executor plugged = (Executor) Plugin.wrap(executor, interceptor);
+    MappedStatement mappedStatement = mappedStatement(SqlCommandType.SELECT);
+    Object parameter = parameterMap(Map.of("userId", UUID.randomUUID()));
+
+    // When
+    plugged.queryCursor(mappedStatement, parameter, RowBounds.DEFAULT);
+
+    // Then
+    verify(executor).queryCursor(mappedStatement, parameter, RowBounds.DEFAULT);
+    verify(slowQueryExplainer)
+        .explainAsync(
+            eq(mappedStatement),
+            eq(parameter),
+            any(BoundSql.class),
+            eq(List.of("UUID", "UUID")),
+            anyLong());
+  }
+
+  @Test
+  @DisplayName("バインド値は値を含めず型と長さのみ記録する")
+  void captureParameters_shouldMaskValues() {
+    // Given
+    MappedStatement mappedStatement = mappedStatement(SqlCommandType.SELECT);
+    Object parameter = parameterMap(Map.of("userId", "secret@example.com"));
+
+    // When
+    List<String> parameters =
+        SlowQueryInterceptor.captureParameters(
+            mappedStatement, parameter, mappedStatement.getBoundSql(parameter));
+
+    // Then
+    assertEquals(List.of("String(18)", "String(18)"), parameters);
+  }
+
+  private Invocation queryInvocation(MappedStatement mappedStatement, Object parameter)
+      throws Exception {
+    return new Invocation(
+        executor,
+        Executor.class.getMethod(
+            "query", MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class),
+        new Object[] {mappedStatement, parameter, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER});
+  }
+
+  private static Object parameterMap(Map<String, Object> values) {
+    MapperMethod.ParamMap<Object> parameter = new MapperMethod.ParamMap<>();
+    parameter.putAll(values);
+    return parameter;
+  }
+
+  private static MappedStatement mappedStatement(SqlCommandType type) {
+    Configuration configuration = new Configuration();
+    ParameterMapping userId =
+        new ParameterMapping.Builder(configuration, "userId", Object.class).build();
+    StaticSqlSource sqlSource =
+        new StaticSqlSource(
+            configuration,
+            "SELECT id FROM accounts WHERE requester_id = ? OR payer_id = ?",
+            List.of(userId, userId));
+    return new MappedStatement.Builder(configuration, STATEMENT_ID, sqlSource, type).build();
+  }
+}
@@ -0,0 +1,42 @@
+package com.shinkaji.solveza.api.shared.infrastructure.slowquery;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SlowQueryPlanBufferのテスト")
+class SlowQueryPlanBufferTest {
+
+  @Test
+  @DisplayName("容量を超えると古い実行計画から上書きし、新しい順に返す")
+  void snapshot_shouldReturnNewestFirst_andDropOldest() {
+    // Given
+    SlowQueryPlanBuffer buffer = new SlowQueryPlanBuffer(2);
+
+    // When
+    buffer.add(plan("first"));
+    buffer.add(plan("second"));
+    buffer.add(plan("third"));
+
+    // Then
+    List<SlowQueryPlan> plans = buffer.snapshot();
+    assertEquals(2, plans.size());
+    assertEquals("third", plans.get(0).statementId());
+    assertEquals("second", plans.get(1).statementId());
+  }
+
+  @Test
+  @DisplayName("容量が0以下の場合はエラーになる")
+  void constructor_shouldThrowException_whenCapacityIsNotPositive() {
+    // When & Then
+    assertThrows(IllegalArgumentException.class, () -> new SlowQueryPlanBuffer(0));
+  }
+
+  private static SlowQueryPlan plan(String statementId) {
+    return new SlowQueryPlan(
+        LocalDateTime.now(), statementId, "SELECT 1", List.of(), 1000, "Result (cost=0.00..0.01)");
+  }
+}
@@ -0,0 +1,75 @@
+package com.shinkaji.solveza.api.shared.infrastructure.virtualthread;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("VirtualThreadPinningMonitorのテスト")
+class VirtualThreadPinningMonitorTest {
+
+  private final Object lock = new Object();
+
+  private SimpleMeterRegistry meterRegistry;
+  private VirtualThreadPinningMonitor monitor;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    monitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10));
+  }
+
+  @AfterEach
+  void tearDown() {
+    monitor.stop();
+  }
+
+  @Test
+  @DisplayName("synchronized内でブロックした仮想スレッドのピン留めを記録する")
+  void start_shouldRecordPinnedVirtualThread() throws Exception {
+    // Given
+    monitor.start();
+    Timer timer = meterRegistry.get(VirtualThreadPinningMonitor.METRIC_NAME).timer();
+
+    // When
+    Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+    // Then
+    long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+    while (timer.count() == 0 && System.nanoTime() < deadline) {
+      Thread.sleep(50);
+    }
+    assertEquals(1, timer.count());
+    assertTrue(timer.max(TimeUnit.MILLISECONDS) >= 10);
+  }
+
+  @Test
+  @DisplayName("開始と停止を繰り返しても状態が一貫している")
+  void lifecycle_shouldBeIdempotent() {
+    // When
+    monitor.start();
+    monitor.start();
+
+    // Then
+    assertTrue(monitor.isRunning());
+    monitor.stop();
+    monitor.stop();
+    assertFalse(monitor.isRunning());
+  }
+
+  private void sleepWhileHoldingMonitor() {
+    synchronized (lock) {
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
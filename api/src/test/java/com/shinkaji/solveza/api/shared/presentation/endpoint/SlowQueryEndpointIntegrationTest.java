@@ -0,0 +1,40 @@
+package com.shinkaji.solveza.api.shared.presentation.endpoint;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.shinkaji.solveza.api.annotation.ControllerIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@ControllerIntegrationTest
+@DisplayName("SlowQueryEndpoint Integration Tests")
+class SlowQueryEndpointIntegrationTest {
+
+  private final WebApplicationContext webApplicationContext;
+
+  SlowQueryEndpointIntegrationTest(WebApplicationContext webApplicationContext) {
+    this.webApplicationContext = webApplicationContext;
+  }
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+  }
+
+  @Test
+  @DisplayName("実行計画のエンドポイントは既定では公開されない")
+  void slowQueries_DisabledByDefault_NotExposed() throws Exception {
+    mockMvc
+        .perform(get("/actuator"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$._links.health").exists())
+        .andExpect(jsonPath("$._links.slowqueries").doesNotExist());
+  }
+}
@@ -10,12 +10,15 @@ import com.shinkaji.solveza.api.shared.domain.exception.AccountNotFoundException
 import com.shinkaji.solveza.api.shared.domain.exception.DuplicateAccountException;
 import com.shinkaji.solveza.api.shared.domain.exception.InsufficientPermissionException;
 import com.shinkaji.solveza.api.shared.domain.exception.InvalidTransactionException;
+import com.shinkaji.solveza.api.shared.domain.exception.TransactionWriteUnavailableException;
 import com.shinkaji.solveza.api.shared.domain.exception.UserNotFoundException;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -194,4 +197,23 @@ class GlobalExceptionHandlerTest {
     assertEquals("INTERNAL_SERVER_ERROR", response.getBody().code());
     assertEquals("予期しないエラーが発生しました", response.getBody().message());
   }
+
+  @Test
+  @DisplayName("TransactionWriteUnavailableExceptionを503とRetry-Afterで処理する")
+  void handleTransactionWriteUnavailable_shouldReturnServiceUnavailable() {
+    // Given
+    TransactionWriteUnavailableException exception =
+        new TransactionWriteUnavailableException("書き込みキューが満杯です", Duration.ofMillis(1500));
+
+    // When
+    ResponseEntity<ErrorResponse> response =
+        globalExceptionHandler.handleTransactionWriteUnavailable(exception);
+
+    // Then
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+    assertEquals("2", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    assertNotNull(response.getBody());
+    assertEquals("SERVICE_UNAVAILABLE", response.getBody().code());
+    assertTrue(response.getBody().message().contains("書き込みキューが満杯です"));
+  }
 }
@@ -0,0 +1,255 @@
+package com.shinkaji.solveza.api.transaction.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.shared.domain.exception.TransactionWriteUnavailableException;
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.repository.AccountBalanceRepository;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionDailyRollupRepository;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("GroupCommitTransactionWriterのテスト")
+class GroupCommitTransactionWriterTest {
+
+  private static final int MAX_BATCH_SIZE = 5;
+
+  @Mock private TransactionRepository transactionRepository;
+
+  @Mock private AccountBalanceRepository accountBalanceRepository;
+
+  @Mock private TransactionDailyRollupRepository transactionDailyRollupRepository;
+
+  @Mock private DataSource dataSource;
+
+  @Mock private Connection connection;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private DataSourceTransactionManager transactionManager;
+
+  private GroupCommitTransactionWriter writer;
+
+  private ExecutorService callers;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.getAutoCommit()).thenReturn(true);
+    transactionManager = new DataSourceTransactionManager(dataSource);
+    // 件数上限で確実にフラッシュされるよう、待ち時間は十分長くする
+    writer =
+        new GroupCommitTransactionWriter(
+            transactionRepository,
+            accountBalanceRepository,
+            transactionDailyRollupRepository,
+            transactionManager,
+            meterRegistry,
+            MAX_BATCH_SIZE,
+            Duration.ofSeconds(5),
+            100,
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(1));
+    writer.start();
+    callers = Executors.newFixedThreadPool(MAX_BATCH_SIZE);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    callers.shutdownNow();
+    writer.stop();
+  }
+
+  @Test
+  @DisplayName("同時に書き込まれた取引が1回のコミットにまとめられる")
+  void write_shouldFlushConcurrentWritesInOneBatch() throws Exception {
+    // Given
+    List<Transaction> transactions = createTransactions(MAX_BATCH_SIZE);
+
+    // When
+    List<Future<?>> results = writeConcurrently(transactions);
+    for (Future<?> result : results) {
+      result.get();
+    }
+
+    // Then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+    verify(transactionRepository).saveAll(captor.capture());
+    assertEquals(MAX_BATCH_SIZE, captor.getValue().size());
+    assertTrue(captor.getValue().containsAll(transactions));
+    verify(accountBalanceRepository).applyAll(captor.getValue());
+    verify(transactionDailyRollupRepository).applyAll(captor.getValue());
+    verify(connection).commit();
+
+    assertEquals(1, meterRegistry.get("solveza.groupcommit.batch.size").summary().count());
+    assertEquals(
+        MAX_BATCH_SIZE, meterRegistry.get("solveza.groupcommit.queue.wait").timer().count());
+  }
+
+  @Test
+  @DisplayName("まとめた書き込みが失敗した場合は1件ずつ再実行し、失敗した取引だけがエラーになる")
+  void write_shouldIsolateFailure_whenBatchFails() throws Exception {
+    // Given
+    List<Transaction> transactions = createTransactions(MAX_BATCH_SIZE);
+    Transaction invalid = transactions.get(2);
+    doThrow(new IllegalStateException("一括書き込みエラー")).when(transactionRepository).saveAll(any());
+    doThrow(new IllegalStateException("書き込みエラー")).when(transactionRepository).save(invalid);
+
+    // When
+    List<Future<?>> results = writeConcurrently(transactions);
+
+    // Then
+    for (int i = 0; i < results.size(); i++) {
+      Future<?> result = results.get(i);
+      if (transactions.get(i) == invalid) {
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+      } else {
+        assertNull(result.get());
+        verify(accountBalanceRepository).apply(transactions.get(i));
+      }
+    }
+    verify(accountBalanceRepository, never()).apply(invalid);
+  }
+
+  @Test
+  @DisplayName("呼び出し元のトランザクション内ではキューを経由せずに書き込む")
+  void write_shouldWriteDirectly_whenTransactionIsActive() {
+    // Given
+    Transaction transaction = createTransactions(1).getFirst();
+
+    // When
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(status -> writer.write(transaction));
+
+    // Then
+    verify(transactionRepository).save(transaction);
+    verify(accountBalanceRepository).apply(transaction);
+    verify(transactionRepository, never()).saveAll(any());
+  }
+
+  @Test
+  @DisplayName("キューが満杯の場合は投入を待った後、再送を促す例外で拒否する")
+  void write_shouldRejectWithRetryAfter_whenQueueIsFull() throws Exception {
+    // Given
+    // 1件ずつフラッシュし、キューには1件しか入らない書き込み。最初のフラッシュを止めておく
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    GroupCommitTransactionWriter smallWriter =
+        new GroupCommitTransactionWriter(
+            transactionRepository,
+            accountBalanceRepository,
+            transactionDailyRollupRepository,
+            transactionManager,
+            registry,
+            1,
+            Duration.ZERO,
+            1,
+            Duration.ofMillis(10),
+            Duration.ofSeconds(2));
+    CountDownLatch flushing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              flushing.countDown();
+              release.await();
+              return null;
+            })
+        .when(transactionRepository)
+        .saveAll(any());
+    smallWriter.start();
+    List<Transaction> transactions = createTransactions(3);
+    try {
+      Future<?> flushed = callers.submit(() -> smallWriter.write(transactions.get(0)));
+      assertTrue(flushing.await(5, TimeUnit.SECONDS));
+      Future<?> queued = callers.submit(() -> smallWriter.write(transactions.get(1)));
+      Gauge depth = registry.get("solveza.groupcommit.queue.depth").gauge();
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (depth.value() < 1 && System.nanoTime() < deadline) {
+        Thread.sleep(1);
+      }
+      assertEquals(1, depth.value());
+
+      // When
+      TransactionWriteUnavailableException e =
+          assertThrows(
+              TransactionWriteUnavailableException.class,
+              () -> smallWriter.write(transactions.get(2)));
+
+      // Then
+      assertEquals(Duration.ofSeconds(2), e.getRetryAfter());
+      assertEquals(1, registry.get("solveza.groupcommit.rejected").counter().count());
+      release.countDown();
+      flushed.get(5, TimeUnit.SECONDS);
+      queued.get(5, TimeUnit.SECONDS);
+    } finally {
+      release.countDown();
+      smallWriter.stop();
+    }
+  }
+
+  @Test
+  @DisplayName("停止後の書き込みは再送を促す例外で拒否する")
+  void write_shouldRejectWithRetryAfter_whenStopped() throws Exception {
+    // Given
+    writer.stop();
+    Transaction transaction = createTransactions(1).getFirst();
+
+    // When & Then
+    assertThrows(TransactionWriteUnavailableException.class, () -> writer.write(transaction));
+    verify(transactionRepository, never()).saveAll(any());
+  }
+
+  private List<Future<?>> writeConcurrently(List<Transaction> transactions) {
+    List<Future<?>> results = new ArrayList<>();
+    for (Transaction transaction : transactions) {
+      results.add(callers.submit(() -> writer.write(transaction)));
+    }
+    return results;
+  }
+
+  private List<Transaction> createTransactions(int count) {
+    List<Transaction> transactions = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      transactions.add(
+          Transaction.createDeposit(
+              new AccountId(UUID.randomUUID()),
+              new Money(BigDecimal.valueOf(1000), Currency.getInstance("JPY")),
+              "テスト預かり" + i));
+    }
+    return transactions;
+  }
+}
@@ -0,0 +1,173 @@
+package com.shinkaji.solveza.api.transaction.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.shinkaji.solveza.api.shared.domain.exception.IdempotencyKeyConflictException;
+import com.shinkaji.solveza.api.transaction.domain.model.IdempotencyRecord;
+import com.shinkaji.solveza.api.transaction.domain.repository.IdempotencyKeyRepository;
+import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionDto;
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("IdempotencyServiceのテスト")
+class IdempotencyServiceTest {
+
+  @Mock private IdempotencyKeyRepository idempotencyKeyRepository;
+
+  @Mock private DataSource dataSource;
+
+  @Mock private Connection connection;
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper()
+          .findAndRegisterModules()
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  private IdempotencyService idempotencyService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    // 実際のトランザクション同期を有効にするため、モックのコネクションで TransactionManager を構成する
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.getAutoCommit()).thenReturn(true);
+    idempotencyService =
+        new IdempotencyService(
+            idempotencyKeyRepository,
+            objectMapper,
+            new DataSourceTransactionManager(dataSource),
+            100,
+            Duration.ofMinutes(10));
+  }
+
+  @Test
+  @DisplayName("キーがない場合はそのまま処理が実行される")
+  void execute_shouldRunAction_whenKeyIsNull() {
+    // When
+    String result =
+        idempotencyService.execute(null, "DEPOSIT", "request", String.class, () -> "ok");
+
+    // Then
+    assertEquals("ok", result);
+    verifyNoInteractions(idempotencyKeyRepository);
+  }
+
+  @Test
+  @DisplayName("初回は処理が実行され、再送はキャッシュから応答される")
+  void execute_shouldReturnCachedResponse_whenRetried() {
+    // Given
+    when(idempotencyKeyRepository.register(any())).thenReturn(true);
+    AtomicInteger calls = new AtomicInteger();
+    TransactionDto dto = sampleDto();
+
+    // When
+    TransactionDto first =
+        idempotencyService.execute(
+            "key-1",
+            "DEPOSIT",
+            Map.of("amount", 1000),
+            TransactionDto.class,
+            () -> {
+              calls.incrementAndGet();
+              return dto;
+            });
+    TransactionDto second =
+        idempotencyService.execute(
+            "key-1",
+            "DEPOSIT",
+            Map.of("amount", 1000),
+            TransactionDto.class,
+            () -> {
+              calls.incrementAndGet();
+              return sampleDto();
+            });
+
+    // Then
+    assertEquals(1, calls.get());
+    assertEquals(first, second);
+    verify(idempotencyKeyRepository, times(1)).register(any());
+    verify(idempotencyKeyRepository).complete(eq("key-1"), eq("DEPOSIT"), any());
+  }
+
+  @Test
+  @DisplayName("登録済みのキーは保存済みのレスポンスを返す")
+  void execute_shouldReplayStoredResponse_whenKeyAlreadyRegistered() throws Exception {
+    // Given
+    TransactionDto stored = sampleDto();
+    Map<String, Integer> request = Map.of("amount", 1000);
+    String requestHash = hashOf(request);
+    when(idempotencyKeyRepository.register(any())).thenReturn(false);
+    when(idempotencyKeyRepository.find("key-2", "DEPOSIT"))
+        .thenReturn(
+            Optional.of(
+                new IdempotencyRecord(
+                    "key-2", "DEPOSIT", requestHash, objectMapper.writeValueAsString(stored))));
+
+    // When
+    TransactionDto result =
+        idempotencyService.execute(
+            "key-2", "DEPOSIT", request, TransactionDto.class, () -> fail("再実行されてはならない"));
+
+    // Then
+    assertEquals(stored, result);
+    verify(idempotencyKeyRepository, never()).complete(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("同じキーで内容が異なる場合は競合例外が発生する")
+  void execute_shouldThrowConflict_whenRequestDiffers() {
+    // Given
+    when(idempotencyKeyRepository.register(any())).thenReturn(false);
+    when(idempotencyKeyRepository.find("key-3", "DEPOSIT"))
+        .thenReturn(Optional.of(new IdempotencyRecord("key-3", "DEPOSIT", "other-hash", "{}")));
+
+    // When & Then
+    assertThrows(
+        IdempotencyKeyConflictException.class,
+        () ->
+            idempotencyService.execute(
+                "key-3", "DEPOSIT", Map.of("amount", 1), TransactionDto.class, this::sampleDto));
+  }
+
+  private TransactionDto sampleDto() {
+    LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+    return new TransactionDto(
+        UUID.fromString("00000000-0000-0000-0000-000000000001"),
+        UUID.fromString("00000000-0000-0000-0000-000000000002"),
+        "DEPOSIT",
+        BigDecimal.valueOf(1000),
+        "JPY",
+        "預かり",
+        now,
+        now);
+  }
+
+  private String hashOf(Object request) throws Exception {
+    byte[] digest =
+        MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+    return HexFormat.of().formatHex(digest);
+  }
+}
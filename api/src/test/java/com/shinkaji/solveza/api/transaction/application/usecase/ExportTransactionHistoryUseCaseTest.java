@@ -0,0 +1,97 @@
+package com.shinkaji.solveza.api.transaction.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.shared.domain.exception.AccountNotFoundException;
+import com.shinkaji.solveza.api.transaction.application.query.ExportTransactionHistoryQuery;
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionPeriod;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
+import com.shinkaji.solveza.api.transaction.domain.service.TransactionValidationService;
+import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionDto;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportTransactionHistoryUseCaseのテスト")
+class ExportTransactionHistoryUseCaseTest {
+
+  @Mock private TransactionRepository transactionRepository;
+
+  @Mock private TransactionValidationService transactionValidationService;
+
+  private ExportTransactionHistoryUseCase exportTransactionHistoryUseCase;
+
+  @BeforeEach
+  void setUp() {
+    exportTransactionHistoryUseCase =
+        new ExportTransactionHistoryUseCase(transactionRepository, transactionValidationService);
+  }
+
+  @Test
+  @DisplayName("取引が1件ずつシンクに渡される")
+  @SuppressWarnings("unchecked")
+  void export_shouldPassEachTransactionToSink() {
+    // Given
+    UUID accountUuid = UUID.randomUUID();
+    AccountId accountId = new AccountId(accountUuid);
+    Money amount = new Money(BigDecimal.valueOf(1000), Currency.getInstance("JPY"));
+    Transaction deposit = Transaction.createDeposit(accountId, amount, "預かり1");
+    Transaction payment = Transaction.createPayment(accountId, amount, "支払い1");
+
+    doAnswer(
+            invocation -> {
+              Consumer<Transaction> action = invocation.getArgument(2);
+              action.accept(deposit);
+              action.accept(payment);
+              return null;
+            })
+        .when(transactionRepository)
+        .forEachByAccountId(
+            any(AccountId.class), eq(TransactionPeriod.unbounded()), any(Consumer.class));
+
+    List<TransactionDto> written = new ArrayList<>();
+
+    // When
+    exportTransactionHistoryUseCase.export(
+        new ExportTransactionHistoryQuery(accountUuid), written::add);
+
+    // Then
+    assertEquals(2, written.size());
+    assertEquals(deposit.getId(), written.get(0).id());
+    assertEquals("DEPOSIT", written.get(0).transactionType());
+    assertEquals(payment.getId(), written.get(1).id());
+    assertEquals("PAYMENT", written.get(1).transactionType());
+  }
+
+  @Test
+  @DisplayName("アカウントが存在しない場合は検証で例外が発生する")
+  void validate_shouldThrowException_whenAccountNotFound() {
+    // Given
+    UUID accountUuid = UUID.randomUUID();
+    ExportTransactionHistoryQuery query = new ExportTransactionHistoryQuery(accountUuid);
+    doThrow(new AccountNotFoundException(new AccountId(accountUuid)))
+        .when(transactionValidationService)
+        .validateAccountExists(any());
+
+    // When & Then
+    assertThrows(
+        AccountNotFoundException.class, () -> exportTransactionHistoryUseCase.validate(query));
+    verify(transactionRepository, never()).forEachByAccountId(any(), any(), any());
+  }
+}
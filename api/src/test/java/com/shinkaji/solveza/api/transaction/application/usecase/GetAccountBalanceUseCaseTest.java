@@ -8,9 +8,11 @@ import com.shinkaji.solveza.api.shared.domain.AccountId;
 import com.shinkaji.solveza.api.shared.domain.Money;
 import com.shinkaji.solveza.api.transaction.application.query.GetAccountBalanceQuery;
 import com.shinkaji.solveza.api.transaction.domain.service.AccountBalanceService;
+import com.shinkaji.solveza.api.transaction.domain.service.PointInTimeBalanceService;
 import com.shinkaji.solveza.api.transaction.domain.service.TransactionValidationService;
 import com.shinkaji.solveza.api.transaction.presentation.dto.BalanceDto;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Currency;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +28,8 @@ class GetAccountBalanceUseCaseTest {
 
   @Mock private AccountBalanceService accountBalanceService;
 
+  @Mock private PointInTimeBalanceService pointInTimeBalanceService;
+
   @Mock private TransactionValidationService transactionValidationService;
 
   private GetAccountBalanceUseCase getAccountBalanceUseCase;
@@ -33,7 +37,8 @@ class GetAccountBalanceUseCaseTest {
   @BeforeEach
   void setUp() {
     getAccountBalanceUseCase =
-        new GetAccountBalanceUseCase(accountBalanceService, transactionValidationService);
+        new GetAccountBalanceUseCase(
+            accountBalanceService, pointInTimeBalanceService, transactionValidationService);
   }
 
   @Test
@@ -59,6 +64,29 @@ class GetAccountBalanceUseCaseTest {
 
     verify(transactionValidationService).validateAccountExists(any(AccountId.class));
     verify(accountBalanceService).calculateBalance(any(AccountId.class));
+    verifyNoInteractions(pointInTimeBalanceService);
+  }
+
+  @Test
+  @DisplayName("基準日時を指定した場合はその時点の残高を取得する")
+  void execute_shouldReturnBalanceAsOf_whenAsOfSpecified() {
+    // Given
+    UUID accountUuid = UUID.randomUUID();
+    LocalDateTime asOf = LocalDateTime.of(2025, 3, 15, 0, 0);
+    GetAccountBalanceQuery query = new GetAccountBalanceQuery(accountUuid, asOf);
+
+    Money balance = new Money(BigDecimal.valueOf(800), Currency.getInstance("JPY"));
+    when(pointInTimeBalanceService.calculateBalanceAsOf(new AccountId(accountUuid), asOf))
+        .thenReturn(balance);
+
+    // When
+    BalanceDto result = getAccountBalanceUseCase.execute(query);
+
+    // Then
+    assertEquals(accountUuid, result.accountId());
+    assertEquals(BigDecimal.valueOf(800), result.amount());
+    verify(transactionValidationService).validateAccountExists(any(AccountId.class));
+    verify(accountBalanceService, never()).calculateBalance(any());
   }
 
   @Test
@@ -0,0 +1,71 @@
+package com.shinkaji.solveza.api.transaction.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.transaction.application.query.GetAccountBalancesQuery;
+import com.shinkaji.solveza.api.transaction.domain.service.AccountBalanceService;
+import com.shinkaji.solveza.api.transaction.domain.service.TransactionValidationService;
+import com.shinkaji.solveza.api.transaction.presentation.dto.CurrencyBalanceDto;
+import com.shinkaji.solveza.api.transaction.presentation.dto.MultiCurrencyBalanceDto;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetAccountBalancesUseCaseのテスト")
+class GetAccountBalancesUseCaseTest {
+
+  @Mock private AccountBalanceService accountBalanceService;
+
+  @Mock private TransactionValidationService transactionValidationService;
+
+  private GetAccountBalancesUseCase getAccountBalancesUseCase;
+
+  @BeforeEach
+  void setUp() {
+    getAccountBalancesUseCase =
+        new GetAccountBalancesUseCase(accountBalanceService, transactionValidationService);
+  }
+
+  @Test
+  @DisplayName("通貨ごとの残高が1回の呼び出しで返される")
+  void execute_shouldReturnBalancePerCurrency() {
+    // Given
+    UUID accountUuid = UUID.randomUUID();
+    Map<Currency, Money> balances = new LinkedHashMap<>();
+    balances.put(
+        Currency.getInstance("JPY"),
+        new Money(BigDecimal.valueOf(1500), Currency.getInstance("JPY")));
+    balances.put(
+        Currency.getInstance("USD"),
+        new Money(BigDecimal.valueOf(20), Currency.getInstance("USD")));
+    when(accountBalanceService.calculateBalances(new AccountId(accountUuid))).thenReturn(balances);
+
+    // When
+    MultiCurrencyBalanceDto result =
+        getAccountBalancesUseCase.execute(new GetAccountBalancesQuery(accountUuid));
+
+    // Then
+    assertEquals(accountUuid, result.accountId());
+    assertEquals(
+        List.of(
+            new CurrencyBalanceDto("JPY", BigDecimal.valueOf(1500)),
+            new CurrencyBalanceDto("USD", BigDecimal.valueOf(20))),
+        result.balances());
+    verify(transactionValidationService).validateAccountExists(any(AccountId.class));
+    verify(accountBalanceService, never()).calculateBalance(any());
+  }
+}
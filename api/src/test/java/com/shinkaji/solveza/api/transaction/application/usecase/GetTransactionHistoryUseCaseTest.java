@@ -2,16 +2,23 @@ package com.shinkaji.solveza.api.transaction.application.usecase;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 import com.shinkaji.solveza.api.shared.domain.AccountId;
 import com.shinkaji.solveza.api.shared.domain.Money;
 import com.shinkaji.solveza.api.transaction.application.query.GetTransactionHistoryQuery;
 import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionCursor;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionPeriod;
 import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
 import com.shinkaji.solveza.api.transaction.domain.service.TransactionValidationService;
 import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionDto;
+import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionHistoryPageDto;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Currency;
 import java.util.List;
@@ -54,14 +61,17 @@ class GetTransactionHistoryUseCaseTest {
     Transaction payment = Transaction.createPayment(accountId, amount2, "支払い1");
 
     doNothing().when(transactionValidationService).validateAccountExists(any());
-    when(transactionRepository.findByAccountId(any(AccountId.class)))
+    when(transactionRepository.findPageByAccountId(
+            any(AccountId.class), eq(TransactionPeriod.unbounded()), isNull(), eq(51)))
         .thenReturn(Arrays.asList(deposit, payment));
 
     // When
-    List<TransactionDto> result = getTransactionHistoryUseCase.execute(query);
+    TransactionHistoryPageDto page = getTransactionHistoryUseCase.execute(query);
+    List<TransactionDto> result = page.transactions();
 
     // Then
     assertEquals(2, result.size());
+    assertNull(page.nextCursor());
 
     TransactionDto depositDto = result.getFirst();
     assertEquals(accountUuid, depositDto.accountId());
@@ -78,7 +88,9 @@ class GetTransactionHistoryUseCaseTest {
     assertEquals("支払い1", paymentDto.description());
 
     verify(transactionValidationService).validateAccountExists(any(AccountId.class));
-    verify(transactionRepository).findByAccountId(any(AccountId.class));
+    verify(transactionRepository)
+        .findPageByAccountId(
+            any(AccountId.class), eq(TransactionPeriod.unbounded()), isNull(), eq(51));
   }
 
   @Test
@@ -94,6 +106,63 @@ class GetTransactionHistoryUseCaseTest {
 
     // When & Then
     assertThrows(RuntimeException.class, () -> getTransactionHistoryUseCase.execute(query));
-    verify(transactionRepository, never()).findByAccountId(any());
+    verify(transactionRepository, never()).findPageByAccountId(any(), any(), any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("件数を超える取引がある場合は次ページのカーソルが返される")
+  void execute_shouldReturnNextCursor_whenMoreTransactionsExist() {
+    // Given
+    UUID accountUuid = UUID.randomUUID();
+    AccountId accountId = new AccountId(accountUuid);
+    Money amount = new Money(BigDecimal.valueOf(100), Currency.getInstance("JPY"));
+    Transaction first = Transaction.createDeposit(accountId, amount, "1");
+    Transaction second = Transaction.createDeposit(accountId, amount, "2");
+    Transaction third = Transaction.createDeposit(accountId, amount, "3");
+
+    when(transactionRepository.findPageByAccountId(
+            any(AccountId.class), eq(TransactionPeriod.unbounded()), isNull(), eq(3)))
+        .thenReturn(Arrays.asList(first, second, third));
+
+    // When
+    TransactionHistoryPageDto page =
+        getTransactionHistoryUseCase.execute(new GetTransactionHistoryQuery(accountUuid, null, 2));
+
+    // Then
+    assertEquals(2, page.transactions().size());
+    assertEquals(TransactionCursor.of(second), TransactionCursor.decode(page.nextCursor()));
+  }
+
+  @Test
+  @DisplayName("カーソルを指定した場合はその位置以降が取得される")
+  void execute_shouldPassDecodedCursor_whenCursorGiven() {
+    // Given
+    UUID accountUuid = UUID.randomUUID();
+    TransactionCursor cursor =
+        new TransactionCursor(LocalDateTime.of(2024, 1, 1, 12, 0), UUID.randomUUID());
+
+    when(transactionRepository.findPageByAccountId(
+            any(AccountId.class), eq(TransactionPeriod.unbounded()), eq(cursor), eq(11)))
+        .thenReturn(List.of());
+
+    // When
+    TransactionHistoryPageDto page =
+        getTransactionHistoryUseCase.execute(
+            new GetTransactionHistoryQuery(accountUuid, cursor.encode(), 10));
+
+    // Then
+    assertTrue(page.transactions().isEmpty());
+    assertNull(page.nextCursor());
+  }
+
+  @Test
+  @DisplayName("取得件数が上限を超える場合は例外が発生する")
+  void execute_shouldThrowException_whenLimitOutOfRange() {
+    // Given
+    GetTransactionHistoryQuery query = new GetTransactionHistoryQuery(UUID.randomUUID(), null, 501);
+
+    // When & Then
+    assertThrows(IllegalArgumentException.class, () -> getTransactionHistoryUseCase.execute(query));
+    verify(transactionRepository, never()).findPageByAccountId(any(), any(), any(), anyInt());
   }
 }
@@ -0,0 +1,99 @@
+package com.shinkaji.solveza.api.transaction.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.transaction.application.query.GetTransactionSummaryQuery;
+import com.shinkaji.solveza.api.transaction.domain.model.DailyTransactionSummary;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionDailyRollupRepository;
+import com.shinkaji.solveza.api.transaction.domain.service.TransactionValidationService;
+import com.shinkaji.solveza.api.transaction.presentation.dto.CurrencySummaryDto;
+import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionSummaryDto;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetTransactionSummaryUseCaseのテスト")
+class GetTransactionSummaryUseCaseTest {
+
+  @Mock private TransactionDailyRollupRepository transactionDailyRollupRepository;
+
+  @Mock private TransactionValidationService transactionValidationService;
+
+  private GetTransactionSummaryUseCase getTransactionSummaryUseCase;
+
+  @BeforeEach
+  void setUp() {
+    getTransactionSummaryUseCase =
+        new GetTransactionSummaryUseCase(
+            transactionDailyRollupRepository, transactionValidationService);
+  }
+
+  @Test
+  @DisplayName("日次集計が日別に返され、通貨ごとの合計が計算される")
+  void execute_shouldReturnDailyRowsAndTotals() {
+    // Given
+    UUID accountUuid = UUID.randomUUID();
+    AccountId accountId = new AccountId(accountUuid);
+    LocalDate from = LocalDate.of(2024, 1, 1);
+    LocalDate to = LocalDate.of(2024, 1, 31);
+    Currency jpy = Currency.getInstance("JPY");
+    when(transactionDailyRollupRepository.findByAccountId(accountId, from, to))
+        .thenReturn(
+            List.of(
+                new DailyTransactionSummary(
+                    accountId,
+                    LocalDate.of(2024, 1, 5),
+                    jpy,
+                    BigDecimal.valueOf(1000),
+                    BigDecimal.valueOf(200),
+                    3),
+                new DailyTransactionSummary(
+                    accountId,
+                    LocalDate.of(2024, 1, 20),
+                    jpy,
+                    BigDecimal.valueOf(500),
+                    BigDecimal.ZERO,
+                    1)));
+
+    // When
+    TransactionSummaryDto result =
+        getTransactionSummaryUseCase.execute(new GetTransactionSummaryQuery(accountUuid, from, to));
+
+    // Then
+    assertEquals(2, result.daily().size());
+    assertEquals(0, BigDecimal.valueOf(800).compareTo(result.daily().get(0).netAmount()));
+    assertEquals(1, result.totals().size());
+    CurrencySummaryDto total = result.totals().get(0);
+    assertEquals("JPY", total.currency());
+    assertEquals(0, BigDecimal.valueOf(1500).compareTo(total.depositTotal()));
+    assertEquals(0, BigDecimal.valueOf(200).compareTo(total.paymentTotal()));
+    assertEquals(0, BigDecimal.valueOf(1300).compareTo(total.netAmount()));
+    assertEquals(4, total.transactionCount());
+    verify(transactionValidationService).validateAccountExists(accountId);
+  }
+
+  @Test
+  @DisplayName("開始日が終了日より後の場合は例外が発生する")
+  void execute_shouldThrowException_whenRangeIsReversed() {
+    // Given
+    GetTransactionSummaryQuery query =
+        new GetTransactionSummaryQuery(
+            UUID.randomUUID(), LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1));
+
+    // When & Then
+    assertThrows(IllegalArgumentException.class, () -> getTransactionSummaryUseCase.execute(query));
+    verify(transactionDailyRollupRepository, never()).findByAccountId(any(), any(), any());
+  }
+}
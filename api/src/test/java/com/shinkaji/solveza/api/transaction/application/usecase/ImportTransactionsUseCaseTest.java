@@ -0,0 +1,73 @@
+package com.shinkaji.solveza.api.transaction.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionImportRepository;
+import com.shinkaji.solveza.api.transaction.presentation.dto.ImportResultDto;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportTransactionsUseCaseのテスト")
+class ImportTransactionsUseCaseTest {
+
+  @Mock private TransactionImportRepository transactionImportRepository;
+
+  private ImportTransactionsUseCase importTransactionsUseCase;
+
+  @BeforeEach
+  void setUp() {
+    importTransactionsUseCase = new ImportTransactionsUseCase(transactionImportRepository);
+  }
+
+  @Test
+  @DisplayName("取り込み後に派生データが更新され、件数が集計される")
+  void execute_shouldMergeAndRebuildBalances() {
+    // Given
+    InputStream csv = new ByteArrayInputStream(new byte[0]);
+    when(transactionImportRepository.stage(any())).thenReturn(10L);
+    when(transactionImportRepository.discardInvalid()).thenReturn(1);
+    when(transactionImportRepository.discardUnknownAccounts()).thenReturn(2);
+    when(transactionImportRepository.mergeStaged()).thenReturn(5);
+
+    // When
+    ImportResultDto result = importTransactionsUseCase.execute(csv);
+
+    // Then
+    assertEquals(10, result.staged());
+    assertEquals(1, result.invalid());
+    assertEquals(2, result.unknownAccount());
+    assertEquals(2, result.duplicate());
+    assertEquals(5, result.imported());
+
+    InOrder inOrder = inOrder(transactionImportRepository);
+    inOrder.verify(transactionImportRepository).stage(csv);
+    inOrder.verify(transactionImportRepository).mergeStaged();
+    inOrder.verify(transactionImportRepository).refreshDerivedData();
+  }
+
+  @Test
+  @DisplayName("取り込んだ行がない場合は派生データを更新しない")
+  void execute_shouldNotRefreshDerivedData_whenNothingImported() {
+    // Given
+    when(transactionImportRepository.stage(any())).thenReturn(3L);
+    when(transactionImportRepository.mergeStaged()).thenReturn(0);
+
+    // When
+    ImportResultDto result =
+        importTransactionsUseCase.execute(new ByteArrayInputStream(new byte[0]));
+
+    // Then
+    assertEquals(3, result.duplicate());
+    verify(transactionImportRepository, never()).refreshDerivedData();
+  }
+}
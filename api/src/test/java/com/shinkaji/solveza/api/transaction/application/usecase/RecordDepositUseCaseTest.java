@@ -5,8 +5,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.shinkaji.solveza.api.transaction.application.command.RecordDepositCommand;
+import com.shinkaji.solveza.api.transaction.application.service.TransactionWriter;
 import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
-import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
 import com.shinkaji.solveza.api.transaction.domain.service.TransactionValidationService;
 import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionDto;
 import java.math.BigDecimal;
@@ -23,7 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @DisplayName("RecordDepositUseCaseのテスト")
 class RecordDepositUseCaseTest {
 
-  @Mock private TransactionRepository transactionRepository;
+  @Mock private TransactionWriter transactionWriter;
 
   @Mock private TransactionValidationService transactionValidationService;
 
@@ -32,7 +32,7 @@ class RecordDepositUseCaseTest {
   @BeforeEach
   void setUp() {
     recordDepositUseCase =
-        new RecordDepositUseCase(transactionRepository, transactionValidationService);
+        new RecordDepositUseCase(transactionWriter, transactionValidationService);
   }
 
   @Test
@@ -62,7 +62,7 @@ class RecordDepositUseCaseTest {
     assertNotNull(result.createdAt());
 
     ArgumentCaptor<Transaction> transactionCaptor = ArgumentCaptor.forClass(Transaction.class);
-    verify(transactionRepository).save(transactionCaptor.capture());
+    verify(transactionWriter).write(transactionCaptor.capture());
     Transaction savedTransaction = transactionCaptor.getValue();
     assertTrue(savedTransaction.isDeposit());
     assertEquals("テスト預かり", savedTransaction.getDescription());
@@ -82,6 +82,6 @@ class RecordDepositUseCaseTest {
 
     // When & Then
     assertThrows(RuntimeException.class, () -> recordDepositUseCase.execute(command));
-    verify(transactionRepository, never()).save(any());
+    verify(transactionWriter, never()).write(any());
   }
 }
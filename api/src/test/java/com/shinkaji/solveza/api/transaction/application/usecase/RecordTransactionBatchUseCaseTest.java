@@ -0,0 +1,124 @@
+package com.shinkaji.solveza.api.transaction.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.exception.InvalidTransactionException;
+import com.shinkaji.solveza.api.transaction.application.command.BatchTransactionItem;
+import com.shinkaji.solveza.api.transaction.application.command.RecordTransactionBatchCommand;
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.repository.AccountBalanceRepository;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionDailyRollupRepository;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
+import com.shinkaji.solveza.api.transaction.domain.service.TransactionValidationService;
+import com.shinkaji.solveza.api.transaction.presentation.dto.BatchResultDto;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecordTransactionBatchUseCaseのテスト")
+class RecordTransactionBatchUseCaseTest {
+
+  @Mock private TransactionRepository transactionRepository;
+
+  @Mock private AccountBalanceRepository accountBalanceRepository;
+
+  @Mock private TransactionDailyRollupRepository transactionDailyRollupRepository;
+
+  @Mock private TransactionValidationService transactionValidationService;
+
+  private RecordTransactionBatchUseCase recordTransactionBatchUseCase;
+
+  @BeforeEach
+  void setUp() {
+    recordTransactionBatchUseCase =
+        new RecordTransactionBatchUseCase(
+            transactionRepository,
+            accountBalanceRepository,
+            transactionDailyRollupRepository,
+            transactionValidationService);
+  }
+
+  @Test
+  @DisplayName("有効な明細のみ登録され、結果は明細の順序で返される")
+  @SuppressWarnings("unchecked")
+  void execute_shouldReturnResultsInOrder_whenItemsAreMixed() {
+    // Given
+    UUID existingAccount = UUID.randomUUID();
+    UUID missingAccount = UUID.randomUUID();
+    RecordTransactionBatchCommand command =
+        new RecordTransactionBatchCommand(
+            List.of(
+                new BatchTransactionItem(
+                    "DEPOSIT", existingAccount, BigDecimal.valueOf(1000), "JPY", "預かり"),
+                new BatchTransactionItem(
+                    "PAYMENT", missingAccount, BigDecimal.valueOf(500), "JPY", "支払い"),
+                new BatchTransactionItem(
+                    "REFUND", existingAccount, BigDecimal.valueOf(100), "JPY", "不明な種別"),
+                new BatchTransactionItem(
+                    "PAYMENT", existingAccount, BigDecimal.valueOf(300), "JPY", "支払い")));
+
+    when(transactionValidationService.findExistingAccounts(anyCollection()))
+        .thenReturn(Set.of(new AccountId(existingAccount)));
+
+    // When
+    BatchResultDto result = recordTransactionBatchUseCase.execute(command);
+
+    // Then
+    assertEquals(2, result.accepted());
+    assertEquals(2, result.rejected());
+    assertEquals(4, result.results().size());
+    assertEquals("CREATED", result.results().get(0).status());
+    assertEquals("DEPOSIT", result.results().get(0).transaction().transactionType());
+    assertEquals("REJECTED", result.results().get(1).status());
+    assertEquals("ACCOUNT_NOT_FOUND", result.results().get(1).errorCode());
+    assertEquals("REJECTED", result.results().get(2).status());
+    assertEquals("ILLEGAL_ARGUMENT", result.results().get(2).errorCode());
+    assertEquals("CREATED", result.results().get(3).status());
+    for (int i = 0; i < 4; i++) {
+      assertEquals(i, result.results().get(i).index());
+    }
+
+    ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+    verify(transactionRepository).saveAll(captor.capture());
+    assertEquals(2, captor.getValue().size());
+    verify(accountBalanceRepository).applyAll(captor.getValue());
+    verify(transactionDailyRollupRepository).applyAll(captor.getValue());
+    verify(transactionValidationService, times(1)).findExistingAccounts(anyCollection());
+  }
+
+  @Test
+  @DisplayName("金額が不正な明細は登録されない")
+  void execute_shouldRejectItem_whenAmountInvalid() {
+    // Given
+    UUID accountId = UUID.randomUUID();
+    RecordTransactionBatchCommand command =
+        new RecordTransactionBatchCommand(
+            List.of(new BatchTransactionItem("DEPOSIT", accountId, BigDecimal.ZERO, "JPY", "ゼロ円")));
+
+    doThrow(new InvalidTransactionException("金額は0より大きい値である必要があります"))
+        .when(transactionValidationService)
+        .validateTransactionAmount(any());
+    when(transactionValidationService.findExistingAccounts(anyCollection())).thenReturn(Set.of());
+
+    // When
+    BatchResultDto result = recordTransactionBatchUseCase.execute(command);
+
+    // Then
+    assertEquals(0, result.accepted());
+    assertEquals("INVALID_TRANSACTION", result.results().getFirst().errorCode());
+    verify(transactionRepository).saveAll(List.of());
+  }
+}
@@ -0,0 +1,34 @@
+package com.shinkaji.solveza.api.transaction.domain.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TransactionCursorのテスト")
+class TransactionCursorTest {
+
+  @Test
+  @DisplayName("エンコードしたカーソルをデコードすると元の値に戻る")
+  void encodeAndDecode_shouldRoundTrip() {
+    // Given
+    LocalDateTime executedAt = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123456000);
+    TransactionCursor cursor = new TransactionCursor(executedAt, UUID.randomUUID());
+
+    // When
+    TransactionCursor decoded = TransactionCursor.decode(cursor.encode());
+
+    // Then
+    assertEquals(cursor, decoded);
+  }
+
+  @Test
+  @DisplayName("不正な形式のカーソルは例外が発生する")
+  void decode_shouldThrowException_whenMalformed() {
+    assertThrows(IllegalArgumentException.class, () -> TransactionCursor.decode("!!invalid!!"));
+    assertThrows(
+        IllegalArgumentException.class, () -> TransactionCursor.decode("bm8tc2VwYXJhdG9y"));
+  }
+}
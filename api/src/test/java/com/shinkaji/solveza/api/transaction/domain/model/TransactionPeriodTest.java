@@ -0,0 +1,31 @@
+package com.shinkaji.solveza.api.transaction.domain.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TransactionPeriodのテスト")
+class TransactionPeriodTest {
+
+  @Test
+  @DisplayName("開始・終了の片方または両方を省略できる")
+  void constructor_shouldAllowOpenEnds() {
+    LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    assertDoesNotThrow(() -> new TransactionPeriod(from, null));
+    assertDoesNotThrow(() -> new TransactionPeriod(null, from));
+    assertEquals(TransactionPeriod.unbounded(), new TransactionPeriod(null, null));
+  }
+
+  @Test
+  @DisplayName("開始日時が終了日時以降の場合は例外が発生する")
+  void constructor_shouldThrowException_whenFromIsNotBeforeTo() {
+    LocalDateTime from = LocalDateTime.of(2024, 2, 1, 0, 0);
+
+    assertThrows(IllegalArgumentException.class, () -> new TransactionPeriod(from, from));
+    assertThrows(
+        IllegalArgumentException.class, () -> new TransactionPeriod(from, from.minusDays(1)));
+  }
+}
@@ -11,6 +11,7 @@ import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Currency;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -113,4 +114,34 @@ class AccountBalanceServiceImplTest {
     assertEquals(BigDecimal.valueOf(700), balance.amount());
     assertEquals(Currency.getInstance("JPY"), balance.currency());
   }
+
+  @Test
+  @DisplayName("複数通貨の取引は合算されず、通貨ごとの残高が計算される")
+  void calculateBalances_shouldReturnBalancePerCurrency_whenMultipleCurrencies() {
+    // Given
+    AccountId accountId = new AccountId(UUID.randomUUID());
+    Currency jpy = Currency.getInstance("JPY");
+    Currency usd = Currency.getInstance("USD");
+
+    Transaction usdDeposit =
+        Transaction.createDeposit(accountId, new Money(BigDecimal.valueOf(50), usd), "預かり");
+    Transaction jpyDeposit =
+        Transaction.createDeposit(accountId, new Money(BigDecimal.valueOf(1000), jpy), "預かり");
+    Transaction jpyPayment =
+        Transaction.createPayment(accountId, new Money(BigDecimal.valueOf(300), jpy), "支払い");
+
+    when(transactionRepository.findByAccountId(accountId))
+        .thenReturn(List.of(usdDeposit, jpyDeposit, jpyPayment));
+
+    // When
+    Map<Currency, Money> balances = accountBalanceService.calculateBalances(accountId);
+    Money balance = accountBalanceService.calculateBalance(accountId);
+
+    // Then
+    assertEquals(List.of(jpy, usd), List.copyOf(balances.keySet()));
+    assertEquals(BigDecimal.valueOf(700), balances.get(jpy).amount());
+    assertEquals(BigDecimal.valueOf(50), balances.get(usd).amount());
+    // 最新取引の通貨の残高のみが返される
+    assertEquals(new Money(BigDecimal.valueOf(50), usd), balance);
+  }
 }
@@ -0,0 +1,93 @@
+package com.shinkaji.solveza.api.transaction.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.transaction.domain.model.AccountBalance;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionPeriod;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AggregatedAccountBalanceServiceのテスト")
+class AggregatedAccountBalanceServiceTest {
+
+  @Mock private TransactionRepository transactionRepository;
+
+  private AggregatedAccountBalanceService accountBalanceService;
+
+  @BeforeEach
+  void setUp() {
+    accountBalanceService = new AggregatedAccountBalanceService(transactionRepository);
+  }
+
+  @Test
+  @DisplayName("取引がない場合は残高0が返される")
+  void calculateBalance_shouldReturnZero_whenNoTransactions() {
+    // Given
+    AccountId accountId = new AccountId(UUID.randomUUID());
+    when(transactionRepository.aggregateBalance(accountId, TransactionPeriod.unbounded()))
+        .thenReturn(Optional.empty());
+
+    // When
+    Money balance = accountBalanceService.calculateBalance(accountId);
+
+    // Then
+    assertEquals(BigDecimal.ZERO, balance.amount());
+    assertEquals(Currency.getInstance("JPY"), balance.currency());
+  }
+
+  @Test
+  @DisplayName("DB側の集計結果が返され、取引一覧は読み込まれない")
+  void calculateBalance_shouldUseAggregatedRow() {
+    // Given
+    AccountId accountId = new AccountId(UUID.randomUUID());
+    when(transactionRepository.aggregateBalance(accountId, TransactionPeriod.unbounded()))
+        .thenReturn(
+            Optional.of(
+                new AccountBalance(
+                    accountId, BigDecimal.valueOf(700), Currency.getInstance("JPY"))));
+
+    // When
+    Money balance = accountBalanceService.calculateBalance(accountId);
+
+    // Then
+    assertEquals(BigDecimal.valueOf(700), balance.amount());
+    verify(transactionRepository, never()).findByAccountId(any());
+  }
+
+  @Test
+  @DisplayName("通貨ごとの集計結果が通貨別残高として返される")
+  void calculateBalances_shouldReturnAggregatedRowsPerCurrency() {
+    // Given
+    AccountId accountId = new AccountId(UUID.randomUUID());
+    Currency jpy = Currency.getInstance("JPY");
+    Currency usd = Currency.getInstance("USD");
+    when(transactionRepository.aggregateBalances(accountId, TransactionPeriod.unbounded()))
+        .thenReturn(
+            List.of(
+                new AccountBalance(accountId, BigDecimal.valueOf(-20), usd),
+                new AccountBalance(accountId, BigDecimal.valueOf(700), jpy)));
+
+    // When
+    Map<Currency, Money> balances = accountBalanceService.calculateBalances(accountId);
+
+    // Then
+    assertEquals(List.of(jpy, usd), List.copyOf(balances.keySet()));
+    assertEquals(BigDecimal.valueOf(700), balances.get(jpy).amount());
+    assertEquals(BigDecimal.ZERO, balances.get(usd).amount());
+  }
+}
@@ -0,0 +1,110 @@
+package com.shinkaji.solveza.api.transaction.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.transaction.domain.model.AccountBalance;
+import com.shinkaji.solveza.api.transaction.domain.repository.AccountBalanceRepository;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MaterializedAccountBalanceServiceのテスト")
+class MaterializedAccountBalanceServiceTest {
+
+  @Mock private AccountBalanceRepository accountBalanceRepository;
+
+  private MaterializedAccountBalanceService accountBalanceService;
+
+  @BeforeEach
+  void setUp() {
+    accountBalanceService = new MaterializedAccountBalanceService(accountBalanceRepository);
+  }
+
+  @Test
+  @DisplayName("集計行がない場合は残高0が返される")
+  void calculateBalance_shouldReturnZero_whenNoBalanceRow() {
+    // Given
+    AccountId accountId = new AccountId(UUID.randomUUID());
+    when(accountBalanceRepository.findByAccountId(accountId)).thenReturn(List.of());
+
+    // When
+    Money balance = accountBalanceService.calculateBalance(accountId);
+
+    // Then
+    assertEquals(BigDecimal.ZERO, balance.amount());
+    assertEquals(Currency.getInstance("JPY"), balance.currency());
+  }
+
+  @Test
+  @DisplayName("最新取引の通貨の集計行の残高と通貨が返される")
+  void calculateBalance_shouldReturnMaterializedBalance() {
+    // Given
+    AccountId accountId = new AccountId(UUID.randomUUID());
+    when(accountBalanceRepository.findByAccountId(accountId))
+        .thenReturn(
+            List.of(
+                new AccountBalance(accountId, BigDecimal.valueOf(700), Currency.getInstance("USD")),
+                new AccountBalance(
+                    accountId, BigDecimal.valueOf(1000), Currency.getInstance("JPY"))));
+
+    // When
+    Money balance = accountBalanceService.calculateBalance(accountId);
+
+    // Then
+    assertEquals(BigDecimal.valueOf(700), balance.amount());
+    assertEquals(Currency.getInstance("USD"), balance.currency());
+  }
+
+  @Test
+  @DisplayName("集計残高が負の場合は残高0が返される")
+  void calculateBalance_shouldReturnZero_whenMaterializedBalanceIsNegative() {
+    // Given
+    AccountId accountId = new AccountId(UUID.randomUUID());
+    when(accountBalanceRepository.findByAccountId(accountId))
+        .thenReturn(
+            List.of(
+                new AccountBalance(
+                    accountId, BigDecimal.valueOf(-300), Currency.getInstance("JPY"))));
+
+    // When
+    Money balance = accountBalanceService.calculateBalance(accountId);
+
+    // Then
+    assertEquals(BigDecimal.ZERO, balance.amount());
+    assertEquals(Currency.getInstance("JPY"), balance.currency());
+  }
+
+  @Test
+  @DisplayName("通貨ごとの集計行が通貨コード順に返され、異なる通貨の金額は合算されない")
+  void calculateBalances_shouldReturnMaterializedRowsPerCurrency() {
+    // Given
+    AccountId accountId = new AccountId(UUID.randomUUID());
+    Currency jpy = Currency.getInstance("JPY");
+    Currency usd = Currency.getInstance("USD");
+    when(accountBalanceRepository.findByAccountId(accountId))
+        .thenReturn(
+            List.of(
+                new AccountBalance(accountId, BigDecimal.valueOf(5), usd),
+                new AccountBalance(accountId, BigDecimal.valueOf(700), jpy)));
+
+    // When
+    Map<Currency, Money> balances = accountBalanceService.calculateBalances(accountId);
+
+    // Then
+    assertEquals(List.of(jpy, usd), List.copyOf(balances.keySet()));
+    assertEquals(BigDecimal.valueOf(700), balances.get(jpy).amount());
+    assertEquals(BigDecimal.valueOf(5), balances.get(usd).amount());
+  }
+}
@@ -0,0 +1,126 @@
+package com.shinkaji.solveza.api.transaction.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.transaction.domain.model.AccountBalance;
+import com.shinkaji.solveza.api.transaction.domain.model.BalanceCheckpoint;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionPeriod;
+import com.shinkaji.solveza.api.transaction.domain.repository.BalanceCheckpointRepository;
+import com.shinkaji.solveza.api.transaction.domain.repository.TransactionRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PointInTimeBalanceServiceImplのテスト")
+class PointInTimeBalanceServiceImplTest {
+
+  private static final Currency JPY = Currency.getInstance("JPY");
+  private static final Currency USD = Currency.getInstance("USD");
+
+  @Mock private BalanceCheckpointRepository balanceCheckpointRepository;
+
+  @Mock private TransactionRepository transactionRepository;
+
+  private PointInTimeBalanceServiceImpl pointInTimeBalanceService;
+
+  private AccountId accountId;
+
+  @BeforeEach
+  void setUp() {
+    pointInTimeBalanceService =
+        new PointInTimeBalanceServiceImpl(balanceCheckpointRepository, transactionRepository);
+    accountId = new AccountId(UUID.randomUUID());
+  }
+
+  @Test
+  @DisplayName("チェックポイントの残高にその後の差分が加算される")
+  void calculateBalanceAsOf_shouldAddDeltaToCheckpoint() {
+    // Given
+    LocalDateTime checkpointAt = LocalDateTime.of(2025, 3, 1, 0, 0);
+    LocalDateTime asOf = LocalDateTime.of(2025, 3, 15, 12, 0);
+    when(balanceCheckpointRepository.findLatestAtOrBefore(accountId, asOf))
+        .thenReturn(
+            List.of(new BalanceCheckpoint(accountId, checkpointAt, BigDecimal.valueOf(1000), JPY)));
+    when(transactionRepository.aggregateBalances(
+            accountId, new TransactionPeriod(checkpointAt, asOf)))
+        .thenReturn(List.of(new AccountBalance(accountId, BigDecimal.valueOf(-300), JPY)));
+
+    // When
+    Money balance = pointInTimeBalanceService.calculateBalanceAsOf(accountId, asOf);
+
+    // Then
+    assertEquals(BigDecimal.valueOf(700), balance.amount());
+    assertEquals(JPY, balance.currency());
+  }
+
+  @Test
+  @DisplayName("基準日時がチェックポイントと一致する場合は取引を集計しない")
+  void calculateBalanceAsOf_shouldNotScan_whenAsOfEqualsCheckpoint() {
+    // Given
+    LocalDateTime checkpointAt = LocalDateTime.of(2025, 3, 1, 0, 0);
+    when(balanceCheckpointRepository.findLatestAtOrBefore(accountId, checkpointAt))
+        .thenReturn(
+            List.of(new BalanceCheckpoint(accountId, checkpointAt, BigDecimal.valueOf(1000), JPY)));
+
+    // When
+    Money balance = pointInTimeBalanceService.calculateBalanceAsOf(accountId, checkpointAt);
+
+    // Then
+    assertEquals(BigDecimal.valueOf(1000), balance.amount());
+    verify(transactionRepository, never()).aggregateBalances(any(), any());
+  }
+
+  @Test
+  @DisplayName("チェックポイントがない場合は基準日時までの取引を集計する")
+  void calculateBalanceAsOf_shouldAggregateFromBeginning_whenNoCheckpoint() {
+    // Given
+    LocalDateTime asOf = LocalDateTime.of(2025, 3, 15, 12, 0);
+    when(balanceCheckpointRepository.findLatestAtOrBefore(accountId, asOf)).thenReturn(List.of());
+    when(transactionRepository.aggregateBalance(accountId, new TransactionPeriod(null, asOf)))
+        .thenReturn(Optional.empty());
+
+    // When
+    Money balance = pointInTimeBalanceService.calculateBalanceAsOf(accountId, asOf);
+
+    // Then
+    assertEquals(BigDecimal.ZERO, balance.amount());
+    assertEquals(JPY, balance.currency());
+  }
+
+  @Test
+  @DisplayName("差分は通貨ごとに加算され、異なる通貨の金額は合算されない")
+  void calculateBalanceAsOf_shouldAddDeltaPerCurrency_whenMultipleCurrencies() {
+    // Given
+    LocalDateTime checkpointAt = LocalDateTime.of(2025, 3, 1, 0, 0);
+    LocalDateTime asOf = LocalDateTime.of(2025, 3, 15, 12, 0);
+    when(balanceCheckpointRepository.findLatestAtOrBefore(accountId, asOf))
+        .thenReturn(
+            List.of(
+                new BalanceCheckpoint(accountId, checkpointAt, BigDecimal.valueOf(1000), JPY),
+                new BalanceCheckpoint(accountId, checkpointAt, BigDecimal.valueOf(20), USD)));
+    when(transactionRepository.aggregateBalances(
+            accountId, new TransactionPeriod(checkpointAt, asOf)))
+        .thenReturn(List.of(new AccountBalance(accountId, BigDecimal.valueOf(-5), USD)));
+
+    // When
+    Money balance = pointInTimeBalanceService.calculateBalanceAsOf(accountId, asOf);
+
+    // Then
+    assertEquals(BigDecimal.valueOf(15), balance.amount());
+    assertEquals(USD, balance.currency());
+  }
+}
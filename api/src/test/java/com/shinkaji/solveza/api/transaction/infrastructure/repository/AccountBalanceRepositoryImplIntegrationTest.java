@@ -0,0 +1,134 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shinkaji.solveza.api.annotation.RepositoryIntegrationTest;
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.transaction.domain.model.AccountBalance;
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@RepositoryIntegrationTest
+@DisplayName("AccountBalanceRepositoryImpl Integration Tests")
+class AccountBalanceRepositoryImplIntegrationTest {
+
+  private final AccountBalanceRepositoryImpl accountBalanceRepository;
+
+  AccountBalanceRepositoryImplIntegrationTest(
+      AccountBalanceRepositoryImpl accountBalanceRepository) {
+    this.accountBalanceRepository = accountBalanceRepository;
+  }
+
+  private AccountId testAccountId;
+
+  @BeforeEach
+  void setUp() {
+    testAccountId = new AccountId(UUID.randomUUID());
+  }
+
+  @Test
+  @DisplayName("取引の反映で残高が加減算される")
+  void apply_ShouldAccumulateDepositsAndPayments() {
+    // Arrange
+    Transaction deposit =
+        Transaction.createDeposit(
+            testAccountId,
+            new Money(BigDecimal.valueOf(1000.00), Currency.getInstance("JPY")),
+            "預かり");
+    Transaction payment =
+        Transaction.createPayment(
+            testAccountId,
+            new Money(BigDecimal.valueOf(300.00), Currency.getInstance("JPY")),
+            "支払い");
+
+    // Act
+    accountBalanceRepository.apply(deposit);
+    accountBalanceRepository.apply(payment);
+
+    // Assert
+    List<AccountBalance> balances = accountBalanceRepository.findByAccountId(testAccountId);
+    assertEquals(1, balances.size());
+    assertEquals(0, BigDecimal.valueOf(700).compareTo(balances.getFirst().amount()));
+    assertEquals(Currency.getInstance("JPY"), balances.getFirst().currency());
+  }
+
+  @Test
+  @DisplayName("取引のないアカウントは集計行が存在しない")
+  void findByAccountId_NotFound() {
+    // Act
+    List<AccountBalance> balances = accountBalanceRepository.findByAccountId(testAccountId);
+
+    // Assert
+    assertTrue(balances.isEmpty());
+  }
+
+  @Test
+  @DisplayName("通貨の異なる取引は通貨ごとの集計行に反映され、最新取引の通貨から順に返される")
+  void apply_ShouldKeepBalancePerCurrency() {
+    // Arrange
+    LocalDateTime executedAt = LocalDateTime.of(2025, 1, 10, 9, 0);
+    Transaction jpyDeposit =
+        transaction(TransactionType.DEPOSIT, "1000.00", "JPY", executedAt.minusDays(2));
+    Transaction jpyPayment =
+        transaction(TransactionType.PAYMENT, "300.00", "JPY", executedAt.minusDays(1));
+    Transaction usdDeposit = transaction(TransactionType.DEPOSIT, "5.00", "USD", executedAt);
+
+    // Act
+    accountBalanceRepository.apply(usdDeposit);
+    accountBalanceRepository.applyAll(List.of(jpyDeposit, jpyPayment));
+
+    // Assert
+    List<AccountBalance> balances = accountBalanceRepository.findByAccountId(testAccountId);
+    assertEquals(2, balances.size());
+    assertEquals(Currency.getInstance("USD"), balances.get(0).currency());
+    assertEquals(0, new BigDecimal("5.00").compareTo(balances.get(0).amount()));
+    assertEquals(Currency.getInstance("JPY"), balances.get(1).currency());
+    assertEquals(0, new BigDecimal("700.00").compareTo(balances.get(1).amount()));
+  }
+
+  @Test
+  @DisplayName("複数取引の一括反映でアカウントごとに残高が集計される")
+  void applyAll_ShouldAggregatePerAccount() {
+    // Arrange
+    AccountId otherAccountId = new AccountId(UUID.randomUUID());
+    Money thousand = new Money(BigDecimal.valueOf(1000.00), Currency.getInstance("JPY"));
+    Money twoHundred = new Money(BigDecimal.valueOf(200.00), Currency.getInstance("JPY"));
+    List<Transaction> transactions =
+        List.of(
+            Transaction.createDeposit(testAccountId, thousand, "預かり"),
+            Transaction.createPayment(testAccountId, twoHundred, "支払い"),
+            Transaction.createDeposit(otherAccountId, twoHundred, "預かり"));
+
+    // Act
+    accountBalanceRepository.applyAll(transactions);
+
+    // Assert
+    AccountBalance balance = accountBalanceRepository.findByAccountId(testAccountId).getFirst();
+    AccountBalance otherBalance =
+        accountBalanceRepository.findByAccountId(otherAccountId).getFirst();
+    assertEquals(0, BigDecimal.valueOf(800).compareTo(balance.amount()));
+    assertEquals(0, BigDecimal.valueOf(200).compareTo(otherBalance.amount()));
+  }
+
+  private Transaction transaction(
+      TransactionType type, String amount, String currency, LocalDateTime executedAt) {
+    return Transaction.reconstruct(
+        UUID.randomUUID(),
+        testAccountId,
+        type,
+        new Money(new BigDecimal(amount), Currency.getInstance(currency)),
+        "取引",
+        executedAt,
+        executedAt,
+        executedAt);
+  }
+}
@@ -0,0 +1,136 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shinkaji.solveza.api.annotation.RepositoryIntegrationTest;
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.transaction.domain.model.BalanceCheckpoint;
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionType;
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.BalanceCheckpointMapper;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@RepositoryIntegrationTest
+@DisplayName("BalanceCheckpointRepositoryImpl Integration Tests")
+class BalanceCheckpointRepositoryImplIntegrationTest {
+
+  private final BalanceCheckpointRepositoryImpl balanceCheckpointRepository;
+  private final BalanceCheckpointMapper balanceCheckpointMapper;
+  private final TransactionRepositoryImpl transactionRepository;
+  private final AccountBalanceRepositoryImpl accountBalanceRepository;
+
+  BalanceCheckpointRepositoryImplIntegrationTest(
+      BalanceCheckpointRepositoryImpl balanceCheckpointRepository,
+      BalanceCheckpointMapper balanceCheckpointMapper,
+      TransactionRepositoryImpl transactionRepository,
+      AccountBalanceRepositoryImpl accountBalanceRepository) {
+    this.balanceCheckpointRepository = balanceCheckpointRepository;
+    this.balanceCheckpointMapper = balanceCheckpointMapper;
+    this.transactionRepository = transactionRepository;
+    this.accountBalanceRepository = accountBalanceRepository;
+  }
+
+  private AccountId testAccountId;
+
+  @BeforeEach
+  void setUp() {
+    testAccountId = new AccountId(UUID.randomUUID());
+  }
+
+  @Test
+  @DisplayName("チェックポイントは前回のチェックポイントにその後の差分を加えて作成される")
+  void insertCheckpoints_ShouldAccumulateFromPreviousCheckpoint() {
+    // Arrange
+    record(TransactionType.DEPOSIT, 1000, LocalDateTime.of(2024, 1, 10, 9, 0));
+    record(TransactionType.PAYMENT, 300, LocalDateTime.of(2024, 2, 5, 9, 0));
+    record(TransactionType.DEPOSIT, 50, LocalDateTime.of(2024, 3, 1, 0, 0));
+    LocalDateTime february = LocalDateTime.of(2024, 2, 1, 0, 0);
+    LocalDateTime march = LocalDateTime.of(2024, 3, 1, 0, 0);
+
+    // Act
+    balanceCheckpointMapper.insertCheckpoints(february);
+    balanceCheckpointMapper.insertCheckpoints(march);
+
+    // Assert
+    BalanceCheckpoint atFebruary =
+        balanceCheckpointRepository.findLatestAtOrBefore(testAccountId, february).getFirst();
+    assertEquals(february, atFebruary.checkpointAt());
+    assertEquals(0, BigDecimal.valueOf(1000).compareTo(atFebruary.balance()));
+
+    // 3月1日 0:00 ちょうどの取引はチェックポイントに含まれない
+    BalanceCheckpoint latest =
+        balanceCheckpointRepository
+            .findLatestAtOrBefore(testAccountId, LocalDateTime.of(2024, 3, 20, 0, 0))
+            .getFirst();
+    assertEquals(march, latest.checkpointAt());
+    assertEquals(0, BigDecimal.valueOf(700).compareTo(latest.balance()));
+    assertEquals(Currency.getInstance("JPY"), latest.currency());
+  }
+
+  @Test
+  @DisplayName("基準日時より前のチェックポイントがない場合は空が返される")
+  void findLatestAtOrBefore_ShouldReturnEmpty_WhenNoCheckpointBefore() {
+    // Arrange
+    record(TransactionType.DEPOSIT, 1000, LocalDateTime.of(2024, 1, 10, 9, 0));
+    balanceCheckpointMapper.insertCheckpoints(LocalDateTime.of(2024, 2, 1, 0, 0));
+
+    // Act
+    List<BalanceCheckpoint> checkpoints =
+        balanceCheckpointRepository.findLatestAtOrBefore(
+            testAccountId, LocalDateTime.of(2024, 1, 31, 23, 59));
+
+    // Assert
+    assertTrue(checkpoints.isEmpty());
+  }
+
+  @Test
+  @DisplayName("チェックポイントは通貨ごとに作成され、異なる通貨の金額は合算されない")
+  void insertCheckpoints_ShouldKeepBalancePerCurrency() {
+    // Arrange
+    record(TransactionType.DEPOSIT, 1000, "JPY", LocalDateTime.of(2024, 1, 10, 9, 0));
+    record(TransactionType.DEPOSIT, 20, "USD", LocalDateTime.of(2024, 1, 20, 9, 0));
+    balanceCheckpointMapper.insertCheckpoints(LocalDateTime.of(2024, 2, 1, 0, 0));
+    record(TransactionType.PAYMENT, 5, "USD", LocalDateTime.of(2024, 2, 10, 9, 0));
+    LocalDateTime march = LocalDateTime.of(2024, 3, 1, 0, 0);
+
+    // Act
+    balanceCheckpointMapper.insertCheckpoints(march);
+
+    // Assert
+    List<BalanceCheckpoint> checkpoints =
+        balanceCheckpointRepository.findLatestAtOrBefore(testAccountId, march);
+    assertEquals(2, checkpoints.size());
+    assertEquals(Currency.getInstance("USD"), checkpoints.get(0).currency());
+    assertEquals(0, BigDecimal.valueOf(15).compareTo(checkpoints.get(0).balance()));
+    assertEquals(Currency.getInstance("JPY"), checkpoints.get(1).currency());
+    assertEquals(0, BigDecimal.valueOf(1000).compareTo(checkpoints.get(1).balance()));
+  }
+
+  private void record(TransactionType type, long amount, LocalDateTime executedAt) {
+    record(type, amount, "JPY", executedAt);
+  }
+
+  private void record(
+      TransactionType type, long amount, String currency, LocalDateTime executedAt) {
+    Transaction transaction =
+        Transaction.reconstruct(
+            UUID.randomUUID(),
+            testAccountId,
+            type,
+            new Money(BigDecimal.valueOf(amount), Currency.getInstance(currency)),
+            type.name(),
+            executedAt,
+            executedAt,
+            executedAt);
+    transactionRepository.save(transaction);
+    accountBalanceRepository.apply(transaction);
+  }
+}
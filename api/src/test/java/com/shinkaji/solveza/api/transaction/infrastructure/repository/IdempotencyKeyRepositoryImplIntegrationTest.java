@@ -0,0 +1,55 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shinkaji.solveza.api.annotation.RepositoryIntegrationTest;
+import com.shinkaji.solveza.api.transaction.domain.model.IdempotencyRecord;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@RepositoryIntegrationTest
+@DisplayName("IdempotencyKeyRepositoryImpl Integration Tests")
+class IdempotencyKeyRepositoryImplIntegrationTest {
+
+  private final IdempotencyKeyRepositoryImpl idempotencyKeyRepository;
+
+  IdempotencyKeyRepositoryImplIntegrationTest(
+      IdempotencyKeyRepositoryImpl idempotencyKeyRepository) {
+    this.idempotencyKeyRepository = idempotencyKeyRepository;
+  }
+
+  @Test
+  @DisplayName("キーの登録は1回目のみ成功し、レスポンスを保存できる")
+  void registerAndComplete_Success() {
+    // Arrange
+    String key = UUID.randomUUID().toString();
+    IdempotencyRecord record = new IdempotencyRecord(key, "DEPOSIT", "hash", null);
+
+    // Act
+    boolean first = idempotencyKeyRepository.register(record);
+    boolean second = idempotencyKeyRepository.register(record);
+    idempotencyKeyRepository.complete(key, "DEPOSIT", "{\"id\":\"1\"}");
+
+    // Assert
+    assertTrue(first);
+    assertFalse(second);
+    Optional<IdempotencyRecord> found = idempotencyKeyRepository.find(key, "DEPOSIT");
+    assertTrue(found.isPresent());
+    assertTrue(found.get().isCompleted());
+    assertEquals("{\"id\":\"1\"}", found.get().responseBody());
+  }
+
+  @Test
+  @DisplayName("同じキーでも操作種別が異なれば別のキーとして扱われる")
+  void register_DifferentOperation() {
+    // Arrange
+    String key = UUID.randomUUID().toString();
+
+    // Act & Assert
+    assertTrue(idempotencyKeyRepository.register(new IdempotencyRecord(key, "DEPOSIT", "h", null)));
+    assertTrue(idempotencyKeyRepository.register(new IdempotencyRecord(key, "PAYMENT", "h", null)));
+    assertFalse(idempotencyKeyRepository.find(key, "PAYMENT").get().isCompleted());
+  }
+}
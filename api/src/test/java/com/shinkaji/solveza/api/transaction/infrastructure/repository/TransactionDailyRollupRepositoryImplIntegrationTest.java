@@ -0,0 +1,104 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shinkaji.solveza.api.annotation.RepositoryIntegrationTest;
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.transaction.domain.model.DailyTransactionSummary;
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@RepositoryIntegrationTest
+@DisplayName("TransactionDailyRollupRepositoryImpl Integration Tests")
+class TransactionDailyRollupRepositoryImplIntegrationTest {
+
+  private final TransactionDailyRollupRepositoryImpl transactionDailyRollupRepository;
+
+  TransactionDailyRollupRepositoryImplIntegrationTest(
+      TransactionDailyRollupRepositoryImpl transactionDailyRollupRepository) {
+    this.transactionDailyRollupRepository = transactionDailyRollupRepository;
+  }
+
+  private AccountId testAccountId;
+
+  @BeforeEach
+  void setUp() {
+    testAccountId = new AccountId(UUID.randomUUID());
+  }
+
+  @Test
+  @DisplayName("取引の反映で日付・通貨ごとに入出金と件数が集計される")
+  void apply_ShouldAccumulatePerDayAndCurrency() {
+    // Arrange
+    LocalDateTime day1 = LocalDateTime.of(2024, 4, 1, 9, 0);
+    LocalDateTime day2 = LocalDateTime.of(2024, 4, 2, 18, 30);
+
+    // Act
+    transactionDailyRollupRepository.apply(transaction(TransactionType.DEPOSIT, 1000, day1));
+    transactionDailyRollupRepository.apply(
+        transaction(TransactionType.PAYMENT, 300, day1.plusHours(1)));
+    transactionDailyRollupRepository.apply(transaction(TransactionType.DEPOSIT, 500, day2));
+
+    // Assert
+    List<DailyTransactionSummary> summaries =
+        transactionDailyRollupRepository.findByAccountId(
+            testAccountId, LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30));
+    assertEquals(2, summaries.size());
+
+    DailyTransactionSummary first = summaries.get(0);
+    assertEquals(LocalDate.of(2024, 4, 1), first.businessDate());
+    assertEquals(0, BigDecimal.valueOf(1000).compareTo(first.depositTotal()));
+    assertEquals(0, BigDecimal.valueOf(300).compareTo(first.paymentTotal()));
+    assertEquals(2, first.transactionCount());
+
+    DailyTransactionSummary second = summaries.get(1);
+    assertEquals(LocalDate.of(2024, 4, 2), second.businessDate());
+    assertEquals(0, BigDecimal.valueOf(500).compareTo(second.netAmount()));
+    assertEquals(1, second.transactionCount());
+  }
+
+  @Test
+  @DisplayName("一括反映の結果は1件ずつ反映した場合と一致し、期間外の日は返されない")
+  void applyAll_ShouldAggregateAndFilterByDate() {
+    // Arrange
+    LocalDateTime day = LocalDateTime.of(2024, 5, 10, 12, 0);
+    List<Transaction> transactions =
+        List.of(
+            transaction(TransactionType.DEPOSIT, 200, day),
+            transaction(TransactionType.DEPOSIT, 300, day.plusMinutes(5)),
+            transaction(TransactionType.PAYMENT, 100, day.plusDays(1)));
+
+    // Act
+    transactionDailyRollupRepository.applyAll(transactions);
+
+    // Assert
+    List<DailyTransactionSummary> summaries =
+        transactionDailyRollupRepository.findByAccountId(
+            testAccountId, LocalDate.of(2024, 5, 10), LocalDate.of(2024, 5, 10));
+    assertEquals(1, summaries.size());
+    assertEquals(0, BigDecimal.valueOf(500).compareTo(summaries.get(0).depositTotal()));
+    assertEquals(2, summaries.get(0).transactionCount());
+  }
+
+  private Transaction transaction(TransactionType type, long amount, LocalDateTime executedAt) {
+    return Transaction.reconstruct(
+        UUID.randomUUID(),
+        testAccountId,
+        type,
+        new Money(BigDecimal.valueOf(amount), Currency.getInstance("JPY")),
+        type.name(),
+        executedAt,
+        executedAt,
+        executedAt);
+  }
+}
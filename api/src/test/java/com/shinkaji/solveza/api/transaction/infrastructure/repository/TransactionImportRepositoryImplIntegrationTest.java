@@ -0,0 +1,347 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shinkaji.solveza.api.account.domain.model.Account;
+import com.shinkaji.solveza.api.account.domain.repository.AccountRepository;
+import com.shinkaji.solveza.api.annotation.RepositoryIntegrationTest;
+import com.shinkaji.solveza.api.shared.domain.AccountId;
+import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.shared.domain.UserId;
+import com.shinkaji.solveza.api.transaction.domain.model.BalanceCheckpoint;
+import com.shinkaji.solveza.api.transaction.domain.model.DailyTransactionSummary;
+import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionId;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionType;
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.BalanceCheckpointMapper;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@RepositoryIntegrationTest
+@DisplayName("TransactionImportRepositoryImpl Integration Tests")
+class TransactionImportRepositoryImplIntegrationTest {
+
+  private final TransactionImportRepositoryImpl transactionImportRepository;
+  private final TransactionRepositoryImpl transactionRepository;
+  private final AccountRepository accountRepository;
+  private final AccountBalanceRepositoryImpl accountBalanceRepository;
+  private final TransactionDailyRollupRepositoryImpl transactionDailyRollupRepository;
+  private final BalanceCheckpointRepositoryImpl balanceCheckpointRepository;
+  private final BalanceCheckpointMapper balanceCheckpointMapper;
+
+  TransactionImportRepositoryImplIntegrationTest(
+      TransactionImportRepositoryImpl transactionImportRepository,
+      TransactionRepositoryImpl transactionRepository,
+      AccountRepository accountRepository,
+      AccountBalanceRepositoryImpl accountBalanceRepository,
+      TransactionDailyRollupRepositoryImpl transactionDailyRollupRepository,
+      BalanceCheckpointRepositoryImpl balanceCheckpointRepository,
+      BalanceCheckpointMapper balanceCheckpointMapper) {
+    this.transactionImportRepository = transactionImportRepository;
+    this.transactionRepository = transactionRepository;
+    this.accountRepository = accountRepository;
+    this.accountBalanceRepository = accountBalanceRepository;
+    this.transactionDailyRollupRepository = transactionDailyRollupRepository;
+    this.balanceCheckpointRepository = balanceCheckpointRepository;
+    this.balanceCheckpointMapper = balanceCheckpointMapper;
+  }
+
+  private AccountId testAccountId;
+
+  @BeforeEach
+  void setUp() {
+    Account account = Account.create(new UserId(UUID.randomUUID()), new UserId(UUID.randomUUID()));
+    accountRepository.save(account);
+    testAccountId = new AccountId(account.getId());
+  }
+
+  @Test
+  @DisplayName("CSVのCOPY取り込みと不正行の除外")
+  void stageAndMerge_Success() {
+    // Arrange
+    UUID knownId = UUID.randomUUID();
+    String csv =
+        String.join(
+            "\n",
+            "id,account_id,transaction_type,amount,currency,description,executed_at",
+            knownId + "," + testAccountId.value() + ",DEPOSIT,1000.00,JPY,移行1,2023-01-01 10:00:00",
+            "," + testAccountId.value() + ",PAYMENT,300.00,JPY,\"移行,2\",2023-01-02 10:00:00",
+            "," + testAccountId.value() + ",REFUND,100.00,JPY,不正な種別,2023-01-03 10:00:00",
+            "," + UUID.randomUUID() + ",DEPOSIT,100.00,JPY,存在しない口座,2023-01-04 10:00:00",
+            "");
+
+    // Act
+    long staged =
+        transactionImportRepository.stage(
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    int invalid = transactionImportRepository.discardInvalid();
+    int unknownAccount = transactionImportRepository.discardUnknownAccounts();
+    int imported = transactionImportRepository.mergeStaged();
+
+    // Assert
+    assertEquals(4, staged);
+    assertEquals(1, invalid);
+    assertEquals(1, unknownAccount);
+    assertEquals(2, imported);
+    assertTrue(transactionRepository.existsById(new TransactionId(knownId)));
+
+    List<Transaction> transactions = transactionRepository.findByAccountId(testAccountId);
+    assertEquals(2, transactions.size());
+    assertTrue(transactions.stream().anyMatch(t -> t.getDescription().equals("移行,2")));
+    // IDを省略した行は UUIDv7 で採番される
+    assertTrue(
+        transactions.stream()
+            .filter(t -> !t.getId().equals(knownId))
+            .allMatch(t -> t.getId().version() == 7 && t.getId().variant() == 2));
+  }
+
+  @Test
+  @DisplayName("既存IDの行はスキップされる")
+  void mergeStaged_SkipsExistingIds() {
+    // Arrange
+    UUID id = UUID.randomUUID();
+    String csv =
+        "id,account_id,transaction_type,amount,currency,description,executed_at\n"
+            + id
+            + ","
+            + testAccountId.value()
+            + ",DEPOSIT,500.00,JPY,再投入,2023-02-01 09:00:00\n";
+    transactionImportRepository.stage(
+        new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    transactionImportRepository.mergeStaged();
+
+    // Act
+    transactionImportRepository.stage(
+        new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    int imported = transactionImportRepository.mergeStaged();
+
+    // Assert
+    assertEquals(0, imported);
+    assertEquals(1, transactionRepository.findByAccountId(testAccountId).size());
+  }
+
+  @Test
+  @DisplayName("実行日時を修正して再投入しても既存IDの行はスキップされる")
+  void mergeStaged_SkipsExistingIds_WhenExecutedAtChanged() {
+    // Arrange
+    UUID id = UUID.randomUUID();
+    String header = "id,account_id,transaction_type,amount,currency,description,executed_at\n";
+    String row = id + "," + testAccountId.value() + ",DEPOSIT,500.00,JPY,再投入,";
+    transactionImportRepository.stage(
+        new ByteArrayInputStream(
+            (header + row + "2023-02-01 09:00:00\n").getBytes(StandardCharsets.UTF_8)));
+    transactionImportRepository.mergeStaged();
+
+    // Act
+    transactionImportRepository.stage(
+        new ByteArrayInputStream(
+            (header + row + "2023-03-01 09:00:00\n").getBytes(StandardCharsets.UTF_8)));
+    int imported = transactionImportRepository.mergeStaged();
+
+    // Assert
+    assertEquals(0, imported);
+    List<Transaction> transactions = transactionRepository.findByAccountId(testAccountId);
+    assertEquals(1, transactions.size());
+    assertEquals(LocalDateTime.of(2023, 2, 1, 9, 0), transactions.getFirst().getExecutedAt());
+  }
+
+  @Test
+  @DisplayName("形式が不正な通貨コードや未知の通貨コードの行は除外される")
+  void discardInvalid_RejectsUnsupportedCurrencies() {
+    // Arrange
+    String row = "," + testAccountId.value() + ",DEPOSIT,100.00,";
+    String csv =
+        String.join(
+            "\n",
+            "id,account_id,transaction_type,amount,currency,description,executed_at",
+            row + "USD,有効,2023-01-01 10:00:00",
+            row + "jpy,小文字,2023-01-02 10:00:00",
+            row + "JP1,数字,2023-01-03 10:00:00",
+            row + "ABC,未知の通貨,2023-01-04 10:00:00",
+            "");
+    transactionImportRepository.stage(
+        new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+    // Act
+    int invalid = transactionImportRepository.discardInvalid();
+    int imported = transactionImportRepository.mergeStaged();
+
+    // Assert
+    assertEquals(3, invalid);
+    assertEquals(1, imported);
+    assertEquals(
+        Currency.getInstance("USD"),
+        transactionRepository.findByAccountId(testAccountId).getFirst().getAmount().currency());
+  }
+
+  @Test
+  @DisplayName("派生データは取り込んだアカウント・日付の分だけ更新される")
+  void refreshDerivedData_UpdatesStagedAccountsAndDates() {
+    // Arrange
+    Transaction existing =
+        Transaction.reconstruct(
+            UUID.randomUUID(),
+            testAccountId,
+            TransactionType.DEPOSIT,
+            new Money(BigDecimal.valueOf(1000), Currency.getInstance("JPY")),
+            "既存",
+            LocalDateTime.of(2023, 1, 10, 9, 0),
+            LocalDateTime.of(2023, 1, 10, 9, 0),
+            LocalDateTime.of(2023, 1, 10, 9, 0));
+    transactionRepository.save(existing);
+    accountBalanceRepository.apply(existing);
+    transactionDailyRollupRepository.apply(existing);
+    LocalDateTime february = LocalDateTime.of(2023, 2, 1, 0, 0);
+    LocalDateTime april = LocalDateTime.of(2023, 4, 1, 0, 0);
+    balanceCheckpointMapper.insertCheckpoints(february);
+    balanceCheckpointMapper.insertCheckpoints(april);
+    String csv =
+        "id,account_id,transaction_type,amount,currency,description,executed_at\n"
+            + ","
+            + testAccountId.value()
+            + ",PAYMENT,300.00,JPY,過去日付,2023-03-10 09:00:00\n";
+    transactionImportRepository.stage(
+        new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    transactionImportRepository.mergeStaged();
+
+    // Act
+    transactionImportRepository.refreshDerivedData();
+
+    // Assert
+    assertEquals(
+        0,
+        BigDecimal.valueOf(700)
+            .compareTo(
+                accountBalanceRepository.findByAccountId(testAccountId).getFirst().amount()));
+
+    List<DailyTransactionSummary> rollups =
+        transactionDailyRollupRepository.findByAccountId(
+            testAccountId, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 3, 31));
+    assertEquals(2, rollups.size());
+    assertEquals(LocalDate.of(2023, 3, 10), rollups.get(1).businessDate());
+    assertEquals(0, BigDecimal.valueOf(300).compareTo(rollups.get(1).paymentTotal()));
+    assertEquals(1, rollups.get(1).transactionCount());
+
+    // 取り込んだ取引より前のチェックポイントはそのまま、後のチェックポイントは差分を反映して残る
+    assertCheckpoint(february, "JPY", 1000);
+    assertCheckpoint(april, "JPY", 700);
+  }
+
+  @Test
+  @DisplayName("取り込み後も既存のチェックポイントが残り、取り込んだ取引を反映した残高になる")
+  void refreshDerivedData_RecomputesCheckpointsOfStagedAccounts() {
+    // Arrange
+    Transaction existing = deposit(1000, "JPY", LocalDateTime.of(2023, 1, 10, 9, 0));
+    transactionRepository.save(existing);
+    accountBalanceRepository.apply(existing);
+    LocalDateTime february = LocalDateTime.of(2023, 2, 1, 0, 0);
+    LocalDateTime march = LocalDateTime.of(2023, 3, 1, 0, 0);
+    LocalDateTime april = LocalDateTime.of(2023, 4, 1, 0, 0);
+    balanceCheckpointMapper.insertCheckpoints(february);
+    balanceCheckpointMapper.insertCheckpoints(march);
+    balanceCheckpointMapper.insertCheckpoints(april);
+    String header = "id,account_id,transaction_type,amount,currency,description,executed_at\n";
+    String row = "," + testAccountId.value() + ",";
+    String csv =
+        header
+            + row
+            + "PAYMENT,300.00,JPY,1月,2023-01-20 09:00:00\n"
+            + row
+            + "DEPOSIT,200.00,JPY,2月,2023-02-15 09:00:00\n"
+            + row
+            + "DEPOSIT,50.00,USD,2月,2023-02-20 09:00:00\n";
+    transactionImportRepository.stage(
+        new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    transactionImportRepository.mergeStaged();
+
+    // Act
+    transactionImportRepository.refreshDerivedData();
+
+    // Assert
+    assertCheckpoint(february, "JPY", 700);
+    assertCheckpoint(march, "JPY", 900);
+    assertCheckpoint(march, "USD", 50);
+    assertCheckpoint(april, "JPY", 900);
+    assertCheckpoint(april, "USD", 50);
+  }
+
+  @Test
+  @DisplayName("残高・日次集計は集計し直さず、既存の値に取り込んだ差分を加算する")
+  void refreshDerivedData_AddsMergedDeltaToExistingTotals() {
+    // Arrange
+    // 取り込みの開始後にコミットされた通常の取引の更新に相当する（取引テーブルには現れない）
+    Transaction concurrent = deposit(1000, "JPY", LocalDateTime.of(2023, 3, 10, 8, 0));
+    accountBalanceRepository.apply(concurrent);
+    transactionDailyRollupRepository.apply(concurrent);
+    String csv =
+        "id,account_id,transaction_type,amount,currency,description,executed_at\n"
+            + ","
+            + testAccountId.value()
+            + ",PAYMENT,300.00,JPY,取り込み,2023-03-10 09:00:00\n";
+    transactionImportRepository.stage(
+        new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    transactionImportRepository.mergeStaged();
+
+    // Act
+    transactionImportRepository.refreshDerivedData();
+
+    // Assert
+    assertEquals(
+        0,
+        BigDecimal.valueOf(700)
+            .compareTo(
+                accountBalanceRepository.findByAccountId(testAccountId).getFirst().amount()));
+    DailyTransactionSummary rollup =
+        transactionDailyRollupRepository
+            .findByAccountId(testAccountId, LocalDate.of(2023, 3, 10), LocalDate.of(2023, 3, 10))
+            .getFirst();
+    assertEquals(0, BigDecimal.valueOf(1000).compareTo(rollup.depositTotal()));
+    assertEquals(0, BigDecimal.valueOf(300).compareTo(rollup.paymentTotal()));
+    assertEquals(2, rollup.transactionCount());
+  }
+
+  @Test
+  @DisplayName("形式が不正なCSVは例外が発生する")
+  void stage_InvalidCsv() {
+    String csv =
+        "id,account_id,transaction_type,amount,currency,description,executed_at\n"
+            + ",not-a-uuid,DEPOSIT,100.00,JPY,不正,2023-01-01 00:00:00\n";
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            transactionImportRepository.stage(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
+  }
+
+  private Transaction deposit(long amount, String currency, LocalDateTime executedAt) {
+    return Transaction.reconstruct(
+        UUID.randomUUID(),
+        testAccountId,
+        TransactionType.DEPOSIT,
+        new Money(BigDecimal.valueOf(amount), Currency.getInstance(currency)),
+        "既存",
+        executedAt,
+        executedAt,
+        executedAt);
+  }
+
+  private void assertCheckpoint(LocalDateTime checkpointAt, String currency, long expected) {
+    BalanceCheckpoint checkpoint =
+        balanceCheckpointRepository.findLatestAtOrBefore(testAccountId, checkpointAt).stream()
+            .filter(c -> c.currency().getCurrencyCode().equals(currency))
+            .findFirst()
+            .orElseThrow();
+    assertEquals(checkpointAt, checkpoint.checkpointAt());
+    assertEquals(0, BigDecimal.valueOf(expected).compareTo(checkpoint.balance()));
+  }
+}
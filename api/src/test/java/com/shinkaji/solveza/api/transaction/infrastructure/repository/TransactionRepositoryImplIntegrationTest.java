@@ -5,26 +5,47 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.shinkaji.solveza.api.annotation.RepositoryIntegrationTest;
 import com.shinkaji.solveza.api.shared.domain.AccountId;
 import com.shinkaji.solveza.api.shared.domain.Money;
+import com.shinkaji.solveza.api.transaction.domain.model.AccountBalance;
 import com.shinkaji.solveza.api.transaction.domain.model.Transaction;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionCursor;
 import com.shinkaji.solveza.api.transaction.domain.model.TransactionId;
+import com.shinkaji.solveza.api.transaction.domain.model.TransactionPeriod;
 import com.shinkaji.solveza.api.transaction.domain.model.TransactionType;
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.TransactionMapper;
 import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Currency;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.postgresql.core.NativeQuery;
+import org.postgresql.core.Parser;
+import org.springframework.dao.DuplicateKeyException;
 
 @RepositoryIntegrationTest
 @DisplayName("TransactionRepositoryImpl Integration Tests")
 class TransactionRepositoryImplIntegrationTest {
 
   private final TransactionRepositoryImpl transactionRepository;
+  private final TransactionMapper transactionMapper;
+  private final SqlSessionFactory sqlSessionFactory;
 
-  TransactionRepositoryImplIntegrationTest(TransactionRepositoryImpl transactionRepository) {
+  TransactionRepositoryImplIntegrationTest(
+      TransactionRepositoryImpl transactionRepository,
+      TransactionMapper transactionMapper,
+      SqlSessionFactory sqlSessionFactory) {
     this.transactionRepository = transactionRepository;
+    this.transactionMapper = transactionMapper;
+    this.sqlSessionFactory = sqlSessionFactory;
   }
 
   private Transaction testTransaction;
@@ -132,6 +153,42 @@ class TransactionRepositoryImplIntegrationTest {
     assertFalse(transactionRepository.existsById(new TransactionId(testTransaction.getId())));
   }
 
+  @Test
+  @DisplayName("実行日時が異なっても同じIDの取引は保存できない")
+  void save_SameIdWithDifferentExecutedAt_ThrowsDuplicateKey() {
+    // Arrange
+    Transaction original =
+        reconstruct(TransactionType.DEPOSIT, "100", "JPY", LocalDateTime.of(2024, 1, 10, 9, 0));
+    transactionRepository.save(original);
+    Transaction corrected =
+        Transaction.reconstruct(
+            original.getId(),
+            testAccountId,
+            TransactionType.DEPOSIT,
+            original.getAmount(),
+            "Corrected",
+            LocalDateTime.of(2024, 2, 10, 9, 0),
+            original.getCreatedAt(),
+            original.getUpdatedAt());
+
+    // Act & Assert
+    assertThrows(DuplicateKeyException.class, () -> transactionRepository.save(corrected));
+  }
+
+  @Test
+  @DisplayName("削除した取引のIDは再利用できる")
+  void delete_ReleasesId() {
+    // Arrange
+    transactionRepository.save(testTransaction);
+    transactionRepository.delete(new TransactionId(testTransaction.getId()));
+
+    // Act
+    transactionRepository.save(testTransaction);
+
+    // Assert
+    assertTrue(transactionRepository.existsById(new TransactionId(testTransaction.getId())));
+  }
+
   @Test
   @DisplayName("入金取引の保存と取得")
   void save_DepositTransaction_Success() {
@@ -271,4 +328,335 @@ class TransactionRepositoryImplIntegrationTest {
         transactions.stream()
             .anyMatch(t -> t.isPayment() && t.getDescription().equals("Payment test")));
   }
+
+  @Test
+  @DisplayName("DB側での残高集計")
+  void aggregateBalance_Success() {
+    // Arrange
+    transactionRepository.save(testTransaction);
+    transactionRepository.save(
+        Transaction.createPayment(
+            testAccountId,
+            new Money(BigDecimal.valueOf(400.00), Currency.getInstance("JPY")),
+            "Payment for aggregation"));
+
+    // Act
+    Optional<AccountBalance> balance =
+        transactionRepository.aggregateBalance(testAccountId, TransactionPeriod.unbounded());
+
+    // Assert
+    assertTrue(balance.isPresent());
+    assertEquals(0, new BigDecimal("600.00").compareTo(balance.get().amount()));
+    assertEquals(Currency.getInstance("JPY"), balance.get().currency());
+  }
+
+  @Test
+  @DisplayName("取引のないアカウントの残高集計")
+  void aggregateBalance_NoTransactions() {
+    // Act
+    Optional<AccountBalance> balance =
+        transactionRepository.aggregateBalance(
+            new AccountId(UUID.randomUUID()), TransactionPeriod.unbounded());
+
+    // Assert
+    assertFalse(balance.isPresent());
+  }
+
+  @Test
+  @DisplayName("複数通貨の残高集計では最新取引の通貨の残高のみを返し、通貨をまたいで合算しない")
+  void aggregateBalance_MultipleCurrencies_ReturnsLatestCurrencyOnly() {
+    // Arrange
+    LocalDateTime executedAt = LocalDateTime.of(2024, 3, 10, 9, 0);
+    transactionRepository.saveAll(
+        List.of(
+            reconstruct(TransactionType.DEPOSIT, "1000", "JPY", executedAt.minusDays(2)),
+            reconstruct(TransactionType.PAYMENT, "300", "JPY", executedAt.minusDays(1)),
+            reconstruct(TransactionType.DEPOSIT, "5", "USD", executedAt)));
+
+    // Act
+    Optional<AccountBalance> balance =
+        transactionRepository.aggregateBalance(testAccountId, TransactionPeriod.unbounded());
+
+    // Assert
+    assertTrue(balance.isPresent());
+    assertEquals(0, new BigDecimal("5").compareTo(balance.get().amount()));
+    assertEquals(Currency.getInstance("USD"), balance.get().currency());
+  }
+
+  @Test
+  @DisplayName("期間指定の残高集計では期間外の取引の通貨を考慮しない")
+  void aggregateBalance_WithPeriod_IgnoresCurrencyOutsidePeriod() {
+    // Arrange
+    LocalDateTime executedAt = LocalDateTime.of(2024, 3, 10, 9, 0);
+    transactionRepository.saveAll(
+        List.of(
+            reconstruct(TransactionType.DEPOSIT, "1000", "JPY", executedAt.minusDays(1)),
+            reconstruct(TransactionType.DEPOSIT, "5", "USD", executedAt.plusDays(1))));
+
+    // Act
+    Optional<AccountBalance> balance =
+        transactionRepository.aggregateBalance(
+            testAccountId, new TransactionPeriod(null, executedAt));
+
+    // Assert
+    assertTrue(balance.isPresent());
+    assertEquals(0, new BigDecimal("1000").compareTo(balance.get().amount()));
+    assertEquals(Currency.getInstance("JPY"), balance.get().currency());
+  }
+
+  @Test
+  @DisplayName("DB側での通貨別残高集計（最新の取引の通貨から順）")
+  void aggregateBalances_Success() {
+    // Arrange
+    transactionRepository.save(testTransaction);
+    transactionRepository.save(
+        Transaction.createDeposit(
+            testAccountId,
+            new Money(BigDecimal.valueOf(25.50), Currency.getInstance("USD")),
+            "USD deposit"));
+
+    // Act
+    List<AccountBalance> balances =
+        transactionRepository.aggregateBalances(testAccountId, TransactionPeriod.unbounded());
+
+    // Assert
+    assertEquals(2, balances.size());
+    assertEquals(Currency.getInstance("USD"), balances.get(0).currency());
+    assertEquals(0, new BigDecimal("25.50").compareTo(balances.get(0).amount()));
+    assertEquals(Currency.getInstance("JPY"), balances.get(1).currency());
+    assertEquals(0, new BigDecimal("1000.00").compareTo(balances.get(1).amount()));
+  }
+
+  @Test
+  @DisplayName("キーセットページングによる取引検索")
+  void findPageByAccountId_Success() {
+    // Arrange
+    LocalDateTime base = LocalDateTime.of(2024, 1, 1, 10, 0);
+    for (int i = 0; i < 5; i++) {
+      LocalDateTime executedAt = base.plusMinutes(i);
+      transactionRepository.save(
+          Transaction.reconstruct(
+              UUID.randomUUID(),
+              testAccountId,
+              TransactionType.DEPOSIT,
+              new Money(BigDecimal.valueOf(100), Currency.getInstance("JPY")),
+              "Page " + i,
+              executedAt,
+              executedAt,
+              executedAt));
+    }
+
+    // Act
+    TransactionPeriod all = TransactionPeriod.unbounded();
+    List<Transaction> firstPage =
+        transactionRepository.findPageByAccountId(testAccountId, all, null, 2);
+    List<Transaction> secondPage =
+        transactionRepository.findPageByAccountId(
+            testAccountId, all, TransactionCursor.of(firstPage.getLast()), 2);
+    List<Transaction> lastPage =
+        transactionRepository.findPageByAccountId(
+            testAccountId, all, TransactionCursor.of(secondPage.getLast()), 2);
+
+    // Assert
+    assertEquals(
+        List.of("Page 4", "Page 3"), firstPage.stream().map(Transaction::getDescription).toList());
+    assertEquals(
+        List.of("Page 2", "Page 1"), secondPage.stream().map(Transaction::getDescription).toList());
+    assertEquals(List.of("Page 0"), lastPage.stream().map(Transaction::getDescription).toList());
+  }
+
+  @Test
+  @DisplayName("カーソルによる取引の逐次読み出し")
+  void forEachByAccountId_Success() {
+    // Arrange
+    LocalDateTime base = LocalDateTime.of(2024, 1, 1, 10, 0);
+    for (int i = 0; i < 3; i++) {
+      LocalDateTime executedAt = base.plusMinutes(i);
+      transactionRepository.save(
+          Transaction.reconstruct(
+              UUID.randomUUID(),
+              testAccountId,
+              TransactionType.PAYMENT,
+              new Money(BigDecimal.valueOf(100), Currency.getInstance("JPY")),
+              "Stream " + i,
+              executedAt,
+              executedAt,
+              executedAt));
+    }
+
+    // Act
+    List<String> descriptions = new ArrayList<>();
+    transactionRepository.forEachByAccountId(
+        testAccountId,
+        TransactionPeriod.unbounded(),
+        transaction -> descriptions.add(transaction.getDescription()));
+
+    // Assert
+    assertEquals(List.of("Stream 0", "Stream 1", "Stream 2"), descriptions);
+  }
+
+  @Test
+  @DisplayName("実行日時の範囲を指定した取引検索と残高集計")
+  void findPageByAccountId_WithPeriod() {
+    // Arrange
+    LocalDateTime january = LocalDateTime.of(2024, 1, 31, 23, 59);
+    LocalDateTime february = LocalDateTime.of(2024, 2, 1, 0, 0);
+    LocalDateTime march = LocalDateTime.of(2024, 3, 1, 0, 0);
+    for (LocalDateTime executedAt : List.of(january, february, march)) {
+      transactionRepository.save(
+          Transaction.reconstruct(
+              UUID.randomUUID(),
+              testAccountId,
+              TransactionType.DEPOSIT,
+              new Money(BigDecimal.valueOf(100), Currency.getInstance("JPY")),
+              "At " + executedAt,
+              executedAt,
+              executedAt,
+              executedAt));
+    }
+    TransactionPeriod february2024 = new TransactionPeriod(february, march);
+
+    // Act
+    List<Transaction> page =
+        transactionRepository.findPageByAccountId(testAccountId, february2024, null, 10);
+    Optional<AccountBalance> balance =
+        transactionRepository.aggregateBalance(testAccountId, february2024);
+
+    // Assert
+    assertEquals(1, page.size());
+    assertEquals(february, page.getFirst().getExecutedAt());
+    assertTrue(balance.isPresent());
+    assertEquals(0, new BigDecimal("100").compareTo(balance.get().amount()));
+  }
+
+  @Test
+  @DisplayName("月次パーティション作成時にデフォルトパーティションの行が移される")
+  void ensurePartitions_MovesRowsFromDefaultPartition() {
+    // Arrange
+    LocalDateTime executedAt = LocalDateTime.of(2019, 5, 15, 12, 0);
+    Transaction old =
+        Transaction.reconstruct(
+            UUID.randomUUID(),
+            testAccountId,
+            TransactionType.DEPOSIT,
+            new Money(BigDecimal.valueOf(100), Currency.getInstance("JPY")),
+            "Old transaction",
+            executedAt,
+            executedAt,
+            executedAt);
+    transactionRepository.save(old);
+
+    // Act
+    int created =
+        transactionMapper.ensurePartitions(LocalDate.of(2019, 5, 1), LocalDate.of(2019, 5, 31));
+    int createdAgain =
+        transactionMapper.ensurePartitions(LocalDate.of(2019, 5, 1), LocalDate.of(2019, 5, 31));
+
+    // Assert
+    assertEquals(1, created);
+    assertEquals(0, createdAgain);
+    assertTrue(transactionRepository.findById(new TransactionId(old.getId())).isPresent());
+  }
+
+  @Test
+  @DisplayName("JDBCバッチによる一括保存")
+  void saveAll_Success() {
+    // Arrange
+    List<Transaction> transactions = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      transactions.add(
+          Transaction.createDeposit(
+              testAccountId,
+              new Money(BigDecimal.valueOf(100 + i), Currency.getInstance("JPY")),
+              "Batch " + i));
+    }
+
+    // Act
+    transactionRepository.saveAll(transactions);
+
+    // Assert
+    List<Transaction> saved = transactionRepository.findByAccountId(testAccountId);
+    assertEquals(10, saved.size());
+    assertTrue(
+        transactions.stream()
+            .allMatch(t -> transactionRepository.existsById(new TransactionId(t.getId()))));
+  }
+
+  @Test
+  @DisplayName("取引IDの登録を分割する件数を超えても一括保存できる")
+  void saveAll_MoreThanRegisterIdsChunk_Success() {
+    // Arrange
+    List<Transaction> transactions = new ArrayList<>();
+    for (int i = 0; i <= TransactionRepositoryImpl.REGISTER_IDS_CHUNK_SIZE; i++) {
+      transactions.add(
+          Transaction.createDeposit(
+              testAccountId, new Money(BigDecimal.ONE, Currency.getInstance("JPY")), "Batch"));
+    }
+
+    // Act
+    transactionRepository.saveAll(transactions);
+
+    // Assert
+    assertEquals(
+        TransactionRepositoryImpl.REGISTER_IDS_CHUNK_SIZE + 1,
+        transactionRepository.findByAccountId(testAccountId).size());
+  }
+
+  @Test
+  @DisplayName("一括保存で既存の取引IDを含む場合は一意制約違反になる")
+  void saveAll_ExistingId_ThrowsDuplicateKey() {
+    // Arrange
+    Transaction original =
+        reconstruct(TransactionType.DEPOSIT, "100", "JPY", LocalDateTime.of(2024, 1, 10, 9, 0));
+    transactionRepository.save(original);
+    Transaction duplicated =
+        Transaction.reconstruct(
+            original.getId(),
+            testAccountId,
+            TransactionType.DEPOSIT,
+            original.getAmount(),
+            "Duplicated",
+            LocalDateTime.of(2024, 2, 10, 9, 0),
+            original.getCreatedAt(),
+            original.getUpdatedAt());
+    List<Transaction> transactions =
+        List.of(
+            reconstruct(TransactionType.DEPOSIT, "200", "JPY", LocalDateTime.of(2024, 2, 11, 9, 0)),
+            duplicated);
+
+    // Act & Assert
+    assertThrows(DuplicateKeyException.class, () -> transactionRepository.saveAll(transactions));
+  }
+
+  @Test
+  @DisplayName("取引のINSERTはreWriteBatchedInsertsで複数行INSERTに書き換えられる形になっている")
+  void insert_IsBatchedReWriteCompatible() throws SQLException {
+    // Arrange
+    // 静的なSQLのため、パラメータを渡さなくてもバインド位置つきのSQLが得られる
+    MappedStatement insert =
+        sqlSessionFactory
+            .getConfiguration()
+            .getMappedStatement(TransactionMapper.class.getName() + ".insert");
+    String sql = insert.getBoundSql(Map.of()).getSql();
+
+    // Act
+    List<NativeQuery> queries = Parser.parseJdbcSql(sql, true, true, true, true, false);
+
+    // Assert
+    assertEquals(1, queries.size());
+    assertTrue(queries.getFirst().command.isBatchedReWriteCompatible(), sql);
+  }
+
+  private Transaction reconstruct(
+      TransactionType type, String amount, String currency, LocalDateTime executedAt) {
+    return Transaction.reconstruct(
+        UUID.randomUUID(),
+        testAccountId,
+        type,
+        new Money(new BigDecimal(amount), Currency.getInstance(currency)),
+        "Transaction",
+        executedAt,
+        executedAt,
+        executedAt);
+  }
 }
@@ -16,11 +16,13 @@ import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
@@ -32,11 +34,13 @@ class TransactionRepositoryImplTest {
 
   @Mock private TransactionMapper transactionMapper;
 
+  @Mock private SqlSessionFactory sqlSessionFactory;
+
   private TransactionRepositoryImpl transactionRepository;
 
   @BeforeEach
   void setUp() {
-    transactionRepository = new TransactionRepositoryImpl(transactionMapper);
+    transactionRepository = new TransactionRepositoryImpl(transactionMapper, sqlSessionFactory);
   }
 
   @Test
@@ -49,8 +53,8 @@ class TransactionRepositoryImplTest {
 
     TransactionDto transactionDto =
         new TransactionDto(
-            transactionUuid.toString(),
-            accountUuid.toString(),
+            transactionUuid,
+            accountUuid,
             "DEPOSIT",
             BigDecimal.valueOf(1000),
             "JPY",
@@ -58,8 +62,7 @@ class TransactionRepositoryImplTest {
             LocalDateTime.now(),
             LocalDateTime.now());
 
-    when(transactionMapper.findById(transactionUuid.toString()))
-        .thenReturn(Optional.of(transactionDto));
+    when(transactionMapper.findById(transactionUuid)).thenReturn(Optional.of(transactionDto));
 
     // When
     Optional<Transaction> result = transactionRepository.findById(transactionId);
@@ -77,7 +80,7 @@ class TransactionRepositoryImplTest {
   void findById_shouldReturnEmpty_whenTransactionNotExists() {
     // Given
     TransactionId transactionId = new TransactionId(UUID.randomUUID());
-    when(transactionMapper.findById(transactionId.value().toString())).thenReturn(Optional.empty());
+    when(transactionMapper.findById(transactionId.value())).thenReturn(Optional.empty());
 
     // When
     Optional<Transaction> result = transactionRepository.findById(transactionId);
@@ -95,8 +98,8 @@ class TransactionRepositoryImplTest {
 
     TransactionDto dto1 =
         new TransactionDto(
-            UUID.randomUUID().toString(),
-            accountUuid.toString(),
+            UUID.randomUUID(),
+            accountUuid,
             "DEPOSIT",
             BigDecimal.valueOf(1000),
             "JPY",
@@ -106,8 +109,8 @@ class TransactionRepositoryImplTest {
 
     TransactionDto dto2 =
         new TransactionDto(
-            UUID.randomUUID().toString(),
-            accountUuid.toString(),
+            UUID.randomUUID(),
+            accountUuid,
             "PAYMENT",
             BigDecimal.valueOf(500),
             "JPY",
@@ -115,8 +118,7 @@ class TransactionRepositoryImplTest {
             LocalDateTime.now(),
             LocalDateTime.now());
 
-    when(transactionMapper.findByAccountId(accountUuid.toString()))
-        .thenReturn(Arrays.asList(dto1, dto2));
+    when(transactionMapper.findByAccountId(accountUuid)).thenReturn(Arrays.asList(dto1, dto2));
 
     // When
     List<Transaction> result = transactionRepository.findByAccountId(accountId);
@@ -139,13 +141,15 @@ class TransactionRepositoryImplTest {
     transactionRepository.save(transaction);
 
     // Then
+    InOrder inOrder = inOrder(transactionMapper);
+    inOrder.verify(transactionMapper).registerIds(List.of(transaction.getId()));
     ArgumentCaptor<TransactionDto> transactionCaptor =
         ArgumentCaptor.forClass(TransactionDto.class);
-    verify(transactionMapper).insert(transactionCaptor.capture());
+    inOrder.verify(transactionMapper).insert(transactionCaptor.capture());
 
     TransactionDto savedDto = transactionCaptor.getValue();
-    assertEquals(transaction.getId().toString(), savedDto.id());
-    assertEquals(accountId.value().toString(), savedDto.accountId());
+    assertEquals(transaction.getId(), savedDto.id());
+    assertEquals(accountId.value(), savedDto.accountId());
     assertEquals("DEPOSIT", savedDto.transactionType());
     assertEquals(BigDecimal.valueOf(1000), savedDto.amount());
     assertEquals("JPY", savedDto.currency());
@@ -162,7 +166,7 @@ class TransactionRepositoryImplTest {
     transactionRepository.delete(transactionId);
 
     // Then
-    verify(transactionMapper).delete(transactionId.value().toString());
+    verify(transactionMapper).delete(transactionId.value());
   }
 
   @Test
@@ -170,7 +174,7 @@ class TransactionRepositoryImplTest {
   void existsById_shouldReturnTrue_whenTransactionExists() {
     // Given
     TransactionId transactionId = new TransactionId(UUID.randomUUID());
-    when(transactionMapper.existsById(transactionId.value().toString())).thenReturn(true);
+    when(transactionMapper.existsById(transactionId.value())).thenReturn(true);
 
     // When
     boolean result = transactionRepository.existsById(transactionId);
@@ -184,7 +188,7 @@ class TransactionRepositoryImplTest {
   void existsById_shouldReturnFalse_whenTransactionNotExists() {
     // Given
     TransactionId transactionId = new TransactionId(UUID.randomUUID());
-    when(transactionMapper.existsById(transactionId.value().toString())).thenReturn(false);
+    when(transactionMapper.existsById(transactionId.value())).thenReturn(false);
 
     // When
     boolean result = transactionRepository.existsById(transactionId);
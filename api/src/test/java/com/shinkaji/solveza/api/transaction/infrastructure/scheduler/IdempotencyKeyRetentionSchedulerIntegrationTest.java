@@ -0,0 +1,52 @@
+package com.shinkaji.solveza.api.transaction.infrastructure.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shinkaji.solveza.api.annotation.RepositoryIntegrationTest;
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.IdempotencyKeyMapper;
+import com.shinkaji.solveza.api.transaction.infrastructure.mapper.dto.IdempotencyKeyDto;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@RepositoryIntegrationTest
+@DisplayName("IdempotencyKeyRetentionScheduler Integration Tests")
+class IdempotencyKeyRetentionSchedulerIntegrationTest {
+
+  private final IdempotencyKeyMapper idempotencyKeyMapper;
+
+  IdempotencyKeyRetentionSchedulerIntegrationTest(IdempotencyKeyMapper idempotencyKeyMapper) {
+    this.idempotencyKeyMapper = idempotencyKeyMapper;
+  }
+
+  @Test
+  @DisplayName("保持期間を過ぎたキーだけを batch-size 件ずつ削除する")
+  void deleteExpiredKeys_DeletesOnlyExpiredKeysInBatches() {
+    // Arrange
+    String expired1 = register(LocalDateTime.of(1999, 1, 1, 0, 0));
+    String expired2 = register(LocalDateTime.of(1999, 6, 1, 0, 0));
+    String expired3 = register(LocalDateTime.of(1999, 12, 31, 23, 59));
+    String retained = register(LocalDateTime.of(2000, 1, 1, 0, 0));
+    IdempotencyKeyRetentionScheduler scheduler =
+        new IdempotencyKeyRetentionScheduler(idempotencyKeyMapper, Duration.ofDays(7), 2);
+
+    // Act
+    int deleted = scheduler.deleteExpiredKeys(LocalDateTime.of(2000, 1, 1, 0, 0));
+
+    // Assert
+    assertEquals(3, deleted);
+    assertTrue(idempotencyKeyMapper.findByKey(expired1, "DEPOSIT").isEmpty());
+    assertTrue(idempotencyKeyMapper.findByKey(expired2, "DEPOSIT").isEmpty());
+    assertTrue(idempotencyKeyMapper.findByKey(expired3, "DEPOSIT").isEmpty());
+    assertTrue(idempotencyKeyMapper.findByKey(retained, "DEPOSIT").isPresent());
+  }
+
+  private String register(LocalDateTime createdAt) {
+    String key = UUID.randomUUID().toString();
+    idempotencyKeyMapper.insertIfAbsent(
+        new IdempotencyKeyDto(key, "DEPOSIT", "hash", null, createdAt));
+    return key;
+  }
+}
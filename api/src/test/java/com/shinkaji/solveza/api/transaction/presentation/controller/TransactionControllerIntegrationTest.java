@@ -118,7 +118,7 @@ class TransactionControllerIntegrationTest {
     mockMvc
         .perform(get("/transactions/history").param("accountId", testAccountId.toString()))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$").isArray());
+        .andExpect(jsonPath("$.transactions").isArray());
   }
 
   @Test
@@ -222,4 +222,105 @@ class TransactionControllerIntegrationTest {
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.amount").value(15000.00));
   }
+
+  @Test
+  @DisplayName("同じ冪等キーでの再送は同じ取引を返す")
+  void recordDeposit_IdempotentRetry() throws Exception {
+    RecordDepositCommand request =
+        new RecordDepositCommand(testAccountId, BigDecimal.valueOf(1000.00), "JPY", "再送テスト");
+    String idempotencyKey = UUID.randomUUID().toString();
+
+    String first =
+        mockMvc
+            .perform(
+                post("/transactions/deposits")
+                    .header("Idempotency-Key", idempotencyKey)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    String firstId = objectMapper.readTree(first).get("id").asText();
+
+    mockMvc
+        .perform(
+            post("/transactions/deposits")
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.id").value(firstId));
+
+    mockMvc
+        .perform(get("/transactions/balance").param("accountId", testAccountId.toString()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.amount").value(1000.00));
+  }
+
+  @Test
+  @DisplayName("同じ冪等キーで内容の異なるリクエストは競合エラー")
+  void recordDeposit_IdempotencyKeyConflict() throws Exception {
+    String idempotencyKey = UUID.randomUUID().toString();
+
+    mockMvc
+        .perform(
+            post("/transactions/deposits")
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        new RecordDepositCommand(
+                            testAccountId, BigDecimal.valueOf(1000.00), "JPY", "初回"))))
+        .andExpect(status().isCreated());
+
+    mockMvc
+        .perform(
+            post("/transactions/deposits")
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        new RecordDepositCommand(
+                            testAccountId, BigDecimal.valueOf(2000.00), "JPY", "別内容"))))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_CONFLICT"));
+  }
+
+  @Test
+  @DisplayName("255文字を超える冪等キーは取引を記録せずに400エラー")
+  void recordDeposit_TooLongIdempotencyKey() throws Exception {
+    RecordDepositCommand request =
+        new RecordDepositCommand(testAccountId, BigDecimal.valueOf(1000.00), "JPY", "長すぎるキー");
+
+    mockMvc
+        .perform(
+            post("/transactions/deposits")
+                .header("Idempotency-Key", "k".repeat(256))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"))
+        .andExpect(jsonPath("$.fieldErrors.idempotencyKey").exists());
+
+    mockMvc
+        .perform(get("/transactions/history").param("accountId", testAccountId.toString()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.transactions").isEmpty());
+  }
+
+  @Test
+  @DisplayName("255文字の冪等キーは受け付ける")
+  void recordDeposit_MaxLengthIdempotencyKey() throws Exception {
+    RecordDepositCommand request =
+        new RecordDepositCommand(testAccountId, BigDecimal.valueOf(1000.00), "JPY", "上限長のキー");
+
+    mockMvc
+        .perform(
+            post("/transactions/deposits")
+                .header("Idempotency-Key", UUID.randomUUID() + "k".repeat(219))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isCreated());
+  }
 }
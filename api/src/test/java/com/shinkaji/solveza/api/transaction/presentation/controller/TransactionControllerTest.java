@@ -2,23 +2,30 @@ package com.shinkaji.solveza.api.transaction.presentation.controller;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 import com.shinkaji.solveza.api.transaction.application.command.RecordDepositCommand;
 import com.shinkaji.solveza.api.transaction.application.command.RecordPaymentCommand;
 import com.shinkaji.solveza.api.transaction.application.query.GetAccountBalanceQuery;
 import com.shinkaji.solveza.api.transaction.application.query.GetTransactionHistoryQuery;
+import com.shinkaji.solveza.api.transaction.application.service.IdempotencyService;
 import com.shinkaji.solveza.api.transaction.application.usecase.GetAccountBalanceUseCase;
+import com.shinkaji.solveza.api.transaction.application.usecase.GetAccountBalancesUseCase;
 import com.shinkaji.solveza.api.transaction.application.usecase.GetTransactionHistoryUseCase;
 import com.shinkaji.solveza.api.transaction.application.usecase.RecordDepositUseCase;
 import com.shinkaji.solveza.api.transaction.application.usecase.RecordPaymentUseCase;
+import com.shinkaji.solveza.api.transaction.application.usecase.RecordTransactionBatchUseCase;
 import com.shinkaji.solveza.api.transaction.presentation.dto.BalanceDto;
 import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionDto;
+import com.shinkaji.solveza.api.transaction.presentation.dto.TransactionHistoryPageDto;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,10 +43,16 @@ class TransactionControllerTest {
 
   @Mock private RecordPaymentUseCase recordPaymentUseCase;
 
+  @Mock private RecordTransactionBatchUseCase recordTransactionBatchUseCase;
+
   @Mock private GetTransactionHistoryUseCase getTransactionHistoryUseCase;
 
   @Mock private GetAccountBalanceUseCase getAccountBalanceUseCase;
 
+  @Mock private GetAccountBalancesUseCase getAccountBalancesUseCase;
+
+  @Mock private IdempotencyService idempotencyService;
+
   private TransactionController transactionController;
 
   @BeforeEach
@@ -48,8 +61,11 @@ class TransactionControllerTest {
         new TransactionController(
             recordDepositUseCase,
             recordPaymentUseCase,
+            recordTransactionBatchUseCase,
             getTransactionHistoryUseCase,
-            getAccountBalanceUseCase);
+            getAccountBalanceUseCase,
+            getAccountBalancesUseCase,
+            idempotencyService);
   }
 
   @Test
@@ -74,9 +90,12 @@ class TransactionControllerTest {
             now);
 
     when(recordDepositUseCase.execute(any(RecordDepositCommand.class))).thenReturn(transactionDto);
+    when(idempotencyService.execute(
+            isNull(), eq("DEPOSIT"), eq(command), eq(TransactionDto.class), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<TransactionDto>>getArgument(4).get());
 
     // When
-    ResponseEntity<TransactionDto> response = transactionController.recordDeposit(command);
+    ResponseEntity<TransactionDto> response = transactionController.recordDeposit(command, null);
 
     // Then
     assertEquals(HttpStatus.CREATED, response.getStatusCode());
@@ -112,9 +131,12 @@ class TransactionControllerTest {
             now);
 
     when(recordPaymentUseCase.execute(any(RecordPaymentCommand.class))).thenReturn(transactionDto);
+    when(idempotencyService.execute(
+            isNull(), eq("PAYMENT"), eq(command), eq(TransactionDto.class), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<TransactionDto>>getArgument(4).get());
 
     // When
-    ResponseEntity<TransactionDto> response = transactionController.recordPayment(command);
+    ResponseEntity<TransactionDto> response = transactionController.recordPayment(command, null);
 
     // Then
     assertEquals(HttpStatus.CREATED, response.getStatusCode());
@@ -157,18 +179,19 @@ class TransactionControllerTest {
                 now));
 
     when(getTransactionHistoryUseCase.execute(any(GetTransactionHistoryQuery.class)))
-        .thenReturn(transactions);
+        .thenReturn(new TransactionHistoryPageDto(transactions, null));
 
     // When
-    ResponseEntity<List<TransactionDto>> response =
-        transactionController.getTransactionHistory(accountId);
+    ResponseEntity<TransactionHistoryPageDto> response =
+        transactionController.getTransactionHistory(accountId, null, null, null, null);
 
     // Then
     assertEquals(HttpStatus.OK, response.getStatusCode());
     assertNotNull(response.getBody());
-    assertEquals(2, response.getBody().size());
-    assertEquals("DEPOSIT", response.getBody().get(0).transactionType());
-    assertEquals("PAYMENT", response.getBody().get(1).transactionType());
+    assertEquals(2, response.getBody().transactions().size());
+    assertEquals("DEPOSIT", response.getBody().transactions().get(0).transactionType());
+    assertEquals("PAYMENT", response.getBody().transactions().get(1).transactionType());
+    assertNull(response.getBody().nextCursor());
     verify(getTransactionHistoryUseCase).execute(any(GetTransactionHistoryQuery.class));
   }
 
@@ -183,7 +206,7 @@ class TransactionControllerTest {
         .thenReturn(balanceDto);
 
     // When
-    ResponseEntity<BalanceDto> response = transactionController.getAccountBalance(accountId);
+    ResponseEntity<BalanceDto> response = transactionController.getAccountBalance(accountId, null);
 
     // Then
     assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -0,0 +1,238 @@
+package com.shinkaji.solveza.api.usermanagement.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.shinkaji.solveza.api.shared.domain.Provider;
+import com.shinkaji.solveza.api.shared.domain.UserId;
+import com.shinkaji.solveza.api.shared.domain.exception.InsufficientPermissionException;
+import com.shinkaji.solveza.api.shared.domain.exception.UserNotFoundException;
+import com.shinkaji.solveza.api.usermanagement.domain.model.Permission;
+import com.shinkaji.solveza.api.usermanagement.domain.model.PermissionCheck;
+import com.shinkaji.solveza.api.usermanagement.domain.model.Role;
+import com.shinkaji.solveza.api.usermanagement.domain.model.User;
+import com.shinkaji.solveza.api.usermanagement.domain.repository.PermissionRepository;
+import com.shinkaji.solveza.api.usermanagement.domain.repository.RoleRepository;
+import com.shinkaji.solveza.api.usermanagement.domain.repository.UserRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("AuthorizationEngineのテスト")
+class AuthorizationEngineTest {
+
+  @Mock private UserRepository userRepository;
+
+  @Mock private RoleRepository roleRepository;
+
+  @Mock private PermissionRepository permissionRepository;
+
+  private final Permission read = Permission.create("ACCOUNT_READ", "account", "read");
+  private final Permission write = Permission.create("ACCOUNT_WRITE", "account", "write");
+  private final List<Permission> permissions = new ArrayList<>(List.of(read, write));
+  private final Role viewer = Role.create("VIEWER", null);
+  private final Role editor = Role.create("EDITOR", null);
+  private final User user = User.create(Provider.google(), "external-1", "テストユーザー", null);
+
+  private AuthorizationEngine authorizationEngine;
+
+  @BeforeEach
+  void setUp() {
+    viewer.grantPermission(read.getPermissionId());
+    editor.grantPermission(write.getPermissionId());
+    user.assignRole(viewer.getRoleId());
+    when(permissionRepository.findAll()).thenAnswer(invocation -> List.copyOf(permissions));
+    when(roleRepository.findAll()).thenReturn(List.of(viewer, editor));
+    when(userRepository.findById(user.getUserId())).thenReturn(Optional.of(user));
+    authorizationEngine =
+        new AuthorizationEngine(
+            userRepository,
+            roleRepository,
+            permissionRepository,
+            100,
+            Duration.ofMinutes(5),
+            Duration.ofMinutes(5));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("ロールに付与された権限だけを許可する")
+  void check_shouldAllowOnlyGrantedPermissions() {
+    // When & Then
+    assertTrue(authorizationEngine.check(user.getUserId(), "account", "read"));
+    assertFalse(authorizationEngine.check(user.getUserId(), "account", "write"));
+    assertFalse(authorizationEngine.check(user.getUserId(), "transaction", "read"));
+  }
+
+  @Test
+  @DisplayName("2回目以降の判定ではDBに問い合わせない")
+  void check_shouldNotQueryRepositories_afterFirstCheck() {
+    // Given
+    authorizationEngine.check(user.getUserId(), "account", "read");
+
+    // When
+    authorizationEngine.check(user.getUserId(), "account", "write");
+    authorizationEngine.checkAll(user.getUserId(), List.of(new PermissionCheck("account", "read")));
+
+    // Then
+    verify(userRepository, times(1)).findById(user.getUserId());
+    verify(permissionRepository, times(1)).findAll();
+    verify(roleRepository, times(1)).findAll();
+  }
+
+  @Test
+  @DisplayName("一括判定は判定対象の順に結果を返す")
+  void checkAll_shouldReturnResultsInOrder() {
+    // When
+    boolean[] results =
+        authorizationEngine.checkAll(
+            user.getUserId(),
+            List.of(
+                new PermissionCheck("account", "write"),
+                new PermissionCheck("account", "read"),
+                new PermissionCheck("unknown", "read")));
+
+    // Then
+    assertArrayEquals(new boolean[] {false, true, false}, results);
+  }
+
+  @Test
+  @DisplayName("存在しないユーザーの場合は例外が発生する")
+  void check_shouldThrowException_whenUserNotExists() {
+    // Given
+    UserId unknown = UserId.generate();
+    when(userRepository.findById(unknown)).thenReturn(Optional.empty());
+
+    // When & Then
+    assertThrows(
+        UserNotFoundException.class, () -> authorizationEngine.check(unknown, "account", "read"));
+  }
+
+  @Test
+  @DisplayName("存在しないユーザーは未知の権限の判定でも例外が発生する")
+  void check_shouldThrowException_whenUserNotExistsAndPermissionUnknown() {
+    // Given
+    UserId unknown = UserId.generate();
+    when(userRepository.findById(unknown)).thenReturn(Optional.empty());
+
+    // When & Then
+    assertThrows(
+        UserNotFoundException.class,
+        () -> authorizationEngine.check(unknown, "transaction", "read"));
+    assertThrows(
+        UserNotFoundException.class,
+        () ->
+            authorizationEngine.checkAll(
+                unknown, List.of(new PermissionCheck("transaction", "read"))));
+  }
+
+  @Test
+  @DisplayName("権限がない場合はInsufficientPermissionExceptionが発生する")
+  void require_shouldThrowException_whenNotAllowed() {
+    // When & Then
+    assertDoesNotThrow(() -> authorizationEngine.require(user.getUserId(), "account", "read"));
+    assertThrows(
+        InsufficientPermissionException.class,
+        () -> authorizationEngine.require(user.getUserId(), "account", "write"));
+  }
+
+  @Test
+  @DisplayName("ロール割り当てをDBに問い合わせずに反映する")
+  void roleAssigned_shouldUpdateCachedUserIncrementally() {
+    // Given
+    authorizationEngine.check(user.getUserId(), "account", "read");
+
+    // When
+    authorizationEngine.roleAssigned(user.getUserId(), editor.getRoleId());
+
+    // Then
+    assertTrue(authorizationEngine.check(user.getUserId(), "account", "write"));
+    verify(userRepository, times(1)).findById(user.getUserId());
+  }
+
+  @Test
+  @DisplayName("ロールの権限定義を再コンパイルせずに反映する")
+  void rolePermissionsDefined_shouldUpdateRoleIncrementally() {
+    // Given
+    authorizationEngine.check(user.getUserId(), "account", "read");
+
+    // When
+    authorizationEngine.rolePermissionsDefined(
+        viewer.getRoleId(), Set.of(read.getPermissionId(), write.getPermissionId()));
+
+    // Then
+    assertTrue(authorizationEngine.check(user.getUserId(), "account", "write"));
+    verify(permissionRepository, times(1)).findAll();
+    verify(userRepository, times(1)).findById(user.getUserId());
+  }
+
+  @Test
+  @DisplayName("コンパイル後に作成された権限を定義したときは再コンパイルする")
+  void rolePermissionsDefined_shouldRecompile_whenPermissionIsNew() {
+    // Given
+    authorizationEngine.check(user.getUserId(), "account", "read");
+    Permission delete = Permission.create("ACCOUNT_DELETE", "account", "delete");
+    permissions.add(delete);
+    viewer.grantPermission(delete.getPermissionId());
+
+    // When
+    authorizationEngine.rolePermissionsDefined(
+        viewer.getRoleId(), Set.of(read.getPermissionId(), delete.getPermissionId()));
+
+    // Then
+    assertTrue(authorizationEngine.check(user.getUserId(), "account", "delete"));
+    verify(permissionRepository, times(2)).findAll();
+  }
+
+  @Test
+  @DisplayName("トランザクション中の変更はコミットされるまで反映しない")
+  void roleAssigned_shouldApplyAfterCommit() {
+    // Given
+    authorizationEngine.check(user.getUserId(), "account", "read");
+    TransactionSynchronizationManager.initSynchronization();
+
+    // When
+    authorizationEngine.roleAssigned(user.getUserId(), editor.getRoleId());
+
+    // Then
+    assertFalse(authorizationEngine.check(user.getUserId(), "account", "write"));
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    assertTrue(authorizationEngine.check(user.getUserId(), "account", "write"));
+  }
+
+  @Test
+  @DisplayName("再コンパイルすると削除された権限が判定から外れる")
+  void recompile_shouldDropDeletedPermissions() {
+    // Given
+    authorizationEngine.check(user.getUserId(), "account", "read");
+    permissions.remove(read);
+
+    // When
+    authorizationEngine.recompile();
+
+    // Then
+    assertFalse(authorizationEngine.check(user.getUserId(), "account", "read"));
+  }
+}
@@ -5,8 +5,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.shinkaji.solveza.api.shared.domain.Provider;
+import com.shinkaji.solveza.api.shared.domain.RoleId;
+import com.shinkaji.solveza.api.usermanagement.application.command.AssignRoleCommand;
 import com.shinkaji.solveza.api.usermanagement.application.command.RegisterUserCommand;
 import com.shinkaji.solveza.api.usermanagement.application.query.GetUsersQuery;
+import com.shinkaji.solveza.api.usermanagement.application.service.AuthorizationEngine;
 import com.shinkaji.solveza.api.usermanagement.domain.model.User;
 import com.shinkaji.solveza.api.usermanagement.domain.repository.RoleRepository;
 import com.shinkaji.solveza.api.usermanagement.domain.repository.UserRepository;
@@ -17,6 +20,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,12 +39,15 @@ class UserManagementUseCaseImplTest {
 
   @Mock private UserValidationService userValidationService;
 
+  @Mock private AuthorizationEngine authorizationEngine;
+
   private UserManagementUseCaseImpl userManagementUseCase;
 
   @BeforeEach
   void setUp() {
     userManagementUseCase =
-        new UserManagementUseCaseImpl(userRepository, roleRepository, userValidationService);
+        new UserManagementUseCaseImpl(
+            userRepository, roleRepository, userValidationService, authorizationEngine);
   }
 
   @Test
@@ -202,4 +209,20 @@ class UserManagementUseCaseImplTest {
     verify(userRepository).findByCriteria(any(UserSearchCriteria.class));
     assertTrue(result.isEmpty());
   }
+
+  @Test
+  @DisplayName("ロール割り当てを権限判定に反映する")
+  void assignRole_shouldNotifyAuthorizationEngine() {
+    // Given
+    User user = User.create(Provider.google(), "external-123", "テストユーザー", "test@example.com");
+    RoleId roleId = new RoleId(UUID.randomUUID());
+    when(userRepository.findById(user.getUserId())).thenReturn(Optional.of(user));
+
+    // When
+    userManagementUseCase.assignRole(new AssignRoleCommand(user.getId(), roleId.value()));
+
+    // Then
+    verify(userRepository).save(user);
+    verify(authorizationEngine).roleAssigned(user.getUserId(), roleId);
+  }
 }
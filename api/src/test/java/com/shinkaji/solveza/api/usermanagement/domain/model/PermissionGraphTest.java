@@ -0,0 +1,186 @@
+package com.shinkaji.solveza.api.usermanagement.domain.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shinkaji.solveza.api.shared.domain.PermissionId;
+import com.shinkaji.solveza.api.shared.domain.RoleId;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PermissionGraphのテスト")
+class PermissionGraphTest {
+
+  @Test
+  @DisplayName("ロールに付与された権限のビットが立つ")
+  void effectivePermissions_shouldContainGrantedPermissions() {
+    // Given
+    Permission read = Permission.create("ACCOUNT_READ", "account", "read");
+    Permission write = Permission.create("ACCOUNT_WRITE", "account", "write");
+    Role viewer = role(read);
+
+    // When
+    PermissionGraph graph = PermissionGraph.compile(1, List.of(read, write), List.of(viewer));
+    BitSet effective = graph.effectivePermissions(Set.of(viewer.getRoleId()));
+
+    // Then
+    assertTrue(effective.get(graph.bitOf("account", "read")));
+    assertFalse(effective.get(graph.bitOf("account", "write")));
+  }
+
+  @Test
+  @DisplayName("同じリソースとアクションの権限は同じビットを共有する")
+  void compile_shouldInternSameResourceAndAction() {
+    // Given
+    Permission read = Permission.create("ACCOUNT_READ", "account", "read");
+    Permission alias = Permission.create("ACCOUNT_VIEW", "account", "read");
+    Role viewer = role(alias);
+
+    // When
+    PermissionGraph graph = PermissionGraph.compile(1, List.of(read, alias), List.of(viewer));
+
+    // Then
+    assertEquals(0, graph.bitOf("account", "read"));
+    assertTrue(
+        graph.effectivePermissions(Set.of(viewer.getRoleId())).get(graph.bitOf("account", "read")));
+  }
+
+  @Test
+  @DisplayName("未知のリソース・アクションは-1を返す")
+  void bitOf_shouldReturnMinusOne_whenUnknown() {
+    // Given
+    Permission read = Permission.create("ACCOUNT_READ", "account", "read");
+    PermissionGraph graph = PermissionGraph.compile(1, List.of(read), List.of());
+
+    // When & Then
+    assertEquals(-1, graph.bitOf("account", "delete"));
+    assertEquals(-1, graph.bitOf("transaction", "read"));
+  }
+
+  @Test
+  @DisplayName("削除済みのロール・権限への割り当ては権限なしとして扱う")
+  void effectivePermissions_shouldIgnoreDeletedRolesAndPermissions() {
+    // Given
+    Permission read = Permission.create("ACCOUNT_READ", "account", "read");
+    Permission deleted = Permission.create("ACCOUNT_DELETE", "account", "delete");
+    Role viewer = role(read, deleted);
+
+    // When
+    PermissionGraph graph = PermissionGraph.compile(1, List.of(read), List.of(viewer));
+    BitSet effective =
+        graph.effectivePermissions(Set.of(viewer.getRoleId(), new RoleId(UUID.randomUUID())));
+
+    // Then
+    assertEquals(1, effective.cardinality());
+  }
+
+  @Test
+  @DisplayName("ロールの権限を差し替えると新しいバージョンに反映され、元のグラフは変わらない")
+  void withRolePermissions_shouldReplaceRoleBits() {
+    // Given
+    Permission read = Permission.create("ACCOUNT_READ", "account", "read");
+    Permission write = Permission.create("ACCOUNT_WRITE", "account", "write");
+    Role editor = role(read);
+    PermissionGraph graph = PermissionGraph.compile(1, List.of(read, write), List.of(editor));
+
+    // When
+    PermissionGraph updated =
+        graph.withRolePermissions(2, editor.getRoleId(), Set.of(write.getPermissionId()));
+
+    // Then
+    Set<RoleId> roles = Set.of(editor.getRoleId());
+    assertEquals(2, updated.version());
+    assertTrue(updated.effectivePermissions(roles).get(updated.bitOf("account", "write")));
+    assertFalse(updated.effectivePermissions(roles).get(updated.bitOf("account", "read")));
+    assertTrue(graph.effectivePermissions(roles).get(graph.bitOf("account", "read")));
+  }
+
+  @Test
+  @DisplayName("コンパイル後に作成された権限を含むかを判定できる")
+  void knowsAll_shouldReturnFalse_forPermissionsCreatedAfterCompile() {
+    // Given
+    Permission read = Permission.create("ACCOUNT_READ", "account", "read");
+    PermissionGraph graph = PermissionGraph.compile(1, List.of(read), List.of());
+    Permission created = Permission.create("ACCOUNT_WRITE", "account", "write");
+
+    // When & Then
+    assertTrue(graph.knowsAll(Set.of(read.getPermissionId())));
+    assertFalse(graph.knowsAll(Set.of(read.getPermissionId(), created.getPermissionId())));
+  }
+
+  @Test
+  @DisplayName("判定結果がロールと権限を辿った結果と一致する")
+  void effectivePermissions_shouldMatchGraphWalk() {
+    // Given
+    SplittableRandom random = new SplittableRandom(42);
+    List<Permission> permissions = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      permissions.add(
+          Permission.create("P" + i, "resource" + random.nextInt(8), "action" + random.nextInt(4)));
+    }
+    List<Role> roles = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      Set<PermissionId> granted = new HashSet<>();
+      for (int j = 0; j < 6; j++) {
+        granted.add(permissions.get(random.nextInt(permissions.size())).getPermissionId());
+      }
+      roles.add(
+          Role.reconstruct(
+              UUID.randomUUID(), LocalDateTime.now(), LocalDateTime.now(), "R" + i, null, granted));
+    }
+    PermissionGraph graph = PermissionGraph.compile(1, permissions, roles);
+
+    for (int user = 0; user < 50; user++) {
+      Set<RoleId> assigned = new HashSet<>();
+      for (int j = 0; j < 3; j++) {
+        assigned.add(roles.get(random.nextInt(roles.size())).getRoleId());
+      }
+      BitSet effective = graph.effectivePermissions(assigned);
+
+      for (int r = 0; r < 8; r++) {
+        for (int a = 0; a < 4; a++) {
+          String resource = "resource" + r;
+          String action = "action" + a;
+          int bit = graph.bitOf(resource, action);
+
+          // When
+          boolean compiled = bit >= 0 && effective.get(bit);
+
+          // Then
+          assertEquals(walk(roles, permissions, assigned, resource, action), compiled);
+        }
+      }
+    }
+  }
+
+  private static boolean walk(
+      List<Role> roles,
+      List<Permission> permissions,
+      Set<RoleId> assigned,
+      String resource,
+      String action) {
+    return roles.stream()
+        .filter(role -> assigned.contains(role.getRoleId()))
+        .flatMap(role -> role.getPermissionIds().stream())
+        .flatMap(
+            permissionId ->
+                permissions.stream()
+                    .filter(permission -> permission.getPermissionId().equals(permissionId)))
+        .anyMatch(permission -> permission.allowsAccess(resource, action));
+  }
+
+  private static Role role(Permission... permissions) {
+    Role role = Role.create("ROLE_" + UUID.randomUUID(), null);
+    for (Permission permission : permissions) {
+      role.grantPermission(permission.getPermissionId());
+    }
+    return role;
+  }
+}
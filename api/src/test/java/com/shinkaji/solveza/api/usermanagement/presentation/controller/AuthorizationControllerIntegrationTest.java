@@ -0,0 +1,192 @@
+package com.shinkaji.solveza.api.usermanagement.presentation.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shinkaji.solveza.api.annotation.ControllerIntegrationTest;
+import com.shinkaji.solveza.api.usermanagement.presentation.request.AssignRoleRequest;
+import com.shinkaji.solveza.api.usermanagement.presentation.request.CheckPermissionsRequest;
+import com.shinkaji.solveza.api.usermanagement.presentation.request.CreatePermissionRequest;
+import com.shinkaji.solveza.api.usermanagement.presentation.request.CreateRoleRequest;
+import com.shinkaji.solveza.api.usermanagement.presentation.request.DefinePermissionsRequest;
+import com.shinkaji.solveza.api.usermanagement.presentation.request.PermissionCheckRequest;
+import com.shinkaji.solveza.api.usermanagement.presentation.request.RegisterUserRequest;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@ControllerIntegrationTest
+@DisplayName("AuthorizationController Integration Tests")
+class AuthorizationControllerIntegrationTest {
+
+  private final WebApplicationContext webApplicationContext;
+  private final ObjectMapper objectMapper;
+
+  AuthorizationControllerIntegrationTest(
+      WebApplicationContext webApplicationContext, ObjectMapper objectMapper) {
+    this.webApplicationContext = webApplicationContext;
+    this.objectMapper = objectMapper;
+  }
+
+  private MockMvc mockMvc;
+  private String resource;
+  private UUID userId;
+  private UUID roleId;
+  private UUID readPermissionId;
+  private UUID writePermissionId;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+    // 他のテストと重ならないようリソース名をユニークにする
+    resource = "resource_" + UUID.randomUUID();
+    readPermissionId = createPermission("read");
+    writePermissionId = createPermission("write");
+    roleId =
+        id(
+            post("/roles"),
+            new CreateRoleRequest("AUTHZ_ROLE_" + UUID.randomUUID(), "Authorization Test Role"));
+    userId =
+        id(
+            post("/users"),
+            new RegisterUserRequest(
+                "google", "authz_" + UUID.randomUUID(), "Authz User", "authz@example.com"));
+  }
+
+  @Test
+  @DisplayName("ロールに付与された権限を判定できる")
+  void check_GrantedPermission_Allowed() throws Exception {
+    definePermissions(Set.of(readPermissionId));
+    assignRole();
+
+    mockMvc
+        .perform(
+            get("/users/{userId}/permissions/check", userId)
+                .param("resource", resource)
+                .param("action", "read"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.resource").value(resource))
+        .andExpect(jsonPath("$.action").value("read"))
+        .andExpect(jsonPath("$.allowed").value(true));
+  }
+
+  @Test
+  @DisplayName("判定済みのユーザーにもロールの権限変更が反映される")
+  void check_AfterPermissionsRedefined_Reflected() throws Exception {
+    definePermissions(Set.of(readPermissionId));
+    assignRole();
+    mockMvc
+        .perform(
+            get("/users/{userId}/permissions/check", userId)
+                .param("resource", resource)
+                .param("action", "write"))
+        .andExpect(jsonPath("$.allowed").value(false));
+
+    definePermissions(Set.of(readPermissionId, writePermissionId));
+
+    mockMvc
+        .perform(
+            get("/users/{userId}/permissions/check", userId)
+                .param("resource", resource)
+                .param("action", "write"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.allowed").value(true));
+  }
+
+  @Test
+  @DisplayName("複数の権限を一括で判定できる")
+  void checkAll_MixedPermissions_ResultsInOrder() throws Exception {
+    definePermissions(Set.of(writePermissionId));
+    assignRole();
+    CheckPermissionsRequest request =
+        new CheckPermissionsRequest(
+            List.of(
+                new PermissionCheckRequest(resource, "read"),
+                new PermissionCheckRequest(resource, "write"),
+                new PermissionCheckRequest("unknown", "read")));
+
+    mockMvc
+        .perform(
+            post("/users/{userId}/permissions/check", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(3))
+        .andExpect(jsonPath("$[0].allowed").value(false))
+        .andExpect(jsonPath("$[1].allowed").value(true))
+        .andExpect(jsonPath("$[2].allowed").value(false));
+  }
+
+  @Test
+  @DisplayName("存在しないユーザーの判定は404")
+  void check_NonExistentUser_NotFound() throws Exception {
+    mockMvc
+        .perform(
+            get("/users/{userId}/permissions/check", UUID.randomUUID())
+                .param("resource", resource)
+                .param("action", "read"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName("判定対象が空の一括判定は400")
+  void checkAll_EmptyChecks_BadRequest() throws Exception {
+    mockMvc
+        .perform(
+            post("/users/{userId}/permissions/check", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CheckPermissionsRequest(List.of()))))
+        .andExpect(status().isBadRequest());
+  }
+
+  private UUID createPermission(String action) throws Exception {
+    return id(
+        post("/permissions"),
+        new CreatePermissionRequest(resource + "_" + action, resource, action));
+  }
+
+  private void definePermissions(Set<UUID> permissionIds) throws Exception {
+    mockMvc
+        .perform(
+            put("/roles/{roleId}/permissions", roleId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(new DefinePermissionsRequest(permissionIds))))
+        .andExpect(status().is2xxSuccessful());
+  }
+
+  private void assignRole() throws Exception {
+    mockMvc
+        .perform(
+            post("/users/{userId}/roles", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AssignRoleRequest(roleId))))
+        .andExpect(status().isOk());
+  }
+
+  private UUID id(MockHttpServletRequestBuilder request, Object body) throws Exception {
+    String response =
+        mockMvc
+            .perform(
+                request
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(body)))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    JsonNode json = objectMapper.readTree(response);
+    return UUID.fromString(json.get("id").asText());
+  }
+}